@@ -0,0 +1,67 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmarks;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the adaptors which present Vert.x parameters and rows
+ * to Hibernate ORM as a JDBC {@code PreparedStatement} and
+ * {@code ResultSet}.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AdaptorBenchmark {
+
+	/**
+	 * The number of rows read from the result set.
+	 */
+	@Param({ "1", "100" })
+	public int rows;
+
+	private RowSet<Row> rowSet;
+
+	@Setup
+	public void setup() {
+		rowSet = Book.query( new Object[0], rows );
+	}
+
+	@Benchmark
+	public Object[] bind() {
+		return PreparedStatementAdaptor.bind( statement -> {
+			statement.setString( 1, "978-1" );
+			statement.setInt( 2, 250 );
+			statement.setString( 3, "Book 1" );
+			statement.setInt( 4, 1 );
+		} );
+	}
+
+	/**
+	 * Reads every row by column label, as Hibernate does.
+	 */
+	@Benchmark
+	public void readResultSet(Blackhole blackhole) {
+		ResultSetAdaptor resultSet = new ResultSetAdaptor( rowSet );
+		while ( resultSet.next() ) {
+			blackhole.consume( resultSet.getInt( "id1_0_0_" ) );
+			blackhole.consume( resultSet.getString( "isbn2_0_0_" ) );
+			blackhole.consume( resultSet.getInt( "pages3_0_0_" ) );
+			blackhole.consume( resultSet.getString( "title4_0_0_" ) );
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmarks;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Entity(name = "Book")
+@Table(name = "Books")
+public class Book {
+
+	private static final CannedRows ROWS = new CannedRows( "id", "title", "isbn", "pages" );
+
+	@Id
+	Integer id;
+	String title;
+	String isbn;
+	int pages;
+
+	public Book() {
+	}
+
+	Book(Integer id) {
+		this.id = id;
+		this.title = "Book " + id;
+		this.isbn = "978-" + id;
+		this.pages = 100 + id % 500;
+	}
+
+	private static Object[] row(int id) {
+		return new Object[] { id, "Book " + id, "978-" + id, 100 + id % 500 };
+	}
+
+	/**
+	 * Responds to a query by id with one row for each distinct id,
+	 * and to a query with no parameters with the given number of
+	 * rows.
+	 */
+	static RowSet<Row> query(Object[] paramValues, int resultSize) {
+		List<Object[]> rows = new ArrayList<>();
+		if ( paramValues.length == 0 ) {
+			for ( int id = 1; id <= resultSize; id++ ) {
+				rows.add( row( id ) );
+			}
+		}
+		else {
+			Set<Object> ids = new LinkedHashSet<>();
+			for ( Object id : paramValues ) {
+				if ( ids.add( id ) ) {
+					rows.add( row( (Integer) id ) );
+				}
+			}
+		}
+		return ROWS.rowSet( rows );
+	}
+}
@@ -0,0 +1,182 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmarks;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Builds Vert.x {@link RowSet}s holding canned rows, standing in
+ * for the results of a query executed by a database.
+ * <p>
+ * Hibernate reads the columns of a result set using the column
+ * aliases it generated, for example {@code title2_0_0_}, so a
+ * column may be looked up either by its name, or by any alias
+ * formed by appending Hibernate's numeric suffix to its name.
+ * <p>
+ * The {@code RowSet} and {@code Row} interfaces are implemented
+ * using dynamic proxies, which keeps this class independent of the
+ * internals of the Vert.x SQL client. The cost of the reflective
+ * calls is attributed to the simulated database, not to Hibernate.
+ */
+public final class CannedRows {
+
+	private static final Pattern ALIAS_SUFFIX = Pattern.compile( "\\d+_(\\d+_)*$" );
+
+	private final List<String> columns;
+	private final Map<String, Integer> indexByName = new HashMap<>();
+	private final Map<String, Integer> indexByLabel = new ConcurrentHashMap<>();
+
+	/**
+	 * @param columns the names of the columns of the rows
+	 */
+	public CannedRows(String... columns) {
+		this.columns = Arrays.asList( columns );
+		for ( int i = 0; i < columns.length; i++ ) {
+			indexByName.put( columns[i], i );
+		}
+	}
+
+	/**
+	 * @param rows the rows, each holding a value for each column
+	 */
+	public RowSet<Row> rowSet(List<Object[]> rows) {
+		return proxy( RowSet.class, (method, args) -> {
+			switch ( method.getName() ) {
+				case "iterator":
+					Iterator<Object[]> iterator = rows.iterator();
+					return proxy( RowIterator.class, (m, a) -> m.getName().equals( "next" )
+							? row( iterator.next() )
+							: m.invoke( iterator, a ) );
+				case "columnsNames":
+					return columns;
+				case "size":
+				case "rowCount":
+					return rows.size();
+				case "value":
+					return rowSet( rows );
+				case "next":
+				case "property":
+					return null;
+				default:
+					throw new UnsupportedOperationException( method.toString() );
+			}
+		} );
+	}
+
+	private Row row(Object[] values) {
+		return proxy( Row.class, (method, args) -> {
+			String name = method.getName();
+			switch ( name ) {
+				case "size":
+					return values.length;
+				case "getColumnName":
+					return columns.get( (Integer) args[0] );
+				case "getColumnIndex":
+					return index( (String) args[0] );
+				case "get":
+					// get(Class<T> type, int pos)
+					return ( (Class<?>) args[0] ).cast( values[ index( args[1] ) ] );
+				default:
+					if ( name.startsWith( "get" ) && args != null && args.length == 1 ) {
+						return convert( values[ index( args[0] ) ], method.getReturnType() );
+					}
+					throw new UnsupportedOperationException( method.toString() );
+			}
+		} );
+	}
+
+	private int index(Object column) {
+		return column instanceof Integer ? (Integer) column : index( (String) column );
+	}
+
+	private int index(String label) {
+		return indexByLabel.computeIfAbsent( label, l -> {
+			Integer index = indexByName.get( l );
+			if ( index == null ) {
+				index = indexByName.get( ALIAS_SUFFIX.matcher( l ).replaceFirst( "" ) );
+			}
+			if ( index == null ) {
+				throw new IllegalArgumentException( "no column for label: " + l );
+			}
+			return index;
+		} );
+	}
+
+	private static Object convert(Object value, Class<?> type) {
+		if ( value == null || type.isInstance( value ) ) {
+			return value;
+		}
+		if ( value instanceof Number ) {
+			Number number = (Number) value;
+			if ( type == Integer.class ) {
+				return number.intValue();
+			}
+			if ( type == Long.class ) {
+				return number.longValue();
+			}
+			if ( type == Short.class ) {
+				return number.shortValue();
+			}
+			if ( type == Double.class ) {
+				return number.doubleValue();
+			}
+			if ( type == Float.class ) {
+				return number.floatValue();
+			}
+			if ( type == BigDecimal.class ) {
+				return new BigDecimal( number.toString() );
+			}
+		}
+		if ( type == String.class ) {
+			return value.toString();
+		}
+		return value;
+	}
+
+	@FunctionalInterface
+	private interface Handler {
+		Object invoke(Method method, Object[] args) throws Exception;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<?> type, Handler handler) {
+		return (T) Proxy.newProxyInstance(
+				CannedRows.class.getClassLoader(),
+				new Class<?>[] { type },
+				(proxy, method, args) -> {
+					switch ( method.getName() ) {
+						case "hashCode":
+							return System.identityHashCode( proxy );
+						case "equals":
+							return proxy == args[0];
+						case "toString":
+							return type.getSimpleName();
+						default:
+							try {
+								return handler.invoke( method, args );
+							}
+							catch (InvocationTargetException e) {
+								throw e.getCause();
+							}
+					}
+				}
+		);
+	}
+}
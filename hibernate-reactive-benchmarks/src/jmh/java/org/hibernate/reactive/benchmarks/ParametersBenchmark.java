@@ -0,0 +1,49 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmarks;
+
+import org.hibernate.reactive.pool.impl.Parameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of JDBC-style parameters to PostgreSQL
+ * parameters, which is done for every statement sent to PostgreSQL.
+ * Since the same statements are processed repeatedly, this measures
+ * the cost of a lookup in the cache of converted SQL.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParametersBenchmark {
+
+	private final String select = "select book0_.id as id1_0_0_, book0_.isbn as isbn2_0_0_, "
+			+ "book0_.pages as pages3_0_0_, book0_.title as title4_0_0_ "
+			+ "from Books book0_ where book0_.id=?";
+
+	private final String insert = "insert into Books (isbn, pages, title, id) values (?, ?, ?, ?)";
+
+	private final String update = "update Books set isbn=?, pages=?, title=? "
+			+ "where id=? and title<>'it''s ?' /* a comment? */";
+
+	@Benchmark
+	public String processSelect() {
+		return Parameters.process( select, 1 );
+	}
+
+	@Benchmark
+	public String processInsert() {
+		return Parameters.process( insert, 4 );
+	}
+
+	@Benchmark
+	public String processUpdate() {
+		return Parameters.process( update, 4 );
+	}
+}
@@ -0,0 +1,121 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmarks;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQL10Dialect;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Measures the overhead of the reactive session for common
+ * operations, executed against a {@link StandInConnectionPool}.
+ * <p>
+ * With the default latency of zero, every statement completes
+ * immediately, so the results measure only the work done by
+ * Hibernate Reactive and Hibernate ORM.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SessionBenchmark {
+
+	/**
+	 * The number of entities persisted by each flush, and
+	 * returned by each query.
+	 */
+	@Param({ "1", "100" })
+	public int entities;
+
+	/**
+	 * The simulated latency of a round trip to the database.
+	 */
+	@Param({ "0" })
+	public long latencyMicros;
+
+	private SessionFactory sessionFactory;
+	private Stage.SessionFactory factory;
+	private Integer[] ids;
+	private final AtomicInteger nextId = new AtomicInteger();
+
+	@Setup
+	public void setup() {
+		Configuration configuration = new Configuration();
+		configuration.addAnnotatedClass( Book.class );
+		configuration.setProperty( Settings.DIALECT, PostgreSQL10Dialect.class.getName() );
+		configuration.setProperty( "hibernate.temp.use_jdbc_metadata_defaults", "false" );
+		configuration.setProperty( Settings.STATEMENT_BATCH_SIZE, "50" );
+
+		ReactiveConnectionPool pool = new StandInConnectionPool(
+				(sql, paramValues) -> Book.query( paramValues, entities ),
+				latencyMicros
+		);
+		StandardServiceRegistry registry = new ReactiveServiceRegistryBuilder()
+				.applySettings( configuration.getProperties() )
+				.addService( ReactiveConnectionPool.class, pool )
+				.build();
+		sessionFactory = configuration.buildSessionFactory( registry );
+		factory = sessionFactory.unwrap( Stage.SessionFactory.class );
+
+		ids = new Integer[entities];
+		for ( int i = 0; i < entities; i++ ) {
+			ids[i] = i + 1;
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	private <T> T inSession(Function<Stage.Session, CompletionStage<T>> work) {
+		return factory.openSession()
+				.thenCompose( session -> work.apply( session )
+						.whenComplete( (result, error) -> session.close() ) )
+				.toCompletableFuture()
+				.join();
+	}
+
+	@Benchmark
+	public void persistAndFlush() {
+		Object[] books = new Object[entities];
+		for ( int i = 0; i < entities; i++ ) {
+			books[i] = new Book( nextId.incrementAndGet() );
+		}
+		inSession( session -> session.persist( books ).thenCompose( Stage.Session::flush ) );
+	}
+
+	@Benchmark
+	public Book find() {
+		return inSession( session -> session.find( Book.class, 1 ) );
+	}
+
+	@Benchmark
+	public List<Book> findMultiple() {
+		return inSession( session -> session.find( Book.class, (Object[]) ids ) );
+	}
+
+	@Benchmark
+	public List<Book> hqlList() {
+		return inSession( session -> session.createQuery( "from Book", Book.class ).getResultList() );
+	}
+}
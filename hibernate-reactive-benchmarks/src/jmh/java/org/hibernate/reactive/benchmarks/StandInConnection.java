@@ -0,0 +1,189 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmarks;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.util.impl.CompletionStages;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A connection obtained from a {@link StandInConnectionPool}.
+ */
+class StandInConnection implements ReactiveConnection {
+
+	private static final Object[] NO_PARAMS = new Object[0];
+
+	private final StandInConnectionPool pool;
+
+	StandInConnection(StandInConnectionPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * A multi-row insert affects one row per row of values,
+	 * and every other statement affects one row.
+	 */
+	private static int rowCount(String sql) {
+		int rowCount = 1;
+		if ( sql.regionMatches( true, 0, "insert", 0, 6 ) ) {
+			for ( int i = sql.indexOf( "), (" ); i >= 0; i = sql.indexOf( "), (", i + 1 ) ) {
+				rowCount++;
+			}
+		}
+		return rowCount;
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		return pool.respond( null );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		return pool.respond( rowCount( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		return pool.respond( rowCount( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues,
+										boolean allowBatching, Expectation expectation) {
+		return update( sql, paramValues )
+				.thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		int[] rowCounts = new int[ paramValues.size() ];
+		Arrays.fill( rowCounts, 1 );
+		return pool.respond( rowCounts );
+	}
+
+	@Override
+	public CompletionStage<Long> updateReturning(String sql, Object[] paramValues) {
+		return pool.respond( pool.nextKey() );
+	}
+
+	@Override
+	public CompletionStage<Long[]> updateReturning(String sql, List<Object[]> paramValues) {
+		Long[] keys = new Long[ paramValues.size() ];
+		for ( int i = 0; i < keys.length; i++ ) {
+			keys[i] = pool.nextKey();
+		}
+		return pool.respond( keys );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		return select( sql, NO_PARAMS );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		return pool.respond( new RowSetResult( pool.query( sql, paramValues ) ) );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		return pool.respond( new ResultSetAdaptor( pool.query( sql, paramValues ) ) );
+	}
+
+	@Override
+	public CompletionStage<Long> selectLong(String sql, Object[] paramValues) {
+		return pool.respond( pool.nextKey() );
+	}
+
+	@Override
+	public CompletionStage<Cursor> selectCursor(String sql, Object[] paramValues) {
+		RowSet<Row> rows = pool.query( sql, paramValues );
+		return pool.respond( new Cursor() {
+			private boolean hasMore = true;
+
+			@Override
+			public CompletionStage<ResultSet> fetch(int count) {
+				// every row is returned by the first fetch
+				hasMore = false;
+				return pool.respond( new ResultSetAdaptor( rows ) );
+			}
+
+			@Override
+			public boolean hasMore() {
+				return hasMore;
+			}
+
+			@Override
+			public CompletionStage<Void> close() {
+				hasMore = false;
+				return pool.respond( null );
+			}
+		} );
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		// statements are never deferred by this connection
+		return CompletionStages.nullFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		return pool.respond( null );
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		return pool.respond( null );
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		return pool.respond( null );
+	}
+
+	@Override
+	public void close() {}
+
+	private static class RowSetResult implements Result {
+		private final RowSet<Row> rows;
+		private final RowIterator<Row> iterator;
+
+		RowSetResult(RowSet<Row> rows) {
+			this.rows = rows;
+			this.iterator = rows.iterator();
+		}
+
+		@Override
+		public int size() {
+			return rows.size();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return iterator.hasNext();
+		}
+
+		@Override
+		public Object[] next() {
+			Row row = iterator.next();
+			Object[] result = new Object[ row.size() ];
+			for ( int i = 0; i < result.length; i++ ) {
+				result[i] = row.getValue( i );
+			}
+			return result;
+		}
+	}
+}
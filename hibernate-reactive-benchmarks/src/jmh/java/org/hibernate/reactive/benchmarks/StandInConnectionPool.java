@@ -0,0 +1,97 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmarks;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.service.spi.Stoppable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An in-process {@link ReactiveConnectionPool} which executes no
+ * SQL, allowing the overhead of Hibernate Reactive to be measured
+ * without a database. Every statement succeeds, DML statements
+ * affect the expected number of rows, and queries return the rows
+ * produced by a {@link Responder}.
+ * <p>
+ * If a latency is specified, each response is delivered after the
+ * given delay, from another thread, simulating a round trip to the
+ * database. Otherwise, every response is delivered immediately.
+ */
+public class StandInConnectionPool implements ReactiveConnectionPool, Stoppable {
+
+	/**
+	 * Produces the result of a query.
+	 */
+	@FunctionalInterface
+	public interface Responder {
+		RowSet<Row> query(String sql, Object[] paramValues);
+	}
+
+	private final Responder responder;
+	private final long latencyNanos;
+	private final ScheduledExecutorService scheduler;
+	private final AtomicLong keys = new AtomicLong();
+
+	/**
+	 * @param responder produces the results of queries
+	 * @param latencyMicros the simulated latency of each round
+	 *                      trip to the database, or zero
+	 */
+	public StandInConnectionPool(Responder responder, long latencyMicros) {
+		this.responder = responder;
+		this.latencyNanos = TimeUnit.MICROSECONDS.toNanos( latencyMicros );
+		this.scheduler = latencyMicros > 0
+				? Executors.newSingleThreadScheduledExecutor( runnable -> {
+					Thread thread = new Thread( runnable, "stand-in-database" );
+					thread.setDaemon( true );
+					return thread;
+				} )
+				: null;
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection() {
+		return respond( new StandInConnection( this ) );
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection() {
+		return new StandInConnection( this );
+	}
+
+	@Override
+	public void stop() {
+		if ( scheduler != null ) {
+			scheduler.shutdownNow();
+		}
+	}
+
+	RowSet<Row> query(String sql, Object[] paramValues) {
+		return responder.query( sql, paramValues );
+	}
+
+	long nextKey() {
+		return keys.incrementAndGet();
+	}
+
+	<T> CompletionStage<T> respond(T result) {
+		if ( scheduler == null ) {
+			return CompletableFuture.completedFuture( result );
+		}
+		CompletableFuture<T> response = new CompletableFuture<>();
+		scheduler.schedule( () -> response.complete( result ), latencyNanos, TimeUnit.NANOSECONDS );
+		return response;
+	}
+}
@@ -0,0 +1,94 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.adaptor.impl;
+
+import org.hibernate.dialect.PostgreSQL9Dialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.reactive.provider.Settings;
+
+import java.lang.reflect.Array;
+
+/**
+ * Support for batch fetching using a restriction of form
+ * {@code alias.id = any(?)}, where the whole batch of keys
+ * is bound to the single parameter as an array, instead of
+ * a restriction of form {@code alias.id in (?, ?, ...)}.
+ * The SQL is then independent of the size of the batch, so
+ * that a single prepared statement serves every batch.
+ * <p>
+ * Enabled via the setting {@link Settings#ARRAY_BATCH_FETCH},
+ * and supported on PostgreSQL, for single-column keys.
+ */
+public final class ArrayBatchFetch {
+
+	private ArrayBatchFetch() {
+	}
+
+	/**
+	 * @param columnSpan the number of columns of the key
+	 *
+	 * @return {@code true} if batches of keys with the given
+	 *         number of columns should be bound as an array
+	 */
+	public static boolean isEnabled(SessionFactoryImplementor factory, int columnSpan) {
+		return columnSpan == 1 && isEnabled( factory );
+	}
+
+	/**
+	 * @return {@code true} if array batch fetching is enabled,
+	 *         and supported by the dialect
+	 */
+	public static boolean isEnabled(SessionFactoryImplementor factory) {
+		return factory.getJdbcServices().getDialect() instanceof PostgreSQL9Dialect
+				&& factory.getServiceRegistry().getService( ConfigurationService.class )
+						.getSetting( Settings.ARRAY_BATCH_FETCH, StandardConverters.BOOLEAN, false );
+	}
+
+	/**
+	 * The restriction {@code alias.column = any(?)}.
+	 */
+	public static StringBuilder restriction(String alias, String[] columnNames) {
+		assert columnNames.length == 1;
+		return new StringBuilder( StringHelper.qualify( alias, columnNames[0] ) )
+				.append( " = any(?)" );
+	}
+
+	/**
+	 * Bind the positional parameters, which must be a batch of
+	 * keys, and collect the resulting values into an array.
+	 *
+	 * @return an array whose only element is the array of keys
+	 */
+	public static Object[] toParameterArray(QueryParameters queryParameters, SharedSessionContractImplementor session) {
+		Object[] keys = QueryParametersAdaptor.toParameterArray( queryParameters, session );
+		return new Object[] { toTypedArray( keys ) };
+	}
+
+	/**
+	 * The Vert.x client infers the type of an array parameter from
+	 * its Java component type, so an {@code Object[]} won't do.
+	 */
+	private static Object toTypedArray(Object[] keys) {
+		Class<?> componentType = null;
+		for ( Object key : keys ) {
+			if ( key != null ) {
+				componentType = key.getClass();
+				break;
+			}
+		}
+		if ( componentType == null ) {
+			return keys;
+		}
+		Object array = Array.newInstance( componentType, keys.length );
+		System.arraycopy( keys, 0, array, 0, keys.length );
+		return array;
+	}
+}
@@ -0,0 +1,151 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.service.Service;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A Hibernate {@link Service} through which Hibernate Reactive
+ * reads from the second-level cache and the query cache while
+ * loading entities and collections and executing queries. An
+ * implementation may complete these reads asynchronously, so that
+ * the read path does not block the Vert.x event loop.
+ * <p>
+ * The regions, cache keys, cache entries, and access strategies
+ * are still those defined by the configured
+ * {@link org.hibernate.cache.spi.RegionFactory}, and each operation
+ * receives the {@link CachedDomainDataAccess} or
+ * {@link QueryResultsCache} on which it would be invoked by
+ * Hibernate ORM. An implementation decides how the operation is
+ * carried out, for example, by calling the asynchronous API of
+ * a remote cache provider.
+ * <p>
+ * This service covers the read path only: reads, the soft lock
+ * taken while an entity is loaded, and puts of query results. It
+ * does not make writes to the cache non-blocking. Every other write
+ * is still performed by Hibernate ORM via the synchronous operations
+ * of the access strategy, on the calling thread, including the put
+ * of an entity or collection which was just loaded from the database,
+ * the invalidation performed by an insert, update, or delete, and
+ * the update of the timestamps of query spaces. So a cache provider
+ * whose writes block must not be used, whatever implementation of
+ * this service is configured.
+ * <p>
+ * When an operation is called on a thread belonging to a Vert.x
+ * {@link io.vertx.core.Context}, the stage it returns must complete
+ * on that same context, since the caller continues by mutating the
+ * session and its persistence context, which are not thread-safe.
+ * An implementation which receives its result on some other thread,
+ * for example, from the client of a remote cache, must complete the
+ * stage via {@link io.vertx.core.Context#runOnContext}. A stage which
+ * is already complete when it is returned satisfies this requirement.
+ * <p>
+ * The default implementation,
+ * {@link org.hibernate.reactive.cache.impl.BlockingCacheAccess},
+ * simply invokes the synchronous operation, and so it blocks the
+ * calling thread for as long as the cache provider does. It never
+ * blocks when the regions are held in-process, for example, by
+ * {@link VertxSharedDataRegionFactory}.
+ * <p>
+ * A program may integrate a custom {@link ReactiveCacheAccess} by
+ * naming it using {@value org.hibernate.reactive.provider.Settings#CACHE_ACCESS},
+ * by contributing a new service using a
+ * {@link org.hibernate.boot.registry.StandardServiceInitiator},
+ * or from code-based Hibernate configuration by calling
+ * {@link org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder#addService}.
+ *
+ * <pre>
+ * new ReactiveServiceRegistryBuilder()
+ *     .applySettings( properties )
+ *     .addService( ReactiveCacheAccess.class, new MyCacheAccess() )
+ *     .build();
+ * </pre>
+ */
+@Incubating
+public interface ReactiveCacheAccess extends Service {
+
+	/**
+	 * Obtain the cached entry for the given key.
+	 *
+	 * @see CachedDomainDataAccess#get(SharedSessionContractImplementor, Object)
+	 *
+	 * @return the cached entry, or {@code null} if there is no entry
+	 */
+	CompletionStage<Object> get(
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess access,
+			Object key);
+
+	/**
+	 * Lock the entry for the given key, preventing it from being
+	 * read from, or written to, the cache until it is unlocked.
+	 *
+	 * @see CachedDomainDataAccess#lockItem(SharedSessionContractImplementor, Object, Object)
+	 *
+	 * @return a representation of the lock, which must be passed
+	 *         to {@link #unlockItem}
+	 */
+	CompletionStage<SoftLock> lockItem(
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess access,
+			Object key,
+			Object version);
+
+	/**
+	 * Release a lock obtained by {@link #lockItem}.
+	 *
+	 * @see CachedDomainDataAccess#unlockItem(SharedSessionContractImplementor, Object, SoftLock)
+	 */
+	CompletionStage<Void> unlockItem(
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess access,
+			Object key,
+			SoftLock lock);
+
+	/**
+	 * Obtain the cached result of the query with the given key, if
+	 * it is still up to date with respect to the given query spaces,
+	 * assembled using the given types.
+	 *
+	 * @see QueryResultsCache#get(QueryKey, Set, Type[], SharedSessionContractImplementor)
+	 *
+	 * @return the assembled result, or {@code null} if there is no
+	 *         cached result, or if it is out of date
+	 */
+	CompletionStage<List<Object>> getQueryResult(
+			SharedSessionContractImplementor session,
+			QueryResultsCache cache,
+			QueryKey key,
+			Set<Serializable> spaces,
+			Type[] types);
+
+	/**
+	 * Cache the given result of the query with the given key,
+	 * disassembled using the given types.
+	 *
+	 * @see QueryResultsCache#put(QueryKey, List, Type[], SharedSessionContractImplementor)
+	 *
+	 * @return {@code true} if the result was actually cached
+	 */
+	CompletionStage<Boolean> putQueryResult(
+			SharedSessionContractImplementor session,
+			QueryResultsCache cache,
+			QueryKey key,
+			List<Object> result,
+			Type[] types);
+}
@@ -0,0 +1,212 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.vertx.VertxInstance;
+import org.hibernate.service.spi.ServiceRegistryAwareService;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link org.hibernate.cache.spi.RegionFactory} which holds each
+ * region of the second-level cache and query cache in-process, in a
+ * Vert.x {@link LocalMap} obtained from the shared data of the
+ * instance of {@link Vertx} provided by the {@link VertxInstance}
+ * service. Since a region is never held remotely, no operation of
+ * the cache blocks the event loop. The standard access strategies
+ * of Hibernate ORM are all supported.
+ * <p>
+ * The number of entries held by each region is limited by
+ * {@value Settings#CACHE_MAX_ENTRIES}. When a region is full, some
+ * arbitrary entries are evicted to make room for a new one. The timestamps region is not bounded,
+ * since evicting a timestamp would make stale query results appear
+ * to be up to date, but it holds only one entry per table.
+ * <p>
+ * The regions belong to the instance of Vert.x, and so they are not
+ * cleared when the session factory is closed, unless the instance of
+ * Vert.x is closed along with it, as the default instance is. Session
+ * factories sharing an instance of Vert.x should therefore specify
+ * distinct values of
+ * {@value org.hibernate.cfg.AvailableSettings#CACHE_REGION_PREFIX}.
+ * <p>
+ * To use this cache, set
+ * {@value org.hibernate.cfg.AvailableSettings#CACHE_REGION_FACTORY}
+ * to the name of this class.
+ */
+public class VertxSharedDataRegionFactory extends RegionFactoryTemplate implements ServiceRegistryAwareService {
+
+	private static final String MAP_NAME_PREFIX = "hibernate.reactive.cache.";
+
+	private static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+	private ServiceRegistryImplementor serviceRegistry;
+	private volatile Vertx vertx;
+	private int maxEntries;
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+		vertx = serviceRegistry.getService( VertxInstance.class ).getVertx();
+		maxEntries = ConfigurationHelper.getInt( Settings.CACHE_MAX_ENTRIES, configValues, DEFAULT_MAX_ENTRIES );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		// the maps are shared data, and may still be in use
+		vertx = null;
+	}
+
+	@Override
+	public long nextTimestamp() {
+		return System.currentTimeMillis();
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return storageAccess( regionConfig.getRegionName(), maxEntries );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return storageAccess( regionName, maxEntries );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return storageAccess( regionName, 0 );
+	}
+
+	private SharedDataStorageAccess storageAccess(String regionName, int maxEntries) {
+		LocalMap<Shared, Shared> map = vertx.sharedData().getLocalMap( MAP_NAME_PREFIX + regionName );
+		return new SharedDataStorageAccess( map, maxEntries );
+	}
+
+	/**
+	 * The storage of a region, a {@link LocalMap} whose keys and values
+	 * are the cache keys and entries, as wrapped by {@link Shared}, and
+	 * which holds at most the given number of entries, unless it is 0.
+	 */
+	private static class SharedDataStorageAccess implements DomainDataStorageAccess {
+
+		private final LocalMap<Shared, Shared> map;
+		private final int maxEntries;
+
+		SharedDataStorageAccess(LocalMap<Shared, Shared> map, int maxEntries) {
+			this.map = map;
+			this.maxEntries = maxEntries;
+		}
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			Shared value = map.get( new Shared( key ) );
+			return value == null ? null : value.object;
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			Shared sharedKey = new Shared( key );
+			if ( maxEntries > 0 && map.size() >= maxEntries && map.get( sharedKey ) == null ) {
+				evict();
+			}
+			map.put( sharedKey, new Shared( value ) );
+		}
+
+		/**
+		 * Evict a tenth of the entries, chosen arbitrarily, so that
+		 * the cost of finding them is spread over many later puts.
+		 */
+		private void evict() {
+			int count = Math.max( 1, maxEntries / 10 );
+			for ( Shared key : map.keySet() ) {
+				if ( count-- == 0 ) {
+					break;
+				}
+				map.remove( key );
+			}
+		}
+
+		@Override
+		public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+			map.remove( new Shared( key ) );
+		}
+
+		@Override
+		public void clearCache(SharedSessionContractImplementor session) {
+			map.clear();
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return map.get( new Shared( key ) ) != null;
+		}
+
+		@Override
+		public void evictData() {
+			map.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			map.remove( new Shared( key ) );
+		}
+
+		@Override
+		public void release() {
+			// the map is shared data, and may still be in use
+		}
+	}
+
+	/**
+	 * Wraps a cache key or entry so that it may be stored in a
+	 * {@link LocalMap}. The entries held by Hibernate are never
+	 * mutated, so the wrapper is safe to share between threads
+	 * without copying.
+	 */
+	private static final class Shared implements Shareable {
+
+		private final Object object;
+
+		Shared(Object object) {
+			this.object = object;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof Shared
+					&& Objects.equals( object, ( (Shared) other ).object );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode( object );
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.internal.CacheHelper;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+import org.hibernate.reactive.cache.VertxSharedDataRegionFactory;
+import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The default {@link ReactiveCacheAccess}, an adapter which invokes
+ * the synchronous operations of the cache access strategies and the
+ * query results cache, returning completed stages. This blocks the
+ * calling thread for as long as the underlying cache provider does,
+ * and so it should be used with a cache which holds its regions
+ * in-process, for example, {@link VertxSharedDataRegionFactory}.
+ */
+public class BlockingCacheAccess implements ReactiveCacheAccess {
+
+	@Override
+	public CompletionStage<Object> get(
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess access,
+			Object key) {
+		return CompletionStages.completedFuture( CacheHelper.fromSharedCache( session, key, access ) );
+	}
+
+	@Override
+	public CompletionStage<SoftLock> lockItem(
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess access,
+			Object key,
+			Object version) {
+		return CompletionStages.completedFuture( access.lockItem( session, key, version ) );
+	}
+
+	@Override
+	public CompletionStage<Void> unlockItem(
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess access,
+			Object key,
+			SoftLock lock) {
+		access.unlockItem( session, key, lock );
+		return CompletionStages.voidFuture();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public CompletionStage<List<Object>> getQueryResult(
+			SharedSessionContractImplementor session,
+			QueryResultsCache cache,
+			QueryKey key,
+			Set<Serializable> spaces,
+			Type[] types) {
+		return CompletionStages.completedFuture( cache.get( key, spaces, types, session ) );
+	}
+
+	@Override
+	public CompletionStage<Boolean> putQueryResult(
+			SharedSessionContractImplementor session,
+			QueryResultsCache cache,
+			QueryKey key,
+			List<Object> result,
+			Type[] types) {
+		return CompletionStages.completedFuture( cache.put( key, result, types, session ) );
+	}
+}
@@ -0,0 +1,50 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.internal.util.config.ConfigurationException;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import java.util.Map;
+
+/**
+ * Factory for the {@link ReactiveCacheAccess}, which is either the
+ * class named by {@value Settings#CACHE_ACCESS}, or, by default,
+ * a {@link BlockingCacheAccess}.
+ */
+public final class ReactiveCacheAccessInitiator implements StandardServiceInitiator<ReactiveCacheAccess> {
+
+	public static final ReactiveCacheAccessInitiator INSTANCE = new ReactiveCacheAccessInitiator();
+
+	private ReactiveCacheAccessInitiator() {
+	}
+
+	@Override
+	public ReactiveCacheAccess initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		String className = ConfigurationHelper.getString( Settings.CACHE_ACCESS, configurationValues );
+		if ( className == null ) {
+			return new BlockingCacheAccess();
+		}
+		try {
+			return (ReactiveCacheAccess) registry.getService( ClassLoaderService.class )
+					.classForName( className )
+					.newInstance();
+		}
+		catch (Exception e) {
+			throw new ConfigurationException( "Could not instantiate ReactiveCacheAccess: " + className, e );
+		}
+	}
+
+	@Override
+	public Class<ReactiveCacheAccess> getServiceInitiated() {
+		return ReactiveCacheAccess.class;
+	}
+}
@@ -0,0 +1,8 @@
+/**
+ * Reads from the second-level cache and the query cache which
+ * may complete asynchronously, and an in-process cache provider
+ * backed by Vert.x shared data.
+ *
+ * @see org.hibernate.reactive.cache.ReactiveCacheAccess
+ */
+package org.hibernate.reactive.cache;
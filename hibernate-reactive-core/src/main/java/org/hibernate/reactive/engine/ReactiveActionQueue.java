@@ -13,14 +13,22 @@
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.engine.spi.*;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metadata.ClassMetadata;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.reactive.engine.impl.*;
+import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.type.*;
 
@@ -46,6 +54,20 @@ public class ReactiveActionQueue {
 	static {
 		EXECUTABLE_LISTS_MAP = new LinkedHashMap<>( 8 );
 
+		EXECUTABLE_LISTS_MAP.put(
+				ReactiveEntityUpsertAction.class,
+				new ListProvider<ReactiveEntityUpsertAction>() {
+					ExecutableList<ReactiveEntityUpsertAction> get(ReactiveActionQueue instance) {
+						return instance.upserts;
+					}
+
+					ExecutableList<ReactiveEntityUpsertAction> init(ReactiveActionQueue instance) {
+						// the actions queued before an upsert are executed
+						// before it is queued, so upserts come first
+						return instance.upserts = new ExecutableList<>( false );
+					}
+				}
+		);
 //		EXECUTABLE_LISTS_MAP.put(
 //				OrphanRemovalAction.class,
 //				new ListProvider<OrphanRemovalAction>() {
@@ -91,58 +113,58 @@ ExecutableList<ReactiveEntityUpdateAction> init(ReactiveActionQueue instance) {
 					}
 				}
 		);
-//		EXECUTABLE_LISTS_MAP.put(
-//				QueuedOperationCollectionAction.class,
-//				new ListProvider<QueuedOperationCollectionAction>() {
-//					ExecutableList<QueuedOperationCollectionAction> get(ReactiveActionQueue instance) {
-//						return instance.collectionQueuedOps;
-//					}
-//					ExecutableList<QueuedOperationCollectionAction> init(ReactiveActionQueue instance) {
-//						return instance.collectionQueuedOps = new ExecutableList<>(
-//								instance.isOrderUpdatesEnabled()
-//						);
-//					}
-//				}
-//		);
-//		EXECUTABLE_LISTS_MAP.put(
-//				CollectionRemoveAction.class,
-//				new ListProvider<CollectionRemoveAction>() {
-//					ExecutableList<CollectionRemoveAction> get(ReactiveActionQueue instance) {
-//						return instance.collectionRemovals;
-//					}
-//					ExecutableList<CollectionRemoveAction> init(ReactiveActionQueue instance) {
-//						return instance.collectionRemovals = new ExecutableList<>(
-//								instance.isOrderUpdatesEnabled()
-//						);
-//					}
-//				}
-//		);
-//		EXECUTABLE_LISTS_MAP.put(
-//				CollectionUpdateAction.class,
-//				new ListProvider<CollectionUpdateAction>() {
-//					ExecutableList<CollectionUpdateAction> get(ReactiveActionQueue instance) {
-//						return instance.collectionUpdates;
-//					}
-//					ExecutableList<CollectionUpdateAction> init(ReactiveActionQueue instance) {
-//						return instance.collectionUpdates = new ExecutableList<>(
-//								instance.isOrderUpdatesEnabled()
-//						);
-//					}
-//				}
-//		);
-//		EXECUTABLE_LISTS_MAP.put(
-//				CollectionRecreateAction.class,
-//				new ListProvider<CollectionRecreateAction>() {
-//					ExecutableList<CollectionRecreateAction> get(ReactiveActionQueue instance) {
-//						return instance.collectionCreations;
-//					}
-//					ExecutableList<CollectionRecreateAction> init(ReactiveActionQueue instance) {
-//						return instance.collectionCreations = new ExecutableList<>(
-//								instance.isOrderUpdatesEnabled()
-//						);
-//					}
-//				}
-//		);
+		EXECUTABLE_LISTS_MAP.put(
+				ReactiveQueuedOperationCollectionAction.class,
+				new ListProvider<ReactiveQueuedOperationCollectionAction>() {
+					ExecutableList<ReactiveQueuedOperationCollectionAction> get(ReactiveActionQueue instance) {
+						return instance.collectionQueuedOps;
+					}
+					ExecutableList<ReactiveQueuedOperationCollectionAction> init(ReactiveActionQueue instance) {
+						return instance.collectionQueuedOps = new ExecutableList<>(
+								instance.isOrderUpdatesEnabled()
+						);
+					}
+				}
+		);
+		EXECUTABLE_LISTS_MAP.put(
+				ReactiveCollectionRemoveAction.class,
+				new ListProvider<ReactiveCollectionRemoveAction>() {
+					ExecutableList<ReactiveCollectionRemoveAction> get(ReactiveActionQueue instance) {
+						return instance.collectionRemovals;
+					}
+					ExecutableList<ReactiveCollectionRemoveAction> init(ReactiveActionQueue instance) {
+						return instance.collectionRemovals = new ExecutableList<>(
+								instance.isOrderUpdatesEnabled()
+						);
+					}
+				}
+		);
+		EXECUTABLE_LISTS_MAP.put(
+				ReactiveCollectionUpdateAction.class,
+				new ListProvider<ReactiveCollectionUpdateAction>() {
+					ExecutableList<ReactiveCollectionUpdateAction> get(ReactiveActionQueue instance) {
+						return instance.collectionUpdates;
+					}
+					ExecutableList<ReactiveCollectionUpdateAction> init(ReactiveActionQueue instance) {
+						return instance.collectionUpdates = new ExecutableList<>(
+								instance.isOrderUpdatesEnabled()
+						);
+					}
+				}
+		);
+		EXECUTABLE_LISTS_MAP.put(
+				ReactiveCollectionRecreateAction.class,
+				new ListProvider<ReactiveCollectionRecreateAction>() {
+					ExecutableList<ReactiveCollectionRecreateAction> get(ReactiveActionQueue instance) {
+						return instance.collectionCreations;
+					}
+					ExecutableList<ReactiveCollectionRecreateAction> init(ReactiveActionQueue instance) {
+						return instance.collectionCreations = new ExecutableList<>(
+								instance.isOrderUpdatesEnabled()
+						);
+					}
+				}
+		);
 		EXECUTABLE_LISTS_MAP.put(
 				ReactiveEntityDeleteAction.class,
 				new ListProvider<ReactiveEntityDeleteAction>() {
@@ -169,20 +191,24 @@ ExecutableList<ReactiveEntityDeleteAction> init(ReactiveActionQueue instance) {
 	private ExecutableList<ReactiveEntityInsertAction> insertions;
 	private ExecutableList<ReactiveEntityDeleteAction> deletions;
 	private ExecutableList<ReactiveEntityUpdateAction> updates;
+	private ExecutableList<ReactiveEntityUpsertAction> upserts;
 	// Actually the semantics of the next three are really "Bag"
 	// Note that, unlike objects, collection insertions, updates,
 	// deletions are not really remembered between flushes. We
 	// just re-use the same Lists for convenience.
-	private ExecutableList<CollectionRecreateAction> collectionCreations;
-	private ExecutableList<CollectionUpdateAction> collectionUpdates;
-	private ExecutableList<QueuedOperationCollectionAction> collectionQueuedOps;
-	private ExecutableList<CollectionRemoveAction> collectionRemovals;
+	private ExecutableList<ReactiveCollectionRecreateAction> collectionCreations;
+	private ExecutableList<ReactiveCollectionUpdateAction> collectionUpdates;
+	private ExecutableList<ReactiveQueuedOperationCollectionAction> collectionQueuedOps;
+	private ExecutableList<ReactiveCollectionRemoveAction> collectionRemovals;
 	// TODO: The removeOrphan concept is a temporary "hack" for HHH-6484.  This should be removed once action/task
 	// ordering is improved.
 	private ExecutableList<OrphanRemovalAction> orphanRemovals;
 	private transient boolean isTransactionCoordinatorShared;
 	private AfterTransactionCompletionProcessQueue afterTransactionProcesses;
 	private BeforeTransactionCompletionProcessQueue beforeTransactionProcesses;
+	// if enabled, independent actions are sent to the
+	// database without waiting for the previous action
+	private final boolean pipelined;
 
 	/**
 	 * Constructs an action queue bound to the given session.
@@ -192,6 +218,7 @@ ExecutableList<ReactiveEntityDeleteAction> init(ReactiveActionQueue instance) {
 	public ReactiveActionQueue(SessionImplementor session) {
 		this.session = session;
 		isTransactionCoordinatorShared = false;
+		pipelined = isPipelined( session );
 	}
 
 	private static String[] convertTimestampSpaces(Serializable[] spaces) {
@@ -390,6 +417,15 @@ public void addAction(ReactiveEntityDeleteAction action) {
 		addAction( ReactiveEntityDeleteAction.class, action );
 	}
 
+	/**
+	 * Adds an entity upsert action
+	 *
+	 * @param action The action representing the entity upsert
+	 */
+	public void addAction(ReactiveEntityUpsertAction action) {
+		addAction( ReactiveEntityUpsertAction.class, action );
+	}
+
 	/**
 	 * Adds an orphan removal action
 	 *
@@ -414,9 +450,8 @@ public void addAction(ReactiveEntityUpdateAction action) {
 	 *
 	 * @param action The action representing the (re)creation of a collection
 	 */
-	public void addAction(CollectionRecreateAction action) {
-//		addAction( CollectionRecreateAction.class, action );
-		throw new UnsupportedOperationException();
+	public void addAction(ReactiveCollectionRecreateAction action) {
+		addAction( ReactiveCollectionRecreateAction.class, action );
 	}
 
 	/**
@@ -424,9 +459,8 @@ public void addAction(CollectionRecreateAction action) {
 	 *
 	 * @param action The action representing the removal of a collection
 	 */
-	public void addAction(CollectionRemoveAction action) {
-//		addAction( CollectionRemoveAction.class, action );
-		throw new UnsupportedOperationException();
+	public void addAction(ReactiveCollectionRemoveAction action) {
+		addAction( ReactiveCollectionRemoveAction.class, action );
 	}
 
 	/**
@@ -434,9 +468,8 @@ public void addAction(CollectionRemoveAction action) {
 	 *
 	 * @param action The action representing the update of a collection
 	 */
-	public void addAction(CollectionUpdateAction action) {
-//		addAction( CollectionUpdateAction.class, action );
-		throw new UnsupportedOperationException();
+	public void addAction(ReactiveCollectionUpdateAction action) {
+		addAction( ReactiveCollectionUpdateAction.class, action );
 	}
 
 	/**
@@ -444,9 +477,8 @@ public void addAction(CollectionUpdateAction action) {
 	 *
 	 * @param action The action representing the queued operation
 	 */
-	public void addAction(QueuedOperationCollectionAction action) {
-//		addAction( QueuedOperationCollectionAction.class, action );
-		throw new UnsupportedOperationException();
+	public void addAction(ReactiveQueuedOperationCollectionAction action) {
+		addAction( ReactiveQueuedOperationCollectionAction.class, action );
 	}
 
 	/**
@@ -641,23 +673,38 @@ private <E extends ReactiveExecutable> CompletionStage<Void> executeActions(
 		// todo : consider ways to improve the double iteration of Executables here:
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
-		CompletionStage<Void> ret = CompletionStages.nullFuture();
-		for ( E e : list ) {
-			ret = ret.thenCompose( v -> e.reactiveExecute().whenComplete( (v2, x) -> {
-				if ( e.getBeforeTransactionCompletionProcess() != null ) {
-					if ( beforeTransactionProcesses == null ) {
-						beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
-					}
-					beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
-				}
-				if ( e.getAfterTransactionCompletionProcess() != null ) {
-					if ( afterTransactionProcesses == null ) {
-						afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
-					}
-					afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+		List<E> pipeline = new ArrayList<>();
+		List<ReactiveEntityIdentityInsertAction> identityInserts = new ArrayList<>();
+		final int batchSize = session.getConfiguredJdbcBatchSize();
+		CompletionStage<Void> ret = CompletionStages.loop( list, e -> {
+			if ( batchSize > 1 && canBatchIdentityInsert( e ) ) {
+				// execute it along with the following identity
+				// inserts of the same entity, in a single batch
+				ReactiveEntityIdentityInsertAction insert = (ReactiveEntityIdentityInsertAction) e;
+				CompletionStage<Void> stage = CompletionStages.voidFuture();
+				if ( !canAddToBatch( insert, identityInserts, batchSize ) ) {
+					stage = thenExecuteIdentityInserts( stage, identityInserts );
 				}
-			} ) );
-		}
+				stage = thenExecutePipelined( stage, pipeline );
+				identityInserts.add( insert );
+				return stage;
+			}
+			else if ( pipelined && canPipeline( e ) ) {
+				// send it along with the preceding actions,
+				// without waiting for them to complete
+				CompletionStage<Void> stage = thenExecuteIdentityInserts( CompletionStages.voidFuture(), identityInserts );
+				pipeline.add( e );
+				return stage;
+			}
+			else {
+				return executeBuffered( identityInserts, pipeline )
+						.thenCompose( v -> executeAction( e ) );
+			}
+		} );
+		// the buffers are only final once the loop has completed
+		ret = ret.thenCompose( v -> executeBuffered( identityInserts, pipeline ) );
+		// execute any statements left waiting in a batch
+		ret = ret.thenCompose( v -> ( (ReactiveSession) session ).getReactiveConnection().executeBatch() );
 		return ret.whenComplete( (v, x) -> {
 			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
@@ -672,6 +719,206 @@ private <E extends ReactiveExecutable> CompletionStage<Void> executeActions(
 		} );
 	}
 
+	private <E extends ReactiveExecutable> CompletionStage<Void> executeAction(E e) {
+		return e.reactiveExecute().whenComplete( (v, x) -> registerTransactionCompletionProcesses( e ) );
+	}
+
+	private void registerTransactionCompletionProcesses(ReactiveExecutable e) {
+		if ( e.getBeforeTransactionCompletionProcess() != null ) {
+			if ( beforeTransactionProcesses == null ) {
+				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
+			}
+			beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
+		}
+		if ( e.getAfterTransactionCompletionProcess() != null ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+		}
+	}
+
+	/**
+	 * Execute the buffered identity inserts, and then the buffered
+	 * pipelined actions.
+	 */
+	private <E extends ReactiveExecutable> CompletionStage<Void> executeBuffered(
+			List<ReactiveEntityIdentityInsertAction> identityInserts, List<E> pipeline) {
+		CompletionStage<Void> stage = thenExecuteIdentityInserts( CompletionStages.voidFuture(), identityInserts );
+		return thenExecutePipelined( stage, pipeline );
+	}
+
+	private <E extends ReactiveExecutable> CompletionStage<Void> thenExecutePipelined(
+			CompletionStage<Void> stage, List<E> pipeline) {
+		if ( pipeline.isEmpty() ) {
+			return stage;
+		}
+		List<E> actions = new ArrayList<>( pipeline );
+		pipeline.clear();
+		return stage.thenCompose( v -> executePipelined( actions ) );
+	}
+
+	private CompletionStage<Void> thenExecuteIdentityInserts(
+			CompletionStage<Void> stage, List<ReactiveEntityIdentityInsertAction> batch) {
+		if ( batch.isEmpty() ) {
+			return stage;
+		}
+		List<ReactiveEntityIdentityInsertAction> inserts = new ArrayList<>( batch );
+		batch.clear();
+		return stage.thenCompose( v -> executeIdentityInserts( inserts ) );
+	}
+
+	/**
+	 * Execute the given identity inserts, of the same entity, as a
+	 * batch, and then assign the generated ids to the entities, in
+	 * order.
+	 */
+	private CompletionStage<Void> executeIdentityInserts(List<ReactiveEntityIdentityInsertAction> inserts) {
+		return CompletionStages.loop( inserts, ReactiveEntityIdentityInsertAction::prepareInsert ).thenCompose( v -> {
+			List<ReactiveEntityIdentityInsertAction> notVetoed = new ArrayList<>( inserts.size() );
+			List<Object[]> states = new ArrayList<>( inserts.size() );
+			List<Object> instances = new ArrayList<>( inserts.size() );
+			for ( ReactiveEntityIdentityInsertAction insert : inserts ) {
+				if ( !insert.isVeto() ) {
+					notVetoed.add( insert );
+					states.add( insert.getState() );
+					instances.add( insert.getInstance() );
+				}
+			}
+			if ( notVetoed.isEmpty() ) {
+				return CompletionStages.nullFuture();
+			}
+			ReactiveEntityPersister persister = (ReactiveEntityPersister) notVetoed.get( 0 ).getPersister();
+			return persister.insertReactive( states, instances, session )
+					.thenAccept( ids -> {
+						for ( int i = 0; i < notVetoed.size(); i++ ) {
+							notVetoed.get( i ).completeInsert( ids.get( i ) );
+						}
+					} );
+		} ).whenComplete( (v, x) -> inserts.forEach( this::registerTransactionCompletionProcesses ) );
+	}
+
+	/**
+	 * Determines if the given action is an identity insert which may
+	 * be executed as part of a batch. This is the case if it was
+	 * delayed until flush time, and the entity has a single table
+	 * and a static insert statement.
+	 */
+	private static boolean canBatchIdentityInsert(ReactiveExecutable e) {
+		if ( e instanceof ReactiveEntityIdentityInsertAction ) {
+			ReactiveEntityIdentityInsertAction insert = (ReactiveEntityIdentityInsertAction) e;
+			return !insert.isEarlyInsert()
+					&& isSingleTable( insert.getPersister() )
+					&& !insert.getPersister().getEntityMetamodel().isDynamicInsert();
+		}
+		else {
+			return false;
+		}
+	}
+
+	/**
+	 * An identity insert may be added to a batch of identity inserts
+	 * if the batch is not full, the inserts are of the same entity,
+	 * and the entity does not reference an entity inserted by the
+	 * batch, whose id is not known until the batch is executed.
+	 */
+	private boolean canAddToBatch(
+			ReactiveEntityIdentityInsertAction insert,
+			List<ReactiveEntityIdentityInsertAction> batch,
+			int batchSize) {
+		if ( batch.isEmpty() ) {
+			return true;
+		}
+		if ( batch.size() >= batchSize || batch.get( 0 ).getPersister() != insert.getPersister() ) {
+			return false;
+		}
+		Set<Object> instances = Collections.newSetFromMap( new IdentityHashMap<>() );
+		for ( ReactiveEntityIdentityInsertAction action : batch ) {
+			instances.add( action.getInstance() );
+		}
+		return !references( insert.getState(), insert.getPersister().getPropertyTypes(), instances );
+	}
+
+	private boolean references(Object[] values, Type[] types, Set<Object> instances) {
+		for ( int i = 0; i < types.length; i++ ) {
+			Object value = values[i];
+			if ( value != null ) {
+				if ( types[i].isEntityType() && instances.contains( value ) ) {
+					return true;
+				}
+				if ( types[i].isComponentType() ) {
+					CompositeType componentType = (CompositeType) types[i];
+					Object[] componentValues = componentType.getPropertyValues( value, session );
+					if ( references( componentValues, componentType.getSubtypes(), instances ) ) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Start every given action, without waiting for the previous action
+	 * to complete, so that their statements are pipelined over the
+	 * connection, and then wait for them all to complete. If any action
+	 * fails, the error of the first failing action is propagated, but
+	 * only after all the other actions have completed.
+	 */
+	private <E extends ReactiveExecutable> CompletionStage<Void> executePipelined(List<E> actions) {
+		CompletionStage<Throwable> firstError = CompletionStages.nullFuture();
+		for ( E e : actions ) {
+			CompletionStage<Void> stage;
+			try {
+				stage = executeAction( e );
+			}
+			catch (RuntimeException re) {
+				stage = CompletionStages.failedFuture( re );
+			}
+			CompletionStage<Void> action = stage;
+			firstError = firstError.thenCompose( error -> action.handle( (v, x) -> error == null ? x : error ) );
+		}
+		return firstError.thenApply( error -> CompletionStages.returnOrRethrow( error, null ) );
+	}
+
+	/**
+	 * Determines if the given action may be executed without waiting
+	 * for the completion of the preceding actions in its list. This
+	 * is the case if it is an update, since updates to different
+	 * entities may be executed in any order, or if it is an insert or
+	 * delete which executes just one statement without first waiting
+	 * for any other statement, in which case the statements are still
+	 * received by the database in the order of the actions.
+	 */
+	private static boolean canPipeline(ReactiveExecutable e) {
+		if ( e instanceof ReactiveEntityUpdateAction ) {
+			return true;
+		}
+		else if ( e instanceof ReactiveEntityDeleteAction ) {
+			return isSingleTable( ( (ReactiveEntityDeleteAction) e ).getPersister() );
+		}
+		else if ( e instanceof ReactiveEntityRegularInsertAction ) {
+			ReactiveEntityRegularInsertAction insert = (ReactiveEntityRegularInsertAction) e;
+			return insert.areTransientReferencesNullified()
+					&& isSingleTable( insert.getPersister() );
+		}
+		else {
+			return false;
+		}
+	}
+
+	private static boolean isSingleTable(EntityPersister persister) {
+		return persister instanceof AbstractEntityPersister
+				&& ( (AbstractEntityPersister) persister ).getTableSpan() == 1;
+	}
+
+	private static boolean isPipelined(SessionImplementor session) {
+		SessionFactoryImplementor factory = session.getFactory();
+		return factory.getJdbcServices().getDialect() instanceof PostgreSQL81Dialect
+				&& factory.getServiceRegistry().getService( ConfigurationService.class )
+						.getSetting( Settings.PIPELINED_FLUSH, StandardConverters.BOOLEAN, false );
+	}
+
 	/**
 	 * @param executable The action to execute
 	 */
@@ -751,6 +998,13 @@ public int numberOfUpdates() {
 		return updates.size();
 	}
 
+	public int numberOfUpserts() {
+		if ( upserts == null ) {
+			return 0;
+		}
+		return upserts.size();
+	}
+
 	public int numberOfInsertions() {
 		if ( insertions == null ) {
 			return 0;
@@ -855,6 +1109,15 @@ public boolean hasBeforeTransactionActions() {
 	}
 
 	public boolean hasAnyQueuedActions() {
+		return hasAnyQueuedActionsExceptUpserts() || ( upserts != null && !upserts.isEmpty() );
+	}
+
+	/**
+	 * Check whether any actions other than upserts are currently queued.
+	 * The queued upserts are executed before every other action, so an
+	 * upsert must not be queued while there are other queued actions.
+	 */
+	public boolean hasAnyQueuedActionsExceptUpserts() {
 		return ( updates != null && !updates.isEmpty() ) || ( insertions != null && !insertions.isEmpty() ) || hasUnresolvedEntityInsertActions()
 				|| ( deletions != null && !deletions.isEmpty() ) || ( collectionUpdates != null && !collectionUpdates.isEmpty() )
 				|| ( collectionQueuedOps != null && !collectionQueuedOps.isEmpty() ) || ( collectionRemovals != null && !collectionRemovals
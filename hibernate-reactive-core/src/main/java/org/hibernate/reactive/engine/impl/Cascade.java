@@ -75,20 +75,20 @@ public static CompletionStage<?> fetchLazyAssociationsBeforeCascade(
 			Object entity,
 			EventSource session) {
 
-		CompletionStage<?> beforeDelete = CompletionStages.nullFuture();
 		if ( persister.hasCascades() ) {
 			CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
 			Object[] state = persister.getPropertyValues( entity );
-			for (int i = 0; i < cascadeStyles.length; i++) {
+			return CompletionStages.loop( 0, cascadeStyles.length, i -> {
 				if ( cascadeStyles[i].doCascade( action.delegate() ) ) {
 					Object fetchable = state[i];
 					if ( !Hibernate.isInitialized( fetchable ) ) {
-						beforeDelete = beforeDelete.thenCompose( v -> session.unwrap(ReactiveSession.class).reactiveFetch( fetchable, true ) );
+						return session.unwrap(ReactiveSession.class).reactiveFetch( fetchable, true );
 					}
 				}
-			}
+				return CompletionStages.voidFuture();
+			} );
 		}
-		return beforeDelete;
+		return CompletionStages.voidFuture();
 	}
 
 	/**
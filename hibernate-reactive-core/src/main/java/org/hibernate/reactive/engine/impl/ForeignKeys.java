@@ -302,6 +302,12 @@ public static CompletionStage<Boolean> isTransient(String entityName, Object ent
 		ReactivePersistenceContextAdapter persistenceContext =
 				(ReactivePersistenceContextAdapter) session.getPersistenceContextInternal();
 		Serializable id = persister.getIdentifier(entity, session);
+		// the existence of the row may have been determined along with
+		// other entities by ReactivePersistenceContextAdapter.reactiveCheckRowExistence()
+		Boolean exists = persistenceContext.getCachedRowExistence( session.generateEntityKey( id, persister ) );
+		if ( exists != null ) {
+			return CompletionStages.completedFuture( !exists );
+		}
 		return persistenceContext.reactiveGetDatabaseSnapshot( id, persister).thenApply(Objects::isNull);
 	}
 
@@ -0,0 +1,99 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.engine.impl;
+
+import org.hibernate.HibernateException;
+import org.hibernate.action.internal.CollectionRecreateAction;
+import org.hibernate.cfg.NotYetImplementedException;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PreCollectionRecreateEvent;
+import org.hibernate.event.spi.PreCollectionRecreateEventListener;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.reactive.engine.ReactiveExecutable;
+import org.hibernate.reactive.persister.collection.impl.ReactiveCollectionPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A reactific {@link CollectionRecreateAction}.
+ */
+public class ReactiveCollectionRecreateAction extends CollectionRecreateAction implements ReactiveExecutable {
+
+	public ReactiveCollectionRecreateAction(
+			PersistentCollection collection,
+			CollectionPersister persister,
+			Serializable id,
+			SharedSessionContractImplementor session) {
+		super( collection, persister, id, session );
+	}
+
+	@Override
+	public void execute() throws HibernateException {
+		throw new NotYetImplementedException();
+	}
+
+	@Override
+	public CompletionStage<Void> reactiveExecute() {
+		// this method is called when a new non-null collection is persisted
+		// or when an existing (non-null) collection is moved to a new owner
+		final PersistentCollection collection = getCollection();
+		final SharedSessionContractImplementor session = getSession();
+		final ReactiveCollectionPersister persister = (ReactiveCollectionPersister) getPersister();
+
+		preRecreate();
+
+		return persister.recreateReactive( collection, getKey(), session )
+				.thenAccept( v -> {
+					session.getPersistenceContextInternal().getCollectionEntry( collection ).afterAction( collection );
+					evict();
+					postRecreate();
+
+					final StatisticsImplementor statistics = session.getFactory().getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.recreateCollection( persister.getRole() );
+					}
+				} );
+	}
+
+	private void preRecreate() {
+		final EventListenerGroup<PreCollectionRecreateEventListener> listenerGroup =
+				eventListenerGroup( EventType.PRE_COLLECTION_RECREATE );
+		if ( !listenerGroup.isEmpty() ) {
+			final PreCollectionRecreateEvent event =
+					new PreCollectionRecreateEvent( getPersister(), getCollection(), (EventSource) getSession() );
+			for ( PreCollectionRecreateEventListener listener : listenerGroup.listeners() ) {
+				listener.onPreRecreateCollection( event );
+			}
+		}
+	}
+
+	private void postRecreate() {
+		final EventListenerGroup<PostCollectionRecreateEventListener> listenerGroup =
+				eventListenerGroup( EventType.POST_COLLECTION_RECREATE );
+		if ( !listenerGroup.isEmpty() ) {
+			final PostCollectionRecreateEvent event =
+					new PostCollectionRecreateEvent( getPersister(), getCollection(), (EventSource) getSession() );
+			for ( PostCollectionRecreateEventListener listener : listenerGroup.listeners() ) {
+				listener.onPostRecreateCollection( event );
+			}
+		}
+	}
+
+	private <T> EventListenerGroup<T> eventListenerGroup(EventType<T> eventType) {
+		return getSession().getFactory().getServiceRegistry()
+				.getService( EventListenerRegistry.class )
+				.getEventListenerGroup( eventType );
+	}
+}
@@ -0,0 +1,122 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.engine.impl;
+
+import org.hibernate.HibernateException;
+import org.hibernate.action.internal.CollectionRemoveAction;
+import org.hibernate.cfg.NotYetImplementedException;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PreCollectionRemoveEvent;
+import org.hibernate.event.spi.PreCollectionRemoveEventListener;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.reactive.engine.ReactiveExecutable;
+import org.hibernate.reactive.persister.collection.impl.ReactiveCollectionPersister;
+import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A reactific {@link CollectionRemoveAction}.
+ */
+public class ReactiveCollectionRemoveAction extends CollectionRemoveAction implements ReactiveExecutable {
+
+	private final Object affectedOwner;
+	private final boolean emptySnapshot;
+
+	public ReactiveCollectionRemoveAction(
+			PersistentCollection collection,
+			CollectionPersister persister,
+			Serializable id,
+			boolean emptySnapshot,
+			SharedSessionContractImplementor session) {
+		super( collection, persister, id, emptySnapshot, session );
+		this.affectedOwner = session.getPersistenceContextInternal().getLoadedCollectionOwnerOrNull( collection );
+		this.emptySnapshot = emptySnapshot;
+	}
+
+	@Override
+	public void execute() throws HibernateException {
+		throw new NotYetImplementedException();
+	}
+
+	@Override
+	public CompletionStage<Void> reactiveExecute() {
+		final SharedSessionContractImplementor session = getSession();
+		final ReactiveCollectionPersister persister = (ReactiveCollectionPersister) getPersister();
+
+		preRemove();
+
+		CompletionStage<Void> removeStep = CompletionStages.nullFuture();
+		if ( !emptySnapshot ) {
+			// an existing collection that was either non-empty or uninitialized
+			// is replaced by null or a different collection
+			// (if the collection is uninitialized, hibernate has no way of
+			// knowing if the collection is actually empty without querying the db)
+			removeStep = persister.removeReactive( getKey(), session );
+		}
+
+		return removeStep.thenAccept( v -> {
+			final PersistentCollection collection = getCollection();
+			if ( collection != null ) {
+				session.getPersistenceContextInternal().getCollectionEntry( collection ).afterAction( collection );
+			}
+			evict();
+			postRemove();
+
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.removeCollection( persister.getRole() );
+			}
+		} );
+	}
+
+	private void preRemove() {
+		final EventListenerGroup<PreCollectionRemoveEventListener> listenerGroup =
+				eventListenerGroup( EventType.PRE_COLLECTION_REMOVE );
+		if ( !listenerGroup.isEmpty() ) {
+			final PreCollectionRemoveEvent event = new PreCollectionRemoveEvent(
+					getPersister(),
+					getCollection(),
+					(EventSource) getSession(),
+					affectedOwner
+			);
+			for ( PreCollectionRemoveEventListener listener : listenerGroup.listeners() ) {
+				listener.onPreRemoveCollection( event );
+			}
+		}
+	}
+
+	private void postRemove() {
+		final EventListenerGroup<PostCollectionRemoveEventListener> listenerGroup =
+				eventListenerGroup( EventType.POST_COLLECTION_REMOVE );
+		if ( !listenerGroup.isEmpty() ) {
+			final PostCollectionRemoveEvent event = new PostCollectionRemoveEvent(
+					getPersister(),
+					getCollection(),
+					(EventSource) getSession(),
+					affectedOwner
+			);
+			for ( PostCollectionRemoveEventListener listener : listenerGroup.listeners() ) {
+				listener.onPostRemoveCollection( event );
+			}
+		}
+	}
+
+	private <T> EventListenerGroup<T> eventListenerGroup(EventType<T> eventType) {
+		return getSession().getFactory().getServiceRegistry()
+				.getService( EventListenerRegistry.class )
+				.getEventListenerGroup( eventType );
+	}
+}
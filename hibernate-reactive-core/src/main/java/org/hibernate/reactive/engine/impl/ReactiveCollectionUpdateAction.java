@@ -0,0 +1,135 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.engine.impl;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.HibernateException;
+import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.cfg.NotYetImplementedException;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PreCollectionUpdateEvent;
+import org.hibernate.event.spi.PreCollectionUpdateEventListener;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.reactive.engine.ReactiveExecutable;
+import org.hibernate.reactive.persister.collection.impl.ReactiveCollectionPersister;
+import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletionStage;
+
+import static org.hibernate.pretty.MessageHelper.collectionInfoString;
+
+/**
+ * A reactific {@link CollectionUpdateAction}.
+ */
+public class ReactiveCollectionUpdateAction extends CollectionUpdateAction implements ReactiveExecutable {
+
+	private final boolean emptySnapshot;
+
+	public ReactiveCollectionUpdateAction(
+			PersistentCollection collection,
+			CollectionPersister persister,
+			Serializable id,
+			boolean emptySnapshot,
+			SharedSessionContractImplementor session) {
+		super( collection, persister, id, emptySnapshot, session );
+		this.emptySnapshot = emptySnapshot;
+	}
+
+	@Override
+	public void execute() throws HibernateException {
+		throw new NotYetImplementedException();
+	}
+
+	@Override
+	public CompletionStage<Void> reactiveExecute() {
+		final Serializable id = getKey();
+		final SharedSessionContractImplementor session = getSession();
+		final ReactiveCollectionPersister persister = (ReactiveCollectionPersister) getPersister();
+		final PersistentCollection collection = getCollection();
+		final boolean affectedByFilters = persister.isAffectedByEnabledFilters( session );
+
+		preUpdate();
+
+		final CompletionStage<Void> updateStep;
+		if ( !collection.wasInitialized() ) {
+			if ( !collection.hasQueuedOperations() ) {
+				throw new AssertionFailure( "no queued adds" );
+			}
+			//do nothing - we only need to notify the cache...
+			updateStep = CompletionStages.nullFuture();
+		}
+		else if ( !affectedByFilters && collection.empty() ) {
+			updateStep = emptySnapshot
+					? CompletionStages.nullFuture()
+					: persister.removeReactive( id, session );
+		}
+		else if ( collection.needsRecreate( persister ) ) {
+			if ( affectedByFilters ) {
+				throw new HibernateException(
+						"cannot recreate collection while filter is enabled: "
+								+ collectionInfoString( persister, collection, id, session )
+				);
+			}
+			updateStep = ( emptySnapshot ? CompletionStages.<Void>nullFuture() : persister.removeReactive( id, session ) )
+					.thenCompose( v -> persister.recreateReactive( collection, id, session ) );
+		}
+		else {
+			updateStep = persister.deleteRowsReactive( collection, id, session )
+					.thenCompose( v -> persister.updateRowsReactive( collection, id, session ) )
+					.thenCompose( v -> persister.insertRowsReactive( collection, id, session ) );
+		}
+
+		return updateStep.thenAccept( v -> {
+			session.getPersistenceContextInternal().getCollectionEntry( collection ).afterAction( collection );
+			evict();
+			postUpdate();
+
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.updateCollection( persister.getRole() );
+			}
+		} );
+	}
+
+	private void preUpdate() {
+		final EventListenerGroup<PreCollectionUpdateEventListener> listenerGroup =
+				eventListenerGroup( EventType.PRE_COLLECTION_UPDATE );
+		if ( !listenerGroup.isEmpty() ) {
+			final PreCollectionUpdateEvent event =
+					new PreCollectionUpdateEvent( getPersister(), getCollection(), (EventSource) getSession() );
+			for ( PreCollectionUpdateEventListener listener : listenerGroup.listeners() ) {
+				listener.onPreUpdateCollection( event );
+			}
+		}
+	}
+
+	private void postUpdate() {
+		final EventListenerGroup<PostCollectionUpdateEventListener> listenerGroup =
+				eventListenerGroup( EventType.POST_COLLECTION_UPDATE );
+		if ( !listenerGroup.isEmpty() ) {
+			final PostCollectionUpdateEvent event =
+					new PostCollectionUpdateEvent( getPersister(), getCollection(), (EventSource) getSession() );
+			for ( PostCollectionUpdateEventListener listener : listenerGroup.listeners() ) {
+				listener.onPostUpdateCollection( event );
+			}
+		}
+	}
+
+	private <T> EventListenerGroup<T> eventListenerGroup(EventType<T> eventType) {
+		return getSession().getFactory().getServiceRegistry()
+				.getService( EventListenerRegistry.class )
+				.getEventListenerGroup( eventType );
+	}
+}
@@ -12,8 +12,10 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
+import java.io.Serializable;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -44,49 +46,65 @@ public void execute() throws HibernateException {
 
 	@Override
 	public CompletionStage<Void> reactiveExecute() throws HibernateException {
+		return prepareInsert().thenCompose( v -> {
+			if ( isVeto() ) {
+				return CompletionStages.nullFuture();
+			}
+			// Don't need to lock the cache here, since if someone
+			// else inserted the same pk first, the insert would fail
+			return ( (ReactiveEntityPersister) getPersister() ).insertReactive( getState(), getInstance(), getSession() )
+					.thenAccept( this::completeInsert );
+		} );
+	}
 
+	/**
+	 * Nullify transient references, and fire the pre-insert event,
+	 * before the insert statement is executed, either by
+	 * {@link #reactiveExecute()}, or as part of a batch of inserts.
+	 * If the insert is vetoed, the action is completed immediately.
+	 */
+	public CompletionStage<Void> prepareInsert() {
 		CompletionStage<Void> stage = reactiveNullifyTransientReferencesIfNotAlready();
 
+		setVeto( preInsert() );
+
+		if ( isVeto() ) {
+			postInsert();
+			markExecuted();
+		}
+		return stage;
+	}
+
+	/**
+	 * Complete the action after the insert statement has been
+	 * executed, given the identifier generated by the database.
+	 */
+	public void completeInsert(Serializable generatedId) {
 		final EntityPersister persister = getPersister();
 		final SharedSessionContractImplementor session = getSession();
 		final Object instance = getInstance();
 
-		setVeto( preInsert() );
-
-		// Don't need to lock the cache here, since if someone
-		// else inserted the same pk first, the insert would fail
-
-		if ( !isVeto() ) {
-			return stage.thenCompose( v -> ( (ReactiveEntityPersister) persister ).insertReactive( getState(), instance, session ) )
-					.thenAccept( generatedId -> {
-						setGeneratedId(generatedId);
-						if (persister.hasInsertGeneratedProperties()) {
-							persister.processInsertGeneratedProperties(generatedId, instance, getState(), session);
-						}
-						//need to do that here rather than in the save event listener to let
-						//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
-						persister.setIdentifier(instance, generatedId, session);
-						final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-						persistenceContext.registerInsertedKey(getPersister(), generatedId);
-						EntityKey entityKey = session.generateEntityKey(generatedId, persister);
-						setEntityKey( entityKey );
-						persistenceContext.checkUniqueness(entityKey, getInstance());
-
-						postInsert();
-
-						final StatisticsImplementor statistics = session.getFactory().getStatistics();
-						if ( statistics.isStatisticsEnabled() && !isVeto() ) {
-							statistics.insertEntity( getPersister().getEntityName() );
-						}
-
-						markExecuted();
-					});
-			}
-			else {
-				postInsert();
-				markExecuted();
-				return stage;
-			}
+		setGeneratedId(generatedId);
+		if (persister.hasInsertGeneratedProperties()) {
+			persister.processInsertGeneratedProperties(generatedId, instance, getState(), session);
+		}
+		//need to do that here rather than in the save event listener to let
+		//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
+		persister.setIdentifier(instance, generatedId, session);
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		persistenceContext.registerInsertedKey(getPersister(), generatedId);
+		EntityKey entityKey = session.generateEntityKey(generatedId, persister);
+		setEntityKey( entityKey );
+		persistenceContext.checkUniqueness(entityKey, getInstance());
+
+		postInsert();
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() && !isVeto() ) {
+			statistics.insertEntity( getPersister().getEntityName() );
+		}
+
+		markExecuted();
 	}
 
 	@Override
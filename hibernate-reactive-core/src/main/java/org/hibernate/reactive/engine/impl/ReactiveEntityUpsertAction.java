@@ -0,0 +1,67 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.engine.impl;
+
+import org.hibernate.HibernateException;
+import org.hibernate.action.internal.EntityAction;
+import org.hibernate.cfg.NotYetImplementedException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.engine.ReactiveExecutable;
+import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Writes the state of an instance which is not associated with the
+ * session using a single "upsert" statement, when the session is
+ * flushed.
+ */
+public class ReactiveEntityUpsertAction extends EntityAction implements ReactiveExecutable {
+
+	private final Object[] state;
+
+	public ReactiveEntityUpsertAction(
+			Serializable id,
+			Object[] state,
+			Object instance,
+			EntityPersister persister,
+			SharedSessionContractImplementor session) {
+		super( session, id, instance, persister );
+		this.state = state;
+	}
+
+	public Object[] getState() {
+		return state;
+	}
+
+	@Override
+	public void execute() throws HibernateException {
+		throw new NotYetImplementedException();
+	}
+
+	@Override
+	public CompletionStage<Void> reactiveExecute() throws HibernateException {
+		final EntityPersister persister = getPersister();
+		final SharedSessionContractImplementor session = getSession();
+		if ( persister.canWriteToCache() ) {
+			session.getFactory().getCache().evictEntityData( persister.getEntityName(), getId() );
+		}
+		return ( (ReactiveEntityPersister) persister ).upsertReactive( getId(), state, getInstance(), session )
+				.thenApply( v -> null );
+	}
+
+	@Override
+	protected boolean hasPostCommitEventListeners() {
+		return false;
+	}
+
+	@Override
+	public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+		// the cached data was evicted when the statement was executed
+	}
+}
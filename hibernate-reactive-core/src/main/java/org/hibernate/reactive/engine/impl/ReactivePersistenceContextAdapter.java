@@ -6,6 +6,7 @@
 package org.hibernate.reactive.engine.impl;
 
 import org.hibernate.HibernateException;
+import org.hibernate.SessionException;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.spi.EntityKey;
@@ -18,7 +19,9 @@
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -30,6 +33,8 @@
 public class ReactivePersistenceContextAdapter extends StatefulPersistenceContext {
 
 	private HashMap<Serializable,Object[]> entitySnapshotsByKey;
+	private HashMap<EntityKey,Boolean> rowExistenceByKey;
+	private HashMap<EntityKey,Object> refreshTargetsByKey;
 
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
@@ -51,6 +56,10 @@ private class NonLazyCollectionInitializer implements Consumer<PersistentCollect
 
 		@Override
 		public void accept(PersistentCollection nonLazyCollection) {
+			if ( !( getSession() instanceof ReactiveSession ) ) {
+				// same as StatelessSessionImpl.initializeCollection()
+				throw new SessionException( "collections cannot be fetched by a stateless session" );
+			}
 			stage = stage.thenCompose(
 					v -> ( (ReactiveSession) getSession() )
 							.reactiveFetch( nonLazyCollection, true )
@@ -97,6 +106,87 @@ public CompletionStage<Object[]> reactiveGetDatabaseSnapshot(Serializable id, En
 		}
 	}
 
+	/**
+	 * Determine which of the given identifiers belong to existing rows,
+	 * using a single query, and remember the result until the end of the
+	 * next flush, so that {@link ForeignKeys#isTransient} doesn't need to
+	 * obtain a snapshot of each entity.
+	 */
+	public CompletionStage<Void> reactiveCheckRowExistence(EntityPersister persister, List<Serializable> ids) {
+		SessionImplementor session = (SessionImplementor) getSession();
+		List<Serializable> unknown = new ArrayList<>( ids.size() );
+		for ( Serializable id : ids ) {
+			if ( getCachedRowExistence( session.generateEntityKey( id, persister ) ) == null ) {
+				unknown.add( id );
+			}
+		}
+		if ( unknown.isEmpty() ) {
+			return CompletionStages.voidFuture();
+		}
+
+		return ( (ReactiveEntityPersister) persister )
+				.reactiveGetExistingIdentifiers( unknown.toArray( new Serializable[0] ), session )
+				.thenAccept( existing -> {
+					if ( rowExistenceByKey == null ) {
+						rowExistenceByKey = new HashMap<>();
+					}
+					for ( Serializable id : unknown ) {
+						rowExistenceByKey.put( session.generateEntityKey( id, persister ), Boolean.FALSE );
+					}
+					for ( Serializable id : existing ) {
+						rowExistenceByKey.put( session.generateEntityKey( id, persister ), Boolean.TRUE );
+					}
+				} );
+	}
+
+	/**
+	 * @return {@code true} if the row with the given key is known to
+	 *         exist, {@code false} if it is known not to exist, or
+	 *         {@code null} if it is not known
+	 */
+	public Boolean getCachedRowExistence(EntityKey key) {
+		final Object[] snapshot = entitySnapshotsByKey == null ? null : entitySnapshotsByKey.get( key );
+		if ( snapshot != null ) {
+			return snapshot != NO_ROW;
+		}
+		return rowExistenceByKey == null ? null : rowExistenceByKey.get( key );
+	}
+
+	/**
+	 * Forget the results of {@link #reactiveCheckRowExistence}, which
+	 * might have been invalidated by a flush.
+	 */
+	public void clearRowExistence() {
+		rowExistenceByKey = null;
+	}
+
+	/**
+	 * Register an instance being refreshed, so that the state of the
+	 * row with the given key is loaded into the given instance, instead
+	 * of into a new instance. This allows several instances to be
+	 * refreshed by a single query.
+	 *
+	 * @see #removeRefreshTarget(EntityKey)
+	 */
+	public void addRefreshTarget(EntityKey key, Object entity) {
+		if ( refreshTargetsByKey == null ) {
+			refreshTargetsByKey = new HashMap<>();
+		}
+		refreshTargetsByKey.put( key, entity );
+	}
+
+	/**
+	 * @return the instance being refreshed which was registered with
+	 *         the given key, or {@code null} if there is none
+	 */
+	public Object removeRefreshTarget(EntityKey key) {
+		return refreshTargetsByKey == null ? null : refreshTargetsByKey.remove( key );
+	}
+
+	public boolean hasRefreshTargets() {
+		return refreshTargetsByKey != null && !refreshTargetsByKey.isEmpty();
+	}
+
 	//All below methods copy/pasted from superclass because entitySnapshotsByKey is private:
 
 	@Override
@@ -115,6 +205,8 @@ public Object[] getCachedDatabaseSnapshot(EntityKey key) {
 	public void clear() {
 		super.clear();
 		entitySnapshotsByKey = null;
+		rowExistenceByKey = null;
+		refreshTargetsByKey = null;
 	}
 
 	@Override
@@ -123,6 +215,9 @@ public Object removeEntity(EntityKey key) {
 		if (entitySnapshotsByKey != null ) {
 			entitySnapshotsByKey.remove(key);
 		}
+		if ( rowExistenceByKey != null ) {
+			rowExistenceByKey.remove( key );
+		}
 		return result;
 	}
 }
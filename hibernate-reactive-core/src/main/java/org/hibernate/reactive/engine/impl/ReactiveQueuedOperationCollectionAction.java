@@ -0,0 +1,60 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.engine.impl;
+
+import org.hibernate.HibernateException;
+import org.hibernate.action.internal.QueuedOperationCollectionAction;
+import org.hibernate.cfg.NotYetImplementedException;
+import org.hibernate.collection.internal.AbstractPersistentCollection;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.reactive.engine.ReactiveExecutable;
+import org.hibernate.reactive.util.impl.CompletionStages;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A reactific {@link QueuedOperationCollectionAction}.
+ * <p>
+ * The reactive collection persisters never write anything for
+ * the queued operations of an uninitialized collection, since
+ * the only case where Hibernate ORM does, the index column of an
+ * inverse indexed one-to-many association, is not supported.
+ */
+public class ReactiveQueuedOperationCollectionAction extends QueuedOperationCollectionAction
+		implements ReactiveExecutable {
+
+	public ReactiveQueuedOperationCollectionAction(
+			PersistentCollection collection,
+			CollectionPersister persister,
+			Serializable key,
+			SharedSessionContractImplementor session) {
+		super( collection, persister, key, session );
+	}
+
+	@Override
+	public void execute() throws HibernateException {
+		throw new NotYetImplementedException();
+	}
+
+	@Override
+	public CompletionStage<Void> reactiveExecute() {
+		final PersistentCollection collection = getCollection();
+		( (AbstractPersistentCollection) collection ).clearOperationQueue();
+
+		// The other CollectionAction types call CollectionEntry#afterAction, which
+		// clears the dirty flag. We don't want to call CollectionEntry#afterAction unless
+		// there is no other CollectionAction that will be executed on the same collection.
+		final CollectionEntry ce = getSession().getPersistenceContextInternal().getCollectionEntry( collection );
+		if ( !ce.isDoremove() && !ce.isDoupdate() && !ce.isDorecreate() ) {
+			ce.afterAction( collection );
+		}
+		return CompletionStages.nullFuture();
+	}
+}
@@ -7,8 +7,10 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.event.spi.LockEvent;
+import org.hibernate.reactive.util.impl.CompletionStages;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -24,4 +26,14 @@ public interface ReactiveLockEventListener extends Serializable {
      * @param event The lock event to be handled.
      */
 	CompletionStage<Void> reactiveOnLock(LockEvent event) throws HibernateException;
+
+	/**
+	 * Handle the given lock events, obtaining the locks in batches,
+	 * where possible.
+	 *
+	 * @param events The lock events to be handled.
+	 */
+	default CompletionStage<Void> reactiveOnLockAll(List<LockEvent> events) throws HibernateException {
+		return CompletionStages.loop( events, this::reactiveOnLock );
+	}
 }
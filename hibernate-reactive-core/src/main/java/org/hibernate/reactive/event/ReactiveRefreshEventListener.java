@@ -8,8 +8,10 @@
 import org.hibernate.HibernateException;
 import org.hibernate.event.spi.RefreshEvent;
 import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.reactive.util.impl.CompletionStages;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -28,4 +30,15 @@ public interface ReactiveRefreshEventListener extends Serializable {
 
 	CompletionStage<Void> reactiveOnRefresh(RefreshEvent event, IdentitySet refreshedAlready) throws HibernateException;
 
+	/**
+	 * Handle the given refresh events, reloading the refreshed instances
+	 * in batches, where possible.
+	 *
+	 * @param events The refresh events to be handled.
+	 */
+	default CompletionStage<Void> reactiveOnRefreshAll(List<RefreshEvent> events) throws HibernateException {
+		IdentitySet refreshedAlready = new IdentitySet();
+		return CompletionStages.loop( events, event -> reactiveOnRefresh( event, refreshedAlready ) );
+	}
+
 }
@@ -10,13 +10,8 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
-import org.hibernate.action.internal.CollectionRecreateAction;
-import org.hibernate.action.internal.CollectionRemoveAction;
-import org.hibernate.action.internal.CollectionUpdateAction;
-import org.hibernate.action.internal.QueuedOperationCollectionAction;
 import org.hibernate.engine.internal.CascadePoint;
 import org.hibernate.engine.internal.Collections;
-import org.hibernate.engine.spi.ActionQueue;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -35,6 +30,11 @@
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.engine.impl.Cascade;
 import org.hibernate.reactive.engine.impl.CascadingActions;
+import org.hibernate.reactive.engine.impl.ReactiveCollectionRecreateAction;
+import org.hibernate.reactive.engine.impl.ReactiveCollectionRemoveAction;
+import org.hibernate.reactive.engine.impl.ReactiveCollectionUpdateAction;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
+import org.hibernate.reactive.engine.impl.ReactiveQueuedOperationCollectionAction;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import org.jboss.logging.Logger;
@@ -127,17 +127,18 @@ private CompletionStage<Void> prepareEntityFlushes(EventSource session, Persiste
 
 		LOG.debug( "Processing flush-time cascades" );
 
-		CompletionStage<Void> stage = CompletionStages.nullFuture();
 		final IdentitySet copiedAlready = new IdentitySet( 10 );
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
-		for ( Map.Entry<Object, EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
+		return CompletionStages.loop( persistenceContext.reentrantSafeEntityEntries(), me -> {
 			EntityEntry entry = me.getValue();
 			Status status = entry.getStatus();
 			if ( status == Status.MANAGED || status == Status.SAVING || status == Status.READ_ONLY ) {
-				stage = stage.thenCompose( v -> cascadeOnFlush( session, entry.getPersister(), me.getKey(), copiedAlready ) );
+				return cascadeOnFlush( session, entry.getPersister(), me.getKey(), copiedAlready );
 			}
-		}
-		return stage;
+			else {
+				return CompletionStages.voidFuture();
+			}
+		} );
 	}
 
 	/**
@@ -218,14 +219,14 @@ private int flushCollections(final EventSource session, final PersistenceContext
 
 		LOG.trace( "Scheduling collection removes/(re)creates/updates" );
 
-		final ActionQueue actionQueue = session.getActionQueue();
+		final ReactiveActionQueue actionQueue = actionQueue( session );
 		final Interceptor interceptor = session.getInterceptor();
 		persistenceContext.forEachCollectionEntry(
 				(coll, ce) -> {
 					if ( ce.isDorecreate() ) {
 						interceptor.onCollectionRecreate( coll, ce.getCurrentKey() );
 						actionQueue.addAction(
-								new CollectionRecreateAction(
+								new ReactiveCollectionRecreateAction(
 										coll,
 										ce.getCurrentPersister(),
 										ce.getCurrentKey(),
@@ -236,7 +237,7 @@ private int flushCollections(final EventSource session, final PersistenceContext
 					if ( ce.isDoremove() ) {
 						interceptor.onCollectionRemove( coll, ce.getLoadedKey() );
 						actionQueue.addAction(
-								new CollectionRemoveAction(
+								new ReactiveCollectionRemoveAction(
 										coll,
 										ce.getLoadedPersister(),
 										ce.getLoadedKey(),
@@ -248,7 +249,7 @@ private int flushCollections(final EventSource session, final PersistenceContext
 					if ( ce.isDoupdate() ) {
 						interceptor.onCollectionUpdate( coll, ce.getLoadedKey() );
 						actionQueue.addAction(
-								new CollectionUpdateAction(
+								new ReactiveCollectionUpdateAction(
 										coll,
 										ce.getLoadedPersister(),
 										ce.getLoadedKey(),
@@ -260,7 +261,7 @@ private int flushCollections(final EventSource session, final PersistenceContext
 					// todo : I'm not sure the !wasInitialized part should really be part of this check
 					if ( !coll.wasInitialized() && coll.hasQueuedOperations() ) {
 						actionQueue.addAction(
-								new QueuedOperationCollectionAction(
+								new ReactiveQueuedOperationCollectionAction(
 										coll,
 										ce.getLoadedPersister(),
 										ce.getLoadedKey(),
@@ -303,6 +304,8 @@ protected void postFlush(SessionImplementor session) throws HibernateException {
 		// the database has changed now, so the subselect results need to be invalidated
 		// the batch fetching queues should also be cleared - especially the collection batch fetching one
 		persistenceContext.getBatchFetchQueue().clear();
+		// and so may the existence of rows checked before the flush
+		( (ReactivePersistenceContextAdapter) persistenceContext ).clearRowExistence();
 
 		persistenceContext.forEachCollectionEntry(
 				(persistentCollection, collectionEntry) -> {
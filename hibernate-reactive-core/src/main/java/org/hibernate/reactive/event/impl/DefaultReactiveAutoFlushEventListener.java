@@ -9,7 +9,6 @@
 
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
-import org.hibernate.engine.spi.ActionQueue;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.event.spi.AutoFlushEvent;
@@ -39,7 +38,7 @@ public CompletionStage<Void> reactiveOnAutoFlush(AutoFlushEvent event) throws Hi
 		if ( flushMightBeNeeded( source ) ) {
 			// Need to get the number of collection removals before flushing to executions
 			// (because flushing to executions can add collection removal actions to the action queue).
-			final ActionQueue actionQueue = source.getActionQueue();
+			final ReactiveActionQueue actionQueue = reactiveActionQueue( source );
 			final int oldSize = actionQueue.numberOfCollectionRemovals();
 
 			autoFlushStage = flushEverythingToExecutions( event )
@@ -89,7 +88,8 @@ private boolean flushMightBeNeeded(final EventSource source) {
 		return !source.getHibernateFlushMode().lessThan( FlushMode.AUTO )
 				&& source.getDontFlushFromFind() == 0
 				&& ( persistenceContext.getNumberOfManagedEntities() > 0 ||
-				persistenceContext.getCollectionEntriesSize() > 0 );
+				persistenceContext.getCollectionEntriesSize() > 0 ||
+				reactiveActionQueue( source ).numberOfUpserts() > 0 );
 	}
 
 	@Override
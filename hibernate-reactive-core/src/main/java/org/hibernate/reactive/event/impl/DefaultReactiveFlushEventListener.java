@@ -10,6 +10,7 @@
 import org.hibernate.event.spi.*;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.reactive.event.ReactiveFlushEventListener;
+import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.jboss.logging.Logger;
@@ -33,7 +34,9 @@ public CompletionStage<Void> reactiveOnFlush(FlushEvent event) throws HibernateE
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 
 		if ( persistenceContext.getNumberOfManagedEntities() > 0 ||
-				persistenceContext.getCollectionEntriesSize() > 0 ) {
+				persistenceContext.getCollectionEntriesSize() > 0 ||
+				// an upsert is queued for an instance which is not managed
+				source.unwrap( ReactiveSession.class ).getReactiveActionQueue().numberOfUpserts() > 0 ) {
 
 			source.getEventListenerManager().flushStart();
 
@@ -12,7 +12,6 @@
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.entry.CollectionCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
-import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -24,7 +23,8 @@
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.pretty.MessageHelper;
-import org.hibernate.reactive.persister.collection.impl.ReactiveOneToManyPersister;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+import org.hibernate.reactive.persister.collection.impl.ReactiveCollectionPersister;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -56,30 +56,31 @@ public CompletionStage<Void> onReactiveInitializeCollection(InitializeCollection
 				LOG.trace( "Checking second-level cache" );
 			}
 
-			final boolean foundInCache = initializeCollectionFromCache( ce.getLoadedKey(), ceLoadedPersister, collection, source );
-
-			if ( foundInCache ) {
-				if ( LOG.isTraceEnabled() ) {
-					LOG.trace( "Collection initialized from cache" );
-				}
-				return CompletionStages.nullFuture();
-			}
-			else {
-				if ( LOG.isTraceEnabled() ) {
-					LOG.trace( "Collection not cached" );
-				}
-				return ( (ReactiveOneToManyPersister) ceLoadedPersister ).reactiveInitialize( ce.getLoadedKey(), source )
-						.thenAccept( list -> {
+			return initializeCollectionFromCache( ce.getLoadedKey(), ceLoadedPersister, collection, source )
+					.thenCompose( foundInCache -> {
+						if ( foundInCache ) {
 							if ( LOG.isTraceEnabled() ) {
-								LOG.trace( "Collection initialized" );
+								LOG.trace( "Collection initialized from cache" );
 							}
-
-							final StatisticsImplementor statistics = source.getFactory().getStatistics();
-							if ( statistics.isStatisticsEnabled() ) {
-								statistics.fetchCollection( ceLoadedPersister.getRole() );
+							return CompletionStages.nullFuture();
+						}
+						else {
+							if ( LOG.isTraceEnabled() ) {
+								LOG.trace( "Collection not cached" );
 							}
-						} );
-			}
+							return ( (ReactiveCollectionPersister) ceLoadedPersister ).reactiveInitialize( ce.getLoadedKey(), source )
+									.thenAccept( list -> {
+										if ( LOG.isTraceEnabled() ) {
+											LOG.trace( "Collection initialized" );
+										}
+
+										final StatisticsImplementor statistics = source.getFactory().getStatistics();
+										if ( statistics.isStatisticsEnabled() ) {
+											statistics.fetchCollection( ceLoadedPersister.getRole() );
+										}
+									} );
+						}
+					} );
 		}
 		// Collection was already initialized.
 		return CompletionStages.nullFuture();
@@ -96,7 +97,7 @@ public CompletionStage<Void> onReactiveInitializeCollection(InitializeCollection
 	 * @return true if we were able to initialize the collection from the cache;
 	 *         false otherwise.
 	 */
-	private boolean initializeCollectionFromCache(
+	private CompletionStage<Boolean> initializeCollectionFromCache(
 			Serializable id,
 			CollectionPersister persister,
 			PersistentCollection collection,
@@ -104,39 +105,41 @@ private boolean initializeCollectionFromCache(
 
 		if ( source.getLoadQueryInfluencers().hasEnabledFilters() && persister.isAffectedByEnabledFilters( source ) ) {
 			LOG.trace( "Disregarding cached version (if any) of collection due to enabled filters" );
-			return false;
+			return CompletionStages.completedFuture( false );
 		}
 
 		final boolean useCache = persister.hasCache() && source.getCacheMode().isGetEnabled();
 
 		if ( !useCache ) {
-			return false;
+			return CompletionStages.completedFuture( false );
 		}
 
 		final SessionFactoryImplementor factory = source.getFactory();
 		final CollectionDataAccess cacheAccessStrategy = persister.getCacheAccessStrategy();
 		final Object ck = cacheAccessStrategy.generateCacheKey( id, persister, factory, source.getTenantIdentifier() );
-		final Object ce = CacheHelper.fromSharedCache( source, ck, cacheAccessStrategy );
-
-		final StatisticsImplementor statistics = factory.getStatistics();
-		if ( statistics.isStatisticsEnabled() ) {
-			if ( ce == null ) {
-				statistics.collectionCacheMiss( persister.getNavigableRole(), cacheAccessStrategy.getRegion().getName() );
-			}
-			else {
-				statistics.collectionCacheHit( persister.getNavigableRole(), cacheAccessStrategy.getRegion().getName() );
-			}
-		}
-
-		if ( ce == null ) {
-			return false;
-		}
-
-		CollectionCacheEntry cacheEntry = (CollectionCacheEntry) persister.getCacheEntryStructure().destructure( ce, factory );
-
-		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
-		cacheEntry.assemble( collection, persister, persistenceContext.getCollectionOwner( id, persister ) );
-		persistenceContext.getCollectionEntry( collection ).postInitialize( collection );
-		return true;
+		return factory.getServiceRegistry().getService( ReactiveCacheAccess.class )
+				.get( source, cacheAccessStrategy, ck )
+				.thenApply( ce -> {
+					final StatisticsImplementor statistics = factory.getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						if ( ce == null ) {
+							statistics.collectionCacheMiss( persister.getNavigableRole(), cacheAccessStrategy.getRegion().getName() );
+						}
+						else {
+							statistics.collectionCacheHit( persister.getNavigableRole(), cacheAccessStrategy.getRegion().getName() );
+						}
+					}
+
+					if ( ce == null ) {
+						return false;
+					}
+
+					CollectionCacheEntry cacheEntry = (CollectionCacheEntry) persister.getCacheEntryStructure().destructure( ce, factory );
+
+					final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+					cacheEntry.assemble( collection, persister, persistenceContext.getCollectionOwner( id, persister ) );
+					persistenceContext.getCollectionEntry( collection ).postInitialize( collection );
+					return true;
+				} );
 	}
 }
@@ -13,7 +13,6 @@
 import org.hibernate.TypeMismatchException;
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.cache.spi.access.EntityDataAccess;
-import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -30,7 +29,9 @@
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
 import org.hibernate.reactive.event.ReactiveLoadEventListener;
+import org.hibernate.reactive.loader.entity.impl.ReactiveCacheEntityLoaderHelper;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.stat.spi.StatisticsImplementor;
@@ -42,6 +43,7 @@
 
 import java.io.Serializable;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
 import static org.hibernate.reactive.session.impl.SessionUtil.throwEntityNotFound;
@@ -505,40 +507,29 @@ private CompletionStage<Object> lockAndLoad(
 			final EntityKey keyToLoad,
 			final LoadEventListener.LoadType options,
 			final SessionImplementor source) {
-		final SoftLock lock;
-		final Object ck;
-		final EntityDataAccess cache = persister.getCacheAccessStrategy();
-		final boolean canWriteToCache = persister.canWriteToCache();
-		if ( canWriteToCache ) {
-			ck = cache.generateCacheKey(
-					event.getEntityId(),
-					persister,
-					source.getFactory(),
-					source.getTenantIdentifier()
-			);
-			lock = cache.lockItem( source, ck, null );
-		}
-		else {
-			ck = null;
-			lock = null;
-		}
-
-		try {
+		if ( !persister.canWriteToCache() ) {
 			return load( event, persister, keyToLoad, options )
-					.whenComplete( (v, x) -> {
-						if ( canWriteToCache ) {
-							cache.unlockItem( source, ck, lock );
-						}
-					} )
 					.thenApply( entity -> source.getPersistenceContextInternal().proxyFor( persister, keyToLoad, entity ) );
 		}
-		catch (HibernateException he) {
-			//in case load() throws an exception
-			if ( canWriteToCache ) {
-				cache.unlockItem( source, ck, lock );
-			}
-			throw he;
-		}
+
+		final ReactiveCacheAccess cacheAccess = source.getFactory().getServiceRegistry()
+				.getService( ReactiveCacheAccess.class );
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final Object ck = cache.generateCacheKey(
+				event.getEntityId(),
+				persister,
+				source.getFactory(),
+				source.getTenantIdentifier()
+		);
+
+		return cacheAccess.lockItem( source, cache, ck, null )
+				.thenCompose( lock -> CompletionStages.nullFuture()
+						//in case load() throws an exception
+						.thenCompose( v -> load( event, persister, keyToLoad, options ) )
+						.handle( (entity, x) -> cacheAccess.unlockItem( source, cache, ck, lock )
+								.thenApply( v -> CompletionStages.returnOrRethrow( x, entity ) ) )
+						.thenCompose( Function.identity() ) )
+				.thenApply( entity -> source.getPersistenceContextInternal().proxyFor( persister, keyToLoad, entity ) );
 	}
 
 
@@ -582,32 +573,34 @@ private CompletionStage<Object> doLoad(
 			return CompletionStages.completedFuture( managed );
 		}
 
-		entity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad );
-		if ( entity != null ) {
-			if ( traceEnabled ) {
-				LOG.tracev(
-						"Resolved object in second-level cache: {0}",
-						MessageHelper.infoString( persister, event.getEntityId(), session.getFactory() )
-				);
-			}
-			cacheNaturalId( event, persister, session, entity );
-			return CompletionStages.completedFuture( entity );
-		}
-		else {
-			if ( traceEnabled ) {
-				LOG.tracev(
-						"Object not resolved in any cache: {0}",
-						MessageHelper.infoString( persister, event.getEntityId(), session.getFactory() )
-				);
-			}
-			return loadFromDatasource( event, persister )
-					.thenApply( optional -> {
-						if ( optional!=null ) {
-							cacheNaturalId( event, persister, session, optional );
+		return ReactiveCacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad )
+				.thenCompose( cached -> {
+					if ( cached != null ) {
+						if ( traceEnabled ) {
+							LOG.tracev(
+									"Resolved object in second-level cache: {0}",
+									MessageHelper.infoString( persister, event.getEntityId(), session.getFactory() )
+							);
 						}
-						return optional;
-					} );
-		}
+						cacheNaturalId( event, persister, session, cached );
+						return CompletionStages.completedFuture( cached );
+					}
+					else {
+						if ( traceEnabled ) {
+							LOG.tracev(
+									"Object not resolved in any cache: {0}",
+									MessageHelper.infoString( persister, event.getEntityId(), session.getFactory() )
+							);
+						}
+						return loadFromDatasource( event, persister )
+								.thenApply( optional -> {
+									if ( optional!=null ) {
+										cacheNaturalId( event, persister, session, optional );
+									}
+									return optional;
+								} );
+					}
+				} );
 	}
 
 	private void cacheNaturalId(LoadEvent event, EntityPersister persister, EventSource session, Object entity) {
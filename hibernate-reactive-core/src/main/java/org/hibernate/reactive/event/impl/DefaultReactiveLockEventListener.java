@@ -25,6 +25,7 @@
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.reactive.engine.impl.Cascade;
 import org.hibernate.reactive.engine.impl.CascadingActions;
 import org.hibernate.reactive.engine.impl.ForeignKeys;
@@ -34,6 +35,10 @@
 import org.jboss.logging.Logger;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
 public class DefaultReactiveLockEventListener extends AbstractReassociateEventListener
@@ -185,6 +190,105 @@ protected CompletionStage<Void> upgradeLock(Object object, EntityEntry entry,
 		}
 	}
 
+	/**
+	 * Handle the given lock events. Persistent instances of the same
+	 * entity which need a lock upgrade are locked together, using a
+	 * single statement, where possible. Any other instance is locked
+	 * by itself.
+	 */
+	@Override
+	public CompletionStage<Void> reactiveOnLockAll(List<LockEvent> events) throws HibernateException {
+		final Map<EntityPersister, List<LockEvent>> batches = new LinkedHashMap<>();
+		final List<LockEvent> others = new ArrayList<>();
+		// the instances locked together must all be locked in the same mode
+		final LockMode lockMode = events.isEmpty() ? null : events.get( 0 ).getLockMode();
+		for ( LockEvent event : events ) {
+			final Object object = event.getObject();
+			final EntityEntry entry = object == null || object instanceof HibernateProxy
+					? null
+					: event.getSession().getPersistenceContextInternal().getEntry( object );
+			if ( entry != null
+					&& entry.getStatus() == Status.MANAGED
+					&& event.getLockMode() == lockMode
+					&& event.getLockMode() != LockMode.WRITE
+					&& event.getLockMode().greaterThan( entry.getLockMode() ) ) {
+				batches.computeIfAbsent( entry.getPersister(), p -> new ArrayList<>() ).add( event );
+			}
+			else {
+				others.add( event );
+			}
+		}
+
+		return CompletionStages.loop( batches.values(), this::upgradeLocks )
+				.thenCompose( v -> CompletionStages.loop( others, this::reactiveOnLock ) );
+	}
+
+	/**
+	 * Performs a pessimistic lock upgrade on the given instances of the
+	 * same entity, which are all associated with the session.
+	 */
+	private CompletionStage<Void> upgradeLocks(List<LockEvent> events) {
+		if ( events.size() == 1 ) {
+			LockEvent event = events.get( 0 );
+			EntityEntry entry = event.getSession().getPersistenceContextInternal().getEntry( event.getObject() );
+			return upgradeLock( event.getObject(), entry, event.getLockOptions(), event.getSession() );
+		}
+
+		final EventSource source = events.get( 0 ).getSession();
+		final LockOptions lockOptions = events.get( 0 ).getLockOptions();
+		final LockMode requestedLockMode = lockOptions.getLockMode();
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+
+		final int size = events.size();
+		final Object[] objects = new Object[size];
+		final EntityEntry[] entries = new EntityEntry[size];
+		final Serializable[] ids = new Serializable[size];
+		final Object[] versions = new Object[size];
+		for ( int i = 0; i < size; i++ ) {
+			objects[i] = events.get( i ).getObject();
+			entries[i] = persistenceContext.getEntry( objects[i] );
+			ids[i] = entries[i].getId();
+			versions[i] = entries[i].getVersion();
+		}
+		final EntityPersister persister = entries[0].getPersister();
+
+		if ( log.isTraceEnabled() ) {
+			log.tracev(
+					"Locking {0} instances of {1} in mode: {2}",
+					size,
+					persister.getEntityName(),
+					requestedLockMode
+			);
+		}
+
+		final boolean cachingEnabled = persister.canWriteToCache();
+		final SoftLock[] locks = new SoftLock[size];
+		final Object[] cks = new Object[size];
+		if ( cachingEnabled ) {
+			EntityDataAccess cache = persister.getCacheAccessStrategy();
+			for ( int i = 0; i < size; i++ ) {
+				cks[i] = cache.generateCacheKey( ids[i], persister, source.getFactory(), source.getTenantIdentifier() );
+				locks[i] = cache.lockItem( source, cks[i], versions[i] );
+			}
+		}
+
+		return ( (ReactiveEntityPersister) persister ).lockReactive( ids, versions, objects, lockOptions, source )
+				.thenAccept( v -> {
+					for ( EntityEntry entry : entries ) {
+						entry.setLockMode( requestedLockMode );
+					}
+				} )
+				.whenComplete( (r, e) -> {
+					// the database now holds the locks + the objects are flushed from the cache,
+					// so release the soft locks
+					if ( cachingEnabled ) {
+						for ( int i = 0; i < size; i++ ) {
+							persister.getCacheAccessStrategy().unlockItem( source, cks[i], locks[i] );
+						}
+					}
+				} );
+	}
+
 	@Override
 	public void onLock(LockEvent event) throws HibernateException {
 		throw new UnsupportedOperationException();
@@ -21,17 +21,24 @@
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.reactive.engine.impl.Cascade;
 import org.hibernate.reactive.engine.impl.CascadingActions;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.event.ReactiveRefreshEventListener;
 import org.hibernate.reactive.persister.entity.impl.ReactiveAbstractEntityPersister;
+import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.Type;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
@@ -149,26 +156,7 @@ public CompletionStage<Void> reactiveOnRefresh(RefreshEvent event, IdentitySet r
 						}
 					}
 
-					if ( persister.canWriteToCache() ) {
-						Object previousVersion = null;
-						if ( persister.isVersionPropertyGenerated() ) {
-							// we need to grab the version value from the entity, otherwise
-							// we have issues with generated-version entities that may have
-							// multiple actions queued during the same flush
-							previousVersion = persister.getVersion( object );
-						}
-						final EntityDataAccess cache = persister.getCacheAccessStrategy();
-						final Object ck = cache.generateCacheKey(
-								id,
-								persister,
-								source.getFactory(),
-								source.getTenantIdentifier()
-						);
-						final SoftLock lock = cache.lockItem( source, ck, previousVersion );
-						cache.remove( source, ck );
-						source.getActionQueue().registerProcess( (success, session) -> cache.unlockItem( session, ck, lock ) );
-					}
-
+					evictCachedEntity( persister, object, id, source );
 					evictCachedCollections( persister, id, source );
 
 					String previousFetchProfile = source.getLoadQueryInfluencers().getInternalFetchProfile();
@@ -244,6 +232,161 @@ public CompletionStage<Void> reactiveOnRefresh(RefreshEvent event, IdentitySet r
 				} );
 	}
 
+	/**
+	 * Handle the given refresh events. Persistent instances of the same
+	 * entity are reloaded together, using a single batched query, where
+	 * possible. Any other instance is refreshed by itself.
+	 */
+	@Override
+	public CompletionStage<Void> reactiveOnRefreshAll(List<RefreshEvent> events) {
+		final IdentitySet refreshedAlready = new IdentitySet();
+		final Map<EntityPersister, List<Object>> batches = new LinkedHashMap<>();
+		final List<RefreshEvent> others = new ArrayList<>();
+		for ( RefreshEvent event : events ) {
+			final Object object = event.getObject();
+			final EntityEntry entry = object instanceof HibernateProxy
+					? null
+					: event.getSession().getPersistenceContextInternal().getEntry( object );
+			if ( entry != null && entry.isExistsInDatabase() && isBatchable( event, entry ) ) {
+				batches.computeIfAbsent( entry.getPersister(), p -> new ArrayList<>() ).add( object );
+			}
+			else {
+				others.add( event );
+			}
+		}
+		if ( batches.isEmpty() ) {
+			return CompletionStages.loop( events, event -> reactiveOnRefresh( event, refreshedAlready ) );
+		}
+
+		final EventSource source = events.get( 0 ).getSession();
+		return CompletionStages.loop(
+						batches.entrySet(),
+						batch -> refreshBatch( batch.getKey(), batch.getValue(), source, refreshedAlready )
+				)
+				.thenCompose( v -> CompletionStages.loop( others, event -> reactiveOnRefresh( event, refreshedAlready ) ) );
+	}
+
+	/**
+	 * An instance may be refreshed along with others if the refresh
+	 * doesn't need to obtain or retain a lock stronger than
+	 * {@link LockMode#READ}.
+	 */
+	private static boolean isBatchable(RefreshEvent event, EntityEntry entry) {
+		final LockMode requestedLockMode = event.getLockOptions().getLockMode();
+		return !requestedLockMode.greaterThan( LockMode.READ )
+				&& !entry.getLockMode().greaterThan( LockMode.READ );
+	}
+
+	private CompletionStage<Void> refreshBatch(
+			EntityPersister persister,
+			List<Object> objects,
+			EventSource source,
+			IdentitySet refreshedAlready) {
+
+		final List<Object> batch = new ArrayList<>( objects.size() );
+		for ( Object object : objects ) {
+			if ( refreshedAlready.add( object ) ) {
+				batch.add( object );
+			}
+		}
+
+		// cascade the refresh prior to refreshing the entities
+		return CompletionStages.loop( batch, object -> cascadeRefresh( source, persister, object, refreshedAlready ) )
+				.thenCompose( v -> {
+					final ReactivePersistenceContextAdapter persistenceContext =
+							(ReactivePersistenceContextAdapter) source.getPersistenceContextInternal();
+					final List<Serializable> ids = new ArrayList<>( batch.size() );
+					final List<Boolean> readOnly = new ArrayList<>( batch.size() );
+					for ( Object object : batch ) {
+						final EntityEntry entry = persistenceContext.getEntry( object );
+						if ( entry == null ) {
+							// evicted by a cascade
+							continue;
+						}
+						final Serializable id = entry.getId();
+						if ( LOG.isTraceEnabled() ) {
+							LOG.tracev( "Refreshing {0}", MessageHelper.infoString( persister, id, source.getFactory() ) );
+						}
+						final EntityKey key = source.generateEntityKey( id, persister );
+						persistenceContext.removeEntity( key );
+						if ( persister.hasCollections() ) {
+							new EvictVisitor( source, object ).process( object, persister );
+						}
+						evictCachedEntity( persister, object, id, source );
+						evictCachedCollections( persister, id, source );
+						// the loader must reuse the instance instead
+						// of instantiating a new one
+						persistenceContext.addRefreshTarget( key, object );
+						ids.add( id );
+						readOnly.add( entry.isReadOnly() );
+					}
+					if ( ids.isEmpty() ) {
+						return CompletionStages.voidFuture();
+					}
+
+					final String previousFetchProfile = source.getLoadQueryInfluencers().getInternalFetchProfile();
+					source.getLoadQueryInfluencers().setInternalFetchProfile( "refresh" );
+					return ( (ReactiveEntityPersister) persister )
+							.reactiveMultiLoad( ids.toArray( new Serializable[0] ), source, RefreshMultiLoadOptions.INSTANCE )
+							.thenAccept( results -> {
+								for ( int i = 0; i < ids.size(); i++ ) {
+									final Object result = results.get( i );
+									UnresolvableObjectException.throwIfNull( result, ids.get( i ), persister.getEntityName() );
+									// keep the same read-only/modifiable setting
+									source.setReadOnly( result, !persister.isMutable() || readOnly.get( i ) );
+								}
+							} )
+							.whenComplete( (r, e) -> {
+								source.getLoadQueryInfluencers().setInternalFetchProfile( previousFetchProfile );
+								// forget the instances whose rows were not found
+								for ( Serializable id : ids ) {
+									persistenceContext.removeRefreshTarget( source.generateEntityKey( id, persister ) );
+								}
+							} );
+				} );
+	}
+
+	/**
+	 * Options for reloading instances being refreshed, which are no
+	 * longer associated with the persistence context, and must not be
+	 * obtained from the second-level cache.
+	 */
+	private static final class RefreshMultiLoadOptions implements MultiLoadOptions {
+		static final RefreshMultiLoadOptions INSTANCE = new RefreshMultiLoadOptions();
+
+		private static final LockOptions LOCK_OPTIONS = new LockOptions( LockMode.READ );
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return true;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return LOCK_OPTIONS;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
+
 	private CompletionStage<Void> cascadeRefresh(
 			EventSource source,
 			EntityPersister persister,
@@ -259,6 +402,28 @@ private CompletionStage<Void> cascadeRefresh(
 		).cascade();
 	}
 
+	private void evictCachedEntity(EntityPersister persister, Object object, Serializable id, EventSource source) {
+		if ( persister.canWriteToCache() ) {
+			Object previousVersion = null;
+			if ( persister.isVersionPropertyGenerated() ) {
+				// we need to grab the version value from the entity, otherwise
+				// we have issues with generated-version entities that may have
+				// multiple actions queued during the same flush
+				previousVersion = persister.getVersion( object );
+			}
+			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			final Object ck = cache.generateCacheKey(
+					id,
+					persister,
+					source.getFactory(),
+					source.getTenantIdentifier()
+			);
+			final SoftLock lock = cache.lockItem( source, ck, previousVersion );
+			cache.remove( source, ck );
+			source.getActionQueue().registerProcess( (success, session) -> cache.unlockItem( session, ck, lock ) );
+		}
+	}
+
 	private void evictCachedCollections(EntityPersister persister, Serializable id, EventSource source) {
 		evictCachedCollections( persister.getPropertyTypes(), id, source );
 	}
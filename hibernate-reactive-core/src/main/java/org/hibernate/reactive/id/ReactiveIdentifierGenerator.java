@@ -8,6 +8,7 @@
 import org.hibernate.Incubating;
 import org.hibernate.reactive.id.impl.SequenceReactiveIdentifierGenerator;
 import org.hibernate.reactive.id.impl.TableReactiveIdentifierGenerator;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.reactive.session.ReactiveSession;
 
 import java.util.concurrent.CompletionStage;
@@ -28,10 +29,23 @@
 @Incubating
 @FunctionalInterface
 public interface ReactiveIdentifierGenerator<Id> {
+	/**
+	 * Returns a generated identifier, via a {@link CompletionStage}.
+	 *
+	 * @param session the reactive session, or stateless session
+	 */
+	CompletionStage<Id> generate(ReactiveConnectionSupplier session, Object entity);
+
 	/**
 	 * Returns a generated identifier, via a {@link CompletionStage}.
 	 *
 	 * @param session the reactive session
+	 *
+	 * @deprecated use {@link #generate(ReactiveConnectionSupplier, Object)},
+	 *             which also accepts a stateless session
 	 */
-	CompletionStage<Id> generate(ReactiveSession session, Object entity);
+	@Deprecated
+	default CompletionStage<Id> generate(ReactiveSession session, Object entity) {
+		return generate( (ReactiveConnectionSupplier) session, entity );
+	}
 }
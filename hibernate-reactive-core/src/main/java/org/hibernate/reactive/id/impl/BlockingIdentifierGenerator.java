@@ -0,0 +1,224 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.id.impl;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.MappingException;
+import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.reactive.util.impl.CompletionStages;
+
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ReactiveIdentifierGenerator} which reserves a whole
+ * {@link Block block} of identifiers with a single round trip
+ * to the database, and then serves identifiers from memory until
+ * the block is exhausted. This is the reactive counterpart of the
+ * Hibernate ORM {@link org.hibernate.id.enhanced.Optimizer}s.
+ * <p>
+ * The current block is shared by all sessions using this generator,
+ * and is accessed without locking. When the block is exhausted,
+ * exactly one caller obtains the next block from the database, and
+ * any other concurrent callers wait for that refill to complete,
+ * instead of each hitting the database.
+ * <p>
+ * Subclasses obtain raw values from the database, and
+ * {@link #allocateBlock(Supplier)} interprets them according to
+ * the configured {@code optimizer} strategy, using the same
+ * semantics as the Hibernate ORM {@code hilo}, {@code legacy-hilo},
+ * {@code pooled} and {@code pooled-lo} optimizers.
+ */
+public abstract class BlockingIdentifierGenerator implements ReactiveIdentifierGenerator<Long> {
+
+	/**
+	 * An immutable range {@code [lo, limit)} of reserved identifiers,
+	 * together with a cursor pointing to the next unused identifier.
+	 */
+	protected static final class Block {
+		private final AtomicLong next;
+		private final long limit;
+
+		public Block(long lo, long limit) {
+			this.next = new AtomicLong( lo );
+			this.limit = limit;
+		}
+
+		/**
+		 * @return the next identifier in this block, or {@code null}
+		 *         if the block is exhausted
+		 */
+		Long next() {
+			// the cursor may run past the limit, but that's harmless
+			long value = next.getAndIncrement();
+			return value < limit ? value : null;
+		}
+
+		@Override
+		public String toString() {
+			return "Block[" + next.get() + ", " + limit + ")";
+		}
+	}
+
+	private final AtomicReference<Block> currentBlock = new AtomicReference<>();
+	private final AtomicReference<CompletableFuture<Block>> pendingRefill = new AtomicReference<>();
+
+	private StandardOptimizerDescriptor optimizer = StandardOptimizerDescriptor.NONE;
+	private int incrementSize = 1;
+	private long initialValue = -1;
+
+	/**
+	 * Reserve the next block of identifiers.
+	 *
+	 * @param session the session which triggered the refill
+	 */
+	protected abstract CompletionStage<Block> nextBlock(ReactiveConnectionSupplier session);
+
+	/**
+	 * Determine the optimizer strategy from the given configuration
+	 * parameters, exactly as Hibernate ORM would.
+	 *
+	 * @param incrementSize the {@code increment_size} of the generator
+	 * @param initialValue the initial value of the generator, or
+	 *                     {@code -1} if none was specified
+	 */
+	protected void configureOptimizer(int incrementSize, long initialValue, Properties params) {
+		this.incrementSize = incrementSize;
+		this.initialValue = initialValue;
+		if ( incrementSize <= 1 ) {
+			optimizer = StandardOptimizerDescriptor.NONE;
+		}
+		else {
+			String optimizerName = ConfigurationHelper.getString(
+					SequenceStyleGenerator.OPT_PARAM,
+					params,
+					OptimizerFactory.determineImplicitOptimizerName( incrementSize, params )
+			);
+			optimizer = StandardOptimizerDescriptor.fromExternalName( optimizerName );
+			if ( optimizer == null ) {
+				throw new MappingException( "Custom optimizers are not supported in Hibernate Reactive: "
+						+ optimizerName );
+			}
+		}
+	}
+
+	protected StandardOptimizerDescriptor getOptimizer() {
+		return optimizer;
+	}
+
+	protected int getIncrementSize() {
+		return incrementSize;
+	}
+
+	/**
+	 * Interpret the value(s) obtained from the database according
+	 * to the optimizer strategy, producing a block of identifiers.
+	 *
+	 * @param nextValue obtains the next raw value from the database,
+	 *                  it is called twice for the very first block
+	 *                  of a {@code pooled} generator
+	 */
+	protected CompletionStage<Block> allocateBlock(Supplier<CompletionStage<Long>> nextValue) {
+		switch ( optimizer ) {
+			case HILO:
+				// the value counts blocks
+				return nextValue.get().thenApply( hi -> new Block(
+						( hi - 1 ) * incrementSize + 1,
+						hi * incrementSize + 1
+				) );
+			case LEGACY_HILO:
+				return nextValue.get().thenApply( hi -> new Block(
+						hi * ( incrementSize + 1 ) + ( hi == 0 ? 1 : 0 ),
+						hi * ( incrementSize + 1 ) + incrementSize + 1
+				) );
+			case POOLED_LO:
+			case POOLED_LOTL:
+				// the value is the low end of the block
+				return nextValue.get().thenApply( lo -> new Block( lo, lo + incrementSize ) );
+			case POOLED:
+				// the value is the high end of the block
+				return nextValue.get().thenCompose( hi -> {
+					boolean isInitialValue = initialValue == -1
+							? hi < incrementSize
+							: hi == initialValue;
+					if ( isInitialValue ) {
+						// we were just handed the initial value,
+						// so the block runs from there to the next value
+						return nextValue.get().thenApply( next -> new Block( hi, next + 1 ) );
+					}
+					else {
+						return CompletionStages.completedFuture( new Block( hi - incrementSize + 1, hi + 1 ) );
+					}
+				} );
+			default:
+				throw new AssertionFailure( "unexpected optimizer: " + optimizer );
+		}
+	}
+
+	@Override
+	public CompletionStage<Long> generate(ReactiveConnectionSupplier session, Object entity) {
+		while ( true ) {
+			Block block = currentBlock.get();
+			if ( block != null ) {
+				Long id = block.next();
+				if ( id != null ) {
+					return CompletionStages.completedFuture( id );
+				}
+			}
+
+			CompletableFuture<Block> refill = pendingRefill.get();
+			if ( refill == null ) {
+				CompletableFuture<Block> newRefill = new CompletableFuture<>();
+				if ( !pendingRefill.compareAndSet( null, newRefill ) ) {
+					// someone else just started a refill
+					continue;
+				}
+				if ( currentBlock.get() != block ) {
+					// someone else just finished a refill
+					pendingRefill.set( null );
+					newRefill.complete( currentBlock.get() );
+					continue;
+				}
+				refill( session, newRefill );
+				refill = newRefill;
+			}
+
+			// wait for the refill, and then try again
+			return refill.thenCompose( newBlock -> generate( session, entity ) );
+		}
+	}
+
+	private void refill(ReactiveConnectionSupplier session, CompletableFuture<Block> refill) {
+		CompletionStage<Block> stage;
+		try {
+			stage = nextBlock( session );
+		}
+		catch (RuntimeException e) {
+			stage = CompletionStages.failedFuture( e );
+		}
+		stage.whenComplete( (newBlock, error) -> {
+			if ( error == null ) {
+				currentBlock.set( newBlock );
+			}
+			pendingRefill.set( null );
+			if ( error == null ) {
+				refill.complete( newBlock );
+			}
+			else {
+				refill.completeExceptionally( error );
+			}
+		} );
+	}
+}
@@ -10,8 +10,10 @@
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.id.Configurable;
-import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
-import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.type.Type;
 
@@ -22,9 +24,16 @@
 
 /**
  * Support for JPA's {@link javax.persistence.SequenceGenerator}.
+ * <p>
+ * Honors the {@code increment_size} ({@code allocationSize}) of
+ * the sequence, along with the {@code optimizer} strategy, using
+ * the same semantics as the Hibernate ORM {@code hilo},
+ * {@code legacy-hilo}, {@code pooled} and {@code pooled-lo}
+ * {@link org.hibernate.id.enhanced.Optimizer optimizers}, so that
+ * a single call to the sequence reserves a whole block of ids.
  */
 public class SequenceReactiveIdentifierGenerator
-		implements ReactiveIdentifierGenerator<Long>, Configurable {
+		extends BlockingIdentifierGenerator implements Configurable {
 
 	private String sql;
 	private QualifiedName qualifiedSequenceName;
@@ -41,10 +50,32 @@ public void configure(Type type, Properties params, ServiceRegistry serviceRegis
 				.format( qualifiedSequenceName, dialect );
 
 		sql = dialect.getSequenceNextValString( renderedSequenceName );
+
+		int incrementSize = ConfigurationHelper.getInt(
+				SequenceStyleGenerator.INCREMENT_PARAM,
+				params,
+				SequenceStyleGenerator.DEFAULT_INCREMENT_SIZE
+		);
+		// the initial value, or -1 if none was specified, exactly as
+		// interpreted by the PooledOptimizer in Hibernate ORM
+		int initialValue = ConfigurationHelper.getInt( SequenceStyleGenerator.INITIAL_PARAM, params, -1 );
+		configureOptimizer( incrementSize, initialValue, params );
 	}
 
 	@Override
-	public CompletionStage<Long> generate(ReactiveSession session, Object entity) {
+	public CompletionStage<Long> generate(ReactiveConnectionSupplier session, Object entity) {
+		if ( getOptimizer() == StandardOptimizerDescriptor.NONE ) {
+			return nextValue( session );
+		}
+		return super.generate( session, entity );
+	}
+
+	private CompletionStage<Long> nextValue(ReactiveConnectionSupplier session) {
 		return session.getReactiveConnection().selectLong( sql, new Object[0] );
 	}
+
+	@Override
+	protected CompletionStage<Block> nextBlock(ReactiveConnectionSupplier session) {
+		return allocateBlock( () -> nextValue( session ) );
+	}
 }
@@ -15,19 +15,21 @@
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.id.Configurable;
 import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
 import org.hibernate.id.enhanced.TableGenerator;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.reactive.provider.Settings;
-import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
 import org.hibernate.reactive.pool.ReactiveConnection;
-import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.type.Type;
 
 import java.util.Collections;
 import java.util.Properties;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 import static org.hibernate.id.enhanced.TableGenerator.CONFIG_PREFER_SEGMENT_PER_ENTITY;
 import static org.hibernate.id.enhanced.TableGenerator.DEF_SEGMENT_COLUMN;
@@ -37,6 +39,7 @@
 import static org.hibernate.id.enhanced.TableGenerator.TABLE;
 import static org.hibernate.reactive.id.impl.IdentifierGeneration.determineSequenceName;
 import static org.hibernate.reactive.id.impl.IdentifierGeneration.determineTableName;
+import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
 
 /**
  * Support for JPA's {@link javax.persistence.TableGenerator}. This
@@ -44,9 +47,16 @@
  * where different logical sequences are represented by different
  * rows ("segments"), or as an emulated sequence generator with
  * just one row and one column.
+ * <p>
+ * When the {@code increment_size} ({@code allocationSize}) is
+ * greater than one, a whole block of ids is reserved at once,
+ * in a separate transaction, on a connection obtained from the
+ * {@link ReactiveConnectionPool}, and the ids are then served
+ * from memory. Otherwise, the table is updated within the
+ * transaction of the session, once per id.
  */
 public class TableReactiveIdentifierGenerator
-		implements ReactiveIdentifierGenerator<Long>, Configurable {
+		extends BlockingIdentifierGenerator implements Configurable {
 
 	private boolean storeLastUsedValue;
 
@@ -65,28 +75,64 @@
 
 	private boolean sequenceEmulator;
 
+	private ServiceRegistry serviceRegistry;
+
+	@Override
+	public CompletionStage<Long> generate(ReactiveConnectionSupplier session, Object entity) {
+		if ( getOptimizer() == StandardOptimizerDescriptor.NONE ) {
+			// no block allocation, so just use the connection
+			// and the transaction of the session
+			return nextValue( session.getReactiveConnection() );
+		}
+		return super.generate( session, entity );
+	}
+
 	@Override
-	public CompletionStage<Long> generate(ReactiveSession session, Object entity) {
+	protected CompletionStage<Block> nextBlock(ReactiveConnectionSupplier session) {
+		// reserve the block in a short transaction on a connection of
+		// its own, so that the row lock on the segment isn't held for
+		// the whole duration of the transaction of the session
+		ReactiveConnectionPool pool = serviceRegistry.getService( ReactiveConnectionPool.class );
+		return pool.getConnection().thenCompose(
+				connection -> connection.beginTransaction()
+						.thenCompose( v -> allocateBlock( () -> nextValue( connection ) ) )
+						.handle( (block, error) -> error == null
+								? connection.commitTransaction().thenApply( v -> block )
+								: connection.rollbackTransaction().thenApply( v -> returnOrRethrow( error, block ) )
+						)
+						.thenCompose( Function.identity() )
+						.whenComplete( (block, error) -> connection.close() )
+		);
+	}
+
+	/**
+	 * Read the current value of the segment, and advance it by the
+	 * {@code increment_size}, exactly as Hibernate ORM does.
+	 */
+	private CompletionStage<Long> nextValue(ReactiveConnection connection) {
+		int incrementSize = getIncrementSize();
 		Object[] param = segmentColumnName == null ? new Object[] {} : new Object[] {segmentValue};
-		ReactiveConnection connection = session.getReactiveConnection();
 		return connection.selectLong( selectQuery, param )
 				.thenCompose( result -> {
 					if ( result == null ) {
-						long initializationValue = storeLastUsedValue ? initialValue - 1 : initialValue;
+						long nextValue = initialValue + incrementSize;
+						long storedValue = storeLastUsedValue ? nextValue - 1 : nextValue;
 						Object[] params = segmentColumnName == null ?
-								new Object[] {initializationValue} :
-								new Object[] {segmentValue, initializationValue};
+								new Object[] {storedValue} :
+								new Object[] {segmentValue, storedValue};
 						return connection.update( insertQuery, params )
 								.thenApply( v -> initialValue );
 					}
 					else {
 						long currentValue = result;
-						long updatedValue = currentValue + 1;
+						long value = storeLastUsedValue ? currentValue + 1 : currentValue;
+						long nextValue = value + incrementSize;
+						long storedValue = storeLastUsedValue ? nextValue - 1 : nextValue;
 						Object[] params = segmentColumnName == null ?
-								new Object[] {updatedValue, currentValue} :
-								new Object[] {updatedValue, currentValue, segmentValue};
+								new Object[] {storedValue, currentValue} :
+								new Object[] {storedValue, currentValue, segmentValue};
 						return connection.update( updateQuery, params )
-								.thenApply( v -> storeLastUsedValue ? updatedValue : currentValue );
+								.thenApply( v -> value );
 					}
 				});
 	}
@@ -99,7 +145,9 @@ public CompletionStage<Long> generate(ReactiveSession session, Object entity) {
 	public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
 		JdbcEnvironment jdbcEnvironment = serviceRegistry.getService( JdbcEnvironment.class );
 		Dialect dialect = jdbcEnvironment.getDialect();
+		this.serviceRegistry = serviceRegistry;
 
+		int incrementSize;
 		if (sequenceEmulator) {
 			//it's a SequenceStyleGenerator backed by a table
 			qualifiedTableName = determineSequenceName( params, serviceRegistry );
@@ -107,6 +155,7 @@ public void configure(Type type, Properties params, ServiceRegistry serviceRegis
 			segmentColumnName = null;
 			segmentValue = null;
 			initialValue = determineInitialValueForSequenceEmulation( params );
+			incrementSize = determineIncrementSizeForSequenceEmulation( params );
 
 			storeLastUsedValue = false;
 		}
@@ -117,11 +166,14 @@ public void configure(Type type, Properties params, ServiceRegistry serviceRegis
 			valueColumnName = determineValueColumnNameForTable( params, jdbcEnvironment );
 			segmentValue = determineSegmentValue( params );
 			initialValue = determineInitialValueForTable( params );
+			incrementSize = determineIncrementSizeForTable( params );
 
 			storeLastUsedValue = serviceRegistry.getService( ConfigurationService.class )
 					.getSetting( Settings.TABLE_GENERATOR_STORE_LAST_USED, StandardConverters.BOOLEAN, true );
 		}
 
+		configureOptimizer( incrementSize, initialValue, params );
+
 		// allow physical naming strategies a chance to kick in
 		renderedTableName = jdbcEnvironment.getQualifiedObjectNameFormatter()
 				.format( qualifiedTableName, dialect );
@@ -167,6 +219,14 @@ protected int determineInitialValueForSequenceEmulation(Properties params) {
 		return ConfigurationHelper.getInt( SequenceStyleGenerator.INITIAL_PARAM, params, SequenceStyleGenerator.DEFAULT_INITIAL_VALUE );
 	}
 
+	protected int determineIncrementSizeForTable(Properties params) {
+		return ConfigurationHelper.getInt( TableGenerator.INCREMENT_PARAM, params, TableGenerator.DEFAULT_INCREMENT_SIZE );
+	}
+
+	protected int determineIncrementSizeForSequenceEmulation(Properties params) {
+		return ConfigurationHelper.getInt( SequenceStyleGenerator.INCREMENT_PARAM, params, SequenceStyleGenerator.DEFAULT_INCREMENT_SIZE );
+	}
+
 	protected String buildSelectQuery(Dialect dialect) {
 		final String alias = "tbl";
 		String query = "select " + StringHelper.qualify( alias, valueColumnName ) +
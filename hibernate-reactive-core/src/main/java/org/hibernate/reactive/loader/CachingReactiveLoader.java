@@ -11,13 +11,15 @@
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.dialect.pagination.LimitHandler;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.QueryParameters;
-import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.loader.Loader;
 import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.transform.CacheableResultTransformer;
@@ -46,12 +48,12 @@ public interface CachingReactiveLoader extends ReactiveLoader {
 
 	default CompletionStage<List<Object>> doReactiveList(
 			final String sql, final String queryIdentifier,
-			final SessionImplementor session,
+			final SharedSessionContractImplementor session,
 			final QueryParameters queryParameters,
 			final ResultTransformer forcedResultTransformer)
 			throws HibernateException {
 
-		final StatisticsImplementor statistics = session.getSessionFactory().getStatistics();
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		final boolean stats = statistics.isStatisticsEnabled();
 		final long startTime = stats ? System.nanoTime() : 0;
 
@@ -73,43 +75,124 @@ default CompletionStage<List<Object>> reactiveListIgnoreQueryCache(
 			String sql, String queryIdentifier,
 			SharedSessionContractImplementor session,
 			QueryParameters queryParameters) {
-		return doReactiveList( sql, queryIdentifier, (SessionImplementor) session, queryParameters, null )
+		return doReactiveList( sql, queryIdentifier, session, queryParameters, null )
 				.thenApply( result -> getResultList( result, queryParameters.getResultTransformer() ) );
 	}
 
 	default CompletionStage<List<Object>> reactiveListUsingQueryCache(
 			final String sql, final String queryIdentifier,
-			final SessionImplementor session,
+			final SharedSessionContractImplementor session,
 			final QueryParameters queryParameters,
 			final Set<Serializable> querySpaces,
 			final Type[] resultTypes) {
 
-		QueryResultsCache queryCache = session.getSessionFactory().getCache()
+		QueryResultsCache queryCache = session.getFactory().getCache()
 				.getQueryResultsCache( queryParameters.getCacheRegion() );
 
 		QueryKey key = queryKey( sql, session, queryParameters );
 
-		List<Object> cachedList = getResultFromQueryCache( session, queryParameters, querySpaces, resultTypes, queryCache, key );
+		return getResultFromQueryCache( queryIdentifier, session, queryParameters, querySpaces, resultTypes, queryCache, key )
+				.thenCompose( cachedList -> cachedList == null
+						? doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() )
+								.thenCompose( cachableList -> putResultInQueryCache( queryIdentifier, session, resultTypes, queryCache, key, cachableList )
+										.thenApply( v -> cachableList ) )
+						: CompletionStages.completedFuture( cachedList ) )
+				.thenApply(
+						result -> getResultList(
+								transform( queryParameters, key, result,
+										resolveResultTransformer( queryParameters.getResultTransformer() ) ),
+								queryParameters.getResultTransformer()
+						)
+				);
+	}
+
+	/**
+	 * Obtain the cached result of the query, via the {@link ReactiveCacheAccess}.
+	 *
+	 * @see Loader#getResultFromQueryCache
+	 */
+	default CompletionStage<List<Object>> getResultFromQueryCache(
+			final String queryIdentifier,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final Set<Serializable> querySpaces,
+			final Type[] resultTypes,
+			final QueryResultsCache queryCache,
+			final QueryKey key) {
 
-		CompletionStage<List<Object>> list;
-		if ( cachedList == null ) {
-			list = doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() )
-					.thenApply( cachableList -> {
-						putResultInQueryCache( session, queryParameters, resultTypes, queryCache, key, cachableList );
-						return cachableList;
-					} );
+		if ( !session.getCacheMode().isGetEnabled() ) {
+			return CompletionStages.nullFuture();
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
+		if ( queryParameters.isReadOnlyInitialized() ) {
+			// The read-only/modifiable mode for the query was explicitly set.
+			// Temporarily set the default read-only/modifiable setting to the query's setting.
+			persistenceContext.setDefaultReadOnly( queryParameters.isReadOnly() );
 		}
 		else {
-			list = CompletionStages.completedFuture( cachedList );
+			// The read-only/modifiable setting for the query was not initialized.
+			// Use the default read-only/modifiable from the persistence context instead.
+			queryParameters.setReadOnly( persistenceContext.isDefaultReadOnly() );
 		}
 
-		return list.thenApply(
-				result -> getResultList(
-						transform( queryParameters, key, result,
-								resolveResultTransformer( queryParameters.getResultTransformer() ) ),
-						queryParameters.getResultTransformer()
+		final SessionFactoryImplementor factory = session.getFactory();
+		return factory.getServiceRegistry().getService( ReactiveCacheAccess.class )
+				.getQueryResult(
+						session,
+						queryCache,
+						key,
+						querySpaces,
+						key.getResultTransformer().getCachedResultTypes( resultTypes )
 				)
-		);
+				.whenComplete( (result, err) -> persistenceContext.setDefaultReadOnly( defaultReadOnlyOrig ) )
+				.thenApply( result -> {
+					final StatisticsImplementor statistics = factory.getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						if ( result == null ) {
+							statistics.queryCacheMiss( queryIdentifier, queryCache.getRegion().getName() );
+						}
+						else {
+							statistics.queryCacheHit( queryIdentifier, queryCache.getRegion().getName() );
+						}
+					}
+					return result;
+				} );
+	}
+
+	/**
+	 * Put the result of the query in the cache, via the {@link ReactiveCacheAccess}.
+	 *
+	 * @see Loader#putResultInQueryCache
+	 */
+	default CompletionStage<Void> putResultInQueryCache(
+			final String queryIdentifier,
+			final SharedSessionContractImplementor session,
+			final Type[] resultTypes,
+			final QueryResultsCache queryCache,
+			final QueryKey key,
+			final List<Object> result) {
+
+		if ( !session.getCacheMode().isPutEnabled() ) {
+			return CompletionStages.voidFuture();
+		}
+
+		final SessionFactoryImplementor factory = session.getFactory();
+		return factory.getServiceRegistry().getService( ReactiveCacheAccess.class )
+				.putQueryResult(
+						session,
+						queryCache,
+						key,
+						result,
+						key.getResultTransformer().getCachedResultTypes( resultTypes )
+				)
+				.thenAccept( put -> {
+					final StatisticsImplementor statistics = factory.getStatistics();
+					if ( put && statistics.isStatisticsEnabled() ) {
+						statistics.queryCachePut( queryIdentifier, queryCache.getRegion().getName() );
+					}
+				} );
 	}
 
 	default List<?> transform(QueryParameters queryParameters, QueryKey key, List<Object> result,
@@ -133,7 +216,7 @@ default List<?> transform(QueryParameters queryParameters, QueryKey key, List<Ob
 		}
 	}
 
-	default QueryKey queryKey(String sql, SessionImplementor session, QueryParameters queryParameters) {
+	default QueryKey queryKey(String sql, SharedSessionContractImplementor session, QueryParameters queryParameters) {
 		return QueryKey.generateQueryKey(
 				sql,
 				queryParameters,
@@ -153,10 +236,6 @@ default CacheableResultTransformer cacheableResultTransformer(QueryParameters qu
 
 	boolean[] includeInResultRow();
 
-	List<Object> getResultFromQueryCache(SessionImplementor session, QueryParameters queryParameters, Set<Serializable> querySpaces, Type[] resultTypes, QueryResultsCache queryCache, QueryKey key);
-
-	void putResultInQueryCache(SessionImplementor session, QueryParameters queryParameters, Type[] resultTypes, QueryResultsCache queryCache, QueryKey key, List<Object> cachableList);
-
 	ResultTransformer resolveResultTransformer(ResultTransformer resultTransformer);
 
 	String[] getResultRowAliases();
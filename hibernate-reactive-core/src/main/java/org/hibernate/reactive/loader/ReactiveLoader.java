@@ -6,6 +6,8 @@
 package org.hibernate.reactive.loader;
 
 import org.hibernate.JDBCException;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.LimitHelper;
 import org.hibernate.dialect.pagination.NoopLimitHandler;
@@ -13,13 +15,18 @@
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.reactive.adaptor.impl.QueryParametersAdaptor;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
-import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.reactive.util.impl.ChunkPublisher;
+import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.transform.ResultTransformer;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -33,17 +40,84 @@ public interface ReactiveLoader {
 
 	default CompletionStage<List<Object>> doReactiveQueryAndInitializeNonLazyCollections(
 			final String sql,
-			final SessionImplementor session,
+			final SharedSessionContractImplementor session,
 			final QueryParameters queryParameters) {
 		return doReactiveQueryAndInitializeNonLazyCollections(sql, session, queryParameters, false, null);
 	}
 
 	default CompletionStage<List<Object>> doReactiveQueryAndInitializeNonLazyCollections(
 			final String sql,
-			final SessionImplementor session,
+			final SharedSessionContractImplementor session,
 			final QueryParameters queryParameters,
 			final boolean returnProxies,
 			final ResultTransformer forcedResultTransformer) {
+		final List<AfterLoadAction> afterLoadActions = new ArrayList<>();
+		return executeReactiveQueryStatement(
+				sql,
+				queryParameters,
+				afterLoadActions,
+				session
+		)
+				.thenCompose( resultSet -> reactiveProcessResultSetAndInitializeNonLazyCollections(
+						resultSet,
+						session,
+						queryParameters,
+						returnProxies,
+						forcedResultTransformer,
+						afterLoadActions
+				) );
+	}
+
+	/**
+	 * Execute the given query using a {@link ReactiveConnection.Cursor},
+	 * returning a {@link ChunkPublisher.Source} which fetches the given
+	 * number of rows at a time, and processes each chunk of rows as it
+	 * arrives.
+	 */
+	default CompletionStage<ChunkPublisher.Source<Object>> doReactiveQueryWithCursor(
+			final String sql,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final int fetchSize,
+			final boolean returnProxies,
+			final ResultTransformer forcedResultTransformer) {
+		final List<AfterLoadAction> afterLoadActions = new ArrayList<>();
+		return reactiveConnection( queryParameters, session )
+				.selectCursor(
+						processReactiveQuerySql( sql, queryParameters, afterLoadActions, session ),
+						toParameterArray( queryParameters, session )
+				)
+				.thenApply( cursor -> new ChunkPublisher.Source<Object>() {
+					@Override
+					public CompletionStage<List<Object>> next() {
+						if ( !cursor.hasMore() ) {
+							return CompletionStages.nullFuture();
+						}
+						return cursor.fetch( fetchSize )
+								.thenCompose( resultSet -> reactiveProcessResultSetAndInitializeNonLazyCollections(
+										resultSet,
+										session,
+										queryParameters,
+										returnProxies,
+										forcedResultTransformer,
+										afterLoadActions
+								) );
+					}
+
+					@Override
+					public CompletionStage<Void> close() {
+						return cursor.close();
+					}
+				} );
+	}
+
+	default CompletionStage<List<Object>> reactiveProcessResultSetAndInitializeNonLazyCollections(
+			final ResultSet resultSet,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final boolean returnProxies,
+			final ResultTransformer forcedResultTransformer,
+			final List<AfterLoadAction> afterLoadActions) {
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 		boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
 		if ( queryParameters.isReadOnlyInitialized() ) {
@@ -58,25 +132,15 @@ default CompletionStage<List<Object>> doReactiveQueryAndInitializeNonLazyCollect
 		}
 		persistenceContext.beforeLoad();
 
-		final List<AfterLoadAction> afterLoadActions = new ArrayList<>();
-
-		return executeReactiveQueryStatement(
-				sql,
-				queryParameters,
-				afterLoadActions,
-				session
-		)
-				.thenCompose( resultSet -> {
-							discoverTypes( queryParameters, resultSet );
-							return reactiveProcessResultSet(
-									resultSet,
-									queryParameters,
-									session,
-									returnProxies,
-									forcedResultTransformer,
-									afterLoadActions
-							);
-				})
+		discoverTypes( queryParameters, resultSet );
+		return reactiveProcessResultSet(
+						resultSet,
+						queryParameters,
+						session,
+						returnProxies,
+						forcedResultTransformer,
+						afterLoadActions
+				)
 				.whenComplete( (list, e) -> persistenceContext.afterLoad() )
 				.thenCompose( list ->
 						// only initialize non-lazy collections after everything else has been refreshed
@@ -90,7 +154,50 @@ default CompletionStage<ResultSet> executeReactiveQueryStatement(
 			String sqlStatement,
 			QueryParameters queryParameters,
 			List<AfterLoadAction> afterLoadActions,
-			SessionImplementor session) {
+			SharedSessionContractImplementor session) {
+		String sql = processReactiveQuerySql( sqlStatement, queryParameters, afterLoadActions, session );
+		return reactiveConnection( queryParameters, session )
+				.selectJdbc( sql, toParameterArray(queryParameters, session) );
+	}
+
+	/**
+	 * The connection used to execute a query. A query in read-only
+	 * mode which does not lock any rows may be executed by a
+	 * {@link ReactiveConnection#readOnly() read-only} connection.
+	 */
+	default ReactiveConnection reactiveConnection(
+			QueryParameters queryParameters,
+			SharedSessionContractImplementor session) {
+		ReactiveConnection connection = ( (ReactiveConnectionSupplier) session ).getReactiveConnection();
+		boolean readOnly = queryParameters.isReadOnlyInitialized()
+				? queryParameters.isReadOnly()
+				: session.getPersistenceContext().isDefaultReadOnly();
+		return readOnly && !isLocking( queryParameters.getLockOptions() )
+				? connection.readOnly()
+				: connection;
+	}
+
+	static boolean isLocking(LockOptions lockOptions) {
+		if ( lockOptions == null ) {
+			return false;
+		}
+		if ( lockOptions.getLockMode().greaterThan( LockMode.READ ) ) {
+			return true;
+		}
+		Iterator<Map.Entry<String, LockMode>> aliasLocks = lockOptions.getAliasLockIterator();
+		while ( aliasLocks.hasNext() ) {
+			if ( aliasLocks.next().getValue().greaterThan( LockMode.READ ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	default String processReactiveQuerySql(
+			String sqlStatement,
+			QueryParameters queryParameters,
+			List<AfterLoadAction> afterLoadActions,
+			SharedSessionContractImplementor session) {
 
 		// Processing query filters.
 		queryParameters.processFilters( sqlStatement, session );
@@ -100,11 +207,7 @@ default CompletionStage<ResultSet> executeReactiveQueryStatement(
 		String sql = limitHandler.processSql( queryParameters.getFilteredSQL(), queryParameters.getRowSelection() );
 
 		// Adding locks and comments.
-		sql = preprocessSQL( sql, queryParameters, session.getSessionFactory(), afterLoadActions );
-
-		return session.unwrap(ReactiveSession.class)
-				.getReactiveConnection()
-				.selectJdbc( sql, toParameterArray(queryParameters, session) );
+		return preprocessSQL( sql, queryParameters, session.getFactory(), afterLoadActions );
 	}
 
 	default LimitHandler limitHandler(RowSelection selection, SharedSessionContractImplementor session) {
@@ -136,13 +136,9 @@ private CompletionStage<Void> reactiveInitializeEntitiesAndCollections(
 			LOG.tracev("Total objects hydrated: {0}", hydratedObjectsSize);
 
 			if (hydratedObjectsSize != 0) {
-
-				for (Object hydratedObject : hydratedObjects) {
-					stage = stage.thenCompose(v ->
-							initializeEntity(hydratedObject, readOnly, session, pre, listeners)
-					);
-				}
-
+				stage = CompletionStages.loop(hydratedObjects, hydratedObject ->
+						initializeEntity(hydratedObject, readOnly, session, pre, listeners)
+				);
 			}
 		}
 
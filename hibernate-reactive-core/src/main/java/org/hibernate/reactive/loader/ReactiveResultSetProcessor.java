@@ -15,6 +15,7 @@
 import org.hibernate.loader.plan.exec.query.spi.NamedParameterContext;
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.session.ReactiveStatelessSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.transform.ResultTransformer;
 
@@ -61,7 +62,7 @@ default CompletionStage<Void> initializeEntity(
 				session,
 				(entityType, value, session1, owner, overridingEager)
 						-> entityType.isEager( overridingEager )
-								? ((ReactiveSession) session1).reactiveGet( entityType.getReturnedClass(), (Serializable) value )
+								? reactiveGet( session1, entityType.getReturnedClass(), (Serializable) value )
 								: entityType.resolve(value, session1, owner, overridingEager)
 		);
 
@@ -85,4 +86,16 @@ default CompletionStage<Void> initializeEntity(
 				listeners
 		) );
 	}
+
+	/**
+	 * Fetch an eager association using the given session, which
+	 * may be either a {@link ReactiveSession} or a
+	 * {@link ReactiveStatelessSession}.
+	 */
+	static CompletionStage<?> reactiveGet(SharedSessionContractImplementor session,
+										  Class<?> entityClass, Serializable id) {
+		return session instanceof ReactiveSession
+				? ( (ReactiveSession) session ).reactiveGet( entityClass, id )
+				: ( (ReactiveStatelessSession) session ).reactiveGet( entityClass, id );
+	}
 }
@@ -0,0 +1,63 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.loader.collection.impl;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.loader.collection.BasicCollectionJoinWalker;
+import org.hibernate.loader.collection.BasicCollectionLoader;
+import org.hibernate.persister.collection.QueryableCollection;
+import org.jboss.logging.Logger;
+
+/**
+ * A reactive loader for collections with a dedicated collection
+ * table, that is, for basic collections and many-to-many
+ * associations.
+ *
+ * @see BasicCollectionLoader
+ */
+public class ReactiveBasicCollectionLoader extends ReactiveCollectionLoader {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(CoreMessageLogger.class, BasicCollectionLoader.class.getName());
+
+	public ReactiveBasicCollectionLoader(
+			QueryableCollection collectionPersister,
+			SessionFactoryImplementor session,
+			LoadQueryInfluencers loadQueryInfluencers) throws MappingException {
+		this(collectionPersister, 1, session, loadQueryInfluencers);
+	}
+
+	public ReactiveBasicCollectionLoader(
+			QueryableCollection collectionPersister,
+			int batchSize,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers loadQueryInfluencers) throws MappingException {
+		this(collectionPersister, batchSize, null, factory, loadQueryInfluencers);
+	}
+
+	public ReactiveBasicCollectionLoader(
+			QueryableCollection collectionPersister,
+			int batchSize,
+			String subquery,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers loadQueryInfluencers) throws MappingException {
+		super(collectionPersister, factory, loadQueryInfluencers);
+
+		initFromWalker( new BasicCollectionJoinWalker(
+				collectionPersister,
+				batchSize,
+				subquery,
+				factory,
+				loadQueryInfluencers
+		) );
+
+		postInstantiate();
+		if (LOG.isDebugEnabled()) {
+			LOG.debugf("Static select for collection %s: %s", collectionPersister.getRole(), getSQLString());
+		}
+	}
+}
@@ -8,6 +8,7 @@
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.persister.collection.QueryableCollection;
+import org.hibernate.reactive.adaptor.impl.ArrayBatchFetch;
 import org.hibernate.reactive.loader.collection.ReactiveCollectionInitializer;
 
 /**
@@ -17,13 +18,18 @@
  * The {@link #getBuilder(SessionFactoryImplementor)} method selects
  * between {@link ReactivePaddedBatchingCollectionInitializerBuilder} and
  * {@link ReactiveDynamicBatchingCollectionInitializerBuilder} depending upon
- * the {@link org.hibernate.loader.BatchFetchStyle} selected.
+ * the {@link org.hibernate.loader.BatchFetchStyle} selected. Padding
+ * is pointless when {@link ArrayBatchFetch array batch fetching} is
+ * enabled, and so then the dynamic style is always used.
  *
  * @see org.hibernate.loader.entity.BatchingEntityLoaderBuilder
  */
 public abstract class ReactiveBatchingCollectionInitializerBuilder {
 
 	public static ReactiveBatchingCollectionInitializerBuilder getBuilder(SessionFactoryImplementor factory) {
+		if ( ArrayBatchFetch.isEnabled( factory ) ) {
+			return ReactiveDynamicBatchingCollectionInitializerBuilder.INSTANCE;
+		}
 		switch ( factory.getSettings().getBatchFetchStyle() ) {
 			case PADDED: {
 				return ReactivePaddedBatchingCollectionInitializerBuilder.INSTANCE;
@@ -106,7 +112,6 @@ protected ReactiveCollectionLoader buildNonBatchingLoader(
 		if (persister.isOneToMany()) {
 			return new ReactiveOneToManyLoader(persister, factory, influencers);
 		}
-		throw new UnsupportedOperationException();
-//		return new ReactiveBasicCollectionLoader(persister, factory, influencers);
+		return new ReactiveBasicCollectionLoader(persister, factory, influencers);
 	}
 }
@@ -10,11 +10,14 @@
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.loader.JoinWalker;
 import org.hibernate.loader.collection.BasicCollectionJoinWalker;
 import org.hibernate.loader.collection.OneToManyJoinWalker;
 import org.hibernate.persister.collection.QueryableCollection;
+import org.hibernate.reactive.adaptor.impl.ArrayBatchFetch;
+import org.hibernate.reactive.adaptor.impl.QueryParametersAdaptor;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.type.Type;
 
@@ -31,12 +34,16 @@
  *
  * Used when for {@link org.hibernate.loader.BatchFetchStyle#DYNAMIC} is selected.
  *
+ * If {@link ArrayBatchFetch array batch fetching} is enabled, the generated
+ * SQL has no placeholder, and the batch of keys is bound as a single array.
+ *
  * @see org.hibernate.loader.collection.DynamicBatchingCollectionInitializerBuilder.DynamicBatchingCollectionLoader
  */
 class ReactiveDynamicBatchingCollectionInitializer extends ReactiveCollectionLoader {
 
 	private final String sqlTemplate;
 	private final String alias;
+	private final boolean arrayParameter;
 
 	public ReactiveDynamicBatchingCollectionInitializer(
 			QueryableCollection collectionPersister,
@@ -44,6 +51,8 @@ public ReactiveDynamicBatchingCollectionInitializer(
 			LoadQueryInfluencers influencers) {
 		super( collectionPersister, factory, influencers );
 
+		this.arrayParameter =
+				ArrayBatchFetch.isEnabled( factory, collectionPersister.getKeyColumnNames().length );
 		JoinWalker walker = buildJoinWalker( collectionPersister, factory, influencers );
 		initFromWalker( walker );
 		this.sqlTemplate = walker.getSQLString();
@@ -72,7 +81,7 @@ protected StringBuilder whereString(String alias, String[] columnNames, String s
 						return super.whereString( alias, columnNames, subselect, batchSize );
 					}
 
-					return buildBatchFetchRestrictionFragment( alias, columnNames, getFactory().getDialect() );
+					return batchFetchRestriction( alias, columnNames, getFactory() );
 				}
 			};
 		}
@@ -84,12 +93,25 @@ protected StringBuilder whereString(String alias, String[] columnNames, String s
 						return super.whereString( alias, columnNames, subselect, batchSize );
 					}
 
-					return buildBatchFetchRestrictionFragment( alias, columnNames, getFactory().getDialect() );
+					return batchFetchRestriction( alias, columnNames, getFactory() );
 				}
 			};
 		}
 	}
 
+	private StringBuilder batchFetchRestriction(String alias, String[] columnNames, SessionFactoryImplementor factory) {
+		return arrayParameter
+				? ArrayBatchFetch.restriction( alias, columnNames )
+				: buildBatchFetchRestrictionFragment( alias, columnNames, factory.getDialect() );
+	}
+
+	@Override
+	public Object[] toParameterArray(QueryParameters queryParameters, SharedSessionContractImplementor session) {
+		return arrayParameter
+				? ArrayBatchFetch.toParameterArray( queryParameters, session )
+				: QueryParametersAdaptor.toParameterArray( queryParameters, session );
+	}
+
 	public final CompletionStage<Void> doBatchedCollectionLoad(
 			final SessionImplementor session,
 			final Serializable[] ids,
@@ -106,7 +128,7 @@ public final CompletionStage<Void> doBatchedCollectionLoad(
 		Arrays.fill( idTypes, type );
 		final QueryParameters queryParameters = new QueryParameters( idTypes, ids, ids );
 
-		final String sql = StringHelper.expandBatchIdPlaceholder(
+		final String sql = arrayParameter ? sqlTemplate : StringHelper.expandBatchIdPlaceholder(
 				sqlTemplate,
 				ids,
 				alias,
@@ -32,8 +32,7 @@ public ReactiveCollectionLoader createRealBatchingCollectionInitializer(
 		int[] batchSizes = ArrayHelper.getBatchSizes( maxBatchSize );
 		ReactiveCollectionLoader[] loaders = new ReactiveCollectionLoader[ batchSizes.length ];
 		for ( int i = 0; i < batchSizes.length; i++ ) {
-			throw new UnsupportedOperationException();
-//			loaders[i] = new ReactiveBasicCollectionLoader( persister, batchSizes[i], factory, loadQueryInfluencers );
+			loaders[i] = new ReactiveBasicCollectionLoader( persister, batchSizes[i], factory, loadQueryInfluencers );
 		}
 		return new ReactivePaddedBatchingCollectionInitializer( persister, batchSizes, loaders, factory, loadQueryInfluencers);
 	}
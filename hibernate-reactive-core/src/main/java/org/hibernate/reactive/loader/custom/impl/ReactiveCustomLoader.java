@@ -7,8 +7,6 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.QueryException;
-import org.hibernate.cache.spi.QueryKey;
-import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.engine.spi.*;
 import org.hibernate.loader.custom.CustomLoader;
@@ -21,14 +19,11 @@
 import org.hibernate.reactive.loader.ReactiveLoaderBasedResultSetProcessor;
 import org.hibernate.reactive.loader.ReactiveResultSetProcessor;
 import org.hibernate.transform.ResultTransformer;
-import org.hibernate.type.Type;
 
-import java.io.Serializable;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
-import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -45,10 +40,16 @@ public ReactiveCustomLoader(CustomQuery customQuery, SessionFactoryImplementor f
 		this.resultSetProcessor = new ReactiveLoaderBasedResultSetProcessor( this );
 	}
 
-	public CompletionStage<List<Object>> reactiveList(
+	/**
+	 * @param <T> the result type of the query, which the caller
+	 *            has already checked
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> CompletionStage<List<T>> reactiveList(
 			SharedSessionContractImplementor session,
 			QueryParameters queryParameters) throws HibernateException {
-		return reactiveListIgnoreQueryCache( getSQLString(), getQueryIdentifier(), session, queryParameters );
+		return reactiveListIgnoreQueryCache( getSQLString(), getQueryIdentifier(), session, queryParameters )
+				.thenApply( list -> (List<T>) (List<?>) list );
 	}
 
 	@Override
@@ -86,16 +87,6 @@ public boolean[] includeInResultRow() {
 		return super.includeInResultRow();
 	}
 
-	@Override @SuppressWarnings("unchecked")
-	public List<Object> getResultFromQueryCache(SessionImplementor session, QueryParameters queryParameters, Set<Serializable> querySpaces, Type[] resultTypes, QueryResultsCache queryCache, QueryKey key) {
-		return super.getResultFromQueryCache(session, queryParameters, querySpaces, resultTypes, queryCache, key);
-	}
-
-	@Override
-	public void putResultInQueryCache(SessionImplementor session, QueryParameters queryParameters, Type[] resultTypes, QueryResultsCache queryCache, QueryKey key, List<Object> cachableList) {
-		super.putResultInQueryCache(session, queryParameters, resultTypes, queryCache, key, cachableList);
-	}
-
 	@Override
 	public ResultTransformer resolveResultTransformer(ResultTransformer resultTransformer) {
 		return super.resolveResultTransformer(resultTransformer);
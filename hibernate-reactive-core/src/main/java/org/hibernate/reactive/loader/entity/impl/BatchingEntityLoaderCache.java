@@ -0,0 +1,109 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.loader.entity.impl;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.OuterJoinLoadable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the {@link ReactiveDynamicBatchingEntityLoader}s used by
+ * {@link ReactiveDynamicBatchingEntityLoaderBuilder#multiLoad} for
+ * a given entity persister, so that the load plan and SQL template
+ * are not rebuilt for every call.
+ * <p>
+ * The SQL template of a dynamic batching loader does not depend on
+ * the batch size, so there is one loader per {@link LockMode}, and
+ * the cache is therefore bounded. Loaders are only cached when the
+ * {@link LoadQueryInfluencers} of the session are in their default
+ * state, that is, with no enabled filters, fetch profiles, or entity
+ * graph, and when the {@link LockOptions} specify nothing but the
+ * lock mode, that is, with no timeout, lock scope, or lock modes for
+ * particular aliases, since any of these affects the generated SQL.
+ * <p>
+ * To reduce the number of distinct SQL strings, and hence prepared
+ * statements, batches of ids are {@link #pad padded} up to one of a
+ * small set of sizes.
+ */
+public final class BatchingEntityLoaderCache {
+
+	private final OuterJoinLoadable persister;
+	private final Map<LockMode, ReactiveDynamicBatchingEntityLoader> loaders = new ConcurrentHashMap<>();
+
+	public BatchingEntityLoaderCache(OuterJoinLoadable persister) {
+		this.persister = persister;
+	}
+
+	ReactiveDynamicBatchingEntityLoader loader(LockOptions lockOptions, SessionImplementor session) {
+		LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		if ( !isDefault( influencers ) || !isDefault( lockOptions ) ) {
+			return newLoader( lockOptions, session, influencers );
+		}
+		return loaders.computeIfAbsent(
+				lockOptions.getLockMode(),
+				lockMode -> newLoader( new LockOptions( lockMode ), session, LoadQueryInfluencers.NONE )
+		);
+	}
+
+	private ReactiveDynamicBatchingEntityLoader newLoader(
+			LockOptions lockOptions,
+			SessionImplementor session,
+			LoadQueryInfluencers influencers) {
+		return new ReactiveDynamicBatchingEntityLoader(
+				persister,
+				-1,
+				lockOptions,
+				session.getFactory(),
+				influencers
+		);
+	}
+
+	private static boolean isDefault(LockOptions lockOptions) {
+		return lockOptions.getTimeOut() == LockOptions.WAIT_FOREVER
+				&& !lockOptions.getScope()
+				&& !lockOptions.getAliasLockIterator().hasNext();
+	}
+
+	private static boolean isDefault(LoadQueryInfluencers influencers) {
+		return !influencers.hasEnabledFilters()
+				&& !influencers.hasEnabledFetchProfiles()
+				&& influencers.getInternalFetchProfile() == null
+				&& influencers.getEffectiveEntityGraph().getSemantic() == null;
+	}
+
+	/**
+	 * Pad the given batch of ids, by repeating the first id, up to
+	 * the next power of two, or to the next multiple of 64 for large
+	 * batches.
+	 */
+	static Serializable[] pad(Serializable[] ids) {
+		int size = ids.length;
+		int paddedSize = paddedSize( size );
+		if ( paddedSize == size ) {
+			return ids;
+		}
+		Serializable[] padded = Arrays.copyOf( ids, paddedSize );
+		Arrays.fill( padded, size, paddedSize, ids[0] );
+		return padded;
+	}
+
+	/**
+	 * @return the given size of a batch, rounded up to the next power
+	 *         of two, or to the next multiple of 64 for large batches
+	 */
+	public static int paddedSize(int size) {
+		return size <= 64
+				? Integer.highestOneBit( size ) == size ? size : Integer.highestOneBit( size ) << 1
+				: ( size + 63 ) / 64 * 64;
+	}
+}
@@ -49,7 +49,7 @@ protected ReactiveAbstractEntityLoader(
 	}
 
 	protected CompletionStage<List<Object>> doReactiveQueryAndInitializeNonLazyCollections(
-			final SessionImplementor session,
+			final SharedSessionContractImplementor session,
 			final QueryParameters queryParameters,
 			final boolean returnProxies) {
 		return doReactiveQueryAndInitializeNonLazyCollections(
@@ -70,7 +70,7 @@ protected CompletionStage<Object> load(
 			Boolean readOnly) {
 
 		return loadReactiveEntity(
-				(SessionImplementor) session,
+				session,
 				id,
 				uniqueKeyType,
 				optionalObject,
@@ -98,7 +98,7 @@ protected CompletionStage<Object> load(
 	}
 
 	protected CompletionStage<List<Object>> loadReactiveEntity(
-			final SessionImplementor session,
+			final SharedSessionContractImplementor session,
 			final Object id,
 			final Type identifierType,
 			final Object optionalObject,
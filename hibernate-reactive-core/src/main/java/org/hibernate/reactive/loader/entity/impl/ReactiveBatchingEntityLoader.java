@@ -8,7 +8,6 @@
 import org.hibernate.LockOptions;
 import org.hibernate.engine.internal.BatchFetchQueueHelper;
 import org.hibernate.engine.spi.QueryParameters;
-import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.entity.BatchingEntityLoaderBuilder;
 import org.hibernate.loader.entity.UniqueEntityLoader;
@@ -116,7 +115,7 @@ protected CompletionStage<Object> doBatchLoad(
 //			}
 
 		QueryParameters parameters = buildQueryParameters(id, ids, optionalObject, lockOptions, readOnly);
-		return loaderToUse.doReactiveQueryAndInitializeNonLazyCollections( (SessionImplementor) session, parameters, false )
+		return loaderToUse.doReactiveQueryAndInitializeNonLazyCollections( session, parameters, false )
 				.handle((list, err) -> {
 //						log.debug( "Done entity batch load" );
 					// The EntityKey for any entity that is not found will remain in the batch.
@@ -11,6 +11,7 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.loader.entity.UniqueEntityLoader;
 import org.hibernate.persister.entity.OuterJoinLoadable;
+import org.hibernate.reactive.adaptor.impl.ArrayBatchFetch;
 
 /**
  * Superclass of builders for batching entity loaders.
@@ -18,13 +19,18 @@
  * The {@link #getBuilder(SessionFactoryImplementor)} method selects
  * between {@link ReactivePaddedBatchingEntityLoaderBuilder} and
  * {@link ReactiveDynamicBatchingEntityLoaderBuilder} depending upon
- * the {@link org.hibernate.loader.BatchFetchStyle} selected.
+ * the {@link org.hibernate.loader.BatchFetchStyle} selected. Padding
+ * is pointless when {@link ArrayBatchFetch array batch fetching} is
+ * enabled, and so then the dynamic style is always used.
  *
  * @see org.hibernate.loader.entity.BatchingEntityLoaderBuilder
  */
 public class ReactiveBatchingEntityLoaderBuilder {
 
 	public static ReactiveBatchingEntityLoaderBuilder getBuilder(SessionFactoryImplementor factory) {
+		if ( ArrayBatchFetch.isEnabled( factory ) ) {
+			return ReactiveDynamicBatchingEntityLoaderBuilder.INSTANCE;
+		}
 		switch ( factory.getSessionFactoryOptions().getBatchFetchStyle() ) {
 			case PADDED:
 				return ReactivePaddedBatchingEntityLoaderBuilder.INSTANCE;
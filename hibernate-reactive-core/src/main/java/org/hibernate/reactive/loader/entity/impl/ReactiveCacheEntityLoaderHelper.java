@@ -0,0 +1,306 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.loader.entity.impl;
+
+import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.engine.internal.StatefulPersistenceContext;
+import org.hibernate.engine.internal.TwoPhaseLoad;
+import org.hibernate.engine.internal.Versioning;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.loader.entity.CacheEntityLoaderHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.pretty.MessageHelper;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
+import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.stat.internal.StatsHelper;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.Type;
+import org.hibernate.type.TypeHelper;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A reactive {@link CacheEntityLoaderHelper}, which reads entities
+ * from the second-level cache via the {@link ReactiveCacheAccess}
+ * service, instead of blocking on the cache access strategy.
+ *
+ * @see CacheEntityLoaderHelper#loadFromSecondLevelCache(LoadEvent, EntityPersister, EntityKey)
+ */
+public class ReactiveCacheEntityLoaderHelper {
+
+	public static final ReactiveCacheEntityLoaderHelper INSTANCE = new ReactiveCacheEntityLoaderHelper();
+
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( CacheEntityLoaderHelper.class );
+
+	private ReactiveCacheEntityLoaderHelper() {
+	}
+
+	/**
+	 * Attempts to load the entity from the second-level cache.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 *
+	 * @return The entity from the second-level cache, or null.
+	 */
+	public CompletionStage<Object> loadFromSecondLevelCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey entityKey) {
+		return getCachedEntry( event, persister )
+				.thenCompose( ce -> loadFromCachedEntry( event, persister, ce, entityKey ) );
+	}
+
+	/**
+	 * Obtains the second-level cache entry for the entity, without
+	 * associating it with the session, so that the entries of many
+	 * entities may be requested concurrently.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 *
+	 * @return The second-level cache entry, or null.
+	 *
+	 * @see #loadFromCachedEntry(LoadEvent, EntityPersister, Object, EntityKey)
+	 */
+	public CompletionStage<Object> getCachedEntry(
+			final LoadEvent event,
+			final EntityPersister persister) {
+
+		final EventSource source = event.getSession();
+		final boolean useCache = persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& event.getLockMode().lessThan( LockMode.READ );
+
+		if ( !useCache ) {
+			// we can't use cache here
+			return CompletionStages.nullFuture();
+		}
+
+		final SessionFactoryImplementor factory = source.getFactory();
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final Object ck = cache.generateCacheKey(
+				event.getEntityId(),
+				persister,
+				factory,
+				source.getTenantIdentifier()
+		);
+
+		return factory.getServiceRegistry().getService( ReactiveCacheAccess.class )
+				.get( source, cache, ck )
+				.thenApply( ce -> {
+					final StatisticsImplementor statistics = factory.getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						if ( ce == null ) {
+							statistics.entityCacheMiss(
+									StatsHelper.INSTANCE.getRootEntityRole( persister ),
+									cache.getRegion().getName()
+							);
+						}
+						else {
+							statistics.entityCacheHit(
+									StatsHelper.INSTANCE.getRootEntityRole( persister ),
+									cache.getRegion().getName()
+							);
+						}
+					}
+					return ce;
+				} );
+	}
+
+	/**
+	 * Converts a second-level cache entry obtained by
+	 * {@link #getCachedEntry(LoadEvent, EntityPersister)} into the
+	 * entity, associating it with the session.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param ce The second-level cache entry, or null
+	 * @param entityKey The entity key
+	 *
+	 * @return The entity from the second-level cache, or null.
+	 */
+	public CompletionStage<Object> loadFromCachedEntry(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final Object ce,
+			final EntityKey entityKey) {
+		return ce == null
+				? CompletionStages.nullFuture()
+				: processCachedEntry( event, persister, ce, entityKey );
+	}
+
+	private CompletionStage<Object> processCachedEntry(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final Object ce,
+			final EntityKey entityKey) {
+
+		final EventSource source = event.getSession();
+		final CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure( ce, source.getFactory() );
+		if ( entry.isReferenceEntry() ) {
+			if ( event.getInstanceToLoad() != null ) {
+				throw new HibernateException(
+						"Attempt to load entity [" + MessageHelper.infoString( persister, event.getEntityId(), source.getFactory() ) +
+								"] from cache using provided object instance, but cache is storing references"
+				);
+			}
+			return CompletionStages.completedFuture(
+					convertCacheReferenceEntryToEntity( (ReferenceCacheEntryImpl) entry, source, entityKey )
+			);
+		}
+		else if ( !persister.isSubclassEntityName( entry.getSubclass() ) ) {
+			// the cached entity is not an instance of the requested entity
+			return CompletionStages.nullFuture();
+		}
+		else {
+			return convertCacheEntryToEntity( entry, event.getEntityId(), persister, event, entityKey );
+		}
+	}
+
+	private Object convertCacheReferenceEntryToEntity(
+			ReferenceCacheEntryImpl referenceCacheEntry,
+			EventSource session,
+			EntityKey entityKey) {
+		final Object entity = referenceCacheEntry.getReference();
+		if ( entity == null ) {
+			throw new IllegalStateException(
+					"Reference cache entry contained null : " + referenceCacheEntry.toString() );
+		}
+
+		// make it circular-reference safe
+		if ( entity instanceof ManagedEntity ) {
+			( (StatefulPersistenceContext) session.getPersistenceContextInternal() )
+					.addReferenceEntry( entity, Status.READ_ONLY );
+		}
+		else {
+			TwoPhaseLoad.addUninitializedCachedEntity(
+					entityKey,
+					entity,
+					referenceCacheEntry.getSubclassPersister(),
+					LockMode.NONE,
+					referenceCacheEntry.getVersion(),
+					session
+			);
+		}
+		return entity;
+	}
+
+	private CompletionStage<Object> convertCacheEntryToEntity(
+			CacheEntry entry,
+			Serializable entityId,
+			EntityPersister persister,
+			LoadEvent event,
+			EntityKey entityKey) {
+
+		final EventSource session = event.getSession();
+		final SessionFactoryImplementor factory = session.getFactory();
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracef(
+					"Converting second-level cache entry [%s] into entity : %s",
+					entry,
+					MessageHelper.infoString( persister, entityId, factory )
+			);
+		}
+
+		final EntityPersister subclassPersister = factory.getMetamodel().entityPersister( entry.getSubclass() );
+		final Object optionalObject = event.getInstanceToLoad();
+		final Object entity = optionalObject == null
+				? session.instantiate( subclassPersister, entityId )
+				: optionalObject;
+
+		// make it circular-reference safe
+		TwoPhaseLoad.addUninitializedCachedEntity(
+				entityKey,
+				entity,
+				subclassPersister,
+				LockMode.NONE,
+				entry.getVersion(),
+				session
+		);
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Type[] types = subclassPersister.getPropertyTypes();
+		// initializes the entity by (desired) side-effect
+		final Object[] values = ( (StandardCacheEntryImpl) entry ).assemble(
+				entity,
+				entityId,
+				subclassPersister,
+				session.getInterceptor(),
+				session
+		);
+		if ( ( (StandardCacheEntryImpl) entry ).isDeepCopyNeeded() ) {
+			TypeHelper.deepCopy(
+					values,
+					types,
+					subclassPersister.getPropertyUpdateability(),
+					values,
+					session
+			);
+		}
+		final Object version = Versioning.getVersion( values, subclassPersister );
+		LOG.tracef( "Cached Version : %s", version );
+
+		final Object proxy = persistenceContext.getProxy( entityKey );
+		final boolean isReadOnly = proxy != null
+				// there is already a proxy for this impl
+				// only set the status to read-only if the proxy is read-only
+				? ( (HibernateProxy) proxy ).getHibernateLazyInitializer().isReadOnly()
+				: session.isDefaultReadOnly();
+
+		persistenceContext.addEntry(
+				entity,
+				( isReadOnly ? Status.READ_ONLY : Status.MANAGED ),
+				values,
+				null,
+				entityId,
+				version,
+				LockMode.NONE,
+				true,
+				subclassPersister,
+				false
+		);
+		subclassPersister.afterInitialize( entity, session );
+
+		return ( (ReactivePersistenceContextAdapter) persistenceContext ).reactiveInitializeNonLazyCollections()
+				.thenApply( v -> {
+					//PostLoad is needed for EJB3
+					final PostLoadEvent postLoadEvent = new PostLoadEvent( session )
+							.setEntity( entity )
+							.setId( entityId )
+							.setPersister( persister );
+					for ( PostLoadEventListener listener : factory.getServiceRegistry()
+							.getService( EventListenerRegistry.class )
+							.getEventListenerGroup( EventType.POST_LOAD )
+							.listeners() ) {
+						listener.onPostLoad( postLoadEvent );
+					}
+					return entity;
+				} );
+	}
+}
@@ -11,7 +11,6 @@
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
-import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.entity.UniqueEntityLoader;
@@ -98,7 +97,7 @@ public CompletionStage<Object> load(
 
 		QueryParameters qp = buildQueryParameters( id, idsToLoad, optionalObject, lockOptions, false );
 
-		return dynamicLoader.doEntityBatchFetch( (SessionImplementor) session, qp, idsToLoad )
+		return dynamicLoader.doEntityBatchFetch( session, qp, idsToLoad )
 				.thenApply( results -> {
 					// The EntityKey for any entity that is not found will remain in the batch.
 					// Explicitly remove the EntityKeys for entities that were not found to
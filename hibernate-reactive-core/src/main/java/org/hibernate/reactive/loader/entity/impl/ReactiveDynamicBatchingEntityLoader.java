@@ -11,10 +11,12 @@
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
-import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.loader.entity.EntityJoinWalker;
 import org.hibernate.persister.entity.OuterJoinLoadable;
+import org.hibernate.reactive.adaptor.impl.ArrayBatchFetch;
+import org.hibernate.reactive.adaptor.impl.QueryParametersAdaptor;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import java.io.Serializable;
@@ -29,6 +31,9 @@
  *
  * Used when for {@link org.hibernate.loader.BatchFetchStyle#DYNAMIC} is selected.
  *
+ * If {@link ArrayBatchFetch array batch fetching} is enabled, the generated
+ * SQL has no placeholder, and the batch of ids is bound as a single array.
+ *
  * @see org.hibernate.loader.entity.DynamicBatchingEntityLoaderBuilder.DynamicEntityLoader
  * @see ReactiveDynamicBatchingEntityDelegator
  */
@@ -36,33 +41,39 @@ class ReactiveDynamicBatchingEntityLoader extends ReactiveEntityLoader {
 
 	private final String sqlTemplate;
 	private final String alias;
+	private final boolean arrayParameter;
 
 	public ReactiveDynamicBatchingEntityLoader(
 			OuterJoinLoadable persister,
 			int maxBatchSize,
-			LockOptions lockOptions,
+			LockMode lockMode,
 			SessionFactoryImplementor factory,
 			LoadQueryInfluencers loadQueryInfluencers) {
-		this( persister, maxBatchSize, lockOptions.getLockMode(), factory, loadQueryInfluencers );
+		this( persister, maxBatchSize, new LockOptions( lockMode ), factory, loadQueryInfluencers );
 	}
 
 	public ReactiveDynamicBatchingEntityLoader(
 			OuterJoinLoadable persister,
 			int maxBatchSize,
-			LockMode lockMode,
+			LockOptions lockOptions,
 			SessionFactoryImplementor factory,
 			LoadQueryInfluencers loadQueryInfluencers) {
-		super( persister, -1, lockMode, factory, loadQueryInfluencers );
+		super( persister, -1, lockOptions, factory, loadQueryInfluencers );
 
+		final boolean arrayParameter =
+				ArrayBatchFetch.isEnabled( factory, persister.getIdentifierColumnNames().length );
 		EntityJoinWalker walker = new EntityJoinWalker(
 				persister,
 				persister.getIdentifierColumnNames(),
 				-1,
-				lockMode,
+				lockOptions,
 				factory,
 				loadQueryInfluencers) {
 			@Override
 			protected StringBuilder whereString(String alias, String[] columnNames, int batchSize) {
+				if ( arrayParameter ) {
+					return ArrayBatchFetch.restriction( alias, columnNames );
+				}
 				return buildBatchFetchRestrictionFragment(
 						alias,
 						columnNames,
@@ -74,13 +85,14 @@ protected StringBuilder whereString(String alias, String[] columnNames, int batc
 		initFromWalker( walker );
 		this.sqlTemplate = walker.getSQLString();
 		this.alias = walker.getAlias();
+		this.arrayParameter = arrayParameter;
 		postInstantiate();
 
 		if ( LOG.isDebugEnabled() ) {
 			LOG.debugf(
 					"SQL-template for dynamic entity [%s] batch-fetching [%s] : %s",
 					entityName,
-					lockMode,
+					lockOptions.getLockMode(),
 					sqlTemplate
 			);
 		}
@@ -93,15 +105,23 @@ protected boolean isSingleRowLoader() {
 
 	@Override
 	public boolean isSubselectLoadingEnabled() {
-		return persister.hasSubselectLoadableCollections();
+		// the subselect would be bound with one parameter per id
+		return !arrayParameter && persister.hasSubselectLoadableCollections();
+	}
+
+	@Override
+	public Object[] toParameterArray(QueryParameters queryParameters, SharedSessionContractImplementor session) {
+		return arrayParameter
+				? ArrayBatchFetch.toParameterArray( queryParameters, session )
+				: QueryParametersAdaptor.toParameterArray( queryParameters, session );
 	}
 
 	public CompletionStage<List<Object>> doEntityBatchFetch(
-			SessionImplementor session,
+			SharedSessionContractImplementor session,
 			QueryParameters queryParameters,
 			Serializable[] ids) {
 
-		final String sql = expandBatchIdPlaceholder(
+		final String sql = arrayParameter ? sqlTemplate : expandBatchIdPlaceholder(
 				sqlTemplate,
 				ids,
 				alias,
@@ -23,6 +23,7 @@
 import org.hibernate.loader.entity.UniqueEntityLoader;
 import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.entity.OuterJoinLoadable;
+import org.hibernate.reactive.adaptor.impl.ArrayBatchFetch;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.type.Type;
 
@@ -50,26 +51,94 @@ public CompletionStage<List<Object>> multiLoad(
 			Serializable[] ids,
 			SessionImplementor session,
 			MultiLoadOptions loadOptions) {
-		return loadOptions.isOrderReturnEnabled() ?
-				performOrderedMultiLoad(persister, ids, session, loadOptions) :
-				performUnorderedMultiLoad(persister, ids, session, loadOptions);
+		return multiLoad( persister, ids, session, loadOptions, new BatchingEntityLoaderCache( persister ) );
+	}
+
+	/**
+	 * Load the entities with the given ids, obtaining the batching loaders
+	 * from the given {@link BatchingEntityLoaderCache}.
+	 */
+	public CompletionStage<List<Object>> multiLoad(
+			OuterJoinLoadable persister,
+			Serializable[] ids,
+			SessionImplementor session,
+			MultiLoadOptions loadOptions,
+			BatchingEntityLoaderCache loaders) {
+		return loadFromSecondLevelCache( persister, ids, session, loadOptions )
+				.thenCompose( cached -> loadOptions.isOrderReturnEnabled() ?
+						performOrderedMultiLoad(persister, ids, cached, session, loadOptions, loaders) :
+						performUnorderedMultiLoad(persister, ids, cached, session, loadOptions, loaders) );
+	}
+
+	/**
+	 * Look for the entities with the given ids in the second-level cache
+	 * before loading them, since the cache is accessed asynchronously.
+	 * The cache entries are all requested at once, but the entities are
+	 * then associated with the session one at a time.
+	 *
+	 * @return the entities found in the cache, at the positions of their
+	 *         ids
+	 */
+	@SuppressWarnings("unchecked")
+	private static CompletionStage<Object[]> loadFromSecondLevelCache(
+			OuterJoinLoadable persister,
+			Serializable[] ids,
+			SessionImplementor session,
+			MultiLoadOptions loadOptions) {
+		final Object[] cached = new Object[ids.length];
+		if ( !loadOptions.isSecondLevelCacheCheckingEnabled() || !persister.canReadFromCache() ) {
+			return CompletionStages.completedFuture( cached );
+		}
+
+		final LockOptions lockOptions = loadOptions.getLockOptions() == null
+				? new LockOptions( LockMode.NONE )
+				: loadOptions.getLockOptions();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final ReactiveCacheEntityLoaderHelper helper = ReactiveCacheEntityLoaderHelper.INSTANCE;
+		final LoadEvent[] loadEvents = new LoadEvent[ids.length];
+		final CompletionStage<Object>[] entries = new CompletionStage[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			if ( !isManaged( ids[i], persister, persistenceContext, loadOptions ) ) {
+				loadEvents[i] = new LoadEvent(
+						ids[i],
+						persister.getMappedClass().getName(),
+						lockOptions,
+						(EventSource) session,
+						null
+				);
+				entries[i] = helper.getCachedEntry( loadEvents[i], persister );
+			}
+		}
+		return CompletionStages.loop( 0, ids.length, i -> {
+			if ( entries[i] == null ) {
+				return CompletionStages.voidFuture();
+			}
+			return entries[i].thenCompose( ce -> isManaged( ids[i], persister, persistenceContext, loadOptions )
+					// an earlier entity from the cache refers to this one
+					? CompletionStages.nullFuture()
+					: helper.loadFromCachedEntry( loadEvents[i], persister, ce, new EntityKey( ids[i], persister ) )
+			).thenAccept( entity -> cached[i] = entity );
+		} ).thenApply( v -> cached );
+	}
+
+	private static boolean isManaged(
+			Serializable id,
+			OuterJoinLoadable persister,
+			PersistenceContext persistenceContext,
+			MultiLoadOptions loadOptions) {
+		return loadOptions.isSessionCheckingEnabled()
+				&& persistenceContext.getEntity( new EntityKey( id, persister ) ) != null;
 	}
 
 	private CompletionStage<List<Object>> performOrderedBatchLoad(
 			List<Serializable> idsInBatch,
 			LockOptions lockOptions,
 			OuterJoinLoadable persister,
-			SessionImplementor session) {
-		final int batchSize =  idsInBatch.size();
-		final ReactiveDynamicBatchingEntityLoader batchingLoader = new ReactiveDynamicBatchingEntityLoader(
-				persister,
-				batchSize,
-				lockOptions,
-				session.getFactory(),
-				session.getLoadQueryInfluencers()
-		);
+			SessionImplementor session,
+			BatchingEntityLoaderCache loaders) {
+		final ReactiveDynamicBatchingEntityLoader batchingLoader = loaders.loader( lockOptions, session );
 
-		final Serializable[] idsInBatchArray = idsInBatch.toArray(new Serializable[0]);
+		final Serializable[] idsInBatchArray = padded( persister, idsInBatch.toArray(new Serializable[0]), session );
 		QueryParameters qp = buildMultiLoadQueryParameters( persister, idsInBatchArray, lockOptions );
 		CompletionStage<List<Object>> result = batchingLoader.doEntityBatchFetch(session, qp, idsInBatchArray);
 		idsInBatch.clear();
@@ -79,8 +148,10 @@ private CompletionStage<List<Object>> performOrderedBatchLoad(
 	private CompletionStage<List<Object>> performUnorderedMultiLoad(
 			OuterJoinLoadable persister,
 			Serializable[] ids,
+			Object[] cached,
 			SessionImplementor session,
-			MultiLoadOptions loadOptions) {
+			MultiLoadOptions loadOptions,
+			BatchingEntityLoaderCache loaders) {
 		assert !loadOptions.isOrderReturnEnabled();
 
 		final List<Object> result = CollectionHelper.arrayList( ids.length );
@@ -97,7 +168,8 @@ private CompletionStage<List<Object>> performUnorderedMultiLoad(
 			// list immediately and remove its id from the group of ids to load.
 			boolean foundAnyManagedEntities = false;
 			final List<Serializable> nonManagedIds = new ArrayList<>();
-			for ( Serializable id : ids ) {
+			for ( int i = 0; i < ids.length; i++ ) {
+				final Serializable id = ids[i];
 				final EntityKey entityKey = new EntityKey( id, persister );
 
 				LoadEvent loadEvent = new LoadEvent(
@@ -130,11 +202,8 @@ private CompletionStage<List<Object>> performUnorderedMultiLoad(
 				}
 
 				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-							loadEvent,
-							persister,
-							entityKey
-					);
+					// found in the second-level cache before the load
+					managedEntity = cached[i];
 				}
 
 				if ( managedEntity != null ) {
@@ -169,6 +238,10 @@ private CompletionStage<List<Object>> performUnorderedMultiLoad(
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( isArrayBatchFetchEnabled( persister, session ) ) {
+			// the SQL does not depend on the number of ids
+			maxBatchSize = numberOfIdsLeft;
+		}
 		else {
 			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect()
 					.getDefaultBatchLoadSizingStrategy()
@@ -183,16 +256,11 @@ private CompletionStage<List<Object>> performUnorderedMultiLoad(
 		int idPosition = 0;
 		while ( numberOfIdsLeft > 0 ) {
 			int batchSize =  Math.min( numberOfIdsLeft, maxBatchSize );
-			final ReactiveDynamicBatchingEntityLoader batchingLoader = new ReactiveDynamicBatchingEntityLoader(
-					persister,
-					batchSize,
-					lockOptions,
-					session.getFactory(),
-					session.getLoadQueryInfluencers()
-			);
+			final ReactiveDynamicBatchingEntityLoader batchingLoader = loaders.loader( lockOptions, session );
 
 			Serializable[] idsInBatch = new Serializable[batchSize];
 			System.arraycopy( ids, idPosition, idsInBatch, 0, batchSize );
+			idsInBatch = padded( persister, idsInBatch, session );
 
 			QueryParameters qp = buildMultiLoadQueryParameters( persister, idsInBatch, lockOptions );
 			CompletionStage<Void> fetch =
@@ -207,6 +275,21 @@ private CompletionStage<List<Object>> performUnorderedMultiLoad(
 		return stage.thenApply( v -> result );
 	}
 
+	private static boolean isArrayBatchFetchEnabled(OuterJoinLoadable persister, SessionImplementor session) {
+		return ArrayBatchFetch.isEnabled(
+				session.getFactory(),
+				persister.getIdentifierType().getColumnSpan( session.getFactory() )
+		);
+	}
+
+	/**
+	 * Pad the batch of ids to reduce the number of distinct SQL strings,
+	 * unless the SQL does not depend on the number of ids.
+	 */
+	private static Serializable[] padded(OuterJoinLoadable persister, Serializable[] ids, SessionImplementor session) {
+		return isArrayBatchFetchEnabled( persister, session ) ? ids : BatchingEntityLoaderCache.pad( ids );
+	}
+
 	private static QueryParameters buildMultiLoadQueryParameters(
 			OuterJoinLoadable persister,
 			Serializable[] ids,
@@ -247,8 +330,10 @@ protected UniqueEntityLoader buildBatchingLoader(
 	private CompletionStage<List<Object>> performOrderedMultiLoad(
 			OuterJoinLoadable persister,
 			Serializable[] ids,
+			Object[] cached,
 			SessionImplementor session,
-			MultiLoadOptions loadOptions) {
+			MultiLoadOptions loadOptions,
+			BatchingEntityLoaderCache loaders) {
 		assert loadOptions.isOrderReturnEnabled();
 
 		final List<Object> result = CollectionHelper.arrayList( ids.length );
@@ -261,6 +346,10 @@ private CompletionStage<List<Object>> performOrderedMultiLoad(
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( isArrayBatchFetchEnabled( persister, session ) ) {
+			// the SQL does not depend on the number of ids
+			maxBatchSize = ids.length;
+		}
 		else {
 			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
 					persister.getIdentifierType().getColumnSpan( session.getFactory() ),
@@ -309,13 +398,8 @@ private CompletionStage<List<Object>> performOrderedMultiLoad(
 				}
 
 				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-					// look for it in the SessionFactory
-					managedEntity = CacheEntityLoaderHelper.INSTANCE
-							.loadFromSecondLevelCache(
-									loadEvent,
-									persister,
-									entityKey
-							);
+					// found in the SessionFactory before the load
+					managedEntity = cached[i];
 				}
 
 				if ( managedEntity != null ) {
@@ -329,7 +413,7 @@ private CompletionStage<List<Object>> performOrderedMultiLoad(
 			idsInBatch.add( ids[i] );
 
 			if ( idsInBatch.size() >= maxBatchSize ) {
-				CompletionStage<List<Object>> load = performOrderedBatchLoad(idsInBatch, lockOptions, persister, session);
+				CompletionStage<List<Object>> load = performOrderedBatchLoad(idsInBatch, lockOptions, persister, session, loaders);
 				stage = stage.thenCompose( v -> load );
 			}
 
@@ -339,7 +423,7 @@ private CompletionStage<List<Object>> performOrderedMultiLoad(
 		}
 
 		if ( !idsInBatch.isEmpty() ) {
-			CompletionStage<List<Object>> load = performOrderedBatchLoad(idsInBatch, lockOptions, persister, session);
+			CompletionStage<List<Object>> load = performOrderedBatchLoad(idsInBatch, lockOptions, persister, session, loaders);
 			stage = stage.thenCompose( v -> load );
 		}
 
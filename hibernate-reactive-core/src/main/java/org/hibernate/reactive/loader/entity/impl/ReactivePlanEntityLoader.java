@@ -210,7 +210,7 @@ public CompletionStage<Object> load(Serializable id, Object optionalObject,
 		final QueryParameters parameters = buildQueryParameters( id, optionalObject, lockOptions, readOnly );
 		String sql = getStaticLoadQuery().getSqlStatement();
 
-		return doReactiveQueryAndInitializeNonLazyCollections( sql, (SessionImplementor) session, parameters )
+		return doReactiveQueryAndInitializeNonLazyCollections( sql, session, parameters )
 				.thenApply( results -> extractEntityResult( results, id ) )
 				.handle( (list, err) -> {
 					CompletionStages.logSqlException( err,
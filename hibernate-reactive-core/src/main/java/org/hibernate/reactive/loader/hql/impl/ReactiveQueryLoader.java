@@ -7,8 +7,6 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.QueryException;
-import org.hibernate.cache.spi.QueryKey;
-import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.engine.spi.*;
 import org.hibernate.hql.internal.ast.QueryTranslatorImpl;
@@ -21,6 +19,7 @@
 import org.hibernate.reactive.loader.CachingReactiveLoader;
 import org.hibernate.reactive.loader.ReactiveLoaderBasedResultSetProcessor;
 import org.hibernate.reactive.loader.ReactiveResultSetProcessor;
+import org.hibernate.reactive.util.impl.ChunkPublisher;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
@@ -81,7 +80,7 @@ public CompletionStage<List<Object>> reactiveExtractResults(ResultSet rs,
 	}
 
 	public CompletionStage<List<Object>> reactiveList(
-			SessionImplementor session,
+			SharedSessionContractImplementor session,
 			QueryParameters queryParameters) throws HibernateException {
 		checkQuery( queryParameters );
 		return reactiveList(
@@ -92,13 +91,38 @@ public CompletionStage<List<Object>> reactiveList(
 		);
 	}
 
+	/**
+	 * Return the query results incrementally, fetching the given
+	 * number of rows at a time using a database cursor. The query
+	 * cache is never used.
+	 */
+	public CompletionStage<ChunkPublisher.Source<Object>> reactiveListWithCursor(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters,
+			int fetchSize) throws HibernateException {
+		checkQuery( queryParameters );
+		return doReactiveQueryWithCursor( getSQLString(), session, queryParameters, fetchSize, true, null )
+				.thenApply( source -> new ChunkPublisher.Source<Object>() {
+					@Override
+					public CompletionStage<List<Object>> next() {
+						return source.next().thenApply( result -> result == null ? null
+								: getResultList( result, queryParameters.getResultTransformer() ) );
+					}
+
+					@Override
+					public CompletionStage<Void> close() {
+						return source.close();
+					}
+				} );
+	}
+
 	/**
 	 * Return the query results, using the query cache, called
 	 * by subclasses that implement cacheable queries
 	 * @see QueryLoader#list(SharedSessionContractImplementor, QueryParameters, Set, Type[])
 	 */
 	protected CompletionStage<List<Object>> reactiveList(
-			final SessionImplementor session,
+			final SharedSessionContractImplementor session,
 			final QueryParameters queryParameters,
 			final Set<Serializable> querySpaces,
 			final Type[] resultTypes) throws HibernateException {
@@ -142,16 +166,6 @@ public boolean[] includeInResultRow() {
 		return super.includeInResultRow();
 	}
 
-	@Override @SuppressWarnings("unchecked")
-	public List<Object> getResultFromQueryCache(SessionImplementor session, QueryParameters queryParameters, Set<Serializable> querySpaces, Type[] resultTypes, QueryResultsCache queryCache, QueryKey key) {
-		return super.getResultFromQueryCache(session, queryParameters, querySpaces, resultTypes, queryCache, key);
-	}
-
-	@Override
-	public void putResultInQueryCache(SessionImplementor session, QueryParameters queryParameters, Type[] resultTypes, QueryResultsCache queryCache, QueryKey key, List<Object> cachableList) {
-		super.putResultInQueryCache(session, queryParameters, resultTypes, queryCache, key, cachableList);
-	}
-
 	@Override
 	public ResultTransformer resolveResultTransformer(ResultTransformer resultTransformer) {
 		return super.resolveResultTransformer(resultTransformer);
@@ -5,24 +5,30 @@
  */
 package org.hibernate.reactive.mutiny.impl;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.LockMode;
 import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.reactive.session.ReactiveQuery;
 
 import javax.persistence.Parameter;
 import java.util.List;
 
+import static org.hibernate.reactive.mutiny.impl.Unis.uni;
+
 /**
  * Implementation of {@link Mutiny.Query}.
  */
 public class MutinyQueryImpl<R> implements Mutiny.Query<R> {
 
+	private final ReactiveConnectionSupplier session;
 	private final ReactiveQuery<R> delegate;
 
-	public MutinyQueryImpl(ReactiveQuery<R> delegate) {
+	public MutinyQueryImpl(ReactiveConnectionSupplier session, ReactiveQuery<R> delegate) {
+		this.session = session;
 		this.delegate = delegate;
 	}
 
@@ -66,6 +72,12 @@ public int getFirstResult() {
 		return delegate.getFirstResult();
 	}
 
+	@Override
+	public Mutiny.Query<R> setFetchSize(int fetchSize) {
+		delegate.setFetchSize( fetchSize );
+		return this;
+	}
+
 	@Override
 	public Mutiny.Query<R> setReadOnly(boolean readOnly) {
 		delegate.setReadOnly( readOnly );
@@ -131,17 +143,22 @@ public FlushMode getFlushMode() {
 
 	@Override
 	public Uni<Integer> executeUpdate() {
-		return Uni.createFrom().completionStage( delegate.executeReactiveUpdate() );
+		return uni( session, () -> delegate.executeReactiveUpdate() );
 	}
 
 	@Override
 	public Uni<R> getSingleResult() {
-		return Uni.createFrom().completionStage( delegate.getReactiveSingleResult() );
+		return uni( session, () -> delegate.getReactiveSingleResult() );
 	}
 
 	@Override
 	public Uni<List<R>> getResultList() {
-		return Uni.createFrom().completionStage( delegate.getReactiveResultList() );
+		return uni( session, () -> delegate.getReactiveResultList() );
+	}
+
+	@Override
+	public Multi<R> getResults() {
+		return Multi.createFrom().publisher( delegate.getReactiveResultStream() );
 	}
 
 }
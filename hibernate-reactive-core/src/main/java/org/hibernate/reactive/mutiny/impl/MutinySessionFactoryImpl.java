@@ -12,6 +12,8 @@
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.session.impl.ReactiveCriteriaBuilderImpl;
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
+import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
+import org.hibernate.stat.Statistics;
 
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.metamodel.Metamodel;
@@ -48,7 +50,7 @@ public Mutiny.Session createSession() {
 	public Uni<Mutiny.Session> openSession() throws HibernateException {
 		ReactiveConnectionPool pool = delegate.getServiceRegistry()
 				.getService(ReactiveConnectionPool.class);
-		return Uni.createFrom().completionStage( pool.getConnection() )
+		return Uni.createFrom().completionStage( pool::getConnection )
 				.map( reactiveConnection -> new ReactiveSessionImpl(
 						delegate,
 						new SessionFactoryImpl.SessionBuilderImpl<>(delegate),
@@ -69,6 +71,26 @@ public <T> Uni<T> withTransaction(BiFunction<Mutiny.Session, Mutiny.Transaction,
 		return withSession( (s) -> s.withTransaction( (t) -> work.apply(s, t) ) );
 	}
 
+	@Override
+	public Uni<Mutiny.StatelessSession> openStatelessSession() {
+		ReactiveConnectionPool pool = delegate.getServiceRegistry()
+				.getService(ReactiveConnectionPool.class);
+		return Uni.createFrom().completionStage( pool::getConnection )
+				.map( reactiveConnection -> new ReactiveStatelessSessionImpl(
+						delegate,
+						new SessionFactoryImpl.StatelessSessionBuilderImpl(delegate),
+						reactiveConnection
+				) )
+				.map( MutinyStatelessSessionImpl::new );
+	}
+
+	@Override
+	public <T> Uni<T> withStatelessSession(Function<Mutiny.StatelessSession, Uni<T>> work) {
+		return openStatelessSession().flatMap(
+				session -> work.apply( session ).on().termination( session::close )
+		);
+	}
+
 	@Override
 	public CriteriaBuilder getCriteriaBuilder() {
 		return new ReactiveCriteriaBuilderImpl( delegate );
@@ -79,6 +101,11 @@ public Metamodel getMetamodel() {
 		return delegate.getMetamodel();
 	}
 
+	@Override
+	public Statistics getStatistics() {
+		return delegate.getStatistics();
+	}
+
 	@Override
 	public void close() {
 		delegate.close();
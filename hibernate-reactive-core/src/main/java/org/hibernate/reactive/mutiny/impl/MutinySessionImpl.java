@@ -30,6 +30,7 @@
 import java.util.function.Function;
 
 import static java.util.Collections.singletonMap;
+import static org.hibernate.reactive.mutiny.impl.Unis.uni;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
 
 /**
@@ -48,23 +49,23 @@ public MutinySessionImpl(ReactiveSession session) {
 	@Override
 	public Uni<Mutiny.Session> flush() {
 //		checkOpen();
-		return Uni.createFrom().completionStage( delegate.reactiveFlush() )
+		return uni( delegate, () -> delegate.reactiveFlush() )
 				.map( v-> this );
 	}
 
 	@Override
 	public <T> Uni<T> fetch(T association) {
-		return Uni.createFrom().completionStage( delegate.reactiveFetch(association, false) );
+		return uni( delegate, () -> delegate.reactiveFetch(association, false) );
 	}
 
 	@Override
 	public <E, T> Uni<T> fetch(E entity, Attribute<E, T> field) {
-		return Uni.createFrom().completionStage( delegate.reactiveFetch(entity, field) );
+		return uni( delegate, () -> delegate.reactiveFetch(entity, field) );
 	}
 
 	@Override
 	public <T> Uni<T> unproxy(T association) {
-		return Uni.createFrom().completionStage( delegate.reactiveFetch(association, true) );
+		return uni( delegate, () -> delegate.reactiveFetch(association, true) );
 	}
 
 	@Override
@@ -86,99 +87,110 @@ public boolean contains(Object entity) {
 
 	@Override
 	public <T> Uni<T> find(Class<T> entityClass, Object primaryKey) {
-		return Uni.createFrom().completionStage( delegate.reactiveFind( entityClass, primaryKey, null, null ) );
+		return uni( delegate, () -> delegate.reactiveFind( entityClass, primaryKey, null, null ) );
 	}
 
 	@Override
 	public <T> Uni<List<T>> find(Class<T> entityClass, Object... ids) {
-		return Uni.createFrom().completionStage( delegate.reactiveFind( entityClass, ids ) );
+		return uni( delegate, () -> delegate.reactiveFind( entityClass, ids ) );
 	}
 
 	public <T> Uni<T> find(
 			Class<T> entityClass,
 			Object primaryKey,
 			Map<String, Object> properties) {
-		return Uni.createFrom().completionStage( delegate.reactiveFind( entityClass, primaryKey, null, properties ) );
+		return uni( delegate, () -> delegate.reactiveFind( entityClass, primaryKey, null, properties ) );
 	}
 
 	public <T> Uni<T> find(Class<T> entityClass, Object primaryKey, LockMode lockMode) {
-		return Uni.createFrom().completionStage( delegate.reactiveFind( entityClass, primaryKey, lockMode, null ) );
+		return uni( delegate, () -> delegate.reactiveFind( entityClass, primaryKey, lockMode, null ) );
 	}
 
 	@Override
 	public <T> Uni<T> find(EntityGraph<T> entityGraph, Object id) {
 		Class<T> entityClass = ((RootGraphImplementor<T>) entityGraph).getGraphedType().getJavaType();
-		return Uni.createFrom().completionStage( delegate.reactiveFind( entityClass, id, null,
+		return uni( delegate, () -> delegate.reactiveFind( entityClass, id, null,
 				singletonMap( GraphSemantic.FETCH.getJpaHintName(), entityGraph ) ) );
 	}
 
 	@Override
 	public Uni<Mutiny.Session> persist(Object entity) {
-		return Uni.createFrom().completionStage( delegate.reactivePersist( entity ) )
+		return uni( delegate, () -> delegate.reactivePersist( entity ) )
 				.map( v-> this );
 	}
 
 	@Override
 	public Uni<Mutiny.Session> persist(Object... entity) {
-		return Uni.createFrom().completionStage( applyToAll( delegate::reactivePersist, entity ) )
+		return uni( delegate, () -> delegate.reactivePersistAll( entity ) )
 				.map( v-> this );
 	}
 
 	@Override
 	public Uni<Mutiny.Session> remove(Object entity) {
-		return Uni.createFrom().completionStage( delegate.reactiveRemove( entity ) )
+		return uni( delegate, () -> delegate.reactiveRemove( entity ) )
 				.map( v-> this );
 	}
 
 	@Override
 	public Uni<Mutiny.Session> remove(Object... entity) {
-		return Uni.createFrom().completionStage( applyToAll( delegate::reactiveRemove, entity ) )
+		return uni( delegate, () -> applyToAll( delegate::reactiveRemove, entity ) )
 				.map( v-> this );
 	}
 
 	@Override
 	public <T> Uni<T> merge(T entity) {
-		return Uni.createFrom().completionStage( delegate.reactiveMerge( entity ) );
+		return uni( delegate, () -> delegate.reactiveMerge( entity ) );
 	}
 
 	@Override
 	public <T> Uni<Void> merge(T... entity) {
-		return Uni.createFrom().completionStage( applyToAll( delegate::reactiveMerge, entity ) )
-				.map( v-> null );
+		return uni( delegate, () -> delegate.reactiveMergeAll( entity ) );
+	}
+
+	@Override
+	public Uni<Mutiny.Session> upsert(Object entity) {
+		return uni( delegate, () -> delegate.reactiveUpsert( entity ) )
+				.map( v -> this );
 	}
 
 	@Override
 	public Uni<Mutiny.Session> refresh(Object entity) {
-		return Uni.createFrom().completionStage( delegate.reactiveRefresh( entity, LockMode.NONE ) )
+		return uni( delegate, () -> delegate.reactiveRefresh( entity, LockMode.NONE ) )
 				.map( v-> this );
 	}
 
 	@Override
 	public Uni<Mutiny.Session> refresh(Object entity, LockMode lockMode) {
-		return Uni.createFrom().completionStage( delegate.reactiveRefresh( entity, lockMode ) )
+		return uni( delegate, () -> delegate.reactiveRefresh( entity, lockMode ) )
 				.map( v-> this );
 	}
 
 	@Override
 	public Uni<Mutiny.Session> refresh(Object... entity) {
-		return Uni.createFrom().completionStage( applyToAll( e -> delegate.reactiveRefresh( e, LockMode.NONE ), entity ) )
+		return uni( delegate, () -> delegate.reactiveRefreshAll( LockMode.NONE, entity ) )
 				.map( v-> this );
 	}
 
 	@Override
 	public Uni<Mutiny.Session> lock(Object entity, LockMode lockMode) {
-		return Uni.createFrom().completionStage( delegate.reactiveLock( entity, lockMode ) )
+		return uni( delegate, () -> delegate.reactiveLock( entity, lockMode ) )
+				.map( v -> this );
+	}
+
+	@Override
+	public Uni<Mutiny.Session> lock(LockMode lockMode, Object... entities) {
+		return uni( delegate, () -> delegate.reactiveLockAll( lockMode, entities ) )
 				.map( v -> this );
 	}
 
 	@Override
 	public <R> Mutiny.Query<R> createQuery(String jpql, Class<R> resultType) {
-		return new MutinyQueryImpl<>( delegate.createReactiveQuery( jpql, resultType ) );
+		return new MutinyQueryImpl<>( delegate, delegate.createReactiveQuery( jpql, resultType ) );
 	}
 
 	@Override
 	public <R> Mutiny.Query<R> createQuery(String jpql) {
-		return new MutinyQueryImpl<>( delegate.createReactiveQuery( jpql ) );
+		return new MutinyQueryImpl<>( delegate, delegate.createReactiveQuery( jpql ) );
 	}
 
 	@Override
@@ -187,46 +199,46 @@ public <R> Mutiny.Query<R> createNativeQuery(String sql, Class<R> resultType) {
 		final MetamodelImplementor metamodel = delegate.getFactory().getMetamodel();
 		final boolean knownType = metamodel.entityPersisters().containsKey( typeName );
 		if ( knownType ) {
-			return new MutinyQueryImpl<>( delegate.createReactiveNativeQuery( sql, resultType ) );
+			return new MutinyQueryImpl<>( delegate, delegate.createReactiveNativeQuery( sql, resultType ) );
 		}
 		else {
-			return new MutinyQueryImpl<>( delegate.createReactiveNativeQuery( sql ) );
+			return new MutinyQueryImpl<>( delegate, delegate.createReactiveNativeQuery( sql ) );
 		}
 	}
 
 	@Override
 	public <R> Mutiny.Query<R> createNativeQuery(String sql, ResultSetMapping<R> resultSetMapping) {
-		return new MutinyQueryImpl<>( delegate.createReactiveNativeQuery( sql, resultSetMapping.getName() ) );
+		return new MutinyQueryImpl<>( delegate, delegate.createReactiveNativeQuery( sql, resultSetMapping.getName() ) );
 	}
 
 	@Override
 	public Mutiny.Query<Integer> createNativeQuery(String sql) {
-		return new MutinyQueryImpl<>( delegate.createReactiveNativeQuery( sql ) );
+		return new MutinyQueryImpl<>( delegate, delegate.createReactiveNativeQuery( sql ) );
 	}
 
 	@Override
 	public <R> Mutiny.Query<R> createNamedQuery(String name) {
-		return new MutinyQueryImpl<>( delegate.createReactiveNamedQuery( name ) );
+		return new MutinyQueryImpl<>( delegate, delegate.createReactiveNamedQuery( name ) );
 	}
 
 	@Override
 	public <R> Mutiny.Query<R> createNamedQuery(String name, Class<R> resultType) {
-		return new MutinyQueryImpl<>( delegate.createReactiveNamedQuery( name, resultType ) );
+		return new MutinyQueryImpl<>( delegate, delegate.createReactiveNamedQuery( name, resultType ) );
 	}
 
 	@Override @SuppressWarnings("unchecked")
 	public <R> Mutiny.Query<R> createQuery(CriteriaQuery<R> criteriaQuery) {
-		return new MutinyQueryImpl<>( delegate.createReactiveQuery( (Criteria<R>) criteriaQuery) );
+		return new MutinyQueryImpl<>( delegate, delegate.createReactiveQuery( (Criteria<R>) criteriaQuery) );
 	}
 
 	@Override @SuppressWarnings("unchecked")
 	public <R> Mutiny.Query<R> createQuery(CriteriaUpdate<R> criteriaUpdate) {
-		return new MutinyQueryImpl<>( delegate.createReactiveQuery( (Criteria<R>) criteriaUpdate) );
+		return new MutinyQueryImpl<>( delegate, delegate.createReactiveQuery( (Criteria<R>) criteriaUpdate) );
 	}
 
 	@Override @SuppressWarnings("unchecked")
 	public <R> Mutiny.Query<R> createQuery(CriteriaDelete<R> criteriaDelete) {
-		return new MutinyQueryImpl<>( delegate.createReactiveQuery( (Criteria<R>) criteriaDelete) );
+		return new MutinyQueryImpl<>( delegate, delegate.createReactiveQuery( (Criteria<R>) criteriaDelete) );
 	}
 
 	@Override
@@ -390,15 +402,15 @@ Uni<T> execute(Function<Mutiny.Transaction, Uni<T>> work) {
 		}
 
 		Uni<Void> flush() {
-			return Uni.createFrom().completionStage( delegate.reactiveAutoflush() );
+			return uni( delegate, () -> delegate.reactiveAutoflush() );
 		}
 
 		Uni<Void> begin() {
-			return Uni.createFrom().completionStage( delegate.getReactiveConnection().beginTransaction() );
+			return Uni.createFrom().completionStage( () -> delegate.getReactiveConnection().beginTransaction() );
 		}
 
 		Uni<Void> end() {
-			return Uni.createFrom().completionStage( rollback
+			return Uni.createFrom().completionStage( () -> rollback
 					? delegate.getReactiveConnection().rollbackTransaction()
 					: delegate.getReactiveConnection().commitTransaction()
 			);
@@ -451,11 +463,7 @@ else if ( entity.length==1 ) {
 			return op.apply( entity[0] );
 		}
 
-		CompletionStage<T> stage = CompletionStages.nullFuture();
-		for (Object e: entity) {
-			stage = stage.thenCompose( v -> op.apply(e) );
-		}
-		return stage;
+		return CompletionStages.loop( entity, op ).thenApply( v -> null );
 	}
 
 }
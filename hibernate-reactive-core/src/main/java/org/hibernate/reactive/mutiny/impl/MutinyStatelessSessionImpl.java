@@ -0,0 +1,160 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.mutiny.impl;
+
+import io.smallrye.mutiny.Uni;
+import org.hibernate.LockMode;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.session.ReactiveStatelessSession;
+
+import java.util.function.Function;
+
+import static org.hibernate.reactive.mutiny.impl.Unis.uni;
+import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
+
+/**
+ * Implements the {@link Mutiny.StatelessSession} API. This delegating
+ * class is needed to avoid name clashes when implementing both
+ * {@code StatelessSession} and {@link org.hibernate.StatelessSession}.
+ */
+public class MutinyStatelessSessionImpl implements Mutiny.StatelessSession {
+
+	private final ReactiveStatelessSession delegate;
+
+	public MutinyStatelessSessionImpl(ReactiveStatelessSession delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public <T> Uni<T> get(Class<T> entityClass, Object id) {
+		return uni( delegate, () -> delegate.reactiveGet( entityClass, id ) );
+	}
+
+	@Override
+	public <T> Uni<T> get(Class<T> entityClass, Object id, LockMode lockMode) {
+		return uni( delegate, () -> delegate.reactiveGet( entityClass, id, lockMode ) );
+	}
+
+	@Override
+	public <R> Mutiny.Query<R> createQuery(String queryString) {
+		return new MutinyQueryImpl<>( delegate, delegate.createReactiveQuery( queryString ) );
+	}
+
+	@Override
+	public <R> Mutiny.Query<R> createQuery(String queryString, Class<R> resultType) {
+		return new MutinyQueryImpl<>( delegate, delegate.createReactiveQuery( queryString, resultType ) );
+	}
+
+	@Override
+	public <R> Mutiny.Query<R> createNativeQuery(String queryString, Class<R> resultType) {
+		final String typeName = resultType.getName();
+		final MetamodelImplementor metamodel = delegate.getFactory().getMetamodel();
+		final boolean knownType = metamodel.entityPersisters().containsKey( typeName );
+		if ( knownType ) {
+			return new MutinyQueryImpl<>( delegate, delegate.createReactiveNativeQuery( queryString, resultType ) );
+		}
+		else {
+			return new MutinyQueryImpl<>( delegate, delegate.createReactiveNativeQuery( queryString ) );
+		}
+	}
+
+	@Override
+	public Mutiny.Query<Integer> createNativeQuery(String queryString) {
+		return new MutinyQueryImpl<>( delegate, delegate.createReactiveNativeQuery( queryString ) );
+	}
+
+	@Override
+	public Uni<Void> insert(Object entity) {
+		return uni( delegate, () -> delegate.reactiveInsert( entity ) );
+	}
+
+	@Override
+	public Uni<Void> delete(Object entity) {
+		return uni( delegate, () -> delegate.reactiveDelete( entity ) );
+	}
+
+	@Override
+	public Uni<Void> update(Object entity) {
+		return uni( delegate, () -> delegate.reactiveUpdate( entity ) );
+	}
+
+	@Override
+	public <T> Uni<T> withTransaction(Function<Mutiny.Transaction, Uni<T>> work) {
+		return new Transaction<T>().execute( work );
+	}
+
+	private class Transaction<T> implements Mutiny.Transaction {
+		boolean rollback;
+		Throwable error;
+
+		Uni<T> execute(Function<Mutiny.Transaction, Uni<T>> work) {
+			return begin()
+					.flatMap( v -> work.apply( this ) )
+					// have to capture the error here and pass it along,
+					// since we can't just return a CompletionStage that
+					// rolls back the transaction from the handle() function
+					.on().termination( this::processError )
+					// finally, commit or rollback the transaction, and
+					// then rethrow the caught error if necessary
+					.flatMap(
+							result -> end()
+									// make sure that if rollback() throws,
+									// the original error doesn't get swallowed
+									.on().termination( this::processError )
+									// finally rethrow the original error, if any
+									.map( v -> returnOrRethrow( error, result ) )
+					);
+		}
+
+		Uni<Void> begin() {
+			return Uni.createFrom().completionStage( () -> delegate.getReactiveConnection().beginTransaction() );
+		}
+
+		Uni<Void> end() {
+			return Uni.createFrom().completionStage( () -> rollback
+					? delegate.getReactiveConnection().rollbackTransaction()
+					: delegate.getReactiveConnection().commitTransaction()
+			);
+		}
+
+		<R> R processError(R result, Throwable e, boolean canceled) {
+			if ( canceled ) {
+				rollback = true;
+			}
+			if ( e!=null ) {
+				rollback = true;
+				if (error == null) {
+					error = e;
+				}
+				else {
+					error.addSuppressed(e);
+				}
+			}
+			return result;
+		}
+
+		@Override
+		public void markForRollback() {
+			rollback = true;
+		}
+
+		@Override
+		public boolean isMarkedForRollback() {
+			return rollback;
+		}
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	@Override
+	public boolean isOpen() {
+		return delegate.isOpen();
+	}
+}
@@ -0,0 +1,64 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.mutiny.impl;
+
+import io.smallrye.mutiny.Uni;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * Creates the {@link Uni}s returned by the Mutiny API.
+ */
+final class Unis {
+
+	private Unis() {
+	}
+
+	/**
+	 * A {@link Uni} which starts the given work, using the connection
+	 * of the given session, when it is subscribed. The {@code Uni} is
+	 * completed directly by the {@link CompletionStage} of the work,
+	 * without any intermediate operator or future.
+	 * <p>
+	 * If the subscription is cancelled before the work completes, the
+	 * work of the connection which has not yet started is
+	 * {@link ReactiveConnection#cancel() cancelled}. This affects every
+	 * later operation of the session, not only the cancelled one, since
+	 * the session is left in an unknown state by the interrupted work,
+	 * and so it must then be closed, as after any failure.
+	 */
+	static <T> Uni<T> uni(ReactiveConnectionSupplier session, Supplier<CompletionStage<T>> work) {
+		return Uni.createFrom().emitter( emitter -> {
+			CompletionStage<T> stage;
+			try {
+				stage = work.get();
+			}
+			catch (Throwable e) {
+				emitter.fail( e );
+				return;
+			}
+			emitter.onTermination( () -> {
+				// the termination of a Uni whose work is not
+				// yet complete can only be a cancellation
+				if ( !stage.toCompletableFuture().isDone() ) {
+					session.getReactiveConnection().cancel();
+				}
+			} );
+			stage.whenComplete( (result, error) -> {
+				if ( error != null ) {
+					emitter.fail( error instanceof CompletionException ? error.getCause() : error );
+				}
+				else {
+					emitter.complete( result );
+				}
+			} );
+		} );
+	}
+}
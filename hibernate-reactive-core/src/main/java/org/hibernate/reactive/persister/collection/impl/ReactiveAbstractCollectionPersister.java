@@ -0,0 +1,299 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.persister.collection.impl;
+
+import org.hibernate.HibernateException;
+import org.hibernate.JDBCException;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.ExecuteUpdateResultCheckStyle;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.reactive.util.impl.CompletionStages;
+import org.jboss.logging.Logger;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.concurrent.CompletionStage;
+
+import static org.hibernate.jdbc.Expectations.appropriateExpectation;
+import static org.hibernate.pretty.MessageHelper.collectionInfoString;
+
+/**
+ * An abstract implementation of {@link ReactiveCollectionPersister}
+ * whose concrete implementations each extend a concrete subclass of
+ * {@link AbstractCollectionPersister}, one for collections with a
+ * dedicated collection table, and one for one-to-many associations.
+ * Therefore, like {@code ReactiveAbstractEntityPersister}, this
+ * interface is defined as a mixin.
+ * <p>
+ * Every row of a collection is inserted, updated, or deleted by a
+ * separate statement, but the statements are submitted for batching,
+ * so that, if {@code hibernate.jdbc.batch_size} is set, the rows
+ * written by consecutive actions for the same collection role are
+ * sent to the database together.
+ *
+ * Concrete implementations of this interface _must_ also extend
+ * {@code AbstractCollectionPersister} or one of its concrete
+ * subclasses.
+ *
+ * @see ReactiveBasicCollectionPersister
+ * @see ReactiveOneToManyPersister
+ */
+public interface ReactiveAbstractCollectionPersister extends ReactiveCollectionPersister {
+	Logger log = Logger.getLogger( AbstractCollectionPersister.class );
+
+	default ReactiveConnection getReactiveConnection(SharedSessionContractImplementor session) {
+		return ((ReactiveConnectionSupplier) session).getReactiveConnection();
+	}
+
+	@Override
+	default CompletionStage<Void> recreateReactive(
+			PersistentCollection collection,
+			Serializable id,
+			SharedSessionContractImplementor session) throws HibernateException {
+
+		if ( isInverse() || !isRowInsertEnabled() ) {
+			return CompletionStages.nullFuture();
+		}
+
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Inserting collection: %s", collectionInfoString( this, collection, id, session ) );
+		}
+
+		final Iterator<?> entries = collection.entries( this );
+		if ( !entries.hasNext() ) {
+			log.debug( "Collection was empty" );
+			return CompletionStages.nullFuture();
+		}
+
+		final Expectation expectation = appropriateExpectation( getInsertCheckStyle() );
+		final String sql = getSQLInsertRowString();
+		collection.preInsert( this );
+		CompletionStage<Void> stage = CompletionStages.nullFuture();
+		int i = 0;
+		while ( entries.hasNext() ) {
+			final Object entry = entries.next();
+			if ( collection.entryExists( entry, i ) ) {
+				Object[] params = bindInsertRow( collection, id, entry, i, expectation, session );
+				stage = stage.thenCompose( v -> executeRow( sql, params, expectation, session ) );
+				collection.afterRowInsert( this, entry, i );
+			}
+			i++;
+		}
+		return stage;
+	}
+
+	@Override
+	default CompletionStage<Void> removeReactive(Serializable id, SharedSessionContractImplementor session)
+			throws HibernateException {
+
+		if ( isInverse() || !isRowDeleteEnabled() ) {
+			return CompletionStages.nullFuture();
+		}
+
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Deleting collection: %s", collectionInfoString( this, id, getFactory() ) );
+		}
+
+		final Expectation expectation = appropriateExpectation( getDeleteAllCheckStyle() );
+		Object[] params = PreparedStatementAdaptor.bind( delete -> {
+			int offset = 1 + expectation.prepare( delete );
+			writeKey( delete, id, offset, session );
+		} );
+		return executeRow( getSQLDeleteString(), params, expectation, session );
+	}
+
+	@Override
+	default CompletionStage<Void> deleteRowsReactive(
+			PersistentCollection collection,
+			Serializable id,
+			SharedSessionContractImplementor session) throws HibernateException {
+
+		if ( isInverse() || !isRowDeleteEnabled() ) {
+			return CompletionStages.nullFuture();
+		}
+
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Deleting rows of collection: %s", collectionInfoString( this, collection, id, session ) );
+		}
+
+		final boolean deleteByIndex = !isOneToMany() && hasIndex() && !indexContainsFormula();
+		final Expectation expectation = appropriateExpectation( getDeleteCheckStyle() );
+		final String sql = getSQLDeleteRowString();
+		CompletionStage<Void> stage = CompletionStages.nullFuture();
+		final Iterator<?> deletes = collection.getDeletes( this, !deleteByIndex );
+		while ( deletes.hasNext() ) {
+			final Object entry = deletes.next();
+			Object[] params = PreparedStatementAdaptor.bind( delete -> {
+				int offset = 1 + expectation.prepare( delete );
+				if ( hasIdentifier() ) {
+					writeIdentifier( delete, entry, offset, session );
+				}
+				else {
+					offset = writeKey( delete, id, offset, session );
+					if ( deleteByIndex ) {
+						writeIndexToWhere( delete, entry, offset, session );
+					}
+					else {
+						writeElementToWhere( delete, entry, offset, session );
+					}
+				}
+			} );
+			stage = stage.thenCompose( v -> executeRow( sql, params, expectation, session ) );
+		}
+		return stage;
+	}
+
+	@Override
+	default CompletionStage<Void> updateRowsReactive(
+			PersistentCollection collection,
+			Serializable id,
+			SharedSessionContractImplementor session) throws HibernateException {
+
+		if ( isInverse() || !collection.isRowUpdatePossible() ) {
+			return CompletionStages.nullFuture();
+		}
+
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Updating rows of collection: %s", collectionInfoString( this, collection, id, session ) );
+		}
+
+		return doUpdateRowsReactive( id, collection, session );
+	}
+
+	@Override
+	default CompletionStage<Void> insertRowsReactive(
+			PersistentCollection collection,
+			Serializable id,
+			SharedSessionContractImplementor session) throws HibernateException {
+
+		if ( isInverse() || !isRowInsertEnabled() ) {
+			return CompletionStages.nullFuture();
+		}
+
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Inserting rows of collection: %s", collectionInfoString( this, collection, id, session ) );
+		}
+
+		final Expectation expectation = appropriateExpectation( getInsertCheckStyle() );
+		final String sql = getSQLInsertRowString();
+		collection.preInsert( this );
+		CompletionStage<Void> stage = CompletionStages.nullFuture();
+		final Iterator<?> entries = collection.entries( this );
+		int i = 0;
+		while ( entries.hasNext() ) {
+			final Object entry = entries.next();
+			if ( collection.needsInserting( entry, i, getElementType() ) ) {
+				Object[] params = bindInsertRow( collection, id, entry, i, expectation, session );
+				stage = stage.thenCompose( v -> executeRow( sql, params, expectation, session ) );
+				collection.afterRowInsert( this, entry, i );
+			}
+			i++;
+		}
+		return stage;
+	}
+
+	default Object[] bindInsertRow(
+			PersistentCollection collection,
+			Serializable id,
+			Object entry,
+			int i,
+			Expectation expectation,
+			SharedSessionContractImplementor session) {
+		return PreparedStatementAdaptor.bind( insert -> {
+			int offset = 1 + expectation.prepare( insert );
+			offset = writeKey( insert, id, offset, session );
+			if ( hasIdentifier() ) {
+				offset = writeIdentifier( insert, collection.getIdentifier( entry, i ), offset, session );
+			}
+			if ( hasIndex() ) {
+				offset = writeIndex( insert, collection.getIndex( entry, i, this ), offset, session );
+			}
+			writeElement( insert, collection.getElement( entry ), offset, session );
+		} );
+	}
+
+	/**
+	 * Execute a statement affecting a single row of the collection,
+	 * as part of a batch if batching is enabled.
+	 */
+	default CompletionStage<Void> executeRow(
+			String sql,
+			Object[] params,
+			Expectation expectation,
+			SharedSessionContractImplementor session) {
+		final boolean useBatch = expectation.canBeBatched()
+				&& session.getConfiguredJdbcBatchSize() > 1;
+		return getReactiveConnection( session )
+				.update( sql, params, useBatch, (rowCount, batchPosition, batchSql) -> {
+					try {
+						expectation.verifyOutcome( rowCount, new PreparedStatementAdaptor(), batchPosition );
+					}
+					catch (SQLException e) {
+						//can't actually occur!
+						throw new JDBCException( "error while verifying result count", e );
+					}
+				} );
+	}
+
+	/**
+	 * Update the rows of modified elements of the collection.
+	 *
+	 * @see #updateRowsReactive(PersistentCollection, Serializable, SharedSessionContractImplementor)
+	 */
+	CompletionStage<Void> doUpdateRowsReactive(
+			Serializable key,
+			PersistentCollection collection,
+			SharedSessionContractImplementor session);
+
+	boolean isRowInsertEnabled();
+
+	boolean isRowDeleteEnabled();
+
+	boolean hasIdentifier();
+
+	boolean indexContainsFormula();
+
+	String getSQLInsertRowString();
+
+	String getSQLDeleteString();
+
+	String getSQLDeleteRowString();
+
+	String getSQLUpdateRowString();
+
+	ExecuteUpdateResultCheckStyle getInsertCheckStyle();
+
+	ExecuteUpdateResultCheckStyle getUpdateCheckStyle();
+
+	ExecuteUpdateResultCheckStyle getDeleteCheckStyle();
+
+	ExecuteUpdateResultCheckStyle getDeleteAllCheckStyle();
+
+	int writeKey(PreparedStatement st, Serializable key, int i, SharedSessionContractImplementor session)
+			throws SQLException;
+
+	int writeIdentifier(PreparedStatement st, Object id, int i, SharedSessionContractImplementor session)
+			throws SQLException;
+
+	int writeIndex(PreparedStatement st, Object index, int i, SharedSessionContractImplementor session)
+			throws SQLException;
+
+	int writeIndexToWhere(PreparedStatement st, Object index, int i, SharedSessionContractImplementor session)
+			throws SQLException;
+
+	int writeElement(PreparedStatement st, Object elt, int i, SharedSessionContractImplementor session)
+			throws SQLException;
+
+	int writeElementToWhere(PreparedStatement st, Object elt, int i, SharedSessionContractImplementor session)
+			throws SQLException;
+}
@@ -0,0 +1,242 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.persister.collection.impl;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.ExecuteUpdateResultCheckStyle;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.mapping.Collection;
+import org.hibernate.persister.collection.BasicCollectionPersister;
+import org.hibernate.persister.spi.PersisterCreationContext;
+import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+import org.hibernate.reactive.loader.collection.ReactiveCollectionInitializer;
+import org.hibernate.reactive.loader.collection.impl.ReactiveBatchingCollectionInitializerBuilder;
+import org.hibernate.reactive.loader.collection.impl.ReactiveSubselectCollectionLoader;
+import org.hibernate.reactive.util.impl.CompletionStages;
+
+import static org.hibernate.jdbc.Expectations.appropriateExpectation;
+
+/**
+ * A {@link ReactiveCollectionPersister} for collections with a
+ * dedicated collection table, that is, for basic collections and
+ * many-to-many associations, backed by {@link BasicCollectionPersister}
+ * and {@link ReactiveAbstractCollectionPersister}.
+ */
+public class ReactiveBasicCollectionPersister extends BasicCollectionPersister
+		implements ReactiveAbstractCollectionPersister {
+
+	public ReactiveBasicCollectionPersister(Collection collectionBinding, CollectionDataAccess cacheAccessStrategy, PersisterCreationContext creationContext) throws MappingException, CacheException {
+		super( collectionBinding, cacheAccessStrategy, creationContext );
+	}
+
+	@Override
+	public CompletionStage<Void> reactiveInitialize(Serializable key, SharedSessionContractImplementor session)
+			throws HibernateException {
+		return getAppropriateInitializer( key, session ).reactiveInitialize( key, session );
+	}
+
+	@Override
+	protected ReactiveCollectionInitializer createCollectionInitializer(LoadQueryInfluencers loadQueryInfluencers)
+			throws MappingException {
+		return ReactiveBatchingCollectionInitializerBuilder.getBuilder( getFactory() )
+				.createBatchingCollectionInitializer( this, batchSize, getFactory(), loadQueryInfluencers );
+	}
+
+	@Override
+	protected ReactiveCollectionInitializer createSubselectInitializer(SubselectFetch subselect, SharedSessionContractImplementor session) {
+		return new ReactiveSubselectCollectionLoader(
+				this,
+				subselect.toSubselectString( getCollectionType().getLHSPropertyName() ),
+				subselect.getResult(),
+				subselect.getQueryParameters(),
+				subselect.getNamedParameterLocMap(),
+				session.getFactory(),
+				session.getLoadQueryInfluencers()
+		);
+	}
+
+	@Override
+	protected ReactiveCollectionInitializer getAppropriateInitializer(Serializable key, SharedSessionContractImplementor session) {
+		return (ReactiveCollectionInitializer) super.getAppropriateInitializer( key, session );
+	}
+
+	@Override
+	public CompletionStage<Void> doUpdateRowsReactive(
+			Serializable id,
+			PersistentCollection collection,
+			SharedSessionContractImplementor session) throws HibernateException {
+
+		if ( ArrayHelper.isAllFalse( elementColumnIsSettable ) ) {
+			return CompletionStages.nullFuture();
+		}
+
+		final Expectation expectation = appropriateExpectation( getUpdateCheckStyle() );
+		final String sql = getSQLUpdateRowString();
+		CompletionStage<Void> stage = CompletionStages.nullFuture();
+		final Iterator<?> entries = collection.entries( this );
+		int i = 0;
+		while ( entries.hasNext() ) {
+			final Object entry = entries.next();
+			if ( collection.needsUpdating( entry, i, getElementType() ) ) {
+				final int index = i;
+				Object[] params = PreparedStatementAdaptor.bind( update -> {
+					int offset = 1 + expectation.prepare( update );
+					offset = writeElement( update, collection.getElement( entry ), offset, session );
+					if ( hasIdentifier ) {
+						writeIdentifier( update, collection.getIdentifier( entry, index ), offset, session );
+					}
+					else {
+						offset = writeKey( update, id, offset, session );
+						if ( hasIndex && !indexContainsFormula ) {
+							writeIndexToWhere( update, collection.getIndex( entry, index, this ), offset, session );
+						}
+						else {
+							writeElementToWhere( update, collection.getSnapshotElement( entry, index ), offset, session );
+						}
+					}
+				} );
+				stage = stage.thenCompose( v -> executeRow( sql, params, expectation, session ) );
+			}
+			i++;
+		}
+		return stage;
+	}
+
+	@Override
+	public void recreate(PersistentCollection collection, Serializable id, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Wrong method calls. Use the reactive equivalent." );
+	}
+
+	@Override
+	public void remove(Serializable id, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Wrong method calls. Use the reactive equivalent." );
+	}
+
+	@Override
+	public void deleteRows(PersistentCollection collection, Serializable id, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Wrong method calls. Use the reactive equivalent." );
+	}
+
+	@Override
+	public void updateRows(PersistentCollection collection, Serializable id, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Wrong method calls. Use the reactive equivalent." );
+	}
+
+	@Override
+	public void insertRows(PersistentCollection collection, Serializable id, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Wrong method calls. Use the reactive equivalent." );
+	}
+
+	@Override
+	public boolean isRowInsertEnabled() {
+		return super.isRowInsertEnabled();
+	}
+
+	@Override
+	public boolean isRowDeleteEnabled() {
+		return super.isRowDeleteEnabled();
+	}
+
+	@Override
+	public boolean hasIdentifier() {
+		return hasIdentifier;
+	}
+
+	@Override
+	public boolean indexContainsFormula() {
+		return indexContainsFormula;
+	}
+
+	@Override
+	public String getSQLInsertRowString() {
+		return super.getSQLInsertRowString();
+	}
+
+	@Override
+	public String getSQLDeleteString() {
+		return super.getSQLDeleteString();
+	}
+
+	@Override
+	public String getSQLDeleteRowString() {
+		return super.getSQLDeleteRowString();
+	}
+
+	@Override
+	public String getSQLUpdateRowString() {
+		return super.getSQLUpdateRowString();
+	}
+
+	@Override
+	public ExecuteUpdateResultCheckStyle getInsertCheckStyle() {
+		return super.getInsertCheckStyle();
+	}
+
+	@Override
+	public ExecuteUpdateResultCheckStyle getUpdateCheckStyle() {
+		return super.getUpdateCheckStyle();
+	}
+
+	@Override
+	public ExecuteUpdateResultCheckStyle getDeleteCheckStyle() {
+		return super.getDeleteCheckStyle();
+	}
+
+	@Override
+	public ExecuteUpdateResultCheckStyle getDeleteAllCheckStyle() {
+		return super.getDeleteAllCheckStyle();
+	}
+
+	@Override
+	public int writeKey(PreparedStatement st, Serializable key, int i, SharedSessionContractImplementor session)
+			throws SQLException {
+		return super.writeKey( st, key, i, session );
+	}
+
+	@Override
+	public int writeIdentifier(PreparedStatement st, Object id, int i, SharedSessionContractImplementor session)
+			throws SQLException {
+		return super.writeIdentifier( st, id, i, session );
+	}
+
+	@Override
+	public int writeIndex(PreparedStatement st, Object index, int i, SharedSessionContractImplementor session)
+			throws SQLException {
+		return super.writeIndex( st, index, i, session );
+	}
+
+	@Override
+	public int writeIndexToWhere(PreparedStatement st, Object index, int i, SharedSessionContractImplementor session)
+			throws SQLException {
+		return super.writeIndexToWhere( st, index, i, session );
+	}
+
+	@Override
+	public int writeElement(PreparedStatement st, Object elt, int i, SharedSessionContractImplementor session)
+			throws SQLException {
+		return super.writeElement( st, elt, i, session );
+	}
+
+	@Override
+	public int writeElementToWhere(PreparedStatement st, Object elt, int i, SharedSessionContractImplementor session)
+			throws SQLException {
+		return super.writeElementToWhere( st, elt, i, session );
+	}
+}
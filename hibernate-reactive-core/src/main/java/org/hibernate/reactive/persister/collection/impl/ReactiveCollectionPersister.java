@@ -0,0 +1,79 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.persister.collection.impl;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A reactive {@link CollectionPersister}. Supports non-blocking
+ * initialization, and non-blocking insert/update/delete of rows.
+ *
+ * @see ReactiveAbstractCollectionPersister
+ */
+public interface ReactiveCollectionPersister extends CollectionPersister {
+
+	/**
+	 * Initialize the given collection without blocking.
+	 *
+	 * @see CollectionPersister#initialize(Serializable, SharedSessionContractImplementor)
+	 */
+	CompletionStage<Void> reactiveInitialize(Serializable key, SharedSessionContractImplementor session);
+
+	/**
+	 * Write the rows of a new collection without blocking.
+	 *
+	 * @see CollectionPersister#recreate(PersistentCollection, Serializable, SharedSessionContractImplementor)
+	 */
+	CompletionStage<Void> recreateReactive(
+			PersistentCollection collection,
+			Serializable id,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Delete every row of the collection without blocking.
+	 *
+	 * @see CollectionPersister#remove(Serializable, SharedSessionContractImplementor)
+	 */
+	CompletionStage<Void> removeReactive(Serializable id, SharedSessionContractImplementor session);
+
+	/**
+	 * Delete the rows of elements removed from the collection
+	 * without blocking.
+	 *
+	 * @see CollectionPersister#deleteRows(PersistentCollection, Serializable, SharedSessionContractImplementor)
+	 */
+	CompletionStage<Void> deleteRowsReactive(
+			PersistentCollection collection,
+			Serializable id,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Update the rows of modified elements of the collection
+	 * without blocking.
+	 *
+	 * @see CollectionPersister#updateRows(PersistentCollection, Serializable, SharedSessionContractImplementor)
+	 */
+	CompletionStage<Void> updateRowsReactive(
+			PersistentCollection collection,
+			Serializable id,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Insert the rows of elements added to the collection
+	 * without blocking.
+	 *
+	 * @see CollectionPersister#insertRows(PersistentCollection, Serializable, SharedSessionContractImplementor)
+	 */
+	CompletionStage<Void> insertRowsReactive(
+			PersistentCollection collection,
+			Serializable id,
+			SharedSessionContractImplementor session);
+}
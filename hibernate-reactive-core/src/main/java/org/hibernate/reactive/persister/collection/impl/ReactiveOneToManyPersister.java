@@ -6,27 +6,48 @@
 package org.hibernate.reactive.persister.collection.impl;
 
 import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.ExecuteUpdateResultCheckStyle;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.jdbc.Expectation;
 import org.hibernate.mapping.Collection;
 import org.hibernate.persister.collection.OneToManyPersister;
 import org.hibernate.persister.spi.PersisterCreationContext;
+import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
 import org.hibernate.reactive.loader.collection.impl.ReactiveBatchingCollectionInitializerBuilder;
 import org.hibernate.reactive.loader.collection.ReactiveCollectionInitializer;
 import org.hibernate.reactive.loader.collection.impl.ReactiveSubselectOneToManyLoader;
+import org.hibernate.reactive.util.impl.CompletionStages;
+
+import static org.hibernate.jdbc.Expectations.appropriateExpectation;
+
+/**
+ * A {@link ReactiveCollectionPersister} for one-to-many associations,
+ * backed by {@link OneToManyPersister} and
+ * {@link ReactiveAbstractCollectionPersister}.
+ * <p>
+ * The index column of an inverse indexed one-to-many association
+ * is not written.
+ */
+public class ReactiveOneToManyPersister extends OneToManyPersister
+		implements ReactiveAbstractCollectionPersister {
 
-public class ReactiveOneToManyPersister extends OneToManyPersister {
 	public ReactiveOneToManyPersister(Collection collectionBinding, CollectionDataAccess cacheAccessStrategy, PersisterCreationContext creationContext) throws MappingException, CacheException {
 		super( collectionBinding, cacheAccessStrategy, creationContext );
 	}
 
+	@Override
 	public CompletionStage<Void> reactiveInitialize(Serializable key, SharedSessionContractImplementor session)
 			throws HibernateException {
 		return getAppropriateInitializer( key, session ).reactiveInitialize( key, session );
@@ -52,7 +73,179 @@ protected ReactiveCollectionInitializer createSubselectInitializer(SubselectFetc
 		);
 	}
 
+	@Override
 	protected ReactiveCollectionInitializer getAppropriateInitializer(Serializable key, SharedSessionContractImplementor session) {
 		return (ReactiveCollectionInitializer) super.getAppropriateInitializer(key, session);
 	}
+
+	/**
+	 * First set the foreign key of every row which needs updating to
+	 * null, and then set the foreign key and index of each of these
+	 * rows, taking care of possible unique constraints.
+	 */
+	@Override
+	public CompletionStage<Void> doUpdateRowsReactive(
+			Serializable id,
+			PersistentCollection collection,
+			SharedSessionContractImplementor session) throws HibernateException {
+
+		CompletionStage<Void> stage = CompletionStages.nullFuture();
+		if ( isRowDeleteEnabled() ) {
+			final Expectation expectation = appropriateExpectation( getDeleteCheckStyle() );
+			final String sql = getSQLDeleteRowString();
+			final Iterator<?> entries = collection.entries( this );
+			int i = 0;
+			while ( entries.hasNext() ) {
+				final Object entry = entries.next();
+				if ( collection.needsUpdating( entry, i, getElementType() ) ) {
+					final Object snapshotElement = collection.getSnapshotElement( entry, i );
+					Object[] params = PreparedStatementAdaptor.bind( delete -> {
+						int offset = 1 + expectation.prepare( delete );
+						offset = writeKey( delete, id, offset, session );
+						writeElementToWhere( delete, snapshotElement, offset, session );
+					} );
+					stage = stage.thenCompose( v -> executeRow( sql, params, expectation, session ) );
+				}
+				i++;
+			}
+		}
+
+		if ( isRowInsertEnabled() ) {
+			final Expectation expectation = appropriateExpectation( getInsertCheckStyle() );
+			final String sql = getSQLInsertRowString();
+			final Iterator<?> entries = collection.entries( this );
+			int i = 0;
+			while ( entries.hasNext() ) {
+				final Object entry = entries.next();
+				if ( collection.needsUpdating( entry, i, getElementType() ) ) {
+					Object[] params = bindInsertRow( collection, id, entry, i, expectation, session );
+					stage = stage.thenCompose( v -> executeRow( sql, params, expectation, session ) );
+				}
+				i++;
+			}
+		}
+		return stage;
+	}
+
+	@Override
+	public void recreate(PersistentCollection collection, Serializable id, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Wrong method calls. Use the reactive equivalent." );
+	}
+
+	@Override
+	public void remove(Serializable id, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Wrong method calls. Use the reactive equivalent." );
+	}
+
+	@Override
+	public void deleteRows(PersistentCollection collection, Serializable id, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Wrong method calls. Use the reactive equivalent." );
+	}
+
+	@Override
+	public void updateRows(PersistentCollection collection, Serializable id, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Wrong method calls. Use the reactive equivalent." );
+	}
+
+	@Override
+	public void insertRows(PersistentCollection collection, Serializable id, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Wrong method calls. Use the reactive equivalent." );
+	}
+
+	@Override
+	public boolean isRowInsertEnabled() {
+		return super.isRowInsertEnabled();
+	}
+
+	@Override
+	public boolean isRowDeleteEnabled() {
+		return super.isRowDeleteEnabled();
+	}
+
+	@Override
+	public boolean hasIdentifier() {
+		return hasIdentifier;
+	}
+
+	@Override
+	public boolean indexContainsFormula() {
+		return indexContainsFormula;
+	}
+
+	@Override
+	public String getSQLInsertRowString() {
+		return super.getSQLInsertRowString();
+	}
+
+	@Override
+	public String getSQLDeleteString() {
+		return super.getSQLDeleteString();
+	}
+
+	@Override
+	public String getSQLDeleteRowString() {
+		return super.getSQLDeleteRowString();
+	}
+
+	@Override
+	public String getSQLUpdateRowString() {
+		return super.getSQLUpdateRowString();
+	}
+
+	@Override
+	public ExecuteUpdateResultCheckStyle getInsertCheckStyle() {
+		return super.getInsertCheckStyle();
+	}
+
+	@Override
+	public ExecuteUpdateResultCheckStyle getUpdateCheckStyle() {
+		return super.getUpdateCheckStyle();
+	}
+
+	@Override
+	public ExecuteUpdateResultCheckStyle getDeleteCheckStyle() {
+		return super.getDeleteCheckStyle();
+	}
+
+	@Override
+	public ExecuteUpdateResultCheckStyle getDeleteAllCheckStyle() {
+		return super.getDeleteAllCheckStyle();
+	}
+
+	@Override
+	public int writeKey(PreparedStatement st, Serializable key, int i, SharedSessionContractImplementor session)
+			throws SQLException {
+		return super.writeKey( st, key, i, session );
+	}
+
+	@Override
+	public int writeIdentifier(PreparedStatement st, Object id, int i, SharedSessionContractImplementor session)
+			throws SQLException {
+		return super.writeIdentifier( st, id, i, session );
+	}
+
+	@Override
+	public int writeIndex(PreparedStatement st, Object index, int i, SharedSessionContractImplementor session)
+			throws SQLException {
+		return super.writeIndex( st, index, i, session );
+	}
+
+	@Override
+	public int writeIndexToWhere(PreparedStatement st, Object index, int i, SharedSessionContractImplementor session)
+			throws SQLException {
+		return super.writeIndexToWhere( st, index, i, session );
+	}
+
+	@Override
+	public int writeElement(PreparedStatement st, Object elt, int i, SharedSessionContractImplementor session)
+			throws SQLException {
+		return super.writeElement( st, elt, i, session );
+	}
+
+	@Override
+	public int writeElementToWhere(PreparedStatement st, Object elt, int i, SharedSessionContractImplementor session)
+			throws SQLException {
+		return super.writeElementToWhere( st, elt, i, session );
+	}
 }
+
@@ -0,0 +1,148 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.persister.entity.impl;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.reactive.pool.ReactiveConnection.MultiRowInsert;
+import org.hibernate.reactive.provider.Settings;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites the static single-row INSERT statements of an entity
+ * persister as multi-row INSERT statements, if enabled via the
+ * setting {@link Settings#MULTI_ROW_INSERT}, and supported by
+ * the dialect. The generated SQL is cached per table and row
+ * count, so that the same SQL, and thus the same prepared
+ * statement, is reused by subsequent flushes. Since the row
+ * count is always a power of two, there are only a few entries
+ * per table.
+ */
+class MultiRowInserts {
+
+	/**
+	 * Both PostgreSQL and MySQL limit the number of parameters of
+	 * a prepared statement to 65535.
+	 */
+	private static final int MAX_PARAMETERS = 65535;
+
+	private static final String VALUES = " values ";
+	private static final Pattern ROW = Pattern.compile( "\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)" );
+
+	private final AbstractEntityPersister persister;
+	private final int maxParameters;
+
+	private volatile MultiRowInsert[] inserts;
+
+	MultiRowInserts(AbstractEntityPersister persister, SessionFactoryImplementor factory) {
+		this.persister = persister;
+		this.maxParameters = maxParameters( factory );
+	}
+
+	private static int maxParameters(SessionFactoryImplementor factory) {
+		boolean enabled = factory.getServiceRegistry().getService( ConfigurationService.class )
+				.getSetting( Settings.MULTI_ROW_INSERT, StandardConverters.BOOLEAN, false );
+		if ( !enabled ) {
+			return 0;
+		}
+		Dialect dialect = factory.getJdbcServices().getDialect();
+		return dialect instanceof PostgreSQL81Dialect || dialect instanceof MySQLDialect
+				? MAX_PARAMETERS
+				: 0;
+	}
+
+	/**
+	 * @param j the table number
+	 *
+	 * @return the {@link MultiRowInsert} for the static insert
+	 *         statement of the given table, or {@code null} if
+	 *         the statement cannot be rewritten
+	 */
+	MultiRowInsert forTable(int j) {
+		if ( maxParameters == 0 ) {
+			return null;
+		}
+		MultiRowInsert[] result = inserts;
+		if ( result == null ) {
+			// the insert statements are not generated until after
+			// the persister is instantiated, so do this lazily
+			String[] sql = persister.getSQLInsertStrings();
+			result = new MultiRowInsert[sql.length];
+			for ( int i = 0; i < sql.length; i++ ) {
+				result[i] = create( sql[i], maxParameters );
+			}
+			inserts = result;
+		}
+		return result[j];
+	}
+
+	private static MultiRowInsert create(String sql, int maxParameters) {
+		if ( sql == null ) {
+			return null;
+		}
+		int valuesIndex = sql.toLowerCase().lastIndexOf( VALUES );
+		if ( valuesIndex < 0 ) {
+			return null;
+		}
+		String prefix = sql.substring( 0, valuesIndex + VALUES.length() );
+		String row = sql.substring( prefix.length() ).trim();
+		// we can only rewrite a row containing nothing but
+		// parameters, and not, for example, a column write
+		// expression, or a custom insert with a returning clause
+		if ( !ROW.matcher( row ).matches() ) {
+			return null;
+		}
+		int parameters = 0;
+		for ( int i = 0; i < row.length(); i++ ) {
+			if ( row.charAt( i ) == '?' ) {
+				parameters++;
+			}
+		}
+		int maxRows = Integer.highestOneBit( maxParameters / parameters );
+		return maxRows < 2 ? null : new TableInsert( prefix, row, maxRows );
+	}
+
+	private static class TableInsert implements MultiRowInsert {
+		private final String prefix;
+		private final String row;
+		private final int maxRows;
+		private final Map<Integer, String> sqlByRowCount = new ConcurrentHashMap<>();
+
+		TableInsert(String prefix, String row, int maxRows) {
+			this.prefix = prefix;
+			this.row = row;
+			this.maxRows = maxRows;
+		}
+
+		@Override
+		public int getMaxRows() {
+			return maxRows;
+		}
+
+		@Override
+		public String getSql(int rowCount) {
+			return sqlByRowCount.computeIfAbsent( rowCount, this::generateSql );
+		}
+
+		private String generateSql(int rowCount) {
+			StringBuilder sql = new StringBuilder( prefix.length() + ( row.length() + 2 ) * rowCount )
+					.append( prefix )
+					.append( row );
+			for ( int i = 1; i < rowCount; i++ ) {
+				sql.append( ", " ).append( row );
+			}
+			return sql.toString();
+		}
+	}
+}
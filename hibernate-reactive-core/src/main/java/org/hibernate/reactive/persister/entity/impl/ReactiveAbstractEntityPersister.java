@@ -13,7 +13,9 @@
 import org.hibernate.Session;
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeDescriptor;
+import org.hibernate.dialect.DB2Dialect;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
 import org.hibernate.dialect.PostgreSQL81Dialect;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.internal.Versioning;
@@ -22,9 +24,12 @@
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
+import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.persister.entity.AbstractEntityPersister;
@@ -32,10 +37,14 @@
 import org.hibernate.persister.entity.Lockable;
 import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.entity.OuterJoinLoadable;
+import org.hibernate.reactive.adaptor.impl.ArrayBatchFetch;
 import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+import org.hibernate.reactive.adaptor.impl.QueryParametersAdaptor;
+import org.hibernate.reactive.loader.entity.impl.BatchingEntityLoaderCache;
 import org.hibernate.reactive.loader.entity.impl.ReactiveDynamicBatchingEntityLoaderBuilder;
 import org.hibernate.reactive.pool.ReactiveConnection;
-import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.pool.ReactiveConnection.MultiRowInsert;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.sql.Delete;
 import org.hibernate.sql.SimpleSelect;
@@ -50,8 +59,12 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
@@ -79,6 +92,9 @@
 public interface ReactiveAbstractEntityPersister extends ReactiveEntityPersister, OuterJoinLoadable, Lockable {
 	Logger log = Logger.getLogger( JoinedSubclassEntityPersister.class );
 
+	String LOCK_ID_ALIAS = "lock_id_";
+	String LOCK_VERSION_ALIAS = "lock_version_";
+
 	/**
 	 * A self-reference of type {@code AbstractEntityPersister}.
 	 *
@@ -89,7 +105,7 @@ default AbstractEntityPersister delegate() {
 	}
 
 	default ReactiveConnection getReactiveConnection(SharedSessionContractImplementor session) {
-		return ((ReactiveSession) session).getReactiveConnection();
+		return ((ReactiveConnectionSupplier) session).getReactiveConnection();
 	}
 
 	@Override
@@ -202,18 +218,10 @@ default CompletionStage<?> insertReactive(
 
 		// TODO : shouldn't inserts be Expectations.NONE?
 		final Expectation expectation = appropriateExpectation( delegate().getInsertResultCheckStyles()[j] );
-//		final int jdbcBatchSizeToUse = session.getConfiguredJdbcBatchSize();
-//		final boolean useBatch = expectation.canBeBatched() &&
-//				jdbcBatchSizeToUse > 1 &&
-//				delegate.getIdentifierGenerator().supportsJdbcBatchInserts();
-
-//		if ( useBatch && insertBatchKey == null ) {
-//			insertBatchKey = new BasicBatchKey(
-//					delegate.getEntityName() + "#INSERT",
-//					expectation
-//			);
-//		}
-//		final boolean callable = delegate.isInsertCallable( j );
+		final int jdbcBatchSizeToUse = session.getConfiguredJdbcBatchSize();
+		final boolean useBatch = expectation.canBeBatched()
+				&& jdbcBatchSizeToUse > 1
+				&& delegate().getIdentifierGenerator().supportsJdbcBatchInserts();
 
 		Object[] params = PreparedStatementAdaptor.bind( insert -> {
 			boolean[][] insertable = delegate().getPropertyColumnInsertable();
@@ -221,17 +229,51 @@ default CompletionStage<?> insertReactive(
 			delegate().getIdentifierType().nullSafeSet( insert, id, index, session );
 		} );
 
+		// only the static SQL may be rewritten as a multi-row insert,
+		// since the dynamic SQL depends on the entity being inserted
+		final MultiRowInsert multiRowInsert = useBatch && sql.equals( delegate().getSQLInsertStrings()[j] )
+				? getMultiRowInsert( j )
+				: null;
+
 		return getReactiveConnection( session )
-				.update( sql, params )
-				.thenAccept( count -> {
+				.insert( sql, params, multiRowInsert, useBatch, (rowCount, batchPosition, batchSql) -> {
 					try {
-						expectation.verifyOutcome(count, new PreparedStatementAdaptor(), -1);
+						expectation.verifyOutcome( rowCount, new PreparedStatementAdaptor(), batchPosition );
 					}
 					catch (SQLException e) {
 						//can't actually occur!
 						throw new JDBCException( "error while verifying result count", e );
 					}
-				});
+				} );
+	}
+
+	default CompletionStage<?> upsertReactive(
+			Serializable id,
+			Object[] fields,
+			Object object,
+			SharedSessionContractImplementor session) throws HibernateException {
+
+		final String sql = getSQLUpsertString();
+		if ( sql == null ) {
+			throw new HibernateException( "entity cannot be upserted: " + delegate().getEntityName() );
+		}
+
+		if ( log.isTraceEnabled() ) {
+			log.tracev( "Upserting entity: {0}", infoString(delegate(), id, delegate().getFactory() ) );
+		}
+
+		Object[] params = PreparedStatementAdaptor.bind( insert -> {
+			boolean[][] insertable = delegate().getPropertyColumnInsertable();
+			int index = delegate().dehydrate( null, fields, delegate().getPropertyInsertability(), insertable, 0, insert, session, false );
+			delegate().getIdentifierType().nullSafeSet( insert, id, index, session );
+		} );
+
+		// the row count depends on whether the row was inserted or
+		// updated, and on the database, so there's nothing to check
+		ReactiveConnection connection = getReactiveConnection( session );
+		return session.getConfiguredJdbcBatchSize() > 1
+				? connection.update( sql, params, true, (rowCount, batchPosition, batchSql) -> {} )
+				: connection.update( sql, params );
 	}
 
 	/**
@@ -254,37 +296,127 @@ default CompletionStage<Serializable> insertReactive(
 			}
 		}
 
-		Object[] params = PreparedStatementAdaptor.bind( insert -> {
-			boolean[][] insertable = delegate().getPropertyColumnInsertable();
-			delegate().dehydrate( null, fields, notNull, insertable, 0, insert, session, false );
-		} );
+		Object[] params = bindIdentityInsert( fields, notNull, session );
 
 		SessionFactoryImplementor factory = session.getFactory();
 		Dialect dialect = factory.getJdbcServices().getDialect();
-		String identifierColumnName = delegate().getIdentifierColumnNames()[0];
 		ReactiveConnection connection = getReactiveConnection(session);
-		if ( factory.getSessionFactoryOptions().isGetGeneratedKeysEnabled() ) {
-			//TODO: wooooo this is awful ... I believe the problem is fixed in Hibernate 6
-			if ( dialect instanceof PostgreSQL81Dialect) {
-				sql = sql + " returning " + identifierColumnName;
-			}
-			return connection.updateReturning( sql, params ).thenApply( id -> id );
+		String insertReturningSql = identityInsertReturningSql( sql, dialect );
+		if ( insertReturningSql != null ) {
+			//the generated id is returned by the insert itself
+			return connection.updateReturning( insertReturningSql, params ).thenApply( this::toIdentifier );
+		}
+		else if ( factory.getSessionFactoryOptions().isGetGeneratedKeysEnabled() ) {
+			return connection.updateReturning( sql, params ).thenApply( this::toIdentifier );
 		}
 		else {
 			//use an extra round trip to fetch the id
 			String selectIdSql = dialect.getIdentityColumnSupport()
 					.getIdentitySelectString(
 							delegate().getTableName(),
-							identifierColumnName,
+							delegate().getIdentifierColumnNames()[0],
 							Types.INTEGER
 					);
 			return connection.update( sql, params )
 					.thenCompose( v -> connection.selectLong( selectIdSql, new Object[0] ) )
-					.thenApply( id -> id );
+					.thenApply( this::toIdentifier );
 		}
 
 	}
 
+	/**
+	 * Perform a batch of SQL INSERTs of the given instances, using the
+	 * static identity insert SQL, and retrieve the generated identifiers,
+	 * in the same order as the instances. If the dialect supports it, the
+	 * whole batch is executed in a single round trip.
+	 * <p>
+	 * This form is used for IDENTITY ids, when the inserts are delayed
+	 * until flush time, and the entity has a single table.
+	 */
+	@Override
+	default CompletionStage<List<Serializable>> insertReactive(
+			List<Object[]> fields,
+			List<Object> objects,
+			SharedSessionContractImplementor session) throws HibernateException {
+
+		final Dialect dialect = session.getFactory().getJdbcServices().getDialect();
+		final String sql = identityInsertReturningSql( delegate().getSQLIdentityInsertString(), dialect );
+		final List<Serializable> ids = new ArrayList<>( objects.size() );
+		if ( sql == null ) {
+			// insert the instances one at a time
+			CompletionStage<Void> stage = CompletionStages.nullFuture();
+			for ( int i = 0; i < objects.size(); i++ ) {
+				final int ii = i;
+				stage = stage.thenCompose( v -> insertReactive( fields.get( ii ), objects.get( ii ), session ) )
+						.thenAccept( ids::add );
+			}
+			return stage.thenApply( v -> ids );
+		}
+
+		if ( log.isTraceEnabled() ) {
+			log.tracev( "Inserting {0} instances of entity: {1}", objects.size(), infoString(delegate()) );
+		}
+
+		List<Object[]> params = new ArrayList<>( objects.size() );
+		for ( int i = 0; i < objects.size(); i++ ) {
+			// apply any pre-insert in-memory value generation
+			preInsertInMemoryValueGeneration( fields.get( i ), objects.get( i ), session );
+			params.add( bindIdentityInsert( fields.get( i ), delegate().getPropertyInsertability(), session ) );
+		}
+
+		return getReactiveConnection( session )
+				.updateReturning( sql, params )
+				.thenApply( keys -> {
+					for ( Long key : keys ) {
+						ids.add( toIdentifier( key ) );
+					}
+					return ids;
+				} );
+	}
+
+	default Object[] bindIdentityInsert(Object[] fields, boolean[] notNull, SharedSessionContractImplementor session) {
+		return PreparedStatementAdaptor.bind( insert -> {
+			boolean[][] insertable = delegate().getPropertyColumnInsertable();
+			delegate().dehydrate( null, fields, notNull, insertable, 0, insert, session, false );
+		} );
+	}
+
+	/**
+	 * Rewrite the given identity insert SQL so that the generated id
+	 * is returned by the insert itself: using {@code returning} on
+	 * PostgreSQL, or {@code select ... from final table} on DB2. On
+	 * MySQL the SQL is unchanged, since the generated id is reported
+	 * along with the row count.
+	 *
+	 * @return the rewritten SQL, or {@code null} if the dialect is not
+	 *         one of the above
+	 */
+	default String identityInsertReturningSql(String sql, Dialect dialect) {
+		String identifierColumnName = delegate().getIdentifierColumnNames()[0];
+		if ( dialect instanceof PostgreSQL81Dialect ) {
+			return sql + " returning " + identifierColumnName;
+		}
+		else if ( dialect instanceof DB2Dialect ) {
+			return "select " + identifierColumnName + " from final table ( " + sql + " )";
+		}
+		else if ( dialect instanceof MySQLDialect ) {
+			return sql;
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Convert a generated key to the Java type of the identifier.
+	 */
+	default Serializable toIdentifier(Long key) {
+		return key == null ? null : (Serializable) IdentifierGeneratorHelper
+				.getIntegralDataTypeHolder( delegate().getIdentifierType().getReturnedClass() )
+				.initialize( key )
+				.makeValue();
+	}
+
 	default CompletionStage<?> deleteReactive(
 			Serializable id,
 			Object version,
@@ -298,15 +430,11 @@ default CompletionStage<?> deleteReactive(
 			return CompletionStages.nullFuture();
 		}
 		final boolean useVersion = j == 0 && delegate().isVersioned();
-//		final boolean callable = delegate.isDeleteCallable( j );
 		final Expectation expectation = appropriateExpectation( delegate().getDeleteResultCheckStyles()[j] );
-//		final boolean useBatch = j == 0 && delegate.isBatchable() && expectation.canBeBatched();
-//		if ( useBatch && deleteBatchKey == null ) {
-//			deleteBatchKey = new BasicBatchKey(
-//					delegate.getEntityName() + "#DELETE",
-//					expectation
-//			);
-//		}
+		final boolean useBatch = j == 0
+				&& expectation.canBeBatched()
+				&& isBatchable()
+				&& session.getConfiguredJdbcBatchSize() > 1;
 
 		if ( log.isTraceEnabled() ) {
 			log.tracev( "Deleting entity: {0}", infoString(delegate(), id, delegate().getFactory() ) );
@@ -354,8 +482,9 @@ else if ( isAllOrDirtyOptimisticLocking() && loadedState != null ) {
 		} );
 
 		return getReactiveConnection(session)
-				.update( sql, params )
-				.thenAccept( count -> check( count, id, j, expectation, new PreparedStatementAdaptor() ) );
+				.update( sql, params, useBatch,
+						(rowCount, batchPosition, batchSql) ->
+								check( rowCount, id, j, expectation, new PreparedStatementAdaptor() ) );
 	}
 
 	default CompletionStage<?> deleteReactive(
@@ -463,15 +592,12 @@ default CompletionStage<Boolean> updateReactive(
 			final SharedSessionContractImplementor session) throws HibernateException {
 
 		final Expectation expectation = appropriateExpectation( delegate().getUpdateResultCheckStyles()[j] );
-//		final int jdbcBatchSizeToUse = session.getConfiguredJdbcBatchSize();
-//		final boolean useBatch = expectation.canBeBatched() && isBatchable() && jdbcBatchSizeToUse > 1;
-//		if ( useBatch && updateBatchKey == null ) {
-//			updateBatchKey = new BasicBatchKey(
-//					delegate.getEntityName() + "#UPDATE",
-//					expectation
-//			);
-//		}
-//		final boolean callable = delegate.isUpdateCallable( j );
+		// we can't batch updates to nullable tables, since we need
+		// the row count to decide if we need to insert a new row
+		final boolean useBatch = expectation.canBeBatched()
+				&& isBatchable()
+				&& !delegate().isNullableTable( j )
+				&& session.getConfiguredJdbcBatchSize() > 1;
 		final boolean useVersion = j == 0 && delegate().isVersioned();
 
 		if ( log.isTraceEnabled() ) {
@@ -481,13 +607,6 @@ default CompletionStage<Boolean> updateReactive(
 			}
 		}
 
-//			if ( useBatch ) {
-//				update = session
-//						.getJdbcCoordinator()
-//						.getBatch( updateBatchKey )
-//						.getBatchStatement( sql, callable );
-//			}
-
 		Object[] params = PreparedStatementAdaptor.bind( update -> {
 			int index = 1;
 			index += expectation.prepare( update );
@@ -537,16 +656,44 @@ else if ( isAllOrDirtyOptimisticLocking() && oldFields != null ) {
 			}
 		} );
 
-//				if ( useBatch ) {
-//					session.getJdbcCoordinator().getBatch( updateBatchKey ).addToBatch();
-//					return true;
-//				}
-
-		return getReactiveConnection(session)
-				.update( sql, params )
-				.thenApply( count -> check( count, id, j, expectation, new PreparedStatementAdaptor() ) );
+		ReactiveConnection connection = getReactiveConnection( session );
+		if ( useBatch ) {
+			// the row count will be checked when the batch is executed
+			return connection.update( sql, params, true,
+							(rowCount, batchPosition, batchSql) ->
+									check( rowCount, id, j, expectation, new PreparedStatementAdaptor() ) )
+					.thenApply( v -> true );
+		}
+		else {
+			return connection.update( sql, params )
+					.thenApply( count -> check( count, id, j, expectation, new PreparedStatementAdaptor() ) );
+		}
 	}
 
+	boolean isBatchable();
+
+	/**
+	 * @param j the table number
+	 *
+	 * @return a {@link MultiRowInsert} for the static insert SQL of
+	 *         the given table, or {@code null} if multi-row inserts
+	 *         are disabled or not supported
+	 */
+	MultiRowInsert getMultiRowInsert(int j);
+
+	/**
+	 * @return the cache of batching loaders used by
+	 *         {@link #reactiveMultiLoad}
+	 */
+	BatchingEntityLoaderCache getBatchingEntityLoaderCache();
+
+	/**
+	 * @return the SQL which locks the given number of instances at
+	 *         once, as generated by {@link #generateSelectLockString(LockOptions, int, boolean)},
+	 *         and cached where possible
+	 */
+	String getSelectLockString(LockOptions lockOptions, int count, boolean useArray);
+
 	boolean check(
 			int rows,
 			Serializable id,
@@ -818,6 +965,135 @@ default CompletionStage<?> lockReactive(
 		} );
 	}
 
+	@Override
+	default CompletionStage<?> lockReactive(
+			Serializable[] ids,
+			Object[] versions,
+			Object[] objects,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) throws HibernateException {
+
+		boolean selectLock;
+		switch ( lockOptions.getLockMode() ) {
+			case READ:
+			case PESSIMISTIC_READ:
+			case PESSIMISTIC_WRITE:
+			case UPGRADE_NOWAIT:
+			case UPGRADE_SKIPLOCKED:
+			case UPGRADE:
+				selectLock = true;
+				break;
+			default:
+				selectLock = false;
+		}
+		if ( !selectLock || getRootTableIdentifierColumnNames().length != 1 ) {
+			// a lock obtained via an update, or on a composite
+			// key, is obtained one instance at a time
+			return CompletionStages.loop( 0, ids.length,
+					i -> lockReactive( ids[i], versions[i], objects[i], lockOptions, session ) );
+		}
+
+		final boolean useArray = ArrayBatchFetch.isEnabled( getFactory(), 1 );
+		// the SQL has a parameter for each identifier, unless they're
+		// passed as an array, so they're locked in batches, as in a
+		// multi-load
+		final int maxBatchSize = useArray
+				? ids.length
+				: getFactory().getJdbcServices().getDialect()
+						.getDefaultBatchLoadSizingStrategy()
+						.determineOptimalBatchLoadSize( 1, ids.length );
+
+		CompletionStage<Void> stage = CompletionStages.voidFuture();
+		for ( int start = 0; start < ids.length; start += maxBatchSize ) {
+			int end = Math.min( start + maxBatchSize, ids.length );
+			Serializable[] idsInBatch = Arrays.copyOfRange( ids, start, end );
+			Object[] versionsInBatch = Arrays.copyOfRange( versions, start, end );
+			stage = stage.thenCompose( v -> lockReactiveBatch( idsInBatch, versionsInBatch, lockOptions, useArray, session ) );
+		}
+		return stage;
+	}
+
+	default CompletionStage<Void> lockReactiveBatch(
+			Serializable[] ids,
+			Object[] versions,
+			LockOptions lockOptions,
+			boolean useArray,
+			SharedSessionContractImplementor session) {
+
+		Serializable[] paddedIds = ids;
+		if ( !useArray ) {
+			// to reduce the number of distinct SQL strings,
+			// pad the batch by repeating the first identifier
+			int paddedSize = BatchingEntityLoaderCache.paddedSize( ids.length );
+			if ( paddedSize > ids.length ) {
+				paddedIds = Arrays.copyOf( ids, paddedSize );
+				Arrays.fill( paddedIds, ids.length, paddedSize, ids[0] );
+			}
+		}
+		final String sql = getSelectLockString( lockOptions, paddedIds.length, useArray );
+
+		Type[] types = new Type[paddedIds.length];
+		Arrays.fill( types, getIdentifierType() );
+		QueryParameters queryParameters = new QueryParameters( types, paddedIds );
+		Object[] parameters = useArray
+				? ArrayBatchFetch.toParameterArray( queryParameters, session )
+				: QueryParametersAdaptor.toParameterArray( queryParameters, session );
+
+		return getReactiveConnection( session )
+				.selectJdbc( sql, parameters )
+				.thenAccept( resultSet -> {
+					// the version of each row we found
+					Map<Object, Object> found = new HashMap<>();
+					try {
+						while ( resultSet.next() ) {
+							Object id = getIdentifierType()
+									.nullSafeGet( resultSet, LOCK_ID_ALIAS, session, null );
+							Object version = isVersioned()
+									? getVersionType().nullSafeGet( resultSet, LOCK_VERSION_ALIAS, session, null )
+									: null;
+							found.put( id, version );
+						}
+					}
+					catch (SQLException e) {
+						//can't actually occur!
+						throw new JDBCException( "error while reading locked rows", e );
+					}
+					for ( int i = 0; i < ids.length; i++ ) {
+						if ( !found.containsKey( ids[i] )
+								|| isVersioned() && !getVersionType().isEqual( versions[i], found.get( ids[i] ) ) ) {
+							throw new StaleObjectStateException( getEntityName(), ids[i] );
+						}
+					}
+				} )
+				.handle( (r, e) -> {
+					CompletionStages.logSqlException( e,
+							() -> "could not lock " + ids.length + " instances of: " + getEntityName(),
+							sql
+					);
+					return CompletionStages.returnOrRethrow( e, r );
+				} );
+	}
+
+	default String generateSelectLockString(LockOptions lockOptions, int count, boolean useArray) {
+		final SessionFactoryImplementor factory = getFactory();
+		Dialect dialect = factory.getJdbcServices().getDialect();
+		String idColumnName = getRootTableIdentifierColumnNames()[0];
+		final SimpleSelect select = new SimpleSelect(dialect)
+				.setLockOptions( lockOptions )
+				.setTableName( getRootTableName() )
+				.addColumn( idColumnName, LOCK_ID_ALIAS )
+				.addCondition( idColumnName, useArray
+						? " = any(?)"
+						: " in (" + StringHelper.repeat( "?", count, ", " ) + ")" );
+		if ( isVersioned() ) {
+			select.addColumn( getVersionColumnName(), LOCK_VERSION_ALIAS );
+		}
+		if ( factory.getSessionFactoryOptions().isCommentsEnabled() ) {
+			select.setComment( lockOptions.getLockMode() + " lock " + getEntityName() );
+		}
+		return select.toStatementString();
+	}
+
 	default Object nextVersionForLock(LockMode lockMode, Serializable id, Object version, Object entity,
 									  SharedSessionContractImplementor session) {
 		if ( lockMode == LockMode.PESSIMISTIC_FORCE_INCREMENT ) {
@@ -857,7 +1133,8 @@ default CompletionStage<Object> reactiveLoad(Serializable id, Object optionalObj
 
 	@Override
 	default CompletionStage<List<Object>> reactiveMultiLoad(Serializable[] ids, SessionImplementor session, MultiLoadOptions loadOptions) {
-		return ReactiveDynamicBatchingEntityLoaderBuilder.INSTANCE.multiLoad(this, ids, session, loadOptions);
+		return ReactiveDynamicBatchingEntityLoaderBuilder.INSTANCE
+				.multiLoad( this, ids, session, loadOptions, getBatchingEntityLoaderCache() );
 	}
 
 //	@Override
@@ -894,6 +1171,92 @@ default CompletionStage<Object[]> reactiveGetDatabaseSnapshot(Serializable id,
 				.thenApply( (resultSet) -> processSnapshot(session, resultSet) );
 	}
 
+	default CompletionStage<List<Serializable>> reactiveGetExistingIdentifiers(Serializable[] ids,
+																			   SharedSessionContractImplementor session) {
+		String[] columnNames = getIdentifierColumnNames();
+		if ( columnNames.length != 1 ) {
+			// there's no portable way to restrict a composite
+			// key to a list of values, so fall back to snapshots
+			List<Serializable> existing = new ArrayList<>();
+			return CompletionStages.loop( ids,
+					id -> reactiveGetDatabaseSnapshot( id, session )
+							.thenAccept( snapshot -> {
+								if ( snapshot != null ) {
+									existing.add( id );
+								}
+							} ) )
+					.thenApply( v -> existing );
+		}
+
+		if ( log.isTraceEnabled() ) {
+			log.tracev( "Checking existence of {0} rows for: {1}", ids.length, getEntityName() );
+		}
+
+		final boolean useArray = ArrayBatchFetch.isEnabled( getFactory(), columnNames.length );
+		// the SQL restricts the identifiers using a parameter
+		// for each identifier, unless they're passed as an array,
+		// so they're checked in batches, as in a multi-load
+		final int maxBatchSize = useArray
+				? ids.length
+				: getFactory().getJdbcServices().getDialect()
+						.getDefaultBatchLoadSizingStrategy()
+						.determineOptimalBatchLoadSize( columnNames.length, ids.length );
+
+		List<Serializable> existing = new ArrayList<>();
+		CompletionStage<Void> stage = CompletionStages.voidFuture();
+		for ( int start = 0; start < ids.length; start += maxBatchSize ) {
+			Serializable[] idsInBatch = Arrays.copyOfRange( ids, start, Math.min( start + maxBatchSize, ids.length ) );
+			stage = stage.thenCompose( v -> reactiveGetExistingIdentifiersInBatch( idsInBatch, useArray, session )
+					.thenAccept( existing::addAll ) );
+		}
+		return stage.thenApply( v -> existing );
+	}
+
+	default CompletionStage<List<Serializable>> reactiveGetExistingIdentifiersInBatch(Serializable[] ids,
+																					  boolean useArray,
+																					  SharedSessionContractImplementor session) {
+		String[] columnNames = getIdentifierColumnNames();
+		final String alias = "this_";
+		StringBuilder sql = new StringBuilder( "select " )
+				.append( StringHelper.qualify( alias, columnNames[0] ) )
+				.append( " as " ).append( getIdentifierAliases( "" )[0] )
+				.append( " from " ).append( fromTableFragment( alias ) )
+				.append( " where " );
+		if ( useArray ) {
+			sql.append( ArrayBatchFetch.restriction( alias, columnNames ) );
+		}
+		else {
+			sql.append( StringHelper.qualify( alias, columnNames[0] ) )
+					.append( " in (" )
+					.append( StringHelper.repeat( "?", ids.length, ", " ) )
+					.append( ')' );
+		}
+
+		Type[] types = new Type[ids.length];
+		Arrays.fill( types, getIdentifierType() );
+		QueryParameters parameters = new QueryParameters( types, ids );
+		Object[] params = useArray
+				? ArrayBatchFetch.toParameterArray( parameters, session )
+				: QueryParametersAdaptor.toParameterArray( parameters, session );
+
+		return getReactiveConnection( session )
+				.selectJdbc( sql.toString(), params )
+				.thenApply( resultSet -> {
+					try {
+						List<Serializable> existing = new ArrayList<>();
+						while ( resultSet.next() ) {
+							existing.add( (Serializable) getIdentifierType()
+									.nullSafeGet( resultSet, getIdentifierAliases( "" ), session, null ) );
+						}
+						return existing;
+					}
+					catch (SQLException e) {
+						//can't actually occur!
+						throw new JDBCException( "error while reading identifiers", e );
+					}
+				} );
+	}
+
 	//would be nice of we could just reuse this code from AbstractEntityPersister
 	default Object[] processSnapshot(SharedSessionContractImplementor session, ResultSet resultSet) {
 		try {
@@ -992,7 +1355,7 @@ default CompletionStage<?> reactiveInitializeLazyPropertiesFromDatastore(
 			) );
 		}
 
-		return ((ReactiveSession) session).getReactiveConnection()
+		return ((ReactiveConnectionSupplier) session).getReactiveConnection()
 				.selectJdbc( lazySelect, params )
 				.thenApply( resultSet -> {
 					try {
@@ -48,6 +48,38 @@ CompletionStage<Serializable> insertReactive(
 			Object object,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Insert the given instances, with identifiers generated by the
+	 * database, without blocking, returning the generated identifiers
+	 * in the same order as the given instances.
+	 *
+	 * @see #insertReactive(Object[], Object, SharedSessionContractImplementor)
+	 */
+	CompletionStage<List<Serializable>> insertReactive(
+			List<Object[]> fields,
+			List<Object> objects,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Insert the given instance state, or update the existing row if
+	 * there's already a row with the given identifier, without
+	 * blocking.
+	 *
+	 * @see #insertReactive(Serializable, Object[], Object, SharedSessionContractImplementor)
+	 */
+	CompletionStage<?> upsertReactive(
+			Serializable id,
+			Object[] fields,
+			Object object,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * @return the SQL which inserts the entity, or updates the row
+	 *         if there's already a row with the same identifier, or
+	 *         {@code null} if this isn't supported for the entity
+	 */
+	String getSQLUpsertString();
+
 	/**
 	 * Delete the given instance without blocking.
 	 *
@@ -86,6 +118,20 @@ CompletionStage<?> lockReactive(
 			SharedSessionContractImplementor session)
 			throws HibernateException;
 
+	/**
+	 * Obtain a pessimistic lock on multiple instances without blocking,
+	 * using a single statement if the lock mode allows it.
+	 *
+	 * @see #lockReactive(Serializable, Object, Object, LockOptions, SharedSessionContractImplementor)
+	 */
+	CompletionStage<?> lockReactive(
+			Serializable[] ids,
+			Object[] versions,
+			Object[] objects,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session)
+			throws HibernateException;
+
 	CompletionStage<List<Object>> reactiveMultiLoad(
 	 		Serializable[] ids,
 			SessionImplementor session,
@@ -114,6 +160,15 @@ ReactiveUniqueEntityLoader getAppropriateLoader(LockOptions lockOptions,
 	CompletionStage<Object[]> reactiveGetDatabaseSnapshot(Serializable id,
 														  SharedSessionContractImplementor session);
 
+	/**
+	 * Determine which of the given identifiers belong to existing
+	 * rows, using a single query where possible, without blocking.
+	 *
+	 * @return the identifiers of the rows which exist
+	 */
+	CompletionStage<List<Serializable>> reactiveGetExistingIdentifiers(Serializable[] ids,
+																	   SharedSessionContractImplementor session);
+
 	default <E,T> CompletionStage<T> reactiveInitializeLazyProperty(Attribute<E,T> field, E entity,
 																	SharedSessionContractImplementor session) {
 		return CompletionStages.nullFuture();
@@ -21,8 +21,10 @@
 import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
 import org.hibernate.persister.spi.PersisterCreationContext;
 import org.hibernate.reactive.loader.entity.ReactiveUniqueEntityLoader;
+import org.hibernate.reactive.loader.entity.impl.BatchingEntityLoaderCache;
 import org.hibernate.reactive.loader.entity.impl.ReactiveBatchingEntityLoaderBuilder;
 import org.hibernate.reactive.loader.entity.impl.ReactiveCascadeEntityLoader;
+import org.hibernate.reactive.pool.ReactiveConnection.MultiRowInsert;
 
 import java.io.Serializable;
 import java.sql.PreparedStatement;
@@ -35,12 +37,19 @@
 public class ReactiveJoinedSubclassEntityPersister extends JoinedSubclassEntityPersister
 		implements ReactiveAbstractEntityPersister {
 
+	private final MultiRowInserts multiRowInserts;
+	private final Upserts upserts;
+	private final BatchingEntityLoaderCache batchingLoaders = new BatchingEntityLoaderCache( this );
+	private final SelectLockStrings selectLockStrings = new SelectLockStrings( this );
+
 	public ReactiveJoinedSubclassEntityPersister(
 			PersistentClass persistentClass,
 			EntityDataAccess cacheAccessStrategy,
 			NaturalIdDataAccess naturalIdRegionAccessStrategy,
 			PersisterCreationContext creationContext) throws HibernateException {
 		super( persistentClass, cacheAccessStrategy, naturalIdRegionAccessStrategy, creationContext );
+		multiRowInserts = new MultiRowInserts( this, creationContext.getSessionFactory() );
+		upserts = new Upserts( this, creationContext.getSessionFactory().getJdbcServices().getDialect() );
 	}
 
 	@Override
@@ -179,6 +188,31 @@ public String[] getUpdateStrings(boolean byRowId, boolean hasUninitializedLazyPr
 		return super.getUpdateStrings(byRowId, hasUninitializedLazyProperties);
 	}
 
+	@Override
+	public boolean isBatchable() {
+		return super.isBatchable();
+	}
+
+	@Override
+	public MultiRowInsert getMultiRowInsert(int j) {
+		return multiRowInserts.forTable( j );
+	}
+
+	@Override
+	public String getSQLUpsertString() {
+		return upserts.sql();
+	}
+
+	@Override
+	public BatchingEntityLoaderCache getBatchingEntityLoaderCache() {
+		return batchingLoaders;
+	}
+
+	@Override
+	public String getSelectLockString(LockOptions lockOptions, int count, boolean useArray) {
+		return selectLockStrings.sql( lockOptions, count, useArray );
+	}
+
 	@Override
 	public boolean check(int rows, Serializable id, int tableNumber,
 						 Expectation expectation, PreparedStatement statement) throws HibernateException {
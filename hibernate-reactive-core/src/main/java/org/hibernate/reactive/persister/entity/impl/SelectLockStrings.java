@@ -0,0 +1,47 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.persister.entity.impl;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the SQL which locks many instances of an entity at once,
+ * for each lock mode and number of identifiers, so that the same
+ * SQL, and thus the same prepared statement, is reused. The number
+ * of identifiers is {@link org.hibernate.reactive.loader.entity.impl.BatchingEntityLoaderCache#paddedSize
+ * padded} by the caller, and is limited by the batch load sizing
+ * strategy of the dialect, so the cache is bounded.
+ * <p>
+ * The SQL is only cached for lock options with no timeout and no
+ * lock modes for particular aliases, since these affect the SQL.
+ */
+class SelectLockStrings {
+
+	private final ReactiveAbstractEntityPersister persister;
+	private final Map<LockMode, Map<Integer, String>> sqlByLockMode = new ConcurrentHashMap<>();
+
+	SelectLockStrings(ReactiveAbstractEntityPersister persister) {
+		this.persister = persister;
+	}
+
+	/**
+	 * @param count the number of identifiers, which is ignored if
+	 *              they're passed as an array
+	 */
+	String sql(LockOptions lockOptions, int count, boolean useArray) {
+		if ( lockOptions.getTimeOut() != LockOptions.WAIT_FOREVER
+				|| lockOptions.getAliasLockIterator().hasNext() ) {
+			return persister.generateSelectLockString( lockOptions, count, useArray );
+		}
+		return sqlByLockMode.computeIfAbsent( lockOptions.getLockMode(), lockMode -> new ConcurrentHashMap<>() )
+				.computeIfAbsent( useArray ? 0 : count,
+						c -> persister.generateSelectLockString( lockOptions, count, useArray ) );
+	}
+}
@@ -0,0 +1,113 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.persister.entity.impl;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQL95Dialect;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rewrites the static INSERT statement of an entity persister as an
+ * "upsert", that is, as an INSERT which updates the existing row if
+ * there's already a row with the same primary key. This is supported
+ * on PostgreSQL 9.5 and above, via {@code on conflict do update}, and
+ * on MySQL, via {@code on duplicate key update}.
+ * <p>
+ * An upsert can't check the version of the existing row, and so
+ * the statement is only generated for unversioned entities mapped
+ * to a single table.
+ */
+class Upserts {
+
+	private static final String NONE = new String();
+
+	private final AbstractEntityPersister persister;
+	private final Dialect dialect;
+
+	private volatile String upsert;
+
+	Upserts(AbstractEntityPersister persister, Dialect dialect) {
+		this.persister = persister;
+		this.dialect = dialect;
+	}
+
+	/**
+	 * @return the upsert statement, or {@code null} if the entity
+	 *         can't be upserted
+	 */
+	String sql() {
+		String result = upsert;
+		if ( result == null ) {
+			// the insert statements are not generated until after
+			// the persister is instantiated, so do this lazily
+			result = create();
+			upsert = result == null ? NONE : result;
+		}
+		return result == NONE ? null : result;
+	}
+
+	private String create() {
+		if ( persister.isVersioned() || persister.getTableSpan() != 1
+				|| !( dialect instanceof PostgreSQL95Dialect || dialect instanceof MySQLDialect ) ) {
+			return null;
+		}
+		String insert = persister.getSQLInsertStrings()[0];
+		// we can't rewrite a custom insert
+		if ( insert == null || !insert.startsWith( "insert into " ) || !insert.endsWith( ")" ) ) {
+			return null;
+		}
+
+		List<String> columns = new ArrayList<>();
+		boolean[][] insertable = persister.getPropertyColumnInsertable();
+		boolean[][] updateable = persister.getPropertyColumnUpdateable();
+		for ( int i = 0; i < insertable.length; i++ ) {
+			String[] names = persister.getPropertyColumnNames( i );
+			for ( int k = 0; k < names.length; k++ ) {
+				if ( insertable[i][k] && updateable[i][k] && names[k] != null ) {
+					columns.add( names[k] );
+				}
+			}
+		}
+
+		StringBuilder sql = new StringBuilder( insert );
+		if ( dialect instanceof MySQLDialect ) {
+			sql.append( " on duplicate key update " );
+			if ( columns.isEmpty() ) {
+				// a no-op which still makes the statement an upsert
+				String id = persister.getIdentifierColumnNames()[0];
+				sql.append( id ).append( " = " ).append( id );
+			}
+			for ( int i = 0; i < columns.size(); i++ ) {
+				if ( i > 0 ) {
+					sql.append( ", " );
+				}
+				sql.append( columns.get( i ) ).append( " = values(" ).append( columns.get( i ) ).append( ')' );
+			}
+		}
+		else {
+			sql.append( " on conflict (" )
+					.append( String.join( ", ", persister.getIdentifierColumnNames() ) )
+					.append( ')' );
+			if ( columns.isEmpty() ) {
+				sql.append( " do nothing" );
+			}
+			else {
+				sql.append( " do update set " );
+				for ( int i = 0; i < columns.size(); i++ ) {
+					if ( i > 0 ) {
+						sql.append( ", " );
+					}
+					sql.append( columns.get( i ) ).append( " = excluded." ).append( columns.get( i ) );
+				}
+			}
+		}
+		return sql.toString();
+	}
+}
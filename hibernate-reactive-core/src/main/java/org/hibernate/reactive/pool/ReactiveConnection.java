@@ -9,6 +9,7 @@
 
 import java.sql.ResultSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -27,15 +28,157 @@ public interface ReactiveConnection {
 	CompletionStage<Integer> update(String sql, Object[] paramValues);
 	CompletionStage<Long> updateReturning(String sql, Object[] paramValues);
 
+	/**
+	 * Execute the given INSERT statement once for each given array
+	 * of parameter values, in a single round trip, returning the
+	 * generated key of the row inserted by each execution, in order.
+	 *
+	 * @see #updateReturning(String, Object[])
+	 */
+	CompletionStage<Long[]> updateReturning(String sql, List<Object[]> paramValues);
+
+	/**
+	 * Execute the given DML statement, verifying the row count
+	 * using the given {@link Expectation}. If batching is allowed,
+	 * and the connection supports batching, the statement may be
+	 * deferred and executed later as part of a batch of statements
+	 * with the same SQL, in which case the row count is verified
+	 * when the batch is executed.
+	 *
+	 * @see #executeBatch()
+	 */
+	CompletionStage<Void> update(String sql, Object[] paramValues,
+								 boolean allowBatching, Expectation expectation);
+
+	/**
+	 * Execute the given single-row INSERT statement, verifying the
+	 * row count using the given {@link Expectation}. If batching is
+	 * allowed, and the connection supports batching, the statement
+	 * may be deferred and later combined with other executions of
+	 * the same statement into a single multi-row INSERT statement,
+	 * obtained from the given {@link MultiRowInsert}.
+	 *
+	 * @see #executeBatch()
+	 */
+	default CompletionStage<Void> insert(String sql, Object[] paramValues,
+										 MultiRowInsert multiRowInsert,
+										 boolean allowBatching, Expectation expectation) {
+		return update( sql, paramValues, allowBatching, expectation );
+	}
+
+	/**
+	 * Execute the given DML statement once for each given array
+	 * of parameter values, in a single round trip, returning the
+	 * row count for each execution.
+	 */
+	CompletionStage<int[]> update(String sql, List<Object[]> paramValues);
+
 	CompletionStage<Result> select(String sql);
 	CompletionStage<Result> select(String sql, Object[] paramValues);
 	CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues);
 	CompletionStage<Long> selectLong(String sql, Object[] paramValues);
 
+	/**
+	 * Open a cursor over the results of the given query, allowing
+	 * the rows to be fetched incrementally, a chunk at a time.
+	 * If there is no transaction in progress, the cursor runs in
+	 * a transaction of its own, which ends when it is closed.
+	 */
+	CompletionStage<Cursor> selectCursor(String sql, Object[] paramValues);
+
 	interface Result extends Iterator<Object[]> {
 		int size();
 	}
 
+	/**
+	 * A cursor over the rows returned by a query, from which rows
+	 * are fetched from the database in chunks, on demand.
+	 *
+	 * @see #selectCursor(String, Object[])
+	 */
+	interface Cursor {
+		/**
+		 * Fetch at most the given number of rows.
+		 */
+		CompletionStage<ResultSet> fetch(int count);
+
+		/**
+		 * @return {@code true} if there might be more rows
+		 */
+		boolean hasMore();
+
+		/**
+		 * Release the cursor, along with its transaction, if any.
+		 */
+		CompletionStage<Void> close();
+	}
+
+	/**
+	 * Verifies the row count of a statement which might
+	 * have been executed as part of a batch.
+	 */
+	@FunctionalInterface
+	interface Expectation {
+		/**
+		 * @param rowCount the number of rows affected
+		 * @param batchPosition the position of the statement in
+		 *                      its batch, or -1 if it was not
+		 *                      executed as part of a batch
+		 * @param sql the SQL statement
+		 */
+		void verifyOutcome(int rowCount, int batchPosition, String sql);
+	}
+
+	/**
+	 * Rewrites a single-row INSERT statement as a statement which
+	 * inserts multiple rows, of form
+	 * {@code insert into t (...) values (...), (...), (...)}.
+	 */
+	interface MultiRowInsert {
+		/**
+		 * @return the maximum number of rows which may be inserted
+		 *         by a single statement, always a power of two
+		 */
+		int getMaxRows();
+
+		/**
+		 * @param rowCount the number of rows, a power of two, at
+		 *                 least 2, and no more than {@link #getMaxRows()}
+		 * @return the SQL statement inserting the given number of
+		 *         rows, with the parameters of each row following
+		 *         the parameters of the previous row
+		 */
+		String getSql(int rowCount);
+	}
+
+	/**
+	 * Execute any statements which have been deferred for
+	 * batch execution.
+	 */
+	CompletionStage<Void> executeBatch();
+
+	/**
+	 * Obtain a connection for executing a query which only reads
+	 * data, without locking any rows. Unless a transaction is in
+	 * progress, such a query may be sent to a read-only replica
+	 * of the database. By default, this connection is returned.
+	 */
+	default ReactiveConnection readOnly() {
+		return this;
+	}
+
+	/**
+	 * Abort the work of this connection which has not yet started.
+	 * Every statement subsequently executed by this connection, and
+	 * any attempt to commit the current transaction, fails with a
+	 * {@link java.util.concurrent.CancellationException}, but the
+	 * transaction may still be rolled back. A statement which was
+	 * already sent to the database runs to completion. By default,
+	 * this method does nothing.
+	 */
+	default void cancel() {
+	}
+
 	CompletionStage<Void> beginTransaction();
 	CompletionStage<Void> commitTransaction();
 	CompletionStage<Void> rollbackTransaction();
@@ -0,0 +1,108 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool;
+
+import org.hibernate.Incubating;
+import org.hibernate.service.Service;
+
+/**
+ * A Hibernate {@link Service} which is notified of events occurring
+ * in a {@link ReactiveConnectionPool}, allowing the pool to be
+ * monitored. All durations are given in nanoseconds. The
+ * notifications happen on the Vert.x event loop, and so an
+ * implementation must not block.
+ * <p>
+ * By default, events are reported to the Hibernate
+ * {@link org.hibernate.stat.spi.StatisticsImplementor statistics}
+ * when {@value org.hibernate.cfg.AvailableSettings#GENERATE_STATISTICS}
+ * is enabled, and are ignored otherwise.
+ * <p>
+ * A program may integrate a custom {@link ReactiveConnectionPoolMetrics},
+ * for example, one which maintains latency histograms, by contributing a
+ * new service using a
+ * {@link org.hibernate.boot.registry.StandardServiceInitiator}
+ * or from code-based Hibernate configuration by calling
+ * {@link org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder#addService}.
+ *
+ * <pre>
+ * new ReactiveServiceRegistryBuilder()
+ *     .applySettings( properties )
+ *     .addService( ReactiveConnectionPoolMetrics.class, new MyPoolMetrics() )
+ *     .build();
+ * </pre>
+ */
+@Incubating
+public interface ReactiveConnectionPoolMetrics extends Service {
+
+	/**
+	 * An instance which ignores every event.
+	 */
+	ReactiveConnectionPoolMetrics NONE = new ReactiveConnectionPoolMetrics() {};
+
+	/**
+	 * The current state of a pool, for use as gauges.
+	 */
+	interface Gauges {
+		/**
+		 * @return the maximum number of connections in the pool
+		 */
+		int getMaxSize();
+
+		/**
+		 * @return the number of connections currently in use
+		 */
+		int getInUseCount();
+
+		/**
+		 * @return the number of requests for a connection which
+		 *         are waiting to be satisfied
+		 */
+		int getPendingCount();
+	}
+
+	/**
+	 * Called when the pool is started.
+	 *
+	 * @param gauges a live view of the state of the pool
+	 */
+	default void poolStarted(Gauges gauges) {}
+
+	/**
+	 * Called when a connection is obtained from the pool.
+	 *
+	 * @param acquireNanos how long the request for a connection
+	 *                     waited, including the time taken to
+	 *                     open a new connection, if necessary
+	 */
+	default void connectionAcquired(long acquireNanos) {}
+
+	/**
+	 * Called when a request for a connection fails.
+	 *
+	 * @param acquireNanos how long the request waited
+	 * @param failure the reason for the failure
+	 */
+	default void connectionAcquisitionFailed(long acquireNanos, Throwable failure) {}
+
+	/**
+	 * Called when a connection is returned to the pool.
+	 *
+	 * @param lifetimeNanos how long the connection was in use
+	 */
+	default void connectionReleased(long lifetimeNanos) {}
+
+	/**
+	 * Called when execution of a SQL statement completes. When the
+	 * results of a query are read using a cursor, this is called
+	 * once for each read.
+	 *
+	 * @param sql the SQL statement
+	 * @param executionNanos the time between sending the statement
+	 *                       and receiving the complete result
+	 * @param success {@code false} if the statement failed
+	 */
+	default void statementExecuted(String sql, long executionNanos, boolean success) {}
+}
@@ -0,0 +1,62 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool;
+
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnectOptions;
+import org.hibernate.Incubating;
+import org.hibernate.service.Service;
+
+import java.net.URI;
+
+/**
+ * A Hibernate {@link Service} used by {@link org.hibernate.reactive.pool.impl.SqlClientPool} to customize
+ * the options of the Vert.x {@link io.vertx.sqlclient.Pool} after they
+ * have been initialized from the configuration properties, and before
+ * the pool is created. The default implementation leaves the options
+ * unchanged.
+ * <p>
+ * An implementation may replace the given {@link SqlConnectOptions} with
+ * an instance of a driver-specific subclass, for example:
+ *
+ * <pre>
+ * public SqlConnectOptions connectOptions(SqlConnectOptions options, URI uri) {
+ *     return new PgConnectOptions( options ).setPipeliningLimit( 512 );
+ * }
+ * </pre>
+ * <p>
+ * A custom implementation may be specified using the configuration
+ * property {@value org.hibernate.reactive.provider.Settings#SQL_CLIENT_POOL_CONFIGURATION},
+ * or contributed from code-based Hibernate configuration by calling
+ * {@link org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder#addService}.
+ */
+@Incubating
+public interface SqlClientPoolConfiguration extends Service {
+
+	/**
+	 * Customize the options of the pool.
+	 *
+	 * @param options the options obtained from the configuration
+	 *                properties
+	 * @return the options to use
+	 */
+	default PoolOptions poolOptions(PoolOptions options) {
+		return options;
+	}
+
+	/**
+	 * Customize the options used to connect to the database.
+	 *
+	 * @param options the options obtained from the configuration
+	 *                properties
+	 * @param uri the URI of the database
+	 * @return the options to use, possibly an instance of a
+	 *         driver-specific subclass of {@code SqlConnectOptions}
+	 */
+	default SqlConnectOptions connectOptions(SqlConnectOptions options, URI uri) {
+		return options;
+	}
+}
@@ -0,0 +1,271 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.util.impl.CompletionStages;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A {@link ReactiveConnection} which automatically groups
+ * consecutive executions of the same batchable DML statement
+ * into a single batch, which is sent to the database in one
+ * round trip when:
+ * <ul>
+ * <li>a statement with different SQL is executed,
+ * <li>the batch reaches the configured batch size,
+ * <li>any other operation is performed using this connection,
+ * or
+ * <li>{@link #executeBatch()} is called explicitly.
+ * </ul>
+ * The row count of each statement in the batch is verified by
+ * the {@link Expectation} that was passed along with the
+ * statement, when the batch is executed.
+ * <p>
+ * This is the reactive counterpart to the JDBC batching
+ * performed by Hibernate ORM when {@code hibernate.jdbc.batch_size}
+ * is set.
+ * <p>
+ * A batch of single-row inserts which was submitted along with a
+ * {@link MultiRowInsert} is executed as one or more multi-row
+ * INSERT statements, instead of as a batch. Each statement inserts
+ * a number of rows which is a power of two, and at most
+ * {@link MultiRowInsert#getMaxRows()}, so that there are only a few
+ * distinct SQL strings, and hence prepared statements, per table.
+ */
+public class BatchingConnection implements ReactiveConnection {
+
+	private final ReactiveConnection delegate;
+	private final int batchSize;
+
+	private String batchSql;
+	private MultiRowInsert batchMultiRowInsert;
+	private List<Object[]> batchParamArrays;
+	private List<Expectation> batchExpectations;
+
+	public BatchingConnection(ReactiveConnection delegate, int batchSize) {
+		this.delegate = delegate;
+		this.batchSize = batchSize;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public boolean hasBatch() {
+		return batchSql != null;
+	}
+
+	private void newBatch(String sql, Object[] paramValues,
+						  MultiRowInsert multiRowInsert, Expectation expectation) {
+		batchSql = sql;
+		batchMultiRowInsert = multiRowInsert;
+		batchParamArrays = new ArrayList<>( batchSize );
+		batchExpectations = new ArrayList<>( batchSize );
+		addToBatch( paramValues, expectation );
+	}
+
+	private void addToBatch(Object[] paramValues, Expectation expectation) {
+		batchParamArrays.add( paramValues );
+		batchExpectations.add( expectation );
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		if ( !hasBatch() ) {
+			return CompletionStages.nullFuture();
+		}
+
+		String sql = batchSql;
+		MultiRowInsert multiRowInsert = batchMultiRowInsert;
+		List<Object[]> paramArrays = batchParamArrays;
+		List<Expectation> expectations = batchExpectations;
+		discardBatch();
+
+		if ( paramArrays.size() == 1 ) {
+			// no need for a batch
+			return delegate.update( sql, paramArrays.get(0), false, expectations.get(0) );
+		}
+
+		if ( multiRowInsert != null ) {
+			return executeMultiRowInserts( sql, multiRowInsert, paramArrays, expectations );
+		}
+
+		return delegate.update( sql, paramArrays )
+				.thenAccept( rowCounts -> {
+					for ( int i = 0; i < rowCounts.length; i++ ) {
+						expectations.get(i).verifyOutcome( rowCounts[i], i, sql );
+					}
+				} );
+	}
+
+	private CompletionStage<Void> executeMultiRowInserts(String sql, MultiRowInsert multiRowInsert,
+														 List<Object[]> paramArrays,
+														 List<Expectation> expectations) {
+		CompletionStage<Void> stage = CompletionStages.nullFuture();
+		int maxRows = multiRowInsert.getMaxRows();
+		int start = 0;
+		while ( start < paramArrays.size() ) {
+			int rows = Integer.highestOneBit( Math.min( maxRows, paramArrays.size() - start ) );
+			int offset = start;
+			int end = start + rows;
+			start = end;
+			stage = stage.thenCompose( v -> rows == 1
+					? delegate.update( sql, paramArrays.get(offset), false, expectations.get(offset) )
+					: executeMultiRowInsert( multiRowInsert, offset, paramArrays.subList( offset, end ), expectations ) );
+		}
+		return stage;
+	}
+
+	private CompletionStage<Void> executeMultiRowInsert(MultiRowInsert multiRowInsert, int offset,
+														List<Object[]> rows, List<Expectation> expectations) {
+		String sql = multiRowInsert.getSql( rows.size() );
+		List<Object> paramValues = new ArrayList<>();
+		for ( Object[] row : rows ) {
+			Collections.addAll( paramValues, row );
+		}
+		return delegate.update( sql, paramValues.toArray() )
+				.thenAccept( rowCount -> {
+					// the statement inserts either every row or none
+					// of them, so if the total is what we expected,
+					// each row was inserted exactly once
+					int rowCountPerRow = rowCount == rows.size() ? 1 : rowCount;
+					for ( int i = 0; i < rows.size(); i++ ) {
+						expectations.get( offset + i ).verifyOutcome( rowCountPerRow, offset + i, sql );
+					}
+				} );
+	}
+
+	@Override
+	public ReactiveConnection readOnly() {
+		// a query must not overtake the statements waiting in a batch
+		return hasBatch() ? this : delegate.readOnly();
+	}
+
+	@Override
+	public void cancel() {
+		// the batch, if any, fails when it is executed
+		delegate.cancel();
+	}
+
+	private void discardBatch() {
+		batchSql = null;
+		batchMultiRowInsert = null;
+		batchParamArrays = null;
+		batchExpectations = null;
+	}
+
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues,
+										boolean allowBatching, Expectation expectation) {
+		return insert( sql, paramValues, null, allowBatching, expectation );
+	}
+
+	@Override
+	public CompletionStage<Void> insert(String sql, Object[] paramValues,
+										MultiRowInsert multiRowInsert,
+										boolean allowBatching, Expectation expectation) {
+		if ( !allowBatching ) {
+			return executeBatch()
+					.thenCompose( v -> delegate.update( sql, paramValues, false, expectation ) );
+		}
+		else if ( !hasBatch() ) {
+			newBatch( sql, paramValues, multiRowInsert, expectation );
+			return CompletionStages.nullFuture();
+		}
+		else if ( batchSql.equals( sql ) && batchParamArrays.size() < batchSize ) {
+			addToBatch( paramValues, expectation );
+			return CompletionStages.nullFuture();
+		}
+		else {
+			CompletionStage<Void> lastBatch = executeBatch();
+			newBatch( sql, paramValues, multiRowInsert, expectation );
+			return lastBatch;
+		}
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		return executeBatch().thenCompose( v -> delegate.update( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		return executeBatch().thenCompose( v -> delegate.execute( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		return executeBatch().thenCompose( v -> delegate.update( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		return executeBatch().thenCompose( v -> delegate.update( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Long> updateReturning(String sql, Object[] paramValues) {
+		return executeBatch().thenCompose( v -> delegate.updateReturning( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Long[]> updateReturning(String sql, List<Object[]> paramValues) {
+		return executeBatch().thenCompose( v -> delegate.updateReturning( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		return executeBatch().thenCompose( v -> delegate.select( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		return executeBatch().thenCompose( v -> delegate.select( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		return executeBatch().thenCompose( v -> delegate.selectJdbc( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Cursor> selectCursor(String sql, Object[] paramValues) {
+		return executeBatch().thenCompose( v -> delegate.selectCursor( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Long> selectLong(String sql, Object[] paramValues) {
+		return executeBatch().thenCompose( v -> delegate.selectLong( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		return executeBatch().thenCompose( v -> delegate.beginTransaction() );
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		return executeBatch().thenCompose( v -> delegate.commitTransaction() );
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		// discard the pending batch, we're rolling back anyway
+		discardBatch();
+		return delegate.rollbackTransaction();
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+}
@@ -6,7 +6,9 @@
 package org.hibernate.reactive.pool.impl;
 
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -35,4 +37,43 @@ protected static <T> CompletionStage<T> toCompletionStage(
 //		}
 		return cs;
 	}
+
+	/**
+	 * Like {@link #toCompletionStage(Consumer)}, but the returned
+	 * {@link CompletionStage} is completed on the given Vert.x
+	 * {@link Context}, so that any dependent stages are executed
+	 * there, and not on whatever thread the handler is called on.
+	 * If the given context is null, the stage is completed on the
+	 * thread which calls the handler.
+	 * <p>
+	 * A connection acquired on the given context already calls its
+	 * handlers there, so the stage is usually completed directly, and
+	 * dispatching it to the context is only a fallback.
+	 */
+	protected static <T> CompletionStage<T> toCompletionStage(
+			Context context,
+			Consumer<Handler<AsyncResult<T>>> completionConsumer) {
+		if ( context == null ) {
+			return toCompletionStage( completionConsumer );
+		}
+		CompletableFuture<T> cs = new CompletableFuture<>();
+		completionConsumer.accept( ar -> {
+			if ( Vertx.currentContext() == context ) {
+				complete( cs, ar );
+			}
+			else {
+				context.runOnContext( v -> complete( cs, ar ) );
+			}
+		} );
+		return cs;
+	}
+
+	private static <T> void complete(CompletableFuture<T> cs, AsyncResult<T> ar) {
+		if ( ar.succeeded() ) {
+			cs.complete( ar.result() );
+		}
+		else {
+			cs.completeExceptionally( ar.cause() );
+		}
+	}
 }
@@ -5,14 +5,24 @@
  */
 package org.hibernate.reactive.pool.impl;
 
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
 /**
  * PostgreSQL has a "funny" parameter syntax of form {@code $n}, which
  * the Vert.x {@link io.vertx.sqlclient.SqlClient} does not abstract.
  * This class converts JDBC/ODBC-style {@code ?} parameters generated
  * by Hibernate ORM to this native format.
+ * <p>
+ * Since the same statements are executed over and over, converted
+ * SQL is kept in a bounded cache.
  */
 public class Parameters {
 
+	private static final int CACHE_SIZE = 2048;
+
+	private static final BoundedConcurrentHashMap<String, String> CACHE =
+			new BoundedConcurrentHashMap<>( CACHE_SIZE, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+
 	private boolean inString;
 	private boolean inQuoted;
 	private boolean inSqlComment;
@@ -24,19 +34,23 @@ public class Parameters {
 
 	private Parameters(String sql, int parameterCount) {
 		result = new StringBuilder( sql.length() + parameterCount );
-		sql.codePoints().forEach(this::append);
+		// none of the characters we're interested in can
+		// occur in a surrogate pair, so iterate over chars
+		for ( int i = 0, length = sql.length(); i < length; i++ ) {
+			append( sql.charAt( i ) );
+		}
 	}
 
 	private String result() {
 		return result.toString();
 	}
 
-	private void append(int codePoint) {
+	private void append(char ch) {
 		if (escaped) {
 			escaped = false;
 		}
 		else {
-			switch (codePoint) {
+			switch (ch) {
 				case '\\':
 					escaped = true;
 					break;
@@ -67,8 +81,8 @@ private void append(int codePoint) {
 					}
 			}
 		}
-		previous = codePoint;
-		result.appendCodePoint(codePoint);
+		previous = ch;
+		result.append(ch);
 	}
 
 	/**
@@ -76,7 +90,15 @@ private void append(int codePoint) {
 	 * {@code $n} parameters in the given SQL string.
 	 */
 	public static String process(String sql, int parameterCount) {
-		return new Parameters(sql, parameterCount).result();
+		if ( sql.indexOf( '?' ) < 0 ) {
+			return sql;
+		}
+		String result = CACHE.get( sql );
+		if ( result == null ) {
+			result = new Parameters( sql, parameterCount ).result();
+			CACHE.put( sql, result );
+		}
+		return result;
 	}
 
 }
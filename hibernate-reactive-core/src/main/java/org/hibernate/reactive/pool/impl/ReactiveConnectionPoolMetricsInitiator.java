@@ -0,0 +1,40 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.pool.ReactiveConnectionPoolMetrics;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import java.util.Map;
+
+/**
+ * Factory for the default implementation of {@link ReactiveConnectionPoolMetrics},
+ * which is {@link StatisticsPoolMetrics} if statistics are enabled, or
+ * {@link ReactiveConnectionPoolMetrics#NONE} otherwise.
+ */
+public final class ReactiveConnectionPoolMetricsInitiator
+		implements StandardServiceInitiator<ReactiveConnectionPoolMetrics> {
+
+	public static final ReactiveConnectionPoolMetricsInitiator INSTANCE = new ReactiveConnectionPoolMetricsInitiator();
+
+	private ReactiveConnectionPoolMetricsInitiator() {
+	}
+
+	@Override
+	public ReactiveConnectionPoolMetrics initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		return ConfigurationHelper.getBoolean( Settings.GENERATE_STATISTICS, configurationValues, false )
+				? new StatisticsPoolMetrics()
+				: ReactiveConnectionPoolMetrics.NONE;
+	}
+
+	@Override
+	public Class<ReactiveConnectionPoolMetrics> getServiceInitiated() {
+		return ReactiveConnectionPoolMetrics.class;
+	}
+}
@@ -0,0 +1,426 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.util.config.ConfigurationException;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.ServiceRegistryAwareService;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Startable;
+import org.hibernate.service.spi.Stoppable;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A pool of reactive connections which sends queries that only read
+ * data to read-only replicas of the database, and every other
+ * statement to the primary database.
+ * <p>
+ * The primary database, and each replica listed by
+ * {@link Settings#REPLICA_URLS}, is accessed via its own
+ * {@link SqlClientPool}. A connection obtained from this pool
+ * obtains a connection to the primary database when it's first
+ * used, and a connection to a replica the first time a query is
+ * executed by its {@link ReactiveConnection#readOnly() read-only}
+ * connection, outside of a transaction. The replica is selected
+ * according to {@link Settings#REPLICA_SELECTION}.
+ */
+public class ReplicaRoutingPool implements ReactiveConnectionPool, ServiceRegistryAwareService, Configurable, Stoppable, Startable {
+
+	private final SqlClientPool primary = new SqlClientPool();
+	private final List<Replica> replicas = new ArrayList<>();
+	private final AtomicInteger nextReplica = new AtomicInteger();
+	private boolean leastBusy;
+	private ServiceRegistryImplementor serviceRegistry;
+
+	public ReplicaRoutingPool() {}
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		this.serviceRegistry = serviceRegistry;
+		primary.injectServices( serviceRegistry );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void configure(Map configurationValues) {
+		String urls = ConfigurationHelper.getString( Settings.REPLICA_URLS, configurationValues, "" );
+		for ( String url : urls.split( "," ) ) {
+			if ( !url.trim().isEmpty() ) {
+				replicas.add( new Replica( url.trim() ) );
+			}
+		}
+		if ( replicas.isEmpty() ) {
+			throw new ConfigurationException( "No replica URLs specified by: " + Settings.REPLICA_URLS );
+		}
+
+		String selection = ConfigurationHelper.getString( Settings.REPLICA_SELECTION, configurationValues, "round_robin" );
+		switch ( selection.toLowerCase() ) {
+			case "round_robin":
+				leastBusy = false;
+				break;
+			case "least_busy":
+				leastBusy = true;
+				break;
+			default:
+				throw new ConfigurationException( "Unknown replica selection strategy: " + selection );
+		}
+		CoreLogging.messageLogger(ReplicaRoutingPool.class)
+				.infof( "HRX000022: Routing read-only queries to %d replicas, selection strategy: %s",
+						replicas.size(), selection );
+
+		primary.configure( configurationValues );
+		for ( Replica replica : replicas ) {
+			Map replicaConfigurationValues = new HashMap( configurationValues );
+			replicaConfigurationValues.put( Settings.URL, replica.url );
+			replica.pool.injectServices( serviceRegistry );
+			replica.pool.configure( replicaConfigurationValues );
+		}
+	}
+
+	@Override
+	public void start() {
+		primary.start();
+		for ( Replica replica : replicas ) {
+			replica.pool.start();
+		}
+	}
+
+	@Override
+	public void stop() {
+		primary.stop();
+		for ( Replica replica : replicas ) {
+			replica.pool.stop();
+		}
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection() {
+		return CompletionStages.completedFuture( new RoutingConnection() );
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection() {
+		return new RoutingConnection();
+	}
+
+	/**
+	 * Obtain a lazily-initializing connection from the given pool,
+	 * which is either the pool for the primary database, or the
+	 * pool for the replica with the given URL. The connection is
+	 * acquired on the given context when it is first used.
+	 *
+	 * @param url the URL of the replica, or {@code null} if the
+	 *            pool is the pool for the primary database
+	 */
+	protected ReactiveConnection getProxyConnection(SqlClientPool pool, String url, Context context) {
+		return pool.getProxyConnection( context );
+	}
+
+	private Replica selectReplica() {
+		if ( replicas.size() == 1 ) {
+			return replicas.get( 0 );
+		}
+		else if ( leastBusy ) {
+			Replica selected = null;
+			for ( Replica replica : replicas ) {
+				if ( selected == null || replica.inFlightCount.get() < selected.inFlightCount.get() ) {
+					selected = replica;
+				}
+			}
+			return selected;
+		}
+		else {
+			return replicas.get( Math.floorMod( nextReplica.getAndIncrement(), replicas.size() ) );
+		}
+	}
+
+	private static class Replica {
+		final String url;
+		final SqlClientPool pool = new SqlClientPool();
+		// the number of queries sent to the replica which
+		// have not yet completed
+		final AtomicInteger inFlightCount = new AtomicInteger();
+
+		Replica(String url) {
+			this.url = url;
+		}
+	}
+
+	/**
+	 * A connection which executes statements using a connection to
+	 * the primary database, and provides a connection to a replica
+	 * as its {@link #readOnly() read-only} connection.
+	 */
+	private class RoutingConnection implements ReactiveConnection {
+		// the context the session was opened on, which is where
+		// a connection to a replica must later be acquired
+		private final Context context = Vertx.currentContext();
+		private final ReactiveConnection connection = getProxyConnection( primary, null, context );
+		// cancel() may be called from any thread
+		private volatile ReactiveConnection replicaConnection;
+		private boolean inTransaction;
+		private volatile boolean cancelled;
+
+		@Override
+		public ReactiveConnection readOnly() {
+			if ( inTransaction ) {
+				// the transaction might have written data
+				// which has not yet reached a replica
+				return this;
+			}
+			if ( replicaConnection == null ) {
+				Replica replica = selectReplica();
+				replicaConnection = new ReplicaConnection(
+						getProxyConnection( replica.pool, replica.url, context ),
+						replica.inFlightCount
+				);
+				if ( cancelled ) {
+					replicaConnection.cancel();
+				}
+			}
+			return replicaConnection;
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			connection.cancel();
+			ReactiveConnection replicaConnection = this.replicaConnection;
+			if ( replicaConnection != null ) {
+				replicaConnection.cancel();
+			}
+		}
+
+		@Override
+		public CompletionStage<Void> execute(String sql) {
+			return connection.execute( sql );
+		}
+
+		@Override
+		public CompletionStage<Integer> update(String sql) {
+			return connection.update( sql );
+		}
+
+		@Override
+		public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+			return connection.update( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<Void> update(String sql, Object[] paramValues,
+											boolean allowBatching, Expectation expectation) {
+			return connection.update( sql, paramValues, allowBatching, expectation );
+		}
+
+		@Override
+		public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+			return connection.update( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<Long> updateReturning(String sql, Object[] paramValues) {
+			return connection.updateReturning( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<Long[]> updateReturning(String sql, List<Object[]> paramValues) {
+			return connection.updateReturning( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<Result> select(String sql) {
+			return connection.select( sql );
+		}
+
+		@Override
+		public CompletionStage<Result> select(String sql, Object[] paramValues) {
+			return connection.select( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+			return connection.selectJdbc( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<Long> selectLong(String sql, Object[] paramValues) {
+			return connection.selectLong( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<Cursor> selectCursor(String sql, Object[] paramValues) {
+			return connection.selectCursor( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<Void> executeBatch() {
+			return connection.executeBatch();
+		}
+
+		@Override
+		public CompletionStage<Void> beginTransaction() {
+			inTransaction = true;
+			return connection.beginTransaction();
+		}
+
+		@Override
+		public CompletionStage<Void> commitTransaction() {
+			return connection.commitTransaction()
+					.whenComplete( (v, e) -> inTransaction = false );
+		}
+
+		@Override
+		public CompletionStage<Void> rollbackTransaction() {
+			return connection.rollbackTransaction()
+					.whenComplete( (v, e) -> inTransaction = false );
+		}
+
+		@Override
+		public void close() {
+			connection.close();
+			if ( replicaConnection != null ) {
+				replicaConnection.close();
+				replicaConnection = null;
+			}
+		}
+	}
+
+	/**
+	 * A connection to a replica, which keeps count of the queries
+	 * it has sent to the replica which have not yet completed, for
+	 * use when selecting the least busy replica. A replica is only
+	 * ever sent queries, so every other operation is simply passed
+	 * along to the underlying connection.
+	 */
+	private static class ReplicaConnection implements ReactiveConnection {
+		private final ReactiveConnection connection;
+		private final AtomicInteger inFlightCount;
+
+		ReplicaConnection(ReactiveConnection connection, AtomicInteger inFlightCount) {
+			this.connection = connection;
+			this.inFlightCount = inFlightCount;
+		}
+
+		private <T> CompletionStage<T> count(Supplier<CompletionStage<T>> query) {
+			inFlightCount.incrementAndGet();
+			CompletionStage<T> stage;
+			try {
+				stage = query.get();
+			}
+			catch (RuntimeException e) {
+				stage = CompletionStages.failedFuture( e );
+			}
+			return stage.whenComplete( (r, x) -> inFlightCount.decrementAndGet() );
+		}
+
+		@Override
+		public CompletionStage<Result> select(String sql) {
+			return count( () -> connection.select( sql ) );
+		}
+
+		@Override
+		public CompletionStage<Result> select(String sql, Object[] paramValues) {
+			return count( () -> connection.select( sql, paramValues ) );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+			return count( () -> connection.selectJdbc( sql, paramValues ) );
+		}
+
+		@Override
+		public CompletionStage<Long> selectLong(String sql, Object[] paramValues) {
+			return count( () -> connection.selectLong( sql, paramValues ) );
+		}
+
+		@Override
+		public CompletionStage<Cursor> selectCursor(String sql, Object[] paramValues) {
+			return count( () -> connection.selectCursor( sql, paramValues ) );
+		}
+
+		@Override
+		public CompletionStage<Void> execute(String sql) {
+			return connection.execute( sql );
+		}
+
+		@Override
+		public CompletionStage<Integer> update(String sql) {
+			return connection.update( sql );
+		}
+
+		@Override
+		public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+			return connection.update( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<Void> update(String sql, Object[] paramValues,
+											boolean allowBatching, Expectation expectation) {
+			return connection.update( sql, paramValues, allowBatching, expectation );
+		}
+
+		@Override
+		public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+			return connection.update( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<Long> updateReturning(String sql, Object[] paramValues) {
+			return connection.updateReturning( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<Long[]> updateReturning(String sql, List<Object[]> paramValues) {
+			return connection.updateReturning( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<Void> executeBatch() {
+			return connection.executeBatch();
+		}
+
+		@Override
+		public void cancel() {
+			connection.cancel();
+		}
+
+		@Override
+		public CompletionStage<Void> beginTransaction() {
+			return connection.beginTransaction();
+		}
+
+		@Override
+		public CompletionStage<Void> commitTransaction() {
+			return connection.commitTransaction();
+		}
+
+		@Override
+		public CompletionStage<Void> rollbackTransaction() {
+			return connection.rollbackTransaction();
+		}
+
+		@Override
+		public void close() {
+			connection.close();
+		}
+	}
+}
@@ -5,6 +5,8 @@
  */
 package org.hibernate.reactive.pool.impl;
 
+import io.vertx.core.Context;
+import io.vertx.sqlclient.PreparedStatement;
 import io.vertx.sqlclient.PropertyKind;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowIterator;
@@ -19,14 +21,24 @@
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPoolMetrics;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 /**
  * A reactive connection based on Vert.x's {@link SqlConnection}.
+ * <p>
+ * The results of statements executed via this connection are
+ * delivered on the Vert.x {@link Context} the connection was
+ * obtained from, if any, regardless of which event loop the
+ * underlying {@code SqlConnection} belongs to.
  */
 public class SqlClientConnection implements ReactiveConnection {
 
@@ -39,15 +51,27 @@ public class SqlClientConnection implements ReactiveConnection {
 	private boolean usePostgresStyleParameters;
 
 	private final SqlConnection connection;
+	private final Context context;
 	private Transaction transaction;
 
-	SqlClientConnection(SqlConnection connection,
+	private final ReactiveConnectionPoolMetrics metrics;
+	private final Runnable onClose;
+	private final long acquired = System.nanoTime();
+	private boolean closed;
+	private volatile boolean cancelled;
+
+	SqlClientConnection(SqlConnection connection, Context context,
 						boolean showSQL, boolean formatSQL,
-						boolean usePostgresStyleParameters) {
+						boolean usePostgresStyleParameters,
+						ReactiveConnectionPoolMetrics metrics,
+						Runnable onClose) {
 		this.showSQL = showSQL;
 		this.connection = connection;
+		this.context = context;
 		this.formatSQL = formatSQL;
 		this.usePostgresStyleParameters = usePostgresStyleParameters;
+		this.metrics = metrics;
+		this.onClose = onClose;
 	}
 
 	@Override
@@ -55,11 +79,59 @@ public CompletionStage<Integer> update(String sql, Object[] paramValues) {
 		return update( sql, Tuple.wrap( paramValues ) );
 	}
 
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues,
+										boolean allowBatching, Expectation expectation) {
+		return update( sql, paramValues )
+				.thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		List<Tuple> tuples = new ArrayList<>( paramValues.size() );
+		for ( Object[] values : paramValues ) {
+			tuples.add( Tuple.wrap( values ) );
+		}
+		return preparedQueryBatch( sql, tuples )
+				.thenApply( result -> {
+					int[] rowCounts = new int[ tuples.size() ];
+					RowSet<Row> rowSet = result;
+					for ( int i = 0; i < rowCounts.length && rowSet != null; i++ ) {
+						rowCounts[i] = rowSet.rowCount();
+						rowSet = rowSet.next();
+					}
+					return rowCounts;
+				} );
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		return CompletionStages.nullFuture();
+	}
+
 	@Override
 	public CompletionStage<Long> updateReturning(String sql, Object[] paramValues) {
 		return updateReturning( sql, Tuple.wrap( paramValues ) );
 	}
 
+	@Override
+	public CompletionStage<Long[]> updateReturning(String sql, List<Object[]> paramValues) {
+		List<Tuple> tuples = new ArrayList<>( paramValues.size() );
+		for ( Object[] values : paramValues ) {
+			tuples.add( Tuple.wrap( values ) );
+		}
+		return preparedQueryBatch( sql, tuples )
+				.thenApply( result -> {
+					Long[] keys = new Long[ tuples.size() ];
+					RowSet<Row> rowSet = result;
+					for ( int i = 0; i < keys.length && rowSet != null; i++ ) {
+						keys[i] = generatedKey( rowSet );
+						rowSet = rowSet.next();
+					}
+					return keys;
+				} );
+	}
+
 	@Override
 	public CompletionStage<Long> selectLong(String sql, Object[] paramValues) {
 		return preparedQuery( sql, Tuple.wrap( paramValues ) )
@@ -86,6 +158,37 @@ public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
 		return preparedQuery( sql, Tuple.wrap( paramValues ) ).thenApply(ResultSetAdaptor::new);
 	}
 
+	@Override
+	public CompletionStage<Cursor> selectCursor(String sql, Object[] paramValues) {
+		if ( cancelled ) {
+			return cancelledFuture();
+		}
+		feedback(sql);
+		String processedSql = usePostgresStyleParameters ? Parameters.process( sql, paramValues.length ) : sql;
+		// a cursor must be used within a transaction, so if
+		// we're not already in one, start a transaction that
+		// ends when the cursor is closed
+		boolean ownTransaction = transaction == null;
+		Transaction cursorTransaction = ownTransaction ? connection.begin() : transaction;
+		return Handlers.<PreparedStatement>toCompletionStage(
+				context,
+				handler -> cursorTransaction.prepare( processedSql, handler )
+		)
+				.thenApply( statement -> new RowCursor(
+						context,
+						metrics,
+						sql,
+						statement,
+						statement.cursor( Tuple.wrap( paramValues ) ),
+						ownTransaction ? cursorTransaction : null
+				) )
+				.whenComplete( (cursor, error) -> {
+					if ( error != null && ownTransaction ) {
+						cursorTransaction.rollback();
+					}
+				} );
+	}
+
 	@Override
 	public CompletionStage<Void> execute(String sql) {
 		return preparedQuery( sql ).thenApply( ignore -> null );
@@ -101,27 +204,69 @@ public CompletionStage<Integer> update(String sql, Tuple parameters) {
 	}
 
 	public CompletionStage<Long> updateReturning(String sql, Tuple parameters) {
-		return preparedQuery( sql, parameters )
-				.thenApply( rows -> {
-					RowIterator<Row> iterator = rows.iterator();
-					return iterator.hasNext() ?
-							iterator.next().getLong(0) :
-							rows.property(getMySqlLastInsertedId());
-				} );
+		return preparedQuery( sql, parameters ).thenApply( SqlClientConnection::generatedKey );
+	}
+
+	/**
+	 * The generated key is either returned as a row, by
+	 * {@code returning} on PostgreSQL or {@code final table}
+	 * on DB2, or as a property of the result on MySQL.
+	 */
+	private static Long generatedKey(RowSet<Row> rows) {
+		RowIterator<Row> iterator = rows.iterator();
+		return iterator.hasNext() ?
+				iterator.next().getLong(0) :
+				rows.property(getMySqlLastInsertedId());
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters) {
+		if ( cancelled ) {
+			return cancelledFuture();
+		}
 		feedback(sql);
 		String processedSql = usePostgresStyleParameters ? Parameters.process( sql, parameters.size() ) : sql;
-		return Handlers.toCompletionStage(
+		return timed( metrics, sql, () -> Handlers.toCompletionStage(
+				context,
 				handler -> client().preparedQuery( processedSql ).execute( parameters, handler )
-		);
+		) );
+	}
+
+	public CompletionStage<RowSet<Row>> preparedQueryBatch(String sql, List<Tuple> parameters) {
+		if ( cancelled ) {
+			return cancelledFuture();
+		}
+		feedback(sql);
+		String processedSql = usePostgresStyleParameters
+				? Parameters.process( sql, parameters.isEmpty() ? 0 : parameters.get(0).size() )
+				: sql;
+		return timed( metrics, sql, () -> Handlers.toCompletionStage(
+				context,
+				handler -> client().preparedQuery( processedSql ).executeBatch( parameters, handler )
+		) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql) {
+		if ( cancelled ) {
+			return cancelledFuture();
+		}
 		feedback(sql);
-		return Handlers.toCompletionStage(
+		return timed( metrics, sql, () -> Handlers.toCompletionStage(
+				context,
 				handler -> client().preparedQuery( sql ).execute( handler )
+		) );
+	}
+
+	/**
+	 * Report the time taken by the given execution of a statement,
+	 * including the time taken to send it, to the metrics.
+	 */
+	private static <T> CompletionStage<T> timed(
+			ReactiveConnectionPoolMetrics metrics,
+			String sql,
+			Supplier<CompletionStage<T>> execution) {
+		long start = System.nanoTime();
+		return execution.get().whenComplete(
+				(result, error) -> metrics.statementExecuted( sql, System.nanoTime() - start, error == null )
 		);
 	}
 
@@ -156,7 +301,11 @@ public CompletionStage<Void> beginTransaction() {
 
 	@Override
 	public CompletionStage<Void> commitTransaction() {
+		if ( cancelled ) {
+			return cancelledFuture();
+		}
 		return Handlers.toCompletionStage(
+				context,
 				handler -> transaction.commit(
 						ar -> {
 							transaction = null;
@@ -170,6 +319,7 @@ public CompletionStage<Void> commitTransaction() {
 	@Override
 	public CompletionStage<Void> rollbackTransaction() {
 		return Handlers.toCompletionStage(
+				context,
 				handler -> transaction.rollback(
 						ar -> {
 							transaction = null;
@@ -180,9 +330,23 @@ public CompletionStage<Void> rollbackTransaction() {
 //		return execute("rollback");
 	}
 
+	@Override
+	public void cancel() {
+		cancelled = true;
+	}
+
+	private static <T> CompletionStage<T> cancelledFuture() {
+		return CompletionStages.failedFuture( new CancellationException( "the connection was cancelled" ) );
+	}
+
 	@Override
 	public void close() {
 		connection.close();
+		if ( !closed ) {
+			closed = true;
+			metrics.connectionReleased( System.nanoTime() - acquired );
+			onClose.run();
+		}
 	}
 
 	/**
@@ -202,6 +366,51 @@ private static PropertyKind<Long> getMySqlLastInsertedId() {
         return mySqlLastInsertedId;
     }
 
+	private static class RowCursor implements Cursor {
+		private final Context context;
+		private final ReactiveConnectionPoolMetrics metrics;
+		private final String sql;
+		private final PreparedStatement statement;
+		private final io.vertx.sqlclient.Cursor cursor;
+		private final Transaction ownTransaction;
+		private boolean hasMore = true;
+
+		RowCursor(Context context, ReactiveConnectionPoolMetrics metrics, String sql,
+				  PreparedStatement statement, io.vertx.sqlclient.Cursor cursor, Transaction ownTransaction) {
+			this.context = context;
+			this.metrics = metrics;
+			this.sql = sql;
+			this.statement = statement;
+			this.cursor = cursor;
+			this.ownTransaction = ownTransaction;
+		}
+
+		@Override
+		public CompletionStage<ResultSet> fetch(int count) {
+			// each read executes the statement for the next rows
+			return timed( metrics, sql, () -> Handlers.<RowSet<Row>>toCompletionStage( context, handler -> cursor.read( count, handler ) ) )
+					.thenApply( rows -> {
+						hasMore = cursor.hasMore();
+						return new ResultSetAdaptor( rows );
+					} );
+		}
+
+		@Override
+		public boolean hasMore() {
+			return hasMore;
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			hasMore = false;
+			CompletionStage<Void> closed = Handlers.<Void>toCompletionStage( context, cursor::close )
+					.thenCompose( v -> Handlers.<Void>toCompletionStage( context, statement::close ) );
+			return ownTransaction == null
+					? closed
+					: closed.thenCompose( v -> Handlers.<Void>toCompletionStage( context, ownTransaction::commit ) );
+		}
+	}
+
 	private static class RowSetResult implements Result {
 		private final RowSet<Row> rowset;
 		private final RowIterator<Row> it;
@@ -5,6 +5,9 @@
  */
 package org.hibernate.reactive.pool.impl;
 
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
@@ -19,6 +22,8 @@
 import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.pool.ReactiveConnectionPoolMetrics;
+import org.hibernate.reactive.pool.SqlClientPoolConfiguration;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.reactive.vertx.VertxInstance;
 import org.hibernate.service.spi.Configurable;
@@ -29,10 +34,14 @@
 
 import java.net.URI;
 import java.sql.ResultSet;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
@@ -40,7 +49,16 @@
 /**
  * A pool of reactive connections backed by a Vert.x {@link Pool}.
  * The {@code Pool} itself is backed by an instance of {@link Vertx}
- * obtained via the {@link VertxInstance} service.
+ * obtained via the {@link VertxInstance} service. Events occurring
+ * in the pool are reported to the {@link ReactiveConnectionPoolMetrics}
+ * service. The options of the pool may be further customized by the
+ * {@link SqlClientPoolConfiguration} service.
+ * <p>
+ * A connection is bound to the Vert.x {@link Context} of the thread
+ * which requested it, that is, the context on which the session
+ * was opened. The connection is acquired on that context, so that
+ * the results of its statements are delivered there by Vert.x,
+ * without the need to dispatch them to the context.
  */
 public class SqlClientPool implements ReactiveConnectionPool, ServiceRegistryAwareService, Configurable, Stoppable, Startable {
 
@@ -52,6 +70,12 @@ public class SqlClientPool implements ReactiveConnectionPool, ServiceRegistryAwa
 	private ServiceRegistryImplementor serviceRegistry;
 	private Map configurationValues;
 	private boolean usePostgresStyleParameters;
+	private ReactiveConnectionPoolMetrics metrics = ReactiveConnectionPoolMetrics.NONE;
+	private SqlClientPoolConfiguration configuration = new SqlClientPoolConfiguration() {};
+
+	private int maxSize;
+	private final AtomicInteger inUseCount = new AtomicInteger();
+	private final AtomicInteger pendingCount = new AtomicInteger();
 
 	public SqlClientPool() {}
 
@@ -69,12 +93,21 @@ public void configure(Map configurationValues) {
 		formatSQL = ConfigurationHelper.getBoolean( Settings.FORMAT_SQL, configurationValues, false );
 		usePostgresStyleParameters =
 				serviceRegistry.getService(JdbcEnvironment.class).getDialect() instanceof PostgreSQL9Dialect;
+		ReactiveConnectionPoolMetrics poolMetrics = serviceRegistry.getService( ReactiveConnectionPoolMetrics.class );
+		if ( poolMetrics != null ) {
+			metrics = poolMetrics;
+		}
+		SqlClientPoolConfiguration poolConfiguration = serviceRegistry.getService( SqlClientPoolConfiguration.class );
+		if ( poolConfiguration != null ) {
+			configuration = poolConfiguration;
+		}
 	}
 
 	@Override
 	public void start() {
 		if ( pool == null ) {
 			pool = createPool(configurationValues);
+			metrics.poolStarted( new Gauges() );
 		}
 	}
 
@@ -85,8 +118,8 @@ protected Pool createPool(Map configurationValues) {
 
 	protected Pool configurePool(Map configurationValues, Vertx vertx) {
 		URI uri = jdbcUrl(configurationValues);
-		SqlConnectOptions connectOptions = sqlConnectOptions( uri );
-		PoolOptions poolOptions = poolOptions( configurationValues );
+		SqlConnectOptions connectOptions = configuration.connectOptions( sqlConnectOptions( uri ), uri );
+		PoolOptions poolOptions = configuration.poolOptions( poolOptions( configurationValues ) );
 
 		try {
 			// First try to load the Pool using the standard ServiceLoader pattern
@@ -112,6 +145,7 @@ private PoolOptions poolOptions(Map configurationValues) {
 		final int poolSize = ConfigurationHelper.getInt( Settings.POOL_SIZE, configurationValues, DEFAULT_POOL_SIZE );
 		CoreLogging.messageLogger(SqlClientPool.class).infof( "HRX000012: Connection pool size: %d", poolSize );
 		poolOptions.setMaxSize( poolSize );
+		maxSize = poolSize;
 
 		final Integer maxWaitQueueSize = ConfigurationHelper.getInteger( Settings.MAX_WAIT_QUEUE_SIZE, configurationValues );
 		if (maxWaitQueueSize!=null) {
@@ -198,9 +232,63 @@ private SqlConnectOptions sqlConnectOptions(URI uri) {
 			connectOptions.setPreparedStatementCacheSqlLimit(sqlLimit);
 		}
 
+		final Integer connectTimeout = ConfigurationHelper.getInteger( Settings.CONNECT_TIMEOUT, configurationValues );
+		if (connectTimeout!=null) {
+			CoreLogging.messageLogger(SqlClientPool.class).infof( "HRX000017: Connection timeout: %d ms", connectTimeout );
+			connectOptions.setConnectTimeout(connectTimeout);
+		}
+
+		final Integer idleTimeout = ConfigurationHelper.getInteger( Settings.IDLE_TIMEOUT, configurationValues );
+		if (idleTimeout!=null) {
+			CoreLogging.messageLogger(SqlClientPool.class).infof( "HRX000018: Connection idle timeout: %d ms", idleTimeout );
+			connectOptions.setIdleTimeout(idleTimeout);
+			connectOptions.setIdleTimeoutUnit(TimeUnit.MILLISECONDS);
+		}
+
+		final Integer reconnectAttempts = ConfigurationHelper.getInteger( Settings.RECONNECT_ATTEMPTS, configurationValues );
+		if (reconnectAttempts!=null) {
+			CoreLogging.messageLogger(SqlClientPool.class).infof( "HRX000019: Connection reconnect attempts: %d", reconnectAttempts );
+			connectOptions.setReconnectAttempts(reconnectAttempts);
+		}
+
+		final Integer reconnectInterval = ConfigurationHelper.getInteger( Settings.RECONNECT_INTERVAL, configurationValues );
+		if (reconnectInterval!=null) {
+			CoreLogging.messageLogger(SqlClientPool.class).infof( "HRX000020: Connection reconnect interval: %d ms", reconnectInterval );
+			connectOptions.setReconnectInterval(reconnectInterval);
+		}
+
+		if ( configurationValues.containsKey( Settings.TCP_KEEP_ALIVE ) ) {
+			connectOptions.setTcpKeepAlive( ConfigurationHelper.getBoolean( Settings.TCP_KEEP_ALIVE, configurationValues ) );
+		}
+		if ( configurationValues.containsKey( Settings.TCP_NO_DELAY ) ) {
+			connectOptions.setTcpNoDelay( ConfigurationHelper.getBoolean( Settings.TCP_NO_DELAY, configurationValues ) );
+		}
+
+		final Integer pipeliningLimit = ConfigurationHelper.getInteger( Settings.PIPELINING_LIMIT, configurationValues );
+		if (pipeliningLimit!=null && scheme.startsWith("postgres")) {
+			CoreLogging.messageLogger(SqlClientPool.class).infof( "HRX000023: Pipelining limit: %d", pipeliningLimit );
+			connectOptions = pgConnectOptions( connectOptions, pipeliningLimit );
+		}
+
 		return connectOptions;
 	}
 
+	/**
+	 * The PostgreSQL client is not necessarily on the classpath,
+	 * so {@code PgConnectOptions} is instantiated reflectively.
+	 */
+	private static SqlConnectOptions pgConnectOptions(SqlConnectOptions connectOptions, int pipeliningLimit) {
+		try {
+			Class<?> optionsClass = Class.forName( "io.vertx.pgclient.PgConnectOptions" );
+			Object pgConnectOptions = optionsClass.getConstructor( SqlConnectOptions.class ).newInstance( connectOptions );
+			optionsClass.getMethod( "setPipeliningLimit", int.class ).invoke( pgConnectOptions, pipeliningLimit );
+			return (SqlConnectOptions) pgConnectOptions;
+		}
+		catch (Exception e) {
+			throw new ConfigurationException( "Could not set the PostgreSQL pipelining limit", e );
+		}
+	}
+
 	private Driver findDriver(URI uri, ServiceConfigurationError originalError) {
 		String scheme = uri.getScheme(); // "postgresql", "mysql", "db2", etc
 		for (Driver d : ServiceLoader.load( Driver.class )) {
@@ -224,24 +312,63 @@ private Driver findDriver(URI uri, ServiceConfigurationError originalError) {
 
 	@Override
 	public CompletionStage<ReactiveConnection> getConnection() {
+		return getConnection( Vertx.currentContext() );
+	}
+
+	private CompletionStage<ReactiveConnection> getConnection(Context context) {
+		long start = System.nanoTime();
+		pendingCount.incrementAndGet();
 		return Handlers.toCompletionStage(
-				handler -> pool.getConnection(
-						ar -> handler.handle(
-								ar.succeeded()
-										? succeededFuture( newConnection( ar.result() ) )
-										: failedFuture( ar.cause() )
-						)
+				context,
+				handler -> acquire(
+						context,
+						ar -> {
+							pendingCount.decrementAndGet();
+							long acquireNanos = System.nanoTime() - start;
+							if ( ar.succeeded() ) {
+								inUseCount.incrementAndGet();
+								metrics.connectionAcquired( acquireNanos );
+								handler.handle( succeededFuture( newConnection( ar.result(), context ) ) );
+							}
+							else {
+								metrics.connectionAcquisitionFailed( acquireNanos, ar.cause() );
+								handler.handle( failedFuture( ar.cause() ) );
+							}
+						}
 				)
 		);
 	}
 
-	private SqlClientConnection newConnection(SqlConnection ar) {
-		return new SqlClientConnection( ar, showSQL, formatSQL, usePostgresStyleParameters );
+	/**
+	 * Acquire a connection from the pool on the given context, since
+	 * Vert.x delivers the results of the statements executed by a
+	 * connection to the context on which it was acquired.
+	 */
+	private void acquire(Context context, Handler<AsyncResult<SqlConnection>> handler) {
+		if ( context == null || Vertx.currentContext() == context ) {
+			pool.getConnection( handler );
+		}
+		else {
+			context.runOnContext( v -> pool.getConnection( handler ) );
+		}
+	}
+
+	private SqlClientConnection newConnection(SqlConnection ar, Context context) {
+		return new SqlClientConnection( ar, context, showSQL, formatSQL, usePostgresStyleParameters,
+				metrics, inUseCount::decrementAndGet );
 	}
 
 	@Override
 	public ReactiveConnection getProxyConnection() {
-		return new ProxyConnection();
+		return getProxyConnection( Vertx.currentContext() );
+	}
+
+	/**
+	 * Obtain a lazily-initializing connection bound to the given
+	 * context, which might not be the context of the current thread.
+	 */
+	ReactiveConnection getProxyConnection(Context context) {
+		return new ProxyConnection( context );
 	}
 
 	@Override
@@ -263,13 +390,66 @@ public static URI parse(String url) {
 		return URI.create( url );
 	}
 
+	private class Gauges implements ReactiveConnectionPoolMetrics.Gauges {
+		@Override
+		public int getMaxSize() {
+			return maxSize;
+		}
+
+		@Override
+		public int getInUseCount() {
+			return inUseCount.get();
+		}
+
+		@Override
+		public int getPendingCount() {
+			return pendingCount.get();
+		}
+	}
+
 	private class ProxyConnection implements ReactiveConnection {
-		private ReactiveConnection connection;
+		private final Context context;
+		// cancel() may be called from any thread
+		private volatile ReactiveConnection connection;
+		private volatile boolean cancelled;
+		// the acquisition of the connection, which is shared by
+		// all operations started before it completes, so that
+		// they all use the same connection
+		private CompletionStage<ReactiveConnection> acquisition;
+
+		ProxyConnection(Context context) {
+			this.context = context;
+		}
 
 		CompletionStage<ReactiveConnection> connection() {
-			return connection == null ?
-					getConnection().thenApply(conn -> connection = conn) :
-					CompletionStages.completedFuture(connection);
+			if ( connection != null ) {
+				return CompletionStages.completedFuture(connection);
+			}
+			else if ( cancelled ) {
+				// don't acquire a connection for work that was cancelled
+				return CompletionStages.failedFuture( new CancellationException( "the connection was cancelled" ) );
+			}
+			else {
+				if ( acquisition == null ) {
+					acquisition = getConnection( context ).thenApply( conn -> {
+						connection = conn;
+						if ( cancelled ) {
+							conn.cancel();
+						}
+						return conn;
+					} );
+				}
+				return acquisition;
+			}
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			ReactiveConnection conn = connection;
+			if ( conn != null ) {
+				conn.cancel();
+			}
 		}
 
 		@Override
@@ -287,11 +467,34 @@ public CompletionStage<Integer> update(String sql, Object[] paramValues) {
 			return connection().thenCompose( conn -> conn.update(sql, paramValues) );
 		}
 
+		@Override
+		public CompletionStage<Void> update(String sql, Object[] paramValues,
+											boolean allowBatching, Expectation expectation) {
+			return connection().thenCompose( conn -> conn.update(sql, paramValues, allowBatching, expectation) );
+		}
+
+		@Override
+		public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+			return connection().thenCompose( conn -> conn.update(sql, paramValues) );
+		}
+
+		@Override
+		public CompletionStage<Void> executeBatch() {
+			return connection == null
+					? CompletionStages.nullFuture()
+					: connection.executeBatch();
+		}
+
 		@Override
 		public CompletionStage<Long> updateReturning(String sql, Object[] paramValues) {
 			return connection().thenCompose( conn -> conn.updateReturning(sql, paramValues) );
 		}
 
+		@Override
+		public CompletionStage<Long[]> updateReturning(String sql, List<Object[]> paramValues) {
+			return connection().thenCompose( conn -> conn.updateReturning(sql, paramValues) );
+		}
+
 		@Override
 		public CompletionStage<Result> select(String sql) {
 			return connection().thenCompose( conn -> conn.select(sql) );
@@ -307,6 +510,11 @@ public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
 			return connection().thenCompose( conn -> conn.selectJdbc(sql, paramValues) );
 		}
 
+		@Override
+		public CompletionStage<Cursor> selectCursor(String sql, Object[] paramValues) {
+			return connection().thenCompose( conn -> conn.selectCursor(sql, paramValues) );
+		}
+
 		@Override
 		public CompletionStage<Long> selectLong(String sql, Object[] paramValues) {
 			return connection().thenCompose( conn -> conn.selectLong(sql, paramValues) );
@@ -333,6 +541,14 @@ public void close() {
 				connection.close();
 				connection = null;
 			}
+			else if (acquisition!=null) {
+				// return the connection to the pool once it arrives
+				acquisition.thenAccept( conn -> {
+					conn.close();
+					connection = null;
+				} );
+			}
+			acquisition = null;
 		}
 	}
 }
@@ -0,0 +1,50 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.internal.util.config.ConfigurationException;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.pool.SqlClientPoolConfiguration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import java.util.Map;
+
+/**
+ * Factory for the {@link SqlClientPoolConfiguration}, which is either
+ * the class named by {@value Settings#SQL_CLIENT_POOL_CONFIGURATION},
+ * or, by default, an instance which leaves the options unchanged.
+ */
+public final class SqlClientPoolConfigurationInitiator implements StandardServiceInitiator<SqlClientPoolConfiguration> {
+
+	public static final SqlClientPoolConfigurationInitiator INSTANCE = new SqlClientPoolConfigurationInitiator();
+
+	private SqlClientPoolConfigurationInitiator() {
+	}
+
+	@Override
+	public SqlClientPoolConfiguration initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		String className = ConfigurationHelper.getString( Settings.SQL_CLIENT_POOL_CONFIGURATION, configurationValues );
+		if ( className == null ) {
+			return new SqlClientPoolConfiguration() {};
+		}
+		try {
+			return (SqlClientPoolConfiguration) registry.getService( ClassLoaderService.class )
+					.classForName( className )
+					.newInstance();
+		}
+		catch (Exception e) {
+			throw new ConfigurationException( "Could not instantiate SqlClientPoolConfiguration: " + className, e );
+		}
+	}
+
+	@Override
+	public Class<SqlClientPoolConfiguration> getServiceInitiated() {
+		return SqlClientPoolConfiguration.class;
+	}
+}
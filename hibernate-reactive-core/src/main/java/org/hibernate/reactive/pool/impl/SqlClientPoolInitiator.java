@@ -7,6 +7,7 @@
 
 import org.hibernate.boot.registry.StandardServiceInitiator;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
 import java.util.Map;
@@ -17,6 +18,7 @@
  *
  * @see ReactiveConnectionPool
  * @see SqlClientPool
+ * @see ReplicaRoutingPool
  */
 public class SqlClientPoolInitiator implements StandardServiceInitiator<ReactiveConnectionPool> {
 
@@ -27,7 +29,9 @@ private SqlClientPoolInitiator() {
 
 	@Override
 	public ReactiveConnectionPool initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
-		return new SqlClientPool();
+		return configurationValues.containsKey( Settings.REPLICA_URLS )
+				? new ReplicaRoutingPool()
+				: new SqlClientPool();
 	}
 
 	@Override
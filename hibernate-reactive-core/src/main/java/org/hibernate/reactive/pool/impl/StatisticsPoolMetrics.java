@@ -0,0 +1,48 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import org.hibernate.reactive.pool.ReactiveConnectionPoolMetrics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * A {@link ReactiveConnectionPoolMetrics} which reports pool
+ * events to the {@link StatisticsImplementor} of the session
+ * factory, in the same way Hibernate ORM reports the use of
+ * JDBC connections and statements: a connection acquired
+ * counts as a connection obtained, and an executed statement
+ * counts as a statement prepared and closed.
+ * <p>
+ * The session factory is not yet built when the connection
+ * pool starts, so the statistics are supplied later, via
+ * {@link #setStatistics(StatisticsImplementor)}, and events
+ * occurring before that are ignored.
+ */
+public class StatisticsPoolMetrics implements ReactiveConnectionPoolMetrics {
+
+	private volatile StatisticsImplementor statistics;
+
+	public void setStatistics(StatisticsImplementor statistics) {
+		this.statistics = statistics;
+	}
+
+	@Override
+	public void connectionAcquired(long acquireNanos) {
+		StatisticsImplementor statistics = this.statistics;
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.connect();
+		}
+	}
+
+	@Override
+	public void statementExecuted(String sql, long executionNanos, boolean success) {
+		StatisticsImplementor statistics = this.statistics;
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.prepareStatement();
+			statistics.closeStatement();
+		}
+	}
+}
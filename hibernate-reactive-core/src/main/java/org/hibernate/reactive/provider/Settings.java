@@ -36,4 +36,153 @@ public interface Settings extends AvailableSettings {
 	 */
 	String MAX_WAIT_QUEUE_SIZE = "hibernate.vertx.pool.max_wait_queue_size";
 
+	/**
+	 * Property for configuring the Vert.x connection pool: the timeout,
+	 * in milliseconds, for establishing a new connection.
+	 *
+	 * @see io.vertx.core.net.ClientOptionsBase#setConnectTimeout(int)
+	 */
+	String CONNECT_TIMEOUT = "hibernate.vertx.pool.connect_timeout";
+
+	/**
+	 * Property for configuring the Vert.x connection pool: the time, in
+	 * milliseconds, after which a connection which has not sent or
+	 * received any data is closed.
+	 *
+	 * @see io.vertx.core.net.TCPSSLOptions#setIdleTimeout(int)
+	 */
+	String IDLE_TIMEOUT = "hibernate.vertx.pool.idle_timeout";
+
+	/**
+	 * Property for configuring the Vert.x connection pool: the number of
+	 * times to retry connecting to the database.
+	 *
+	 * @see io.vertx.core.net.NetClientOptions#setReconnectAttempts(int)
+	 */
+	String RECONNECT_ATTEMPTS = "hibernate.vertx.pool.reconnect_attempts";
+
+	/**
+	 * Property for configuring the Vert.x connection pool: the interval,
+	 * in milliseconds, between attempts to connect to the database.
+	 *
+	 * @see io.vertx.core.net.NetClientOptions#setReconnectInterval(long)
+	 */
+	String RECONNECT_INTERVAL = "hibernate.vertx.pool.reconnect_interval";
+
+	/**
+	 * Property for enabling or disabling TCP keepalive on connections
+	 * to the database.
+	 *
+	 * @see io.vertx.core.net.TCPSSLOptions#setTcpKeepAlive(boolean)
+	 */
+	String TCP_KEEP_ALIVE = "hibernate.vertx.tcp_keep_alive";
+
+	/**
+	 * Property for enabling or disabling {@code TCP_NODELAY} on
+	 * connections to the database.
+	 *
+	 * @see io.vertx.core.net.TCPSSLOptions#setTcpNoDelay(boolean)
+	 */
+	String TCP_NO_DELAY = "hibernate.vertx.tcp_no_delay";
+
+	/**
+	 * Property for configuring the maximum number of commands which
+	 * may be pipelined on a single PostgreSQL connection. Has no effect
+	 * on other databases.
+	 */
+	String PIPELINING_LIMIT = "hibernate.vertx.pipelining_limit";
+
+	/**
+	 * Property for configuring the number of event loop threads of the
+	 * default instance of Vert.x. Has no effect if the instance of Vert.x
+	 * is provided by the program.
+	 *
+	 * @see io.vertx.core.VertxOptions#setEventLoopPoolSize(int)
+	 * @see org.hibernate.reactive.vertx.VertxInstance
+	 */
+	String EVENT_LOOP_SIZE = "hibernate.vertx.event_loop_size";
+
+	/**
+	 * The name of a class implementing
+	 * {@link org.hibernate.reactive.pool.SqlClientPoolConfiguration},
+	 * which may customize the options of the Vert.x connection pool.
+	 */
+	String SQL_CLIENT_POOL_CONFIGURATION = "hibernate.vertx.pool.configuration_class";
+
+	/**
+	 * A comma-separated list of the JDBC URLs of read-only replicas of
+	 * the database. When specified, queries which only read data, and
+	 * which are executed outside of a transaction, by a session or
+	 * query in read-only mode, are sent to one of the replicas. Every
+	 * other statement is sent to the database specified by
+	 * {@value #URL}. Each replica has its own connection pool, with
+	 * the same configuration as the pool for the primary database.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.ReplicaRoutingPool
+	 */
+	String REPLICA_URLS = "hibernate.vertx.pool.replica_urls";
+
+	/**
+	 * The strategy for selecting a replica specified by
+	 * {@value #REPLICA_URLS}: either {@code round_robin}, the default,
+	 * or {@code least_busy}, which selects the replica with the
+	 * fewest queries in flight.
+	 */
+	String REPLICA_SELECTION = "hibernate.vertx.pool.replica_selection";
+
+	/**
+	 * Enables rewriting of a batch of inserts into the same table as
+	 * a single multi-row {@code insert ... values (...), (...)}
+	 * statement, on PostgreSQL and MySQL. Has no effect unless
+	 * {@value #STATEMENT_BATCH_SIZE} is set. Disabled by default.
+	 */
+	String MULTI_ROW_INSERT = "hibernate.reactive.multi_row_insert";
+
+	/**
+	 * Enables pipelining of the statements executed during a flush,
+	 * on PostgreSQL. When enabled, an update, or a single-table insert
+	 * or delete, is sent to the database without waiting for the
+	 * response to the previous statement. The number of statements
+	 * in flight is limited by the pipelining limit of the Vert.x
+	 * PostgreSQL client. Disabled by default.
+	 */
+	String PIPELINED_FLUSH = "hibernate.reactive.pipelined_flush";
+
+	/**
+	 * Enables batch fetching of entities and collections on PostgreSQL
+	 * using a restriction of form {@code id = any(?)}, with the batch
+	 * of identifiers bound to a single array parameter, so that the
+	 * same prepared statement serves every batch size. Only applies to
+	 * single-column keys. When enabled, the batch fetch style
+	 * {@link org.hibernate.loader.BatchFetchStyle#PADDED PADDED} is
+	 * replaced by {@link org.hibernate.loader.BatchFetchStyle#DYNAMIC
+	 * DYNAMIC}, since there is no need for padding. Disabled by default.
+	 *
+	 * @see #BATCH_FETCH_STYLE
+	 */
+	String ARRAY_BATCH_FETCH = "hibernate.reactive.array_batch_fetch";
+
+	/**
+	 * The name of a class implementing
+	 * {@link org.hibernate.reactive.cache.ReactiveCacheAccess}, through
+	 * which entities, collections, and query results are read from the
+	 * second-level cache and query cache. Only these reads, and not the
+	 * writes to the cache, may be made non-blocking this way. By default,
+	 * the synchronous operations of the configured cache are invoked
+	 * directly, which never blocks if the cache is held in-process,
+	 * for example, by
+	 * {@link org.hibernate.reactive.cache.VertxSharedDataRegionFactory}.
+	 *
+	 * @see #CACHE_REGION_FACTORY
+	 */
+	String CACHE_ACCESS = "hibernate.reactive.cache_access";
+
+	/**
+	 * The maximum number of entries held by each region of the
+	 * {@link org.hibernate.reactive.cache.VertxSharedDataRegionFactory},
+	 * other than the timestamps region. When a region is full, some
+	 * arbitrary entries are evicted to make room. The default is 10000.
+	 */
+	String CACHE_MAX_ENTRIES = "hibernate.reactive.cache_max_entries";
+
 }
@@ -22,6 +22,7 @@
 import org.hibernate.jmx.internal.JmxServiceInitiator;
 import org.hibernate.persister.internal.PersisterFactoryInitiator;
 import org.hibernate.property.access.internal.PropertyAccessStrategyResolverInitiator;
+import org.hibernate.reactive.cache.impl.ReactiveCacheAccessInitiator;
 import org.hibernate.reactive.provider.service.ReactiveMarkerServiceInitiator;
 import org.hibernate.reactive.provider.service.NoJdbcConnectionProviderInitiator;
 import org.hibernate.reactive.provider.service.NoJdbcEnvironmentInitiator;
@@ -30,6 +31,8 @@
 import org.hibernate.reactive.provider.service.ReactiveSessionFactoryBuilderInitiator;
 import org.hibernate.reactive.id.impl.ReactiveIdentifierGeneratorFactoryInitiator;
 import org.hibernate.reactive.provider.service.ReactivePersisterClassResolverInitiator;
+import org.hibernate.reactive.pool.impl.ReactiveConnectionPoolMetricsInitiator;
+import org.hibernate.reactive.pool.impl.SqlClientPoolConfigurationInitiator;
 import org.hibernate.reactive.pool.impl.SqlClientPoolInitiator;
 import org.hibernate.reactive.vertx.impl.VertxInstanceInitiator;
 import org.hibernate.resource.beans.spi.ManagedBeanRegistryInitiator;
@@ -60,6 +63,11 @@ private static List<StandardServiceInitiator> buildInitialServiceInitiatorList()
 
         // Exclusive to Hibernate Reactive:
         serviceInitiators.add( SqlClientPoolInitiator.INSTANCE );
+        serviceInitiators.add( ReactiveConnectionPoolMetricsInitiator.INSTANCE );
+        serviceInitiators.add( SqlClientPoolConfigurationInitiator.INSTANCE );
+
+        // Exclusive to Hibernate Reactive:
+        serviceInitiators.add( ReactiveCacheAccessInitiator.INSTANCE );
 
         //Custom for Hibernate Reactive:
         serviceInitiators.add( ReactiveSessionFactoryBuilderInitiator.INSTANCE );
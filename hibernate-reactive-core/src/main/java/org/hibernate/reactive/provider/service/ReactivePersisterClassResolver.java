@@ -13,6 +13,7 @@
 import org.hibernate.reactive.persister.entity.impl.ReactiveJoinedSubclassEntityPersister;
 import org.hibernate.reactive.persister.entity.impl.ReactiveSingleTableEntityPersister;
 import org.hibernate.reactive.persister.entity.impl.ReactiveUnionSubclassEntityPersister;
+import org.hibernate.reactive.persister.collection.impl.ReactiveBasicCollectionPersister;
 import org.hibernate.reactive.persister.collection.impl.ReactiveOneToManyPersister;
 
 public class ReactivePersisterClassResolver extends StandardPersisterClassResolver implements PersisterClassResolver {
@@ -34,6 +35,8 @@ public Class<? extends EntityPersister> unionSubclassEntityPersister() {
 
 	@Override
 	public Class<? extends CollectionPersister> getCollectionPersisterClass(Collection metadata) {
-		return ReactiveOneToManyPersister.class;
+		return metadata.isOneToMany()
+				? ReactiveOneToManyPersister.class
+				: ReactiveBasicCollectionPersister.class;
 	}
 }
@@ -0,0 +1,22 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session;
+
+import org.hibernate.Incubating;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+/**
+ * Anything which has a {@link ReactiveConnection}, that is, either a
+ * {@link ReactiveSession} or a {@link ReactiveStatelessSession}.
+ * <p>
+ * This is primarily an internal contract, though it also occurs in
+ * the schema of some extension points such as
+ * {@link org.hibernate.reactive.id.ReactiveIdentifierGenerator}.
+ */
+@Incubating
+public interface ReactiveConnectionSupplier {
+	ReactiveConnection getReactiveConnection();
+}
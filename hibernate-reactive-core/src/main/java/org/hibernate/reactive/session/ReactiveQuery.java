@@ -18,6 +18,9 @@
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
+import org.hibernate.reactive.util.impl.ChunkPublisher;
+import org.reactivestreams.Publisher;
+
 import javax.persistence.EntityGraph;
 import javax.persistence.NoResultException;
 import javax.persistence.Parameter;
@@ -40,6 +43,16 @@
 
 	CompletionStage<List<R>> getReactiveResultList();
 
+	/**
+	 * The query results, fetched incrementally from the database
+	 * as the subscriber signals demand, when this is supported by
+	 * the query. By default, the whole result list is fetched at
+	 * once when the subscriber first signals demand.
+	 */
+	default Publisher<R> getReactiveResultStream() {
+		return new ChunkPublisher<>( () -> getReactiveResultList().thenApply( ChunkPublisher::singleChunk ) );
+	}
+
 	CompletionStage<Integer> executeReactiveUpdate();
 
 	ReactiveQuery<R> setParameter(int position, Object value);
@@ -52,6 +65,8 @@
 
 	ReactiveQuery<R> setFirstResult(int firstResult);
 
+	ReactiveQuery<R> setFetchSize(int fetchSize);
+
 	int getMaxResults();
 
 	int getFirstResult();
@@ -0,0 +1,34 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.reactive.util.impl.ChunkPublisher;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Executes queries in a non-blocking fashion. An internal contract
+ * between the {@link ReactiveQuery} implementations and the
+ * {@link ReactiveSession} and {@link ReactiveStatelessSession}.
+ */
+@Incubating
+public interface ReactiveQueryExecutor extends ReactiveConnectionSupplier {
+
+	<T> CompletionStage<List<T>> reactiveList(String query, QueryParameters parameters);
+
+	<T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters);
+
+	<T> CompletionStage<ChunkPublisher.Source<T>> reactiveListWithCursor(String query, QueryParameters parameters, int fetchSize);
+
+	CompletionStage<Integer> executeReactiveUpdate(String expandedQuery, QueryParameters parameters);
+
+	CompletionStage<Integer> executeReactiveUpdate(NativeSQLQuerySpecification specification,
+												   QueryParameters parameters);
+}
@@ -12,15 +12,12 @@
 import org.hibernate.LockMode;
 import org.hibernate.UnknownProfileException;
 import org.hibernate.dialect.Dialect;
-import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
-import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.internal.MergeContext;
 import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.engine.ReactiveActionQueue;
-import org.hibernate.reactive.pool.ReactiveConnection;
 
 import javax.persistence.EntityGraph;
 import javax.persistence.metamodel.Attribute;
@@ -34,15 +31,13 @@
  * {@link org.hibernate.reactive.stage.Stage.Session reactive session}.
  * <p>
  * This is primarily an internal contract between the various subsystems
- * of Hibernate Reactive, though it also occurs in the schema of some
- * extension points such as
- * {@link org.hibernate.reactive.id.ReactiveIdentifierGenerator}.
+ * of Hibernate Reactive.
  *
  *  @see org.hibernate.reactive.stage.Stage.Session
  *  @see org.hibernate.reactive.mutiny.Mutiny.Session
  */
 @Incubating
-public interface ReactiveSession  {
+public interface ReactiveSession extends ReactiveQueryExecutor {
 
 	ReactiveActionQueue getReactiveActionQueue();
 
@@ -54,6 +49,13 @@ public interface ReactiveSession  {
 
 	CompletionStage<Void> reactivePersist(Object object, IdentitySet copiedAlready);
 
+	/**
+	 * Persist each of the given instances. Whether the detached
+	 * instances they reference still exist in the database is
+	 * determined in batches, instead of one at a time.
+	 */
+	CompletionStage<Void> reactivePersistAll(Object... entities);
+
 	CompletionStage<Void> reactivePersistOnFlush(Object entity, IdentitySet copiedAlready);
 
 	CompletionStage<Void> reactiveRemove(Object entity);
@@ -64,6 +66,22 @@ public interface ReactiveSession  {
 
 	CompletionStage<Void> reactiveMerge(Object object, MergeContext copiedAlready);
 
+	/**
+	 * Merge each of the given instances. The persistent instances
+	 * onto which detached instances are merged, including instances
+	 * reached by cascading, are first loaded in batches, instead of
+	 * one at a time.
+	 */
+	CompletionStage<Void> reactiveMergeAll(Object... objects);
+
+	/**
+	 * Insert the given instance, or update the existing row if there
+	 * is one, using a single statement, without first loading the
+	 * persistent instance. Falls back to {@link #reactiveMerge(Object)}
+	 * if this isn't possible for the given instance.
+	 */
+	CompletionStage<Void> reactiveUpsert(Object entity);
+
 	CompletionStage<Void> reactiveFlush();
 
 	CompletionStage<Void> reactiveAutoflush();
@@ -72,8 +90,12 @@ public interface ReactiveSession  {
 
 	CompletionStage<?> reactiveRefresh(Object child, IdentitySet refreshedAlready);
 
+	CompletionStage<Void> reactiveRefreshAll(LockMode lockMode, Object... entities);
+
 	CompletionStage<Void> reactiveLock(Object entity, LockMode lockMode);
 
+	CompletionStage<Void> reactiveLockAll(LockMode lockMode, Object... entities);
+
 	<T> ReactiveQuery<T> createReactiveNativeQuery(String sqlString);
 
 	<T> ReactiveNativeQuery<T> createReactiveNativeQuery(String sqlString, String resultSetMapping);
@@ -109,17 +131,6 @@ <T> CompletionStage<List<T>> reactiveFind(
 			Class<T> entityClass,
 			Object... primaryKey);
 
-	<T> CompletionStage<List<T>> reactiveList(String query, QueryParameters parameters);
-
-	<T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters);
-
-	CompletionStage<Integer> executeReactiveUpdate(String expandedQuery, QueryParameters parameters);
-
-	CompletionStage<Integer> executeReactiveUpdate(NativeSQLQuerySpecification specification,
-												   QueryParameters parameters);
-
-	ReactiveConnection getReactiveConnection();
-
 	void setHibernateFlushMode(FlushMode flushMode);
 	FlushMode getHibernateFlushMode();
 
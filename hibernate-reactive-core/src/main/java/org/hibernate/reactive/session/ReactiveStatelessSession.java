@@ -0,0 +1,49 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session;
+
+import org.hibernate.Incubating;
+import org.hibernate.LockMode;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A contract with the Hibernate stateless session backing the user-visible
+ * {@link org.hibernate.reactive.stage.Stage.StatelessSession reactive stateless session}.
+ * <p>
+ * This is primarily an internal contract between the various subsystems
+ * of Hibernate Reactive.
+ *
+ *  @see org.hibernate.reactive.stage.Stage.StatelessSession
+ *  @see org.hibernate.reactive.mutiny.Mutiny.StatelessSession
+ */
+@Incubating
+public interface ReactiveStatelessSession extends ReactiveQueryExecutor {
+
+	<T> CompletionStage<T> reactiveGet(Class<T> entityClass, Object id);
+
+	<T> CompletionStage<T> reactiveGet(Class<T> entityClass, Object id, LockMode lockMode);
+
+	CompletionStage<Void> reactiveInsert(Object entity);
+
+	CompletionStage<Void> reactiveDelete(Object entity);
+
+	CompletionStage<Void> reactiveUpdate(Object entity);
+
+	<R> ReactiveQuery<R> createReactiveQuery(String queryString);
+
+	<R> ReactiveQuery<R> createReactiveQuery(String queryString, Class<R> resultType);
+
+	<T> ReactiveNativeQuery<T> createReactiveNativeQuery(String sqlString);
+
+	<T> ReactiveQuery<T> createReactiveNativeQuery(String sqlString, Class<T> resultType);
+
+	boolean isOpen();
+	void close();
+
+	SessionFactoryImplementor getFactory();
+}
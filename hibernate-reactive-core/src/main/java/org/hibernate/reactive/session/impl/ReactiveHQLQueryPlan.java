@@ -17,7 +17,7 @@
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.IdentitySet;
-import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.util.impl.ChunkPublisher;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import java.util.ArrayList;
@@ -75,10 +75,13 @@ public int performExecuteUpdate(QueryParameters queryParameters, SharedSessionCo
 	}
 
 	/**
+	 * @param <T> the result type of the query, which the caller
+	 *            has already checked
+	 *
 	 * @see HQLQueryPlan#performList(QueryParameters, SharedSessionContractImplementor)
 	 * @throws HibernateException
 	 */
-	public CompletionStage<List<Object>> performReactiveList(QueryParameters queryParameters, SharedSessionContractImplementor session) throws HibernateException {
+	public <T> CompletionStage<List<T>> performReactiveList(QueryParameters queryParameters, SharedSessionContractImplementor session) throws HibernateException {
 		if ( log.isTraceEnabled() ) {
 			log.tracev( "Find: {0}", getSourceQuery() );
 			queryParameters.traceParameters( session.getFactory() );
@@ -108,7 +111,8 @@ public CompletionStage<List<Object>> performReactiveList(QueryParameters queryPa
 		//fast path to avoid unnecessary allocation and copying
 		if ( translators.length == 1 ) {
 			ReactiveQueryTranslatorImpl reactiveTranslator = (ReactiveQueryTranslatorImpl) translators[0];
-			return reactiveTranslator.reactiveList( session, queryParametersToUse );
+			return reactiveTranslator.reactiveList( session, queryParametersToUse )
+					.thenApply( ReactiveHQLQueryPlan::results );
 		}
 		final int guessedResultSize = guessResultSize( rowSelection );
 		final List<Object> combinedResults = new ArrayList<>( guessedResultSize );
@@ -120,10 +124,9 @@ public CompletionStage<List<Object>> performReactiveList(QueryParameters queryPa
 			distinction = null;
 		}
 		AtomicInteger includedCount = new AtomicInteger( -1 );
-		CompletionStage<Void> combinedStage = CompletionStages.nullFuture();
-		for ( QueryTranslator translator : translators ) {
+		return CompletionStages.loop( translators, translator -> {
 			ReactiveQueryTranslatorImpl reactiveTranslator = (ReactiveQueryTranslatorImpl) translator;
-			combinedStage = combinedStage.thenCompose( v -> reactiveTranslator.reactiveList( session, queryParametersToUse ) )
+			return reactiveTranslator.reactiveList( session, queryParametersToUse )
 					.thenAccept( tmpList -> {
 						if ( needsLimit ) {
 							needsLimitLoop( queryParameters, combinedResults, distinction, includedCount, tmpList );
@@ -132,8 +135,48 @@ public CompletionStage<List<Object>> performReactiveList(QueryParameters queryPa
 							combinedResults.addAll( tmpList );
 						}
 					} );
+		} ).thenApply( ignore -> results( combinedResults ) );
+	}
+
+	/**
+	 * Return the query results incrementally, a chunk at a time,
+	 * using a database cursor, if possible. If the query results
+	 * must be processed in memory, because there are multiple
+	 * translators, because the query has collection fetches, or
+	 * because the query is cacheable, they're all fetched at once.
+	 */
+	public <T> CompletionStage<ChunkPublisher.Source<T>> performReactiveListWithCursor(
+			QueryParameters queryParameters,
+			SharedSessionContractImplementor session,
+			int fetchSize) throws HibernateException {
+		final QueryTranslator[] translators = getTranslators();
+		final boolean cacheable = session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled()
+				&& queryParameters.isCacheable();
+		if ( translators.length == 1 && !cacheable ) {
+			ReactiveQueryTranslatorImpl reactiveTranslator = (ReactiveQueryTranslatorImpl) translators[0];
+			if ( !reactiveTranslator.containsCollectionFetches() ) {
+				if ( log.isTraceEnabled() ) {
+					log.tracev( "Find: {0}", getSourceQuery() );
+					queryParameters.traceParameters( session.getFactory() );
+				}
+				return reactiveTranslator.reactiveListWithCursor( session, queryParameters, fetchSize )
+						.thenApply( source -> {
+							@SuppressWarnings("unchecked")
+							ChunkPublisher.Source<T> results = (ChunkPublisher.Source<T>) (ChunkPublisher.Source<?>) source;
+							return results;
+						} );
+			}
 		}
-		return combinedStage.thenApply( ignore -> combinedResults );
+		return this.<T>performReactiveList( queryParameters, session ).thenApply( ChunkPublisher::singleChunk );
+	}
+
+	/**
+	 * The translators return a list of {@code Object}, but its elements
+	 * are of the result type of the query.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> List<T> results(List<?> list) {
+		return (List<T>) list;
 	}
 
 	private void needsLimitLoop(QueryParameters queryParameters, List<Object> combinedResults, IdentitySet distinction, AtomicInteger includedCount, List<Object> tmpList) {
@@ -155,7 +198,7 @@ private void needsLimitLoop(QueryParameters queryParameters, List<Object> combin
 		}
 	}
 
-	public CompletionStage<Integer> performExecuteReactiveUpdate(QueryParameters queryParameters, ReactiveSession session) {
+	public CompletionStage<Integer> performExecuteReactiveUpdate(QueryParameters queryParameters, SharedSessionContractImplementor session) {
 		if ( log.isTraceEnabled() ) {
 			log.tracev( "Execute update: {0}", getSourceQuery() );
 			queryParameters.traceParameters( session.getFactory() );
@@ -17,7 +17,7 @@
 import org.hibernate.query.internal.NativeQueryImpl;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
 import org.hibernate.reactive.session.ReactiveQuery;
-import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.session.ReactiveQueryExecutor;
 import org.hibernate.transform.ResultTransformer;
 
 import javax.persistence.EntityGraph;
@@ -110,8 +110,8 @@ private NativeSQLQuerySpecification generateQuerySpecification() {
 		);
 	}
 
-	private ReactiveSession reactiveProducer() {
-		return (ReactiveSession) getProducer();
+	private ReactiveQueryExecutor reactiveProducer() {
+		return (ReactiveQueryExecutor) getProducer();
 	}
 
 	@Override
@@ -144,6 +144,12 @@ public ReactiveNativeQueryImpl<R> setFirstResult(int firstResult) {
 		return this;
 	}
 
+	@Override
+	public ReactiveNativeQueryImpl<R> setFetchSize(int fetchSize) {
+		super.setFetchSize(fetchSize);
+		return this;
+	}
+
 	@Override
 	public ReactiveNativeQueryImpl<R> setReadOnly(boolean readOnly) {
 		super.setReadOnly(readOnly);
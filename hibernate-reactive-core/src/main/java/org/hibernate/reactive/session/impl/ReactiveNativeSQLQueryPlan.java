@@ -12,7 +12,7 @@
 import org.hibernate.loader.custom.CustomQuery;
 import org.hibernate.param.ParameterBinder;
 import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
-import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 
 import java.util.concurrent.CompletionStage;
 
@@ -32,21 +32,19 @@ public int performExecuteUpdate(QueryParameters queryParameters, SharedSessionCo
 		throw new UnsupportedOperationException( "Use performExecuteReactiveUpdate instead" );
 	}
 
-	public CompletionStage<Integer> performExecuteReactiveUpdate(QueryParameters queryParameters, ReactiveSession session) {
-		SharedSessionContractImplementor sessionContract = session.getSharedContract();
-
-		coordinateSharedCacheCleanup(sessionContract);
+	public CompletionStage<Integer> performExecuteReactiveUpdate(QueryParameters queryParameters, SharedSessionContractImplementor session) {
+		coordinateSharedCacheCleanup(session);
 
 		if ( queryParameters.isCallable() ) {
 			throw new IllegalArgumentException("callable not yet supported for native queries");
 		}
 
-		queryParameters.processFilters( customQuery.getSQL(), sessionContract );
+		queryParameters.processFilters( customQuery.getSQL(), session );
 
 		Object[] params = PreparedStatementAdaptor.bind( statement -> {
 			int col = 1;
 			for ( ParameterBinder binder : customQuery.getParameterValueBinders() ) {
-				col += binder.bind( statement, queryParameters, sessionContract, col );
+				col += binder.bind( statement, queryParameters, session, col );
 			}
 		} );
 
@@ -56,9 +54,9 @@ public CompletionStage<Integer> performExecuteReactiveUpdate(QueryParameters que
 //		}
 
 		boolean commentsEnabled = session.getFactory().getSessionFactoryOptions().isCommentsEnabled();
-		String sql = session.getDialect()
+		String sql = session.getJdbcServices().getDialect()
 				.addSqlHintOrComment( queryParameters.getFilteredSQL(), queryParameters, commentsEnabled );
 
-		return session.getReactiveConnection().update( sql, params );
+		return ( (ReactiveConnectionSupplier) session ).getReactiveConnection().update( sql, params );
 	}
 }
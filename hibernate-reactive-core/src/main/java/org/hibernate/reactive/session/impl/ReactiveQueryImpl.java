@@ -20,9 +20,11 @@
 import org.hibernate.query.criteria.internal.compile.InterpretedParameterMetadata;
 import org.hibernate.query.internal.QueryImpl;
 import org.hibernate.reactive.session.ReactiveQuery;
-import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.session.ReactiveQueryExecutor;
+import org.hibernate.reactive.util.impl.ChunkPublisher;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.transform.ResultTransformer;
+import org.reactivestreams.Publisher;
 
 import javax.persistence.EntityGraph;
 import javax.persistence.Parameter;
@@ -43,6 +45,8 @@
  */
 public class ReactiveQueryImpl<R> extends QueryImpl<R> implements ReactiveQuery<R> {
 
+	private static final int DEFAULT_STREAM_FETCH_SIZE = 100;
+
 	/**
 	 * Needed once we support query hints.
 	 *
@@ -125,8 +129,61 @@ private CompletionStage<List<R>> doReactiveList() {
 		return reactiveProducer().reactiveList( expandedQuery, makeReactiveQueryParametersForExecution( expandedQuery ) );
 	}
 
-	private ReactiveSession reactiveProducer() {
-		return (ReactiveSession) getProducer();
+	@Override
+	public Publisher<R> getReactiveResultStream() {
+		if (type!=null && type!=QueryType.SELECT) {
+			throw new UnsupportedOperationException("not a select query");
+		}
+		return new ChunkPublisher<>( this::openReactiveResultStream );
+	}
+
+	private CompletionStage<ChunkPublisher.Source<R>> openReactiveResultStream() {
+		if ( getMaxResults() == 0 ) {
+			return CompletionStages.completedFuture( ChunkPublisher.singleChunk( Collections.emptyList() ) );
+		}
+
+		beforeQuery();
+		final String expandedQuery = getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() );
+		return reactiveProducer().<R>reactiveListWithCursor(
+						expandedQuery,
+						makeReactiveQueryParametersForExecution( expandedQuery ),
+						determineStreamFetchSize()
+				)
+				.handle( (source, error) -> convertQueryException( source, error, this ) )
+				.whenComplete( (source, error) -> {
+					if ( error != null ) {
+						afterQuery();
+					}
+				} )
+				.thenApply( source -> new ChunkPublisher.Source<R>() {
+					@Override
+					public CompletionStage<List<R>> next() {
+						return source.next()
+								.handle( (list, error) -> convertQueryException( list, error, ReactiveQueryImpl.this ) );
+					}
+
+					@Override
+					public CompletionStage<Void> close() {
+						return source.close().whenComplete( (v, error) -> afterQuery() );
+					}
+				} );
+	}
+
+	/**
+	 * The number of rows to fetch at a time when streaming results:
+	 * the fetch size of the query, if any, or otherwise the value of
+	 * {@code hibernate.jdbc.fetch_size}.
+	 */
+	private int determineStreamFetchSize() {
+		Integer fetchSize = getFetchSize();
+		if ( fetchSize == null || fetchSize <= 0 ) {
+			fetchSize = getProducer().getFactory().getSessionFactoryOptions().getJdbcFetchSize();
+		}
+		return fetchSize == null || fetchSize <= 0 ? DEFAULT_STREAM_FETCH_SIZE : fetchSize;
+	}
+
+	private ReactiveQueryExecutor reactiveProducer() {
+		return (ReactiveQueryExecutor) getProducer();
 	}
 
 	/**
@@ -209,6 +266,12 @@ public ReactiveQueryImpl<R> setFirstResult(int firstResult) {
 		return this;
 	}
 
+	@Override
+	public ReactiveQueryImpl<R> setFetchSize(int fetchSize) {
+		super.setFetchSize(fetchSize);
+		return this;
+	}
+
 	@Override
 	public ReactiveQueryImpl<R> setReadOnly(boolean readOnly) {
 		super.setReadOnly(readOnly);
@@ -12,7 +12,6 @@
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
-import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.hql.internal.QueryExecutionRequestException;
 import org.hibernate.hql.internal.ast.HqlSqlWalker;
@@ -25,7 +24,8 @@
 import org.hibernate.loader.hql.QueryLoader;
 import org.hibernate.param.ParameterSpecification;
 import org.hibernate.reactive.loader.hql.impl.ReactiveQueryLoader;
-import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.reactive.util.impl.ChunkPublisher;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.jboss.logging.Logger;
 
@@ -109,7 +109,7 @@ public CompletionStage<List<Object>> reactiveList(SharedSessionContractImplement
 			queryParametersToUse = queryParameters;
 		}
 
-		return queryLoader.reactiveList( (SessionImplementor) session, queryParametersToUse )
+		return queryLoader.reactiveList( session, queryParametersToUse )
 				.thenApply(results -> {
 					if ( needsDistincting ) {
 						int includedCount = -1;
@@ -142,7 +142,21 @@ public CompletionStage<List<Object>> reactiveList(SharedSessionContractImplement
 				});
 	}
 
-	public CompletionStage<Integer> executeReactiveUpdate(QueryParameters queryParameters, ReactiveSession session) {
+	/**
+	 * Return the query results incrementally, a chunk at a time,
+	 * using a database cursor. This may only be called if the
+	 * query has no collection fetches, since in that case the
+	 * results must be processed in memory.
+	 */
+	public CompletionStage<ChunkPublisher.Source<Object>> reactiveListWithCursor(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters,
+			int fetchSize) throws HibernateException {
+		errorIfDML();
+		return queryLoader.reactiveListWithCursor( session, queryParameters, fetchSize );
+	}
+
+	public CompletionStage<Integer> executeReactiveUpdate(QueryParameters queryParameters, SharedSessionContractImplementor session) {
 		errorIfSelect();
 
 		// Multiple UPDATE SQL strings are not supported yet
@@ -151,17 +165,17 @@ public CompletionStage<Integer> executeReactiveUpdate(QueryParameters queryParam
 		Object[] parameterValues = toParameterArray(
 				queryParameters,
 				getCollectedParameterSpecifications( session ),
-				session.getSharedContract()
+				session
 		);
 		return CompletionStages.completedFuture(0).thenCompose(
-				count -> session.getReactiveConnection()
+				count -> ( (ReactiveConnectionSupplier) session ).getReactiveConnection()
 						.update( sql, parameterValues )
 						.thenApply( updateCount -> count + updateCount )
 		);
 	}
 
 	/**
-	 * @deprecated Use {@link #executeReactiveUpdate(QueryParameters queryParameters, ReactiveSession session)}
+	 * @deprecated Use {@link #executeReactiveUpdate(QueryParameters queryParameters, SharedSessionContractImplementor session)}
 	 */
 	@Deprecated
 	@Override
@@ -171,7 +185,7 @@ public int executeUpdate(QueryParameters queryParameters, SharedSessionContractI
 
 	// TODO: it would be nice to be able to override getCollectedParameterSpecifications().
 	//       To do that, we would need to add protected method, QueryTranslatorImpl#getFactory
-	private List<ParameterSpecification> getCollectedParameterSpecifications(ReactiveSession session) {
+	private List<ParameterSpecification> getCollectedParameterSpecifications(SharedSessionContractImplementor session) {
 		// Currently, ORM returns null for getCollectedParameterSpecifications() a StatementExecute
 		List<ParameterSpecification> parameterSpecifications = getCollectedParameterSpecifications();
 		if ( parameterSpecifications == null ) {
@@ -7,11 +7,27 @@
 
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.engine.spi.IdentifierValue;
+import org.hibernate.engine.spi.VersionValue;
 import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.mutiny.impl.MutinySessionFactoryImpl;
+import org.hibernate.reactive.pool.ReactiveConnectionPoolMetrics;
+import org.hibernate.reactive.pool.impl.StatisticsPoolMetrics;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.reactive.stage.impl.StageSessionFactoryImpl;
+import org.hibernate.tuple.entity.EntityMetamodel;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A Hibernate {@link org.hibernate.SessionFactory} that can be
@@ -19,8 +35,77 @@
  * {@link Mutiny.SessionFactory}.
  */
 public class ReactiveSessionFactoryImpl extends SessionFactoryImpl {
+
+	private final Map<String, Boolean> mayReferenceDetachedInstances = new ConcurrentHashMap<>();
+
 	public ReactiveSessionFactoryImpl(MetadataImplementor metadata, SessionFactoryOptions options) {
 		super( metadata, options, ReactiveHQLQueryPlan::new ); //TODO: pass ReactiveNativeHQLQueryPlan::new
+		ReactiveConnectionPoolMetrics metrics = getServiceRegistry().getService( ReactiveConnectionPoolMetrics.class );
+		if ( metrics instanceof StatisticsPoolMetrics ) {
+			( (StatisticsPoolMetrics) metrics ).setStatistics( getStatistics() );
+		}
+	}
+
+	/**
+	 * Determine whether an instance of the given entity, or an instance
+	 * reachable from it via associations to which persist() cascades,
+	 * might reference a detached instance whose existence can only be
+	 * determined by querying the database. That's the case if one of
+	 * the entities it may reference via an association which doesn't
+	 * cascade has an identifier with no usable unsaved-value, and has
+	 * no version with a usable unsaved-value. The result depends only
+	 * on the mappings, and so it's computed once for each entity.
+	 */
+	public boolean mayReferenceDetachedInstances(EntityPersister persister) {
+		return mayReferenceDetachedInstances.computeIfAbsent(
+				persister.getEntityName(),
+				name -> mayReferenceDetachedInstances( persister, new HashSet<>() )
+		);
+	}
+
+	private boolean mayReferenceDetachedInstances(EntityPersister persister, Set<String> visited) {
+		// an association may refer to an instance of any subclass
+		for ( Object subclass : persister.getEntityMetamodel().getSubclassEntityNames() ) {
+			EntityPersister subclassPersister = getMetamodel().entityPersister( (String) subclass );
+			if ( !visited.add( subclassPersister.getEntityName() ) ) {
+				continue;
+			}
+			Type[] types = subclassPersister.getPropertyTypes();
+			CascadeStyle[] cascadeStyles = subclassPersister.getPropertyCascadeStyles();
+			for ( int i = 0; i < types.length; i++ ) {
+				boolean cascade = cascadeStyles[i].doCascade( CascadingActions.PERSIST );
+				Type type = types[i];
+				if ( type.isCollectionType() ) {
+					if ( !cascade ) {
+						continue;
+					}
+					type = ( (CollectionType) type ).getElementType( this );
+				}
+				if ( type.isEntityType() ) {
+					EntityType entityType = (EntityType) type;
+					EntityPersister associated = getMetamodel()
+							.entityPersister( entityType.getAssociatedEntityName( this ) );
+					if ( cascade ) {
+						if ( mayReferenceDetachedInstances( associated, visited ) ) {
+							return true;
+						}
+					}
+					else if ( !entityType.isOneToOne() && !canDetermineTransience( associated ) ) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean canDetermineTransience(EntityPersister persister) {
+		EntityMetamodel metamodel = persister.getEntityMetamodel();
+		if ( metamodel.isVersioned()
+				&& metamodel.getVersionProperty().getUnsavedValue() != VersionValue.UNDEFINED ) {
+			return true;
+		}
+		return metamodel.getIdentifierProperty().getUnsavedValue() != IdentifierValue.UNDEFINED;
 	}
 
 	@Override
@@ -16,6 +16,7 @@
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.ObjectNotFoundException;
 import org.hibernate.TypeMismatchException;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.ResultSetMappingDefinition;
@@ -28,8 +29,12 @@
 import org.hibernate.engine.query.spi.sql.NativeSQLQueryRootReturn;
 import org.hibernate.engine.query.spi.sql.NativeSQLQueryScalarReturn;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingAction;
+import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.NamedQueryDefinition;
 import org.hibernate.engine.spi.NamedSQLQueryDefinition;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -67,7 +72,11 @@
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.Query;
 import org.hibernate.query.internal.ParameterMetadataImpl;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
 import org.hibernate.reactive.common.ResultSetMapping;
+import org.hibernate.reactive.engine.impl.ReactiveEntityUpsertAction;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.engine.ReactiveActionQueue;
 import org.hibernate.reactive.event.impl.DefaultReactiveAutoFlushEventListener;
@@ -84,6 +93,7 @@
 import org.hibernate.reactive.mutiny.impl.MutinySessionImpl;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.impl.BatchingConnection;
 import org.hibernate.reactive.session.Criteria;
 import org.hibernate.reactive.session.CriteriaQueryOptions;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
@@ -91,16 +101,22 @@
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.reactive.stage.impl.StageSessionImpl;
+import org.hibernate.reactive.util.impl.ChunkPublisher;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import javax.persistence.EntityNotFoundException;
 import javax.persistence.Tuple;
 import javax.persistence.metamodel.Attribute;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -119,7 +135,10 @@ public class ReactiveSessionImpl extends SessionImpl implements ReactiveSession,
 	public ReactiveSessionImpl(SessionFactoryImpl delegate, SessionCreationOptions options,
 							   ReactiveConnection connection) {
 		super( delegate, options );
-		reactiveConnection = connection;
+		int batchSize = getConfiguredJdbcBatchSize();
+		reactiveConnection = batchSize > 1
+				? new BatchingConnection( connection, batchSize )
+				: connection;
 	}
 
 	@Override
@@ -321,7 +340,7 @@ private <T> ReactiveNativeQueryImpl<T> getReactiveNativeQueryImplementor(
 		}
 	}
 
-	private static QueryType queryType(String queryString) {
+	static QueryType queryType(String queryString) {
 		queryString = queryString.trim().toLowerCase();
 		return queryString.startsWith("insert")
 			|| queryString.startsWith("update")
@@ -432,24 +451,40 @@ public <T> CompletionStage<List<T>> reactiveList(String query, QueryParameters p
 		return reactiveAutoFlushIfRequired( plan.getQuerySpaces() )
 				// FIXME: I guess I can fix this as a separate issue
 //				dontFlushFromFind++;   //stops flush being called multiple times if this method is recursively called
-				.thenCompose( v -> reactivePlan.performReactiveList(parameters, this ) )
+				.thenCompose( v -> reactivePlan.<T>performReactiveList(parameters, this ) )
 				.whenComplete( (list, x) -> {
 //					dontFlushFromFind--;
 					afterOperation( x == null );
 					delayedAfterCompletion();
-				} )
-				//TODO: this typecast is rubbish
-				.thenApply( list -> (List<T>) list );
+				} );
+	}
+
+	@Override
+	public <T> CompletionStage<ChunkPublisher.Source<T>> reactiveListWithCursor(String query, QueryParameters parameters, int fetchSize) {
+		checkOpenOrWaitingForAutoClose();
+		pulseTransactionCoordinator();
+		parameters.validateParameters();
+
+		HQLQueryPlan plan = parameters.getQueryPlan();
+		if ( plan == null ) {
+			plan = getQueryPlan( query, false );
+		}
+		ReactiveHQLQueryPlan reactivePlan = (ReactiveHQLQueryPlan) plan;
+
+		return reactiveAutoFlushIfRequired( plan.getQuerySpaces() )
+				.thenCompose( v -> reactivePlan.<T>performReactiveListWithCursor( parameters, this, fetchSize ) )
+				.whenComplete( (source, x) -> {
+					afterOperation( x == null );
+					delayedAfterCompletion();
+				} );
 	}
 
 	@Override
 	public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters) {
-		return listReactiveCustomQuery( getNativeQueryPlan( spec ).getCustomQuery(), parameters)
-				//TODO: this typecast is rubbish
-				.thenApply( list -> (List<T>) list );
+		return listReactiveCustomQuery( getNativeQueryPlan( spec ).getCustomQuery(), parameters);
 	}
 
-	private CompletionStage<List<Object>> listReactiveCustomQuery(CustomQuery customQuery, QueryParameters parameters) {
+	private <T> CompletionStage<List<T>> listReactiveCustomQuery(CustomQuery customQuery, QueryParameters parameters) {
 		checkOpenOrWaitingForAutoClose();
 //		checkTransactionSynchStatus();
 
@@ -459,7 +494,7 @@ private CompletionStage<List<Object>> listReactiveCustomQuery(CustomQuery custom
 
 //		dontFlushFromFind++;
 //		boolean success = false;
-			return loader.reactiveList( this, parameters )
+			return loader.<T>reactiveList( this, parameters )
 					.whenComplete( (r, e) -> delayedAfterCompletion() );
 //			success = true;
 //			dontFlushFromFind--;
@@ -639,7 +674,162 @@ public CompletionStage<Integer> executeReactiveUpdate(NativeSQLQuerySpecificatio
 	@Override
 	public CompletionStage<Void> reactivePersist(Object entity) {
 		checkOpen();
-		return firePersist( new PersistEvent( null, entity, this ) );
+		return checkTransientReferences( entity )
+				.thenCompose( v -> firePersist( new PersistEvent( null, entity, this ) ) );
+	}
+
+	@Override
+	public CompletionStage<Void> reactivePersistAll(Object... entities) {
+		checkOpen();
+		return checkTransientReferences( entities )
+				.thenCompose( v -> CompletionStages.loop(
+						entities,
+						entity -> firePersist( new PersistEvent( null, entity, this ) )
+				) );
+	}
+
+	/**
+	 * Determine whether the detached instances referenced by the graphs
+	 * to be persisted still exist in the database, using one query per
+	 * entity, instead of letting {@link org.hibernate.reactive.engine.impl.ForeignKeys}
+	 * obtain a snapshot of each of them, one at a time, when it can't
+	 * tell whether they're transient.
+	 */
+	private CompletionStage<Void> checkTransientReferences(Object... objects) {
+		IdentitySet persisted = new IdentitySet();
+		List<Object> references = new ArrayList<>();
+		for ( Object object : objects ) {
+			if ( object instanceof HibernateProxy || !mayReferenceDetachedInstances( object ) ) {
+				// an uninitialized proxy can't be transient, and
+				// persist() doesn't cascade to an initialized one
+				continue;
+			}
+			walkCascadeGraph( object, CascadingActions.PERSIST, persisted,
+					(instance, persister) -> {},
+					(reference, type) -> {
+						if ( !type.isOneToOne() && !( reference instanceof HibernateProxy ) ) {
+							references.add( reference );
+						}
+					}
+			);
+		}
+
+		PersistenceContext persistenceContext = getPersistenceContextInternal();
+		Map<EntityPersister, List<Serializable>> idsByPersister = new LinkedHashMap<>();
+		IdentitySet checked = new IdentitySet();
+		for ( Object reference : references ) {
+			if ( persisted.contains( reference )
+					|| !checked.add( reference )
+					|| persistenceContext.isEntryFor( reference )
+					|| getInterceptor().isTransient( reference ) != null ) {
+				continue;
+			}
+			EntityPersister persister = getEntityPersister( null, reference );
+			if ( persister.isTransient( reference, this ) == null ) {
+				Serializable id = persister.getIdentifier( reference, this );
+				if ( persistenceContext.getEntity( generateEntityKey( id, persister ) ) == null ) {
+					idsByPersister.computeIfAbsent( persister, p -> new ArrayList<>() ).add( id );
+				}
+			}
+		}
+		if ( idsByPersister.isEmpty() ) {
+			return CompletionStages.voidFuture();
+		}
+
+		ReactivePersistenceContextAdapter adapter = (ReactivePersistenceContextAdapter) persistenceContext;
+		return CompletionStages.loop(
+				idsByPersister.entrySet(),
+				entry -> adapter.reactiveCheckRowExistence( entry.getKey(), entry.getValue() )
+		);
+	}
+
+	/**
+	 * Determine whether persisting the given instance might need to
+	 * check whether a detached instance it references still exists,
+	 * which is only possible if an entity it may reference has an
+	 * identifier with no usable unsaved-value, and no version.
+	 */
+	private boolean mayReferenceDetachedInstances(Object object) {
+		EntityPersister persister;
+		try {
+			persister = getEntityPersister( null, object );
+		}
+		catch (MappingException me) {
+			// not an entity, let persist() report the error
+			return false;
+		}
+		return ( (ReactiveSessionFactoryImpl) getFactory() ).mayReferenceDetachedInstances( persister );
+	}
+
+	/**
+	 * Walk the graph of instances reachable from the given instance via
+	 * the associations to which the given action cascades, passing each
+	 * instance in the graph to the given visitor, and each instance it
+	 * references via a to-one association which does not cascade to the
+	 * given reference visitor.
+	 */
+	private void walkCascadeGraph(
+			Object object,
+			CascadingAction action,
+			IdentitySet visited,
+			BiConsumer<Object, EntityPersister> visitor,
+			BiConsumer<Object, EntityType> referenceVisitor) {
+		if ( object == null
+				|| object == LazyPropertyInitializer.UNFETCHED_PROPERTY
+				|| !visited.add( object ) ) {
+			return;
+		}
+		if ( object instanceof HibernateProxy ) {
+			LazyInitializer initializer = ( (HibernateProxy) object ).getHibernateLazyInitializer();
+			if ( initializer.isUninitialized() ) {
+				// operations don't cascade to uninitialized proxies
+				return;
+			}
+			object = initializer.getImplementation();
+		}
+
+		EntityPersister persister;
+		try {
+			persister = getEntityPersister( null, object );
+		}
+		catch (MappingException me) {
+			// not an entity, let the operation report the error
+			return;
+		}
+		visitor.accept( object, persister );
+
+		Type[] types = persister.getPropertyTypes();
+		CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+		Object[] values = persister.getPropertyValues( object );
+		for ( int i = 0; i < types.length; i++ ) {
+			Object value = values[i];
+			if ( value == null || value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				continue;
+			}
+			boolean cascade = cascadeStyles[i].doCascade( action );
+			if ( types[i].isEntityType() ) {
+				if ( cascade ) {
+					walkCascadeGraph( value, action, visited, visitor, referenceVisitor );
+				}
+				else {
+					referenceVisitor.accept( value, (EntityType) types[i] );
+				}
+			}
+			else if ( cascade
+					&& types[i].isCollectionType()
+					&& ( (CollectionType) types[i] ).getElementType( getFactory() ).isEntityType() ) {
+				if ( value instanceof PersistentCollection
+						&& !( (PersistentCollection) value ).wasInitialized() ) {
+					continue;
+				}
+				Collection<?> elements = value instanceof Map
+						? ( (Map<?, ?>) value ).values()
+						: value instanceof Collection ? (Collection<?>) value : Collections.emptyList();
+				for ( Object element : elements ) {
+					walkCascadeGraph( element, action, visited, visitor, referenceVisitor );
+				}
+			}
+		}
 	}
 
 	@Override
@@ -827,6 +1017,80 @@ else if (e instanceof RuntimeException) {
 
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveMergeAll(Object... objects) {
+		checkOpen();
+		if ( objects.length == 0 ) {
+			return CompletionStages.voidFuture();
+		}
+		return loadDetached( objects )
+				.thenCompose( v -> CompletionStages.loop( objects, this::reactiveMerge ) );
+	}
+
+	@Override
+	public CompletionStage<Void> reactiveUpsert(Object entity) {
+		checkOpen();
+		ReactiveEntityPersister persister = (ReactiveEntityPersister) getEntityPersister( null, entity );
+		Serializable id = persister.getIdentifier( entity, this );
+		if ( id == null
+				|| persister.isVersioned()
+				|| persister.getSQLUpsertString() == null
+				|| getPersistenceContextInternal().getEntity( generateEntityKey( id, persister ) ) != null ) {
+			// the upsert can't check the version, and it can't
+			// update an instance that's already managed
+			return reactiveMerge( entity ).thenApply( v -> null );
+		}
+
+		Object[] fields = persister.getPropertyValuesToInsert( entity, null, this );
+		ReactiveActionQueue actionQueue = getReactiveActionQueue();
+		// make sure the row is written after any pending inserts
+		// of the entities it refers to
+		CompletionStage<Void> flush = actionQueue.hasAnyQueuedActionsExceptUpserts()
+				? reactiveFlush()
+				: CompletionStages.voidFuture();
+		return flush.thenAccept( v -> actionQueue.addAction(
+				new ReactiveEntityUpsertAction( id, fields, entity, persister, this )
+		) );
+	}
+
+	/**
+	 * Load the persistent instances for every detached instance in the
+	 * graphs to be merged, using one multi-load per entity, so that the
+	 * merge finds them in the persistence context.
+	 */
+	private CompletionStage<Void> loadDetached(Object[] objects) {
+		Map<EntityPersister, List<Serializable>> idsByPersister = new LinkedHashMap<>();
+		IdentitySet visited = new IdentitySet();
+		PersistenceContext persistenceContext = getPersistenceContextInternal();
+		for ( Object object : objects ) {
+			walkCascadeGraph( object, CascadingActions.MERGE, visited,
+					(instance, persister) -> {
+						if ( !persistenceContext.isEntryFor( instance )
+								&& !Boolean.TRUE.equals( persister.isTransient( instance, this ) ) ) {
+							Serializable id = persister.getIdentifier( instance, this );
+							if ( persistenceContext.getEntity( generateEntityKey( id, persister ) ) == null ) {
+								idsByPersister.computeIfAbsent( persister, p -> new ArrayList<>() ).add( id );
+							}
+						}
+					},
+					(reference, type) -> {}
+			);
+		}
+		if ( idsByPersister.isEmpty() ) {
+			return CompletionStages.voidFuture();
+		}
+
+		// load them the same way DefaultReactiveMergeEventListener does
+		String previousFetchProfile = getLoadQueryInfluencers().getInternalFetchProfile();
+		getLoadQueryInfluencers().setInternalFetchProfile( "merge" );
+		return CompletionStages.loop(
+						idsByPersister.entrySet(),
+						entry -> new ReactiveMultiIdentifierLoadAccessImpl<>( entry.getKey() )
+								.multiLoad( entry.getValue().toArray() )
+				)
+				.whenComplete( (v, e) -> getLoadQueryInfluencers().setInternalFetchProfile( previousFetchProfile ) );
+	}
+
 	@Override
 	public CompletionStage<Void> reactiveFlush() {
 		checkOpen();
@@ -860,6 +1124,20 @@ private CompletionStage<Void> doFlush() {
 				} );
 	}
 
+	@Override
+	public Object instantiate(EntityPersister persister, Serializable id) throws HibernateException {
+		ReactivePersistenceContextAdapter persistenceContext =
+				(ReactivePersistenceContextAdapter) getPersistenceContextInternal();
+		if ( persistenceContext.hasRefreshTargets() ) {
+			// load the state into the instance being refreshed
+			Object entity = persistenceContext.removeRefreshTarget( generateEntityKey( id, persister ) );
+			if ( entity != null ) {
+				return entity;
+			}
+		}
+		return super.instantiate( persister, id );
+	}
+
 	@Override
 	public CompletionStage<Void> reactiveRefresh(Object entity, LockMode lockMode) {
 		checkOpen();
@@ -905,6 +1183,38 @@ CompletionStage<Void> fireRefresh(RefreshEvent event) {
 				});
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveRefreshAll(LockMode lockMode, Object... entities) {
+		checkOpen();
+		final List<RefreshEvent> events = new ArrayList<>( entities.length );
+		for ( Object entity : entities ) {
+			if ( !getSessionFactory().getSessionFactoryOptions().isAllowRefreshDetachedEntity() ) {
+				if ( !contains( entity ) ) {
+					throw new IllegalArgumentException( "Entity not managed" );
+				}
+			}
+			events.add( new RefreshEvent( entity, lockMode, this ) );
+		}
+		pulseTransactionCoordinator();
+
+		return fire( events, EventType.REFRESH,
+				(ReactiveRefreshEventListener l) -> l::reactiveOnRefreshAll )
+				.handle( (v, e) -> {
+					delayedAfterCompletion();
+
+					if (e instanceof RuntimeException) {
+						if ( !getSessionFactory().getSessionFactoryOptions().isJpaBootstrap() ) {
+							if ( e instanceof HibernateException ) {
+								return CompletionStages.rethrow(e);
+							}
+						}
+						//including HibernateException
+						throw getExceptionConverter().convert( (RuntimeException) e );
+					}
+					return CompletionStages.returnNullorRethrow( e );
+				});
+	}
+
 	private CompletionStage<Void> fireRefresh(IdentitySet refreshedAlready, RefreshEvent event) {
 		pulseTransactionCoordinator();
 
@@ -926,6 +1236,26 @@ public CompletionStage<Void> reactiveLock(Object object, LockMode lockMode) {
 		return fireLock( new LockEvent( object, lockMode, this ) );
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveLockAll(LockMode lockMode, Object... entities) {
+		checkOpen();
+		final List<LockEvent> events = new ArrayList<>( entities.length );
+		for ( Object entity : entities ) {
+			events.add( new LockEvent( entity, lockMode, this ) );
+		}
+		pulseTransactionCoordinator();
+
+		return fire( events, EventType.LOCK, (ReactiveLockEventListener l) -> l::reactiveOnLockAll )
+				.handle( (v, e) -> {
+					delayedAfterCompletion();
+
+					if (e instanceof RuntimeException) {
+						throw getExceptionConverter().convert( (RuntimeException) e );
+					}
+					return CompletionStages.returnNullorRethrow( e );
+				});
+	}
+
 	private CompletionStage<Void> fireLock(LockEvent event) {
 		pulseTransactionCoordinator();
 
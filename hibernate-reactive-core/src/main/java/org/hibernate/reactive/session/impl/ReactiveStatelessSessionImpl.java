@@ -0,0 +1,327 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.internal.Versioning;
+import org.hibernate.engine.query.spi.HQLQueryPlan;
+import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.internal.StatelessSessionImpl;
+import org.hibernate.jpa.spi.NativeQueryTupleTransformer;
+import org.hibernate.loader.custom.sql.SQLCustomQuery;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.ParameterMetadata;
+import org.hibernate.query.Query;
+import org.hibernate.query.internal.ParameterMetadataImpl;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
+import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
+import org.hibernate.reactive.loader.custom.impl.ReactiveCustomLoader;
+import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.session.ReactiveNativeQuery;
+import org.hibernate.reactive.session.ReactiveQuery;
+import org.hibernate.reactive.session.ReactiveStatelessSession;
+import org.hibernate.reactive.util.impl.ChunkPublisher;
+import org.hibernate.reactive.util.impl.CompletionStages;
+
+import javax.persistence.Tuple;
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import static org.hibernate.reactive.id.impl.IdentifierGeneration.assignIdIfNecessary;
+
+/**
+ * An {@link ReactiveStatelessSession} implemented by extension of
+ * the {@link StatelessSessionImpl} in Hibernate core. Extension was
+ * preferred to delegation because there are places where
+ * Hibernate core compares the identity of session instances.
+ * <p>
+ * Operations are executed immediately by calling the reactive
+ * operations of the {@link ReactiveEntityPersister}, and there
+ * is no first-level cache, no automatic dirty checking, and no
+ * cascading.
+ */
+public class ReactiveStatelessSessionImpl extends StatelessSessionImpl implements ReactiveStatelessSession {
+
+	private final ReactiveConnection reactiveConnection;
+
+	private final ReactivePersistenceContextAdapter persistenceContext;
+
+	public ReactiveStatelessSessionImpl(SessionFactoryImpl factory,
+										SessionFactoryImpl.StatelessSessionBuilderImpl options,
+										ReactiveConnection connection) {
+		super( factory, options );
+		reactiveConnection = connection;
+		persistenceContext = new ReactivePersistenceContextAdapter( this );
+	}
+
+	@Override
+	public PersistenceContext getPersistenceContext() {
+		return persistenceContext;
+	}
+
+	@Override
+	public PersistenceContext getPersistenceContextInternal() {
+		return persistenceContext;
+	}
+
+	@Override
+	public ReactiveConnection getReactiveConnection() {
+		return reactiveConnection;
+	}
+
+	@Override
+	public <T> CompletionStage<T> reactiveGet(Class<T> entityClass, Object id) {
+		return reactiveGet( entityClass, id, null );
+	}
+
+	@Override
+	public <T> CompletionStage<T> reactiveGet(Class<T> entityClass, Object id, LockMode lockMode) {
+		checkOpen();
+
+		ReactiveEntityPersister persister = (ReactiveEntityPersister)
+				getFactory().getMetamodel().entityPersister( entityClass );
+		LockOptions lockOptions = new LockOptions( lockMode == null ? LockMode.NONE : lockMode );
+		return persister.reactiveLoad( (Serializable) id, null, lockOptions, this )
+				.whenComplete( (entity, error) -> {
+					if ( persistenceContext.isLoadFinished() ) {
+						persistenceContext.clear();
+					}
+				} )
+				.thenApply( entityClass::cast );
+	}
+
+	@Override
+	public CompletionStage<Void> reactiveInsert(Object entity) {
+		checkOpen();
+
+		ReactiveEntityPersister persister = (ReactiveEntityPersister) getEntityPersister( null, entity );
+		Object[] state = persister.getPropertyValues( entity );
+		if ( persister.isVersioned() ) {
+			boolean substitute = Versioning.seedVersion(
+					state,
+					persister.getVersionProperty(),
+					persister.getVersionType(),
+					this
+			);
+			if ( substitute ) {
+				persister.setPropertyValues( entity, state );
+			}
+		}
+
+		if ( persister.isIdentifierAssignedByInsert() ) {
+			return persister.insertReactive( state, entity, this )
+					.thenAccept( id -> persister.setIdentifier( entity, id, this ) );
+		}
+		else {
+			return generateId( entity, persister )
+					.thenApply( generatedId -> assignIdIfNecessary( generatedId, entity, persister, this ) )
+					.thenCompose( id -> persister.insertReactive( id, state, entity, this )
+							.thenAccept( v -> persister.setIdentifier( entity, id, this ) ) );
+		}
+	}
+
+	private CompletionStage<?> generateId(Object entity, EntityPersister persister) {
+		IdentifierGenerator generator = persister.getIdentifierGenerator();
+		return generator instanceof ReactiveIdentifierGenerator
+				? ( (ReactiveIdentifierGenerator<?>) generator ).generate( this, entity )
+				: CompletionStages.completedFuture( generator.generate( this, entity ) );
+	}
+
+	@Override
+	public CompletionStage<Void> reactiveDelete(Object entity) {
+		checkOpen();
+
+		ReactiveEntityPersister persister = (ReactiveEntityPersister) getEntityPersister( null, entity );
+		Serializable id = persister.getIdentifier( entity, this );
+		Object version = persister.getVersion( entity );
+		return persister.deleteReactive( id, version, entity, this )
+				.thenApply( v -> null );
+	}
+
+	@Override
+	public CompletionStage<Void> reactiveUpdate(Object entity) {
+		checkOpen();
+
+		ReactiveEntityPersister persister = (ReactiveEntityPersister) getEntityPersister( null, entity );
+		Serializable id = persister.getIdentifier( entity, this );
+		Object[] state = persister.getPropertyValues( entity );
+		Object oldVersion;
+		if ( persister.isVersioned() ) {
+			oldVersion = persister.getVersion( entity );
+			Object newVersion = Versioning.increment( oldVersion, persister.getVersionType(), this );
+			Versioning.setVersion( state, newVersion, persister );
+			persister.setPropertyValues( entity, state );
+		}
+		else {
+			oldVersion = null;
+		}
+		return persister.updateReactive( id, state, null, false, null, oldVersion, entity, null, this )
+				.thenApply( v -> null );
+	}
+
+	@Override
+	public <R> ReactiveQueryImpl<R> createReactiveQuery(String queryString) {
+		checkOpen();
+
+		try {
+			ParameterMetadataImpl paramMetadata = getQueryPlan( queryString ).getParameterMetadata();
+			ReactiveQueryImpl<R> query = new ReactiveQueryImpl<>( this, paramMetadata, queryString, ReactiveSessionImpl.queryType( queryString ) );
+			query.setComment( queryString );
+			return query;
+		}
+		catch (RuntimeException e) {
+			throw getExceptionConverter().convert( e );
+		}
+	}
+
+	@Override
+	public <R> ReactiveQuery<R> createReactiveQuery(String queryString, Class<R> resultType) {
+		checkOpen();
+
+		try {
+			// do the translation
+			final ReactiveQueryImpl<R> query = createReactiveQuery( queryString );
+			resultClassChecking( resultType, query.unwrap( Query.class ) );
+			return query;
+		}
+		catch (RuntimeException e) {
+			throw getExceptionConverter().convert( e );
+		}
+	}
+
+	@Override
+	public <T> ReactiveNativeQueryImpl<T> createReactiveNativeQuery(String sqlString) {
+		checkOpen();
+
+		try {
+			ParameterMetadata params = getFactory().getQueryPlanCache()
+					.getSQLParameterMetadata( sqlString, false );
+			ReactiveNativeQueryImpl<T> query = new ReactiveNativeQueryImpl<>( sqlString, false, this, params );
+			query.setComment( "dynamic native SQL query" );
+			return query;
+		}
+		catch (RuntimeException he) {
+			throw getExceptionConverter().convert( he );
+		}
+	}
+
+	@Override
+	public <T> ReactiveQuery<T> createReactiveNativeQuery(String sqlString, Class<T> resultType) {
+		checkOpen();
+
+		try {
+			ReactiveNativeQuery<T> query = createReactiveNativeQuery( sqlString );
+			if ( Tuple.class.equals( resultType ) ) {
+				query.setResultTransformer( new NativeQueryTupleTransformer() );
+			}
+			else {
+				query.addEntity( "alias1", resultType.getName(), LockMode.READ );
+			}
+			return query;
+		}
+		catch (RuntimeException he) {
+			throw getExceptionConverter().convert( he );
+		}
+	}
+
+	private ReactiveHQLQueryPlan getQueryPlan(String query) throws HibernateException {
+		return (ReactiveHQLQueryPlan) getFactory().getQueryPlanCache()
+				.getHQLQueryPlan( query, false, getLoadQueryInfluencers().getEnabledFilters() );
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> reactiveList(String query, QueryParameters parameters) {
+		checkOpen();
+		parameters.validateParameters();
+
+		HQLQueryPlan plan = parameters.getQueryPlan();
+		if ( plan == null ) {
+			plan = getQueryPlan( query );
+		}
+		ReactiveHQLQueryPlan reactivePlan = (ReactiveHQLQueryPlan) plan;
+		return reactivePlan.<T>performReactiveList( parameters, this )
+				.whenComplete( (list, x) -> persistenceContext.clear() );
+	}
+
+	@Override
+	public <T> CompletionStage<ChunkPublisher.Source<T>> reactiveListWithCursor(String query, QueryParameters parameters, int fetchSize) {
+		checkOpen();
+		parameters.validateParameters();
+
+		HQLQueryPlan plan = parameters.getQueryPlan();
+		if ( plan == null ) {
+			plan = getQueryPlan( query );
+		}
+		ReactiveHQLQueryPlan reactivePlan = (ReactiveHQLQueryPlan) plan;
+		return reactivePlan.<T>performReactiveListWithCursor( parameters, this, fetchSize )
+				.thenApply( source -> new ChunkPublisher.Source<T>() {
+					@Override
+					public CompletionStage<List<T>> next() {
+						// there is no first-level cache, so forget
+						// the entities in each chunk once it's read
+						return source.next()
+								.whenComplete( (list, x) -> persistenceContext.clear() );
+					}
+
+					@Override
+					public CompletionStage<Void> close() {
+						return source.close();
+					}
+				} );
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters) {
+		checkOpen();
+
+		ReactiveCustomLoader loader = new ReactiveCustomLoader( customQuery( spec ), getFactory() );
+		return loader.<T>reactiveList( this, parameters )
+				.whenComplete( (list, x) -> persistenceContext.clear() );
+	}
+
+	@Override
+	public CompletionStage<Integer> executeReactiveUpdate(String query, QueryParameters parameters) {
+		checkOpen();
+		parameters.validateParameters();
+
+		return getQueryPlan( query ).performExecuteReactiveUpdate( parameters, this );
+	}
+
+	@Override
+	public CompletionStage<Integer> executeReactiveUpdate(NativeSQLQuerySpecification specification,
+														  QueryParameters parameters) {
+		checkOpen();
+		parameters.validateParameters();
+
+		return new ReactiveNativeSQLQueryPlan( specification.getQueryString(), customQuery( specification ) )
+				.performExecuteReactiveUpdate( parameters, this );
+	}
+
+	private SQLCustomQuery customQuery(NativeSQLQuerySpecification spec) {
+		return new SQLCustomQuery(
+				spec.getQueryString(),
+				spec.getQueryReturns(),
+				spec.getQuerySpaces(),
+				getFactory()
+		);
+	}
+
+	@Override
+	public void close() throws HibernateException {
+		if ( reactiveConnection != null ) {
+			reactiveConnection.close();
+		}
+		super.close();
+	}
+}
@@ -16,7 +16,9 @@
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.reactivestreams.Publisher;
 import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.stat.Statistics;
 
 import javax.persistence.EntityGraph;
 import javax.persistence.Parameter;
@@ -35,9 +37,9 @@
  * An API for Hibernate Reactive where non-blocking operations are
  * represented by a Java {@link CompletionStage}.
  * <p>
- * The {@link Query}, {@link Session}, and {@link SessionFactory}
- * interfaces declared here are simply non-blocking counterparts to
- * the similarly-named interfaces in Hibernate ORM.
+ * The {@link Query}, {@link Session}, {@link StatelessSession}, and
+ * {@link SessionFactory} interfaces declared here are simply non-blocking
+ * counterparts to the similarly-named interfaces in Hibernate ORM.
  */
 public interface Stage {
 	/**
@@ -108,6 +110,12 @@ public interface Stage {
 		 */
 		int getFirstResult();
 
+		/**
+		 * Set the number of rows fetched from the database at a time
+		 * when the query results are streamed using {@link #getResults()}.
+		 */
+		Query<R> setFetchSize(int fetchSize);
+
 		/**
 		 * Asynchronously Execute this query, returning a single row
 		 * that matches the query, or {@code null} if the query returns
@@ -133,6 +141,28 @@ public interface Stage {
 		 */
 		CompletionStage<List<R>> getResultList();
 
+		/**
+		 * Execute this query, returning the query results as a reactive
+		 * streams {@link Publisher}. If the query has multiple results
+		 * per row, the results are returned in an instance of
+		 * {@code Object[]}.
+		 * <p>
+		 * The query is executed when the subscriber first signals demand.
+		 * Where possible, the rows are fetched from the database using a
+		 * cursor, a chunk of {@link #setFetchSize(int) fetch size} rows
+		 * at a time, only as the subscriber signals demand for them, so
+		 * that the whole result set is never held in memory. Note that
+		 * entities returned by the query are still associated with the
+		 * persistence context, unless they are explicitly detached.
+		 * <p>
+		 * Queries with collection fetches, cacheable queries, and native
+		 * SQL queries don't support cursors, and so their results are
+		 * fetched all at once.
+		 *
+		 * @return the resulting rows via a {@link Publisher}
+		 */
+		Publisher<R> getResults();
+
 		/**
 		 * Asynchronously execute this delete, update, or insert query,
 		 * returning the updated row count.
@@ -388,12 +418,38 @@ interface Session extends AutoCloseable {
 		<T> CompletionStage<T> merge(T entity);
 
 		/**
-		 * Merge multiple entity instances at once.
+		 * Merge multiple entity instances at once. The persistent
+		 * instances onto which the given detached instances, and any
+		 * detached instances reached by cascading, are merged are
+		 * loaded in batches, instead of one at a time.
 		 *
 		 * @see #merge(Object)
 		 */
 		<T> CompletionStage<Void> merge(T... entities);
 
+		/**
+		 * Insert the given instance, or, if there's already a row with
+		 * the same identifier, update the row, using a single "upsert"
+		 * statement, without first loading the persistent instance, as
+		 * {@link #merge(Object)} does. The given instance does not become
+		 * associated with the session, and the operation does not cascade.
+		 * <p>
+		 * The statement is executed when the session is next flushed, or
+		 * not at all if the session is closed first. If JDBC batching is
+		 * enabled, it's executed in a batch with other upserts of the same
+		 * entity.
+		 * <p>
+		 * This is only possible for an unversioned entity with an assigned
+		 * identifier, mapped to a single table, on PostgreSQL or MySQL. In
+		 * any other case, the instance is merged instead.
+		 *
+		 * @param entity a transient or detached instance with state to
+		 *               be written to the database
+		 *
+		 * @see #merge(Object)
+		 */
+		CompletionStage<Session> upsert(Object entity);
+
 		/**
 		 * Re-read the state of the given instance from the underlying database.
 		 * It is inadvisable to use this to implement long-running sessions that
@@ -421,7 +477,9 @@ interface Session extends AutoCloseable {
 		CompletionStage<Session> refresh(Object entity, LockMode lockMode);
 
 		/**
-		 * Refresh multiple entity instances at once.
+		 * Refresh multiple entity instances at once. The state of managed
+		 * instances of the same entity is re-read using a single query,
+		 * where possible.
 		 *
 		 * @see #refresh(Object)
 		 */
@@ -447,6 +505,18 @@ interface Session extends AutoCloseable {
 		 */
 		CompletionStage<Session> lock(Object entity, LockMode lockMode);
 
+		/**
+		 * Obtain the specified lock level upon multiple entity instances at
+		 * once. The locks on managed instances of the same entity are
+		 * obtained using a single statement, where possible.
+		 *
+		 * @param lockMode the lock level
+		 * @param entities persistent or transient instances
+		 *
+		 * @see #lock(Object, LockMode)
+		 */
+		CompletionStage<Session> lock(LockMode lockMode, Object... entities);
+
 		/**
 		 * Force this session to flush asynchronously. Must be called at the
 		 * end of a unit of work, before committing the transaction and closing
@@ -843,6 +913,161 @@ interface Session extends AutoCloseable {
 		boolean isOpen();
 	}
 
+	/**
+	 * A non-blocking counterpart to the Hibernate
+	 * {@link org.hibernate.StatelessSession} interface, which provides a
+	 * command-oriented API for performing bulk operations against a database.
+	 * <p>
+	 * A stateless session does not implement a first-level cache nor interact
+	 * with any second-level cache, nor does it implement transactional
+	 * write-behind or automatic dirty checking, nor do operations cascade to
+	 * associated instances. Changes to many to many associations and element
+	 * collections may not be made persistent in a stateless session.
+	 * Operations performed via a stateless session bypass Hibernate's event
+	 * model and interceptors.
+	 * <p>
+	 * For certain kinds of work, a stateless session may perform slightly
+	 * better than a stateful session.
+	 * <p>
+	 * In particular, for a session which loads many entities, use of a
+	 * {@code StatelessSession} alleviates the need to call:
+	 * <ul>
+	 * <li>{@link Session#clear()} or {@link Session#detach(Object)} to perform
+	 * first-level cache management, and
+	 * <li>{@link Session#setCacheMode(CacheMode)} to bypass interaction with
+	 * the second-level cache.
+	 * </ul>
+	 * <p>
+	 * Stateless sessions are vulnerable to data aliasing effects, due to the
+	 * lack of a first-level cache.
+	 *
+	 * @see org.hibernate.StatelessSession
+	 */
+	interface StatelessSession extends AutoCloseable {
+
+		/**
+		 * Retrieve a row.
+		 *
+		 * @param entityClass The class of the entity to retrieve
+		 * @param id The id of the entity to retrieve
+		 *
+		 * @return a detached entity instance, via a {@code CompletionStage}
+		 *
+		 * @see org.hibernate.StatelessSession#get(Class, java.io.Serializable)
+		 */
+		<T> CompletionStage<T> get(Class<T> entityClass, Object id);
+
+		/**
+		 * Retrieve a row, obtaining the specified lock mode.
+		 *
+		 * @param entityClass The class of the entity to retrieve
+		 * @param id The id of the entity to retrieve
+		 * @param lockMode The lock mode to apply to the entity
+		 *
+		 * @return a detached entity instance, via a {@code CompletionStage}
+		 *
+		 * @see org.hibernate.StatelessSession#get(Class, java.io.Serializable, LockMode)
+		 */
+		<T> CompletionStage<T> get(Class<T> entityClass, Object id, LockMode lockMode);
+
+		/**
+		 * Create an instance of {@link Query} for the given HQL/JPQL query
+		 * string or HQL/JPQL update or delete statement.
+		 *
+		 * @param queryString The HQL/JPQL query, update or delete statement
+		 *
+		 * @return The {@link Query} instance for manipulation and execution
+		 *
+		 * @see Session#createQuery(String)
+		 */
+		<R> Query<R> createQuery(String queryString);
+
+		/**
+		 * Create an instance of {@link Query} for the given HQL/JPQL query
+		 * string.
+		 *
+		 * @param queryString The HQL/JPQL query
+		 * @param resultType the Java type returned in each row of query results
+		 *
+		 * @return The {@link Query} instance for manipulation and execution
+		 *
+		 * @see Session#createQuery(String, Class)
+		 */
+		<R> Query<R> createQuery(String queryString, Class<R> resultType);
+
+		/**
+		 * Create an instance of {@link Query} for the given SQL query string,
+		 * using the given {@code resultType} to interpret the results.
+		 *
+		 * @param queryString The SQL query
+		 * @param resultType the Java type returned in each row of query results
+		 *
+		 * @return The {@link Query} instance for manipulation and execution
+		 *
+		 * @see Session#createNativeQuery(String, Class)
+		 */
+		<R> Query<R> createNativeQuery(String queryString, Class<R> resultType);
+
+		/**
+		 * Create an instance of {@link Query} for the given SQL update,
+		 * insert, or delete DML statement.
+		 *
+		 * @param queryString The SQL update, insert, or delete statement
+		 *
+		 * @see Session#createNativeQuery(String)
+		 */
+		Query<Integer> createNativeQuery(String queryString);
+
+		/**
+		 * Insert a row.
+		 *
+		 * @param entity a new transient instance
+		 *
+		 * @see org.hibernate.StatelessSession#insert(Object)
+		 */
+		CompletionStage<Void> insert(Object entity);
+
+		/**
+		 * Delete a row.
+		 *
+		 * @param entity a detached entity instance
+		 *
+		 * @see org.hibernate.StatelessSession#delete(Object)
+		 */
+		CompletionStage<Void> delete(Object entity);
+
+		/**
+		 * Update a row.
+		 *
+		 * @param entity a detached entity instance
+		 *
+		 * @see org.hibernate.StatelessSession#update(Object)
+		 */
+		CompletionStage<Void> update(Object entity);
+
+		/**
+		 * Performs the given work within the scope of a database transaction.
+		 * The transaction will be rolled back if the work completes with an
+		 * uncaught exception, or if {@link Transaction#markForRollback()} is
+		 * called.
+		 *
+		 * @param work a function which accepts {@link Transaction} and returns
+		 *             the result of the work as a {@link CompletionStage}.
+		 */
+		<T> CompletionStage<T> withTransaction(Function<Transaction, CompletionStage<T>> work);
+
+		/**
+		 * Close the reactive session and release the underlying database
+		 * connection.
+		 */
+		void close();
+
+		/**
+		 * @return false if {@link #close()} has been called
+		 */
+		boolean isOpen();
+	}
+
 	/**
 	 * Allows code within {@link Session#withTransaction(Function)} to mark a
 	 * transaction for rollback. A transaction marked for rollback will
@@ -942,6 +1167,26 @@ interface SessionFactory extends AutoCloseable {
 		 */
 		<T> CompletionStage<T> withTransaction(BiFunction<Session, Transaction, CompletionStage<T>> work);
 
+		/**
+		 * Obtain a {@link StatelessSession reactive stateless session}.
+		 * <p>
+		 * The underlying database connection is obtained before the
+		 * {@link StatelessSession} is returned via a {@link CompletionStage}.
+		 * <p>
+		 * The client must close the session using {@link StatelessSession#close()}.
+		 */
+		CompletionStage<StatelessSession> openStatelessSession();
+
+		/**
+		 * Perform work using a {@link StatelessSession reactive stateless session}.
+		 * <p>
+		 * The session will be closed automatically.
+		 *
+		 * @param work a function which accepts the session and returns
+		 *             the result of the work as a {@link CompletionStage}.
+		 */
+		<T> CompletionStage<T> withStatelessSession(Function<StatelessSession, CompletionStage<T>> work);
+
 		/**
 		 * @return an instance of {@link CriteriaBuilder} for creating
 		 * criteria queries.
@@ -953,6 +1198,13 @@ interface SessionFactory extends AutoCloseable {
 		 */
 		Metamodel getMetamodel();
 
+		/**
+		 * Obtain the {@link Statistics} object exposing factory-level metrics,
+		 * including, when statistics are enabled, the number of connections
+		 * obtained from the connection pool and statements executed.
+		 */
+		Statistics getStatistics();
+
 		/**
 		 * Destroy the session factory and clean up its connection pool.
 		 */
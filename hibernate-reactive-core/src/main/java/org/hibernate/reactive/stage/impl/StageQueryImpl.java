@@ -10,6 +10,7 @@
 import org.hibernate.LockMode;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.stage.Stage;
+import org.reactivestreams.Publisher;
 
 import javax.persistence.Parameter;
 import java.util.List;
@@ -66,6 +67,12 @@ public int getFirstResult() {
 		return delegate.getFirstResult();
 	}
 
+	@Override
+	public Stage.Query<R> setFetchSize(int fetchSize) {
+		delegate.setFetchSize( fetchSize );
+		return this;
+	}
+
 	@Override
 	public Stage.Query<R> setReadOnly(boolean readOnly) {
 		delegate.setReadOnly( readOnly );
@@ -144,4 +151,9 @@ public CompletionStage<List<R>> getResultList() {
 		return delegate.getReactiveResultList();
 	}
 
+	@Override
+	public Publisher<R> getResults() {
+		return delegate.getReactiveResultStream();
+	}
+
 }
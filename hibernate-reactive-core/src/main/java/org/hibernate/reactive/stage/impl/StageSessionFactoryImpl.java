@@ -10,7 +10,9 @@
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.session.impl.ReactiveCriteriaBuilderImpl;
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
+import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
 import org.hibernate.reactive.stage.Stage;
+import org.hibernate.stat.Statistics;
 
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.metamodel.Metamodel;
@@ -69,6 +71,26 @@ public <T> CompletionStage<T> withTransaction(BiFunction<Stage.Session, Stage.Tr
 		return withSession( (s) -> s.withTransaction( (t) -> work.apply(s, t) ) );
 	}
 
+	@Override
+	public CompletionStage<Stage.StatelessSession> openStatelessSession() {
+		ReactiveConnectionPool pool = delegate.getServiceRegistry()
+				.getService(ReactiveConnectionPool.class);
+		return pool.getConnection()
+				.thenApply( reactiveConnection -> new ReactiveStatelessSessionImpl(
+						delegate,
+						new SessionFactoryImpl.StatelessSessionBuilderImpl(delegate),
+						reactiveConnection
+				) )
+				.thenApply( StageStatelessSessionImpl::new );
+	}
+
+	@Override
+	public <T> CompletionStage<T> withStatelessSession(Function<Stage.StatelessSession, CompletionStage<T>> work) {
+		return openStatelessSession().thenCompose(
+				session -> work.apply(session).whenComplete( (r, e) -> session.close() )
+		);
+	}
+
 	@Override
 	public CriteriaBuilder getCriteriaBuilder() {
 		return new ReactiveCriteriaBuilderImpl( delegate );
@@ -79,6 +101,11 @@ public Metamodel getMetamodel() {
 		return delegate.getMetamodel();
 	}
 
+	@Override
+	public Statistics getStatistics() {
+		return delegate.getStatistics();
+	}
+
 	@Override
 	public void close() {
 		delegate.close();
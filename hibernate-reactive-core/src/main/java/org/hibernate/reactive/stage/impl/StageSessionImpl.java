@@ -118,7 +118,7 @@ public CompletionStage<Stage.Session> persist(Object entity) {
 
 	@Override
 	public CompletionStage<Stage.Session> persist(Object... entity) {
-		return applyToAll( delegate::reactivePersist, entity ).thenApply( v -> this );
+		return delegate.reactivePersistAll( entity ).thenApply( v -> this );
 	}
 
 	@Override
@@ -138,7 +138,12 @@ public <T> CompletionStage<T> merge(T entity) {
 
 	@Override
 	public <T> CompletionStage<Void> merge(T... entity) {
-		return applyToAll( delegate::reactiveMerge, entity ).thenApply( v -> null );
+		return delegate.reactiveMergeAll( entity );
+	}
+
+	@Override
+	public CompletionStage<Stage.Session> upsert(Object entity) {
+		return delegate.reactiveUpsert( entity ).thenApply( v -> this );
 	}
 
 	@Override
@@ -153,7 +158,7 @@ public CompletionStage<Stage.Session> refresh(Object entity, LockMode lockMode)
 
 	@Override
 	public CompletionStage<Stage.Session> refresh(Object... entity) {
-		return applyToAll( e -> delegate.reactiveRefresh( e, LockMode.NONE ), entity ).thenApply( v -> this );
+		return delegate.reactiveRefreshAll( LockMode.NONE, entity ).thenApply( v -> this );
 	}
 
 	@Override
@@ -161,6 +166,11 @@ public CompletionStage<Stage.Session> lock(Object entity, LockMode lockMode) {
 		return delegate.reactiveLock( entity, lockMode ).thenApply( v -> this );
 	}
 
+	@Override
+	public CompletionStage<Stage.Session> lock(LockMode lockMode, Object... entities) {
+		return delegate.reactiveLockAll( lockMode, entities ).thenApply( v -> this );
+	}
+
 	@Override
 	public <R> Stage.Query<R> createQuery(String jpql, Class<R> resultType) {
 		return new StageQueryImpl<>( delegate.createReactiveQuery( jpql, resultType ) );
@@ -440,11 +450,7 @@ else if ( entity.length==1 ) {
 			return op.apply( entity[0] );
 		}
 
-		CompletionStage<T> stage = CompletionStages.nullFuture();
-		for (Object e: entity) {
-			stage = stage.thenCompose( v -> op.apply(e) );
-		}
-		return stage;
+		return CompletionStages.loop( entity, op ).thenApply( v -> null );
 	}
 
 }
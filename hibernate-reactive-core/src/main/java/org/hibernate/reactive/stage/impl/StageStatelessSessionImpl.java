@@ -0,0 +1,153 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stage.impl;
+
+import org.hibernate.LockMode;
+import org.hibernate.MappingException;
+import org.hibernate.reactive.session.ReactiveStatelessSession;
+import org.hibernate.reactive.stage.Stage;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
+
+/**
+ * Implements the {@link Stage.StatelessSession} API. This delegating
+ * class is needed to avoid name clashes when implementing both
+ * {@code StatelessSession} and {@link org.hibernate.StatelessSession}.
+ */
+public class StageStatelessSessionImpl implements Stage.StatelessSession {
+
+	private final ReactiveStatelessSession delegate;
+
+	public StageStatelessSessionImpl(ReactiveStatelessSession delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public <T> CompletionStage<T> get(Class<T> entityClass, Object id) {
+		return delegate.reactiveGet( entityClass, id );
+	}
+
+	@Override
+	public <T> CompletionStage<T> get(Class<T> entityClass, Object id, LockMode lockMode) {
+		return delegate.reactiveGet( entityClass, id, lockMode );
+	}
+
+	@Override
+	public <R> Stage.Query<R> createQuery(String queryString) {
+		return new StageQueryImpl<>( delegate.createReactiveQuery( queryString ) );
+	}
+
+	@Override
+	public <R> Stage.Query<R> createQuery(String queryString, Class<R> resultType) {
+		return new StageQueryImpl<>( delegate.createReactiveQuery( queryString, resultType ) );
+	}
+
+	@Override
+	public <R> Stage.Query<R> createNativeQuery(String queryString, Class<R> resultType) {
+		try {
+			delegate.getFactory().getMetamodel().entityPersister(resultType);
+			return new StageQueryImpl<>( delegate.createReactiveNativeQuery( queryString, resultType ) );
+		}
+		catch (MappingException me) {
+			return new StageQueryImpl<>( delegate.createReactiveNativeQuery( queryString ) );
+		}
+	}
+
+	@Override
+	public Stage.Query<Integer> createNativeQuery(String queryString) {
+		return new StageQueryImpl<>( delegate.createReactiveNativeQuery( queryString ) );
+	}
+
+	@Override
+	public CompletionStage<Void> insert(Object entity) {
+		return delegate.reactiveInsert( entity );
+	}
+
+	@Override
+	public CompletionStage<Void> delete(Object entity) {
+		return delegate.reactiveDelete( entity );
+	}
+
+	@Override
+	public CompletionStage<Void> update(Object entity) {
+		return delegate.reactiveUpdate( entity );
+	}
+
+	@Override
+	public <T> CompletionStage<T> withTransaction(Function<Stage.Transaction, CompletionStage<T>> work) {
+		return new Transaction<T>().execute( work );
+	}
+
+	private class Transaction<T> implements Stage.Transaction {
+		boolean rollback;
+		Throwable error;
+
+		CompletionStage<T> execute(Function<Stage.Transaction, CompletionStage<T>> work) {
+			return begin()
+					.thenCompose( v -> work.apply( this ) )
+					// have to capture the error here and pass it along,
+					// since we can't just return a CompletionStage that
+					// rolls back the transaction from the handle() function
+					.handle( this::processError )
+					// finally, commit or rollback the transaction, and
+					// then rethrow the caught error if necessary
+					.thenCompose(
+							result -> end()
+									// make sure that if rollback() throws,
+									// the original error doesn't get swallowed
+									.handle( this::processError )
+									// finally rethrow the original error, if any
+									.thenApply( v -> returnOrRethrow( error, result ) )
+					);
+		}
+
+		CompletionStage<Void> begin() {
+			return delegate.getReactiveConnection().beginTransaction();
+		}
+
+		CompletionStage<Void> end() {
+			return rollback
+					? delegate.getReactiveConnection().rollbackTransaction()
+					: delegate.getReactiveConnection().commitTransaction();
+		}
+
+		<R> R processError(R result, Throwable e) {
+			if ( e!=null ) {
+				rollback = true;
+				if (error == null) {
+					error = e;
+				}
+				else {
+					error.addSuppressed(e);
+				}
+			}
+			return result;
+		}
+
+		@Override
+		public void markForRollback() {
+			rollback = true;
+		}
+
+		@Override
+		public boolean isMarkedForRollback() {
+			return rollback;
+		}
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	@Override
+	public boolean isOpen() {
+		return delegate.isOpen();
+	}
+}
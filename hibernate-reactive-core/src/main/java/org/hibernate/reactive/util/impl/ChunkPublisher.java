@@ -0,0 +1,255 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.util.impl;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Publisher} of items which are obtained from a
+ * {@link Source} one chunk at a time. The next chunk is only
+ * requested from the source when the current chunk has been
+ * fully consumed. At most one chunk is held which the
+ * subscriber has not yet requested, so that completion can be
+ * signalled as soon as the source is exhausted.
+ * <p>
+ * The source is opened when a subscriber subscribes, and is
+ * closed after the last chunk, on failure, or on cancellation.
+ * Only a single subscription is supported.
+ */
+public class ChunkPublisher<T> implements Publisher<T> {
+
+	/**
+	 * A source of chunks of items.
+	 */
+	public interface Source<T> {
+		/**
+		 * @return the next chunk, or {@code null} if there
+		 *         are no more items
+		 */
+		CompletionStage<List<T>> next();
+
+		CompletionStage<Void> close();
+	}
+
+	/**
+	 * A {@link Source} with a single chunk.
+	 */
+	public static <T> Source<T> singleChunk(List<T> list) {
+		return new Source<T>() {
+			private boolean done;
+
+			@Override
+			public CompletionStage<List<T>> next() {
+				if ( done ) {
+					return CompletionStages.nullFuture();
+				}
+				done = true;
+				return CompletionStages.completedFuture( list );
+			}
+
+			@Override
+			public CompletionStage<Void> close() {
+				return CompletionStages.nullFuture();
+			}
+		};
+	}
+
+	private final Supplier<CompletionStage<Source<T>>> open;
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+
+	/**
+	 * @param open opens the source, it is called when a
+	 *             subscriber first requests items
+	 */
+	public ChunkPublisher(Supplier<CompletionStage<Source<T>>> open) {
+		this.open = open;
+	}
+
+	@Override
+	public void subscribe(Subscriber<? super T> subscriber) {
+		Objects.requireNonNull( subscriber );
+		if ( !subscribed.compareAndSet( false, true ) ) {
+			subscriber.onSubscribe( new Subscription() {
+				@Override
+				public void request(long n) {}
+				@Override
+				public void cancel() {}
+			} );
+			subscriber.onError( new IllegalStateException( "only one subscriber is supported" ) );
+		}
+		else {
+			subscriber.onSubscribe( new ChunkSubscription( subscriber ) );
+		}
+	}
+
+	private class ChunkSubscription implements Subscription {
+		private final Subscriber<? super T> subscriber;
+
+		private final AtomicLong requested = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+		private volatile boolean cancelled;
+		private volatile Throwable invalidRequest;
+
+		// the following fields are only accessed from drain(),
+		// or from a callback which runs while 'waiting' is set
+		private Source<T> source;
+		private Iterator<T> chunk = Collections.emptyIterator();
+		private boolean waiting;
+		private boolean done;
+		private boolean complete;
+		private Throwable failure;
+
+		ChunkSubscription(Subscriber<? super T> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if ( n <= 0 ) {
+				// signalled by drain(), so that it can't overlap onNext()
+				invalidRequest = new IllegalArgumentException( "requested a non-positive number of items" );
+			}
+			else {
+				requested.getAndUpdate( current -> current + n < 0 ? Long.MAX_VALUE : current + n );
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			drain();
+		}
+
+		/**
+		 * Every signal to the subscriber is sent from here, by
+		 * one thread at a time.
+		 */
+		private void drain() {
+			if ( wip.getAndIncrement() != 0 ) {
+				// some other thread is already draining
+				return;
+			}
+			int missed = 1;
+			do {
+				if ( !done && !waiting ) {
+					if ( invalidRequest != null ) {
+						done = true;
+						closeSource();
+						subscriber.onError( invalidRequest );
+					}
+					else if ( cancelled ) {
+						done = true;
+						closeSource();
+					}
+					else if ( failure != null ) {
+						done = true;
+						subscriber.onError( failure );
+					}
+					else if ( complete ) {
+						done = true;
+						subscriber.onComplete();
+					}
+					else {
+						emit();
+					}
+				}
+				missed = wip.addAndGet( -missed );
+			}
+			while ( missed != 0 );
+		}
+
+		private void emit() {
+			while ( requested.get() > 0 && chunk.hasNext() && !cancelled ) {
+				subscriber.onNext( chunk.next() );
+				requested.decrementAndGet();
+			}
+			if ( chunk.hasNext() || cancelled ) {
+				return;
+			}
+			if ( source == null ) {
+				// only open the source when items are requested
+				if ( requested.get() > 0 ) {
+					waiting = true;
+					safely( open::get ).whenComplete( (newSource, error) -> {
+						if ( error == null ) {
+							source = newSource;
+						}
+						else {
+							failure = unwrap( error );
+						}
+						waiting = false;
+						drain();
+					} );
+				}
+			}
+			else {
+				// fetch the next chunk even if there's no demand, so
+				// that completion is signalled when the subscriber has
+				// requested exactly the number of remaining items
+				waiting = true;
+				safely( source::next ).whenComplete( (list, error) -> {
+					if ( error == null && list != null ) {
+						chunk = list.iterator();
+						waiting = false;
+						drain();
+					}
+					else {
+						safely( source::close ).whenComplete( (v, closeError) -> {
+							source = null;
+							if ( error != null ) {
+								failure = unwrap( error );
+							}
+							else if ( closeError != null ) {
+								failure = unwrap( closeError );
+							}
+							else {
+								complete = true;
+							}
+							waiting = false;
+							drain();
+						} );
+					}
+				} );
+			}
+		}
+
+		private void closeSource() {
+			if ( source != null ) {
+				safely( source::close );
+				source = null;
+			}
+		}
+	}
+
+	private static <R> CompletionStage<R> safely(Supplier<CompletionStage<R>> supplier) {
+		try {
+			return supplier.get();
+		}
+		catch (RuntimeException e) {
+			return CompletionStages.failedFuture( e );
+		}
+	}
+
+	private static Throwable unwrap(Throwable error) {
+		return error instanceof CompletionException && error.getCause() != null
+				? error.getCause()
+				: error;
+	}
+}
@@ -8,15 +8,20 @@
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 public class CompletionStages {
 
 	private static CoreMessageLogger log = CoreLogging.messageLogger("org.hibernate.reactive.errors");
 
+	private static final CompletionStage<Void> VOID = CompletableFuture.completedFuture( null );
+
 	public static <T, R> CompletionStage<R> zipArray(
 			Function<? super Object[], ? extends R> zipper,
 			@SuppressWarnings("unchecked") CompletionStage<? extends T>... sources) {
@@ -33,6 +38,15 @@ public static <T, R> CompletionStage<R> zipArray(
 		return state.thenApply( v -> zipper.apply( results ) );
 	}
 
+	/**
+	 * A shared, already completed, stage, useful as the result of
+	 * a {@link #loop loop} body with nothing to do. Unlike
+	 * {@link #nullFuture()}, this does not allocate a new stage.
+	 */
+	public static CompletionStage<Void> voidFuture() {
+		return VOID;
+	}
+
 	public static <T> CompletionStage<T> nullFuture() {
 		return completedFuture( null );
 	}
@@ -78,4 +92,170 @@ public static void logSqlException(Throwable t, Supplier<String> message, String
 			log.error( message.get(), t );
 		}
 	}
+
+	/**
+	 * Apply the given function to each element of the given
+	 * {@link Iterable}, in turn, waiting for the stage returned by
+	 * the function to complete before processing the next element.
+	 *
+	 * @see #loop(Iterator, Function)
+	 */
+	public static <T> CompletionStage<Void> loop(
+			Iterable<T> iterable,
+			Function<? super T, ? extends CompletionStage<?>> consumer) {
+		return loop( iterable.iterator(), consumer );
+	}
+
+	/**
+	 * Apply the given function to each element of the given array,
+	 * in turn, waiting for the stage returned by the function to
+	 * complete before processing the next element.
+	 *
+	 * @see #loop(Iterator, Function)
+	 */
+	public static <T> CompletionStage<Void> loop(
+			T[] array,
+			Function<? super T, ? extends CompletionStage<?>> consumer) {
+		return loop( Arrays.asList( array ).iterator(), consumer );
+	}
+
+	/**
+	 * Apply the given function to each index from {@code start},
+	 * inclusive, to {@code end}, exclusive, in turn, waiting for the
+	 * stage returned by the function to complete before processing
+	 * the next index.
+	 *
+	 * @see #loop(Iterator, Function)
+	 */
+	public static CompletionStage<Void> loop(
+			int start, int end,
+			IntFunction<? extends CompletionStage<?>> consumer) {
+		int[] index = { start };
+		return loop( () -> index[0] < end ? consumer.apply( index[0]++ ) : null );
+	}
+
+	/**
+	 * Apply the given function to each element produced by the given
+	 * {@link Iterator}, in turn, waiting for the stage returned by the
+	 * function to complete before processing the next element. This
+	 * is equivalent to, but much cheaper than, building a chain of
+	 * stages by calling {@code thenCompose()} in a {@code for} loop.
+	 * <p>
+	 * As long as the function returns stages which are already
+	 * complete, as is usually the case when statements are being
+	 * batched, the elements are processed by a plain loop, without
+	 * allocating any intermediate stage, and without growing the
+	 * stack. When a stage is not yet complete, processing of the
+	 * remaining elements resumes when it completes.
+	 *
+	 * @return a stage which completes when every element has been
+	 *         processed, or completes exceptionally as soon as the
+	 *         function throws or returns a failed stage
+	 */
+	public static <T> CompletionStage<Void> loop(
+			Iterator<T> iterator,
+			Function<? super T, ? extends CompletionStage<?>> consumer) {
+		return loop( () -> iterator.hasNext() ? consumer.apply( iterator.next() ) : null );
+	}
+
+	/**
+	 * Invoke the given body repeatedly, waiting for the stage it
+	 * returns to complete before invoking it again, until it returns
+	 * a stage which completes with {@code false}. If a stage completes
+	 * with {@code null}, the loop completes exceptionally. Like the
+	 * {@link #loop(Iterator, Function) loop} methods, this iterates
+	 * without growing the stack while the stages returned by the
+	 * body are already complete.
+	 */
+	public static CompletionStage<Void> whileLoop(Supplier<? extends CompletionStage<Boolean>> body) {
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		whileLoop( body, result );
+		return result;
+	}
+
+	/**
+	 * @param step returns the stage for the next element, or
+	 *             {@code null} if there are no more elements
+	 */
+	private static CompletionStage<Void> loop(Supplier<? extends CompletionStage<?>> step) {
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		loop( step, result );
+		return result;
+	}
+
+	private static void loop(Supplier<? extends CompletionStage<?>> step, CompletableFuture<Void> result) {
+		try {
+			CompletionStage<?> stage;
+			while ( ( stage = step.get() ) != null ) {
+				if ( !isCompletedNormally( stage ) ) {
+					// resume the loop when the stage completes
+					stage.whenComplete( (v, x) -> {
+						if ( x != null ) {
+							result.completeExceptionally( x );
+						}
+						else {
+							loop( step, result );
+						}
+					} );
+					return;
+				}
+			}
+			result.complete( null );
+		}
+		catch (Throwable t) {
+			result.completeExceptionally( t );
+		}
+	}
+
+	private static void whileLoop(Supplier<? extends CompletionStage<Boolean>> body, CompletableFuture<Void> result) {
+		try {
+			while ( true ) {
+				CompletionStage<Boolean> stage = body.get();
+				if ( !isCompletedNormally( stage ) ) {
+					// resume the loop when the stage completes
+					stage.whenComplete( (more, x) -> {
+						try {
+							if ( x != null ) {
+								result.completeExceptionally( x );
+							}
+							else if ( hasMore( more ) ) {
+								whileLoop( body, result );
+							}
+							else {
+								result.complete( null );
+							}
+						}
+						catch (Throwable t) {
+							result.completeExceptionally( t );
+						}
+					} );
+					return;
+				}
+				if ( !hasMore( stage.toCompletableFuture().join() ) ) {
+					result.complete( null );
+					return;
+				}
+			}
+		}
+		catch (Throwable t) {
+			result.completeExceptionally( t );
+		}
+	}
+
+	private static boolean hasMore(Boolean more) {
+		if ( more == null ) {
+			throw new IllegalStateException( "body of whileLoop() returned a stage which completed with null" );
+		}
+		return more;
+	}
+
+	private static boolean isCompletedNormally(CompletionStage<?> stage) {
+		if ( stage instanceof CompletableFuture ) {
+			CompletableFuture<?> future = (CompletableFuture<?>) stage;
+			return future.isDone() && !future.isCompletedExceptionally();
+		}
+		else {
+			return false;
+		}
+	}
 }
@@ -6,22 +6,31 @@
 package org.hibernate.reactive.vertx.impl;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.vertx.VertxInstance;
+import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.Startable;
 import org.hibernate.service.spi.Stoppable;
 
+import java.util.Map;
+
 /**
  * A singleton instance of {@link Vertx} that is created on
  * demand and destroyed automatically along with the Hibernate
  * {@link org.hibernate.SessionFactory#close() session factory}.
+ * The number of event loop threads may be set using
+ * {@value Settings#EVENT_LOOP_SIZE}.
  *
  * @see ProvidedVertxInstance if you need to a different instance
  *
  * @author Sanne Grinovero <sanne@hibernate.org>
  */
-public final class DefaultVertxInstance implements VertxInstance, Stoppable, Startable {
+public final class DefaultVertxInstance implements VertxInstance, Configurable, Stoppable, Startable {
 
     private Vertx vertx;
+    private final VertxOptions options = new VertxOptions();
 
     @Override
     public Vertx getVertx() {
@@ -31,6 +40,14 @@ public Vertx getVertx() {
         return vertx;
     }
 
+    @Override
+    public void configure(Map configurationValues) {
+        final Integer eventLoopSize = ConfigurationHelper.getInteger( Settings.EVENT_LOOP_SIZE, configurationValues );
+        if ( eventLoopSize != null ) {
+            options.setEventLoopPoolSize( eventLoopSize );
+        }
+    }
+
     @Override
     public void stop() {
         if ( vertx != null ) {
@@ -40,7 +57,7 @@ public void stop() {
 
     @Override
     public void start() {
-        vertx = Vertx.vertx();
+        vertx = Vertx.vertx( options );
     }
 
 }
@@ -0,0 +1,46 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.junit.Test;
+
+/**
+ * Runs the tests of {@link BatchFetchTest} with batches of ids
+ * bound as a single array parameter (on PostgreSQL).
+ */
+public class ArrayBatchFetchTest extends BatchFetchTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.ARRAY_BATCH_FETCH, "true" );
+		return configuration;
+	}
+
+	@Test
+	public void testMultiLoad(TestContext context) {
+		Node first = new Node( "First" );
+		Node second = new Node( "Second" );
+		Node third = new Node( "Third" );
+
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( first, second, third ) )
+						.thenCompose( s -> s.flush() )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( Node.class, third.id, first.id, second.id ) )
+						.thenAccept( list -> {
+							context.assertEquals( 3, list.size() );
+							context.assertEquals( "Third", list.get( 0 ).string );
+							context.assertEquals( "First", list.get( 1 ).string );
+							context.assertEquals( "Second", list.get( 2 ).string );
+						} )
+		);
+	}
+}
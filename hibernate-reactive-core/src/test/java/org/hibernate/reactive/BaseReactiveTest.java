@@ -10,6 +10,7 @@
 import io.vertx.ext.unit.junit.Timeout;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.reactive.provider.Settings;
@@ -72,14 +73,22 @@ protected Configuration constructConfiguration() {
 	@Before
 	public void before() {
 		Configuration configuration = constructConfiguration();
-		StandardServiceRegistry registry = new ReactiveServiceRegistryBuilder()
-				.applySettings( configuration.getProperties() )
-				.build();
+		StandardServiceRegistryBuilder builder = new ReactiveServiceRegistryBuilder()
+				.applySettings( configuration.getProperties() );
+		addServices( builder );
+		StandardServiceRegistry registry = builder.build();
 		mysqlConfiguration( registry );
 		sessionFactory = configuration.buildSessionFactory( registry );
 		poolProvider = registry.getService( ReactiveConnectionPool.class );
 	}
 
+	/*
+	 * Override to add services, or initiators which replace
+	 * the initiators of the default services.
+	 */
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+	}
+
 	/*
 	 * MySQL doesn't implement 'drop table cascade constraints'.
 	 *
@@ -0,0 +1,136 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.stat.Statistics;
+import org.junit.Test;
+
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BatchMergeTest extends BaseReactiveTest {
+
+	private static final int SIZE = 10;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Parent.class );
+		configuration.addAnnotatedClass( Child.class );
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	private static Parent[] parents() {
+		Parent[] parents = new Parent[SIZE];
+		for ( int i = 0; i < SIZE; i++ ) {
+			Parent parent = new Parent( i, "Parent " + i );
+			parent.children.add( new Child( 2 * i, "Child " + 2 * i, parent ) );
+			parent.children.add( new Child( 2 * i + 1, "Child " + ( 2 * i + 1 ), parent ) );
+			parents[i] = parent;
+		}
+		return parents;
+	}
+
+	@Test
+	public void testMergeDetachedGraphs(TestContext context) {
+		Parent[] parents = parents();
+		Statistics statistics = getSessionFactory().getStatistics();
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( (Object[]) parents ) )
+						.thenCompose( Stage.Session::flush )
+						.thenAccept( s -> {
+							for ( Parent parent : parents ) {
+								parent.name = parent.name + " (updated)";
+								for ( Child child : parent.children ) {
+									child.name = child.name + " (updated)";
+								}
+							}
+							statistics.clear();
+						} )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.merge( (Object[]) parents )
+								.thenAccept( vv -> context.assertTrue(
+										statistics.getPrepareStatementCount() < SIZE,
+										"detached instances were loaded one at a time"
+								) )
+								.thenCompose( vv -> s.flush() ) )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.createQuery( "from Child where name like '%(updated)'", Child.class )
+								.getResultList() )
+						.thenAccept( list -> context.assertEquals( 2 * SIZE, list.size() ) )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.createQuery( "from Parent where name like '%(updated)'", Parent.class )
+								.getResultList() )
+						.thenAccept( list -> context.assertEquals( SIZE, list.size() ) )
+		);
+	}
+
+	@Test
+	public void testMergeTransientAndDetached(TestContext context) {
+		Parent[] parents = parents();
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( parents[0] ) )
+						.thenCompose( Stage.Session::flush )
+						.thenCompose( v -> openSession() )
+						// parents[1] was never persisted
+						.thenCompose( s -> s.merge( parents[0], parents[1] )
+								.thenCompose( vv -> s.flush() ) )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.createQuery( "from Child", Child.class ).getResultList() )
+						.thenAccept( list -> context.assertEquals( 4, list.size() ) )
+		);
+	}
+
+	@Entity(name = "Parent")
+	@Table(name = "BatchMergeParent")
+	public static class Parent {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "parent", cascade = { CascadeType.PERSIST, CascadeType.MERGE })
+		List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		Parent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Child")
+	@Table(name = "BatchMergeChild")
+	public static class Child {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne
+		Parent parent;
+
+		public Child() {
+		}
+
+		Child(Integer id, String name, Parent parent) {
+			this.id = id;
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+}
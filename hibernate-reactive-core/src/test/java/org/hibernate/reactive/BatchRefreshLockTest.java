@@ -0,0 +1,119 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.LockMode;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.stat.Statistics;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.util.List;
+
+/**
+ * Checks that managed instances of the same entity are refreshed,
+ * and locked, using one statement, instead of one per instance.
+ */
+public class BatchRefreshLockTest extends BaseReactiveTest {
+
+	private static final int SIZE = 10;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( GuineaPig.class );
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	private static GuineaPig[] pigs() {
+		GuineaPig[] pigs = new GuineaPig[SIZE];
+		for ( int i = 0; i < SIZE; i++ ) {
+			pigs[i] = new GuineaPig( i, "Pig " + i );
+		}
+		return pigs;
+	}
+
+	@Test
+	public void testRefreshAll(TestContext context) {
+		GuineaPig[] pigs = pigs();
+		Statistics statistics = getSessionFactory().getStatistics();
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( (Object[]) pigs )
+								.thenCompose( Stage.Session::flush )
+								.thenCompose( ss -> openSession() )
+								.thenCompose( ss -> ss.createQuery( "update GuineaPig set name = concat(name, ' (updated)')" )
+										.executeUpdate() )
+								.thenAccept( v -> statistics.clear() )
+								.thenCompose( v -> s.refresh( (Object[]) pigs ) )
+								.thenAccept( ss -> {
+									context.assertEquals(
+											1L,
+											statistics.getPrepareStatementCount(),
+											"the instances were refreshed one at a time"
+									);
+									for ( GuineaPig pig : pigs ) {
+										context.assertTrue( pig.name.endsWith( " (updated)" ) );
+										context.assertTrue( s.contains( pig ) );
+									}
+								} ) )
+		);
+	}
+
+	@Test
+	public void testLockAll(TestContext context) {
+		GuineaPig[] pigs = pigs();
+		Statistics statistics = getSessionFactory().getStatistics();
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( (Object[]) pigs ) )
+						.thenCompose( Stage.Session::flush )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.withTransaction( t -> s.createQuery( "from GuineaPig order by id", GuineaPig.class )
+								.getResultList()
+								.thenApply( List::toArray )
+								.thenCompose( managed -> {
+									statistics.clear();
+									return s.lock( LockMode.PESSIMISTIC_WRITE, managed )
+											.thenAccept( ss -> {
+												context.assertEquals(
+														1L,
+														statistics.getPrepareStatementCount(),
+														"the instances were locked one at a time"
+												);
+												for ( Object pig : managed ) {
+													context.assertEquals( LockMode.PESSIMISTIC_WRITE, s.getLockMode( pig ) );
+												}
+											} );
+								} ) ) )
+		);
+	}
+
+	@Entity(name = "GuineaPig")
+	@Table(name = "BatchRefreshLockPig")
+	public static class GuineaPig {
+		@Id
+		Integer id;
+		@Version
+		Integer version;
+		String name;
+
+		public GuineaPig() {
+		}
+
+		GuineaPig(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
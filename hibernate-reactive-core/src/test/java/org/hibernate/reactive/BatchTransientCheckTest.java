@@ -0,0 +1,106 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.stat.Statistics;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+/**
+ * Checks that the existence of the detached instances referenced
+ * by a graph of entities with assigned identifiers is determined
+ * with one query, instead of a snapshot select per instance.
+ */
+public class BatchTransientCheckTest extends BaseReactiveTest {
+
+	private static final int SIZE = 10;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Owner.class );
+		configuration.addAnnotatedClass( Pet.class );
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@Test
+	public void testPersistWithDetachedReferences(TestContext context) {
+		Owner[] owners = new Owner[SIZE];
+		for ( int i = 0; i < SIZE; i++ ) {
+			owners[i] = new Owner( i, "Owner " + i );
+		}
+		Statistics statistics = getSessionFactory().getStatistics();
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( (Object[]) owners ) )
+						.thenCompose( Stage.Session::flush )
+						.thenAccept( v -> statistics.clear() )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> {
+							Pet[] pets = new Pet[SIZE];
+							for ( int i = 0; i < SIZE; i++ ) {
+								// a detached copy of the owner
+								pets[i] = new Pet( i, "Pet " + i, new Owner( i, "Owner " + i ) );
+							}
+							return s.persist( (Object[]) pets )
+									.thenAccept( ss -> context.assertEquals(
+											1L,
+											statistics.getPrepareStatementCount(),
+											"the owners were checked one at a time"
+									) )
+									.thenCompose( v -> s.flush() );
+						} )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.createQuery( "from Pet where owner is not null", Pet.class )
+								.getResultList() )
+						.thenAccept( list -> context.assertEquals( SIZE, list.size() ) )
+		);
+	}
+
+	@Entity(name = "Owner")
+	@Table(name = "TransientCheckOwner")
+	public static class Owner {
+		@Id
+		Integer id;
+		String name;
+
+		public Owner() {
+		}
+
+		Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Pet")
+	@Table(name = "TransientCheckPet")
+	public static class Pet {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne
+		Owner owner;
+
+		public Pet() {
+		}
+
+		Pet(Integer id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+	}
+}
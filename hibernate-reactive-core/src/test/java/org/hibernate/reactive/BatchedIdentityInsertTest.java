@@ -0,0 +1,101 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.stat.Statistics;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+public class BatchedIdentityInsertTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Item.class );
+		configuration.setProperty( Settings.STATEMENT_BATCH_SIZE, "3" );
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@Test
+	public void testBatchedIdentityInserts(TestContext context) {
+		Item first = new Item( "First" );
+		Item second = new Item( "Second" );
+		Item third = new Item( "Third" );
+		Item fourth = new Item( "Fourth" );
+		Statistics statistics = getSessionFactory().getStatistics();
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( first, second, third, fourth ) )
+						.thenCompose( s -> {
+							statistics.clear();
+							return s.flush();
+						} )
+						.thenAccept( v -> {
+							// a batch of three inserts, and a batch of one
+							context.assertEquals( 2L, statistics.getPrepareStatementCount() );
+							context.assertNotNull( first.id );
+							context.assertTrue( first.id < second.id );
+							context.assertTrue( second.id < third.id );
+							context.assertTrue( third.id < fourth.id );
+						} )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( Item.class, first.id, second.id, third.id, fourth.id ) )
+						.thenAccept( items -> {
+							context.assertEquals( "First", items.get( 0 ).name );
+							context.assertEquals( "Second", items.get( 1 ).name );
+							context.assertEquals( "Third", items.get( 2 ).name );
+							context.assertEquals( "Fourth", items.get( 3 ).name );
+						} )
+		);
+	}
+
+	@Test
+	public void testReferenceWithinBatch(TestContext context) {
+		Item parent = new Item( "Parent" );
+		Item child = new Item( "Child" );
+		child.parent = parent;
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( parent, child ) )
+						.thenCompose( s -> s.flush() )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( Item.class, child.id )
+								.thenCompose( item -> s.fetch( item.parent ) ) )
+						.thenAccept( item -> {
+							context.assertEquals( parent.id, item.id );
+							context.assertEquals( "Parent", item.name );
+						} )
+		);
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "IdentityItem")
+	public static class Item {
+		@Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+		Integer id;
+		String name;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Item parent;
+
+		public Item() {
+		}
+
+		Item(String name) {
+			this.name = name;
+		}
+	}
+}
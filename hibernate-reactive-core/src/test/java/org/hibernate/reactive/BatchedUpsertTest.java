@@ -0,0 +1,67 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.containers.DatabaseConfiguration.DBType;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.stat.Statistics;
+import org.junit.Test;
+
+import static org.hibernate.reactive.containers.DatabaseConfiguration.dbType;
+import static org.junit.Assume.assumeFalse;
+
+/**
+ * Runs the tests of {@link UpsertTest} with JDBC batching enabled,
+ * where upserts wait in a batch until the session is flushed.
+ */
+public class BatchedUpsertTest extends UpsertTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.STATEMENT_BATCH_SIZE, "10" );
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@Test
+	public void testUpsertOnlyFlushesBatch(TestContext context) {
+		// DB2 has no upsert statement, so the instances are merged
+		assumeFalse( dbType() == DBType.DB2 );
+
+		Statistics statistics = getSessionFactory().getStatistics();
+		test( context,
+				openSession()
+						.thenCompose( s -> {
+							statistics.clear();
+							return s.upsert( new GuineaPig( 10, "Aloi" ) )
+									.thenCompose( ss -> ss.upsert( new GuineaPig( 11, "Bubbles" ) ) )
+									.thenCompose( ss -> ss.upsert( new GuineaPig( 12, "Charlie" ) ) )
+									.thenAccept( ss -> context.assertEquals(
+											0L,
+											statistics.getPrepareStatementCount(),
+											"the upserts were not batched"
+									) )
+									.thenCompose( v -> s.flush() );
+						} )
+						.thenAccept( s -> context.assertEquals(
+								1L,
+								statistics.getPrepareStatementCount(),
+								"the batch of upserts was not executed by the flush"
+						) )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 10, 11, 12 ) )
+						.thenAccept( list -> {
+							context.assertEquals( 3, list.size() );
+							context.assertEquals( "Aloi", list.get( 0 ).name );
+							context.assertEquals( "Bubbles", list.get( 1 ).name );
+							context.assertEquals( "Charlie", list.get( 2 ).name );
+						} )
+		);
+	}
+}
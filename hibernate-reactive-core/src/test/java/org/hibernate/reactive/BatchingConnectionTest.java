@@ -0,0 +1,171 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.stat.Statistics;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.util.Objects;
+
+public class BatchingConnectionTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( GuineaPig.class );
+		configuration.setProperty( "hibernate.jdbc.batch_size", "5" );
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@Test
+	public void testBatchedInsert(TestContext context) {
+		Statistics statistics = getSessionFactory().getStatistics();
+		test( context,
+				openSession()
+						.thenCompose( s -> {
+							statistics.clear();
+							return s.persist(
+									new GuineaPig(11, "One"),
+									new GuineaPig(22, "Two"),
+									new GuineaPig(33, "Three"),
+									new GuineaPig(44, "Four"),
+									new GuineaPig(55, "Five"),
+									new GuineaPig(66, "Six"),
+									new GuineaPig(77, "Seven")
+							);
+						} )
+						.thenCompose( Stage.Session::flush )
+						// a batch of 5 inserts, then a batch of 2
+						.thenAccept( s -> context.assertEquals(
+								2L,
+								statistics.getPrepareStatementCount(),
+								"the inserts were not batched"
+						) )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.createQuery("select count(*) from GuineaPig").getSingleResult() )
+						.thenAccept( count -> context.assertEquals( 7L, count ) )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 66 ) )
+						.thenAccept( pig -> {
+							context.assertNotNull( pig );
+							context.assertEquals( "Six", pig.getName() );
+						} )
+		);
+	}
+
+	@Test
+	public void testBatchedUpdateAndDelete(TestContext context) {
+		Statistics statistics = getSessionFactory().getStatistics();
+		test( context,
+				openSession()
+						.thenCompose( s -> {
+							statistics.clear();
+							return s.persist(
+									new GuineaPig(11, "One"),
+									new GuineaPig(22, "Two"),
+									new GuineaPig(33, "Three"),
+									new GuineaPig(44, "Four")
+							);
+						} )
+						.thenCompose( Stage.Session::flush )
+						.thenAccept( s -> context.assertEquals(
+								1L,
+								statistics.getPrepareStatementCount(),
+								"the inserts were not batched"
+						) )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 11, 22, 33, 44 )
+								.thenCompose( pigs -> {
+									statistics.clear();
+									pigs.get(0).setName( "Uno" );
+									pigs.get(1).setName( "Dos" );
+									pigs.get(2).setName( "Tres" );
+									return s.remove( pigs.get(3) );
+								} )
+								.thenCompose( Stage.Session::flush ) )
+						// a batch of 3 updates, then the delete
+						.thenAccept( s -> context.assertEquals(
+								2L,
+								statistics.getPrepareStatementCount(),
+								"the updates were not batched"
+						) )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 11, 22, 33, 44 ) )
+						.thenAccept( pigs -> {
+							context.assertEquals( "Uno", pigs.get(0).getName() );
+							context.assertEquals( 1, pigs.get(0).version );
+							context.assertEquals( "Dos", pigs.get(1).getName() );
+							context.assertEquals( "Tres", pigs.get(2).getName() );
+							context.assertNull( pigs.get(3) );
+						} )
+		);
+	}
+
+	@Entity(name="GuineaPig")
+	@Table(name="Pig")
+	public static class GuineaPig {
+		@Id
+		private Integer id;
+		private String name;
+		@Version
+		private int version;
+
+		public GuineaPig() {
+		}
+
+		public GuineaPig(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String toString() {
+			return id + ": " + name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			GuineaPig guineaPig = (GuineaPig) o;
+			return Objects.equals( name, guineaPig.name );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( name );
+		}
+	}
+}
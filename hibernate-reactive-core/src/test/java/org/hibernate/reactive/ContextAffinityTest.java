@@ -0,0 +1,118 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.stage.Stage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Checks that the work of a session opened on a Vert.x context,
+ * which is not the context the connection pool runs on, is always
+ * resumed on the session's own context.
+ */
+public class ContextAffinityTest extends BaseReactiveTest {
+
+	private Vertx vertx;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( GuineaPig.class );
+		return configuration;
+	}
+
+	@Before
+	public void createVertx() {
+		vertx = Vertx.vertx();
+	}
+
+	@After
+	public void closeVertx(TestContext context) {
+		vertx.close( context.asyncAssertSuccess() );
+	}
+
+	private <T> CompletionStage<T> onContext(Context context, CompletionStage<T> stage) {
+		return stage.whenComplete( (v, e) -> {
+			if ( e == null && Vertx.currentContext() != context ) {
+				throw new AssertionError( "work resumed on the wrong context" );
+			}
+		} );
+	}
+
+	@Test
+	public void testSessionStaysOnContext(TestContext testContext) {
+		Context context = vertx.getOrCreateContext();
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		context.runOnContext( v -> onContext( context, openSession() )
+				.thenCompose( s -> onContext( context, s.persist( new GuineaPig( 5, "Aloi" ) ) )
+						.thenCompose( session -> onContext( context, session.flush() ) )
+						.thenCompose( session -> onContext( context, session.createQuery( "from GuineaPig", GuineaPig.class )
+								.getResultList() ) )
+						.thenAccept( list -> testContext.assertEquals( 1, list.size() ) )
+						.thenCompose( nothing -> onContext( context, s.withTransaction( t -> s.find( GuineaPig.class, 5 ) ) ) )
+						.thenAccept( pig -> testContext.assertNotNull( pig ) )
+						.whenComplete( (nothing, e) -> s.close() )
+				)
+				.whenComplete( (nothing, e) -> {
+					if ( e != null ) {
+						result.completeExceptionally( e );
+					}
+					else {
+						result.complete( null );
+					}
+				} )
+		);
+		test( testContext, result );
+	}
+
+	@Test
+	public void testLazySessionStaysOnContext(TestContext testContext) {
+		Context context = vertx.getOrCreateContext();
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		context.runOnContext( v -> {
+			Stage.Session session = createSession();
+			onContext( context, session.find( GuineaPig.class, 6 ) )
+					.thenAccept( pig -> testContext.assertNull( pig ) )
+					.whenComplete( (nothing, e) -> {
+						if ( e != null ) {
+							result.completeExceptionally( e );
+						}
+						else {
+							result.complete( null );
+						}
+					} );
+		} );
+		test( testContext, result );
+	}
+
+	@Entity(name="GuineaPig")
+	@Table(name="AffinityPig")
+	public static class GuineaPig {
+		@Id
+		Integer id;
+		String name;
+
+		public GuineaPig() {
+		}
+
+		GuineaPig(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
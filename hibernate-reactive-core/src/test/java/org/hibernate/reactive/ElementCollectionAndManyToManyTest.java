@@ -0,0 +1,168 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.junit.Test;
+
+import javax.persistence.CollectionTable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinTable;
+import javax.persistence.ManyToMany;
+import javax.persistence.Table;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+public class ElementCollectionAndManyToManyTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Account.class );
+		configuration.addAnnotatedClass( Permission.class );
+		configuration.setProperty( Settings.STATEMENT_BATCH_SIZE, "10" );
+		return configuration;
+	}
+
+	private static CompletionStage<Account> findAccount(Stage.Session session, Integer id) {
+		return session.find( Account.class, id )
+				.thenCompose( account -> session.fetch( account.tags )
+						.thenCompose( tags -> session.fetch( account.permissions ) )
+						.thenApply( permissions -> account ) );
+	}
+
+	@Test
+	public void persistCollections(TestContext context) {
+		Permission read = new Permission( 1, "read" );
+		Permission write = new Permission( 2, "write" );
+		Account account = new Account( 1, "admin" );
+		account.tags.add( "blue" );
+		account.tags.add( "green" );
+		account.permissions.add( read );
+		account.permissions.add( write );
+
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( read, write, account ) )
+						.thenCompose( s -> s.flush() )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> findAccount( s, account.id ) )
+						.thenAccept( found -> {
+							context.assertEquals( 2, found.tags.size() );
+							context.assertTrue( found.tags.contains( "blue" ) );
+							context.assertTrue( found.tags.contains( "green" ) );
+							context.assertEquals( 2, found.permissions.size() );
+						} )
+		);
+	}
+
+	@Test
+	public void updateCollections(TestContext context) {
+		Permission read = new Permission( 1, "read" );
+		Permission write = new Permission( 2, "write" );
+		Account account = new Account( 1, "admin" );
+		account.tags.add( "blue" );
+		account.tags.add( "green" );
+		account.permissions.add( read );
+
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( read, write, account ) )
+						.thenCompose( s -> s.flush() )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> findAccount( s, account.id )
+								.thenCompose( found -> s.find( Permission.class, write.id )
+										.thenCompose( permission -> {
+											found.tags.remove( "blue" );
+											found.tags.add( "red" );
+											found.tags.add( "yellow" );
+											found.permissions.clear();
+											found.permissions.add( permission );
+											return s.flush();
+										} ) ) )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> findAccount( s, account.id ) )
+						.thenAccept( found -> {
+							context.assertEquals( 3, found.tags.size() );
+							context.assertFalse( found.tags.contains( "blue" ) );
+							context.assertTrue( found.tags.contains( "green" ) );
+							context.assertTrue( found.tags.contains( "red" ) );
+							context.assertTrue( found.tags.contains( "yellow" ) );
+							context.assertEquals( 1, found.permissions.size() );
+							context.assertEquals( "write", found.permissions.iterator().next().name );
+						} )
+		);
+	}
+
+	@Test
+	public void removeOwner(TestContext context) {
+		Permission read = new Permission( 1, "read" );
+		Account account = new Account( 1, "admin" );
+		account.tags.add( "blue" );
+		account.permissions.add( read );
+
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( read, account ) )
+						.thenCompose( s -> s.flush() )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( Account.class, account.id )
+								.thenCompose( found -> s.remove( found ) )
+								.thenCompose( v -> s.flush() ) )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( Account.class, account.id )
+								.thenAccept( context::assertNull )
+								.thenCompose( v -> s.find( Permission.class, read.id ) ) )
+						.thenAccept( context::assertNotNull )
+		);
+	}
+
+	@Entity(name = "Account")
+	@Table(name = "CollectionAccount")
+	public static class Account {
+		@Id
+		Integer id;
+		String name;
+
+		@ElementCollection
+		@CollectionTable(name = "AccountTags")
+		Set<String> tags = new HashSet<>();
+
+		@ManyToMany
+		@JoinTable(name = "AccountPermissions")
+		Set<Permission> permissions = new HashSet<>();
+
+		public Account() {
+		}
+
+		Account(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Permission")
+	@Table(name = "CollectionPermission")
+	public static class Permission {
+		@Id
+		Integer id;
+		String name;
+
+		public Permission() {
+		}
+
+		Permission(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import static javax.persistence.CascadeType.PERSIST;
+
+/**
+ * Flushes enough entities at once that the actions, cascades, and
+ * loaded entities would overflow the stack if they were chained
+ * recursively.
+ */
+public class LargeFlushTest extends BaseReactiveTest {
+
+	private static final int SIZE = 20_000;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Leaf.class );
+		configuration.addAnnotatedClass( Root.class );
+		configuration.setProperty( Settings.STATEMENT_BATCH_SIZE, "50" );
+		return configuration;
+	}
+
+	@Test
+	public void testLargeFlush(TestContext context) {
+		Root root = new Root( 0 );
+		Leaf[] leaves = new Leaf[SIZE];
+		for ( int i = 0; i < SIZE; i++ ) {
+			leaves[i] = new Leaf( i, root );
+		}
+
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( (Object[]) leaves ) )
+						.thenCompose( s -> s.flush() )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.createQuery( "from Leaf", Leaf.class ).getResultList() )
+						.thenAccept( list -> context.assertEquals( SIZE, list.size() ) )
+		);
+	}
+
+	@Entity(name = "Leaf")
+	@Table(name = "LargeFlushLeaf")
+	public static class Leaf {
+		@Id
+		Integer id;
+		@ManyToOne(cascade = PERSIST)
+		Root root;
+
+		public Leaf() {
+		}
+
+		Leaf(Integer id, Root root) {
+			this.id = id;
+			this.root = root;
+		}
+	}
+
+	@Entity(name = "Root")
+	@Table(name = "LargeFlushRoot")
+	public static class Root {
+		@Id
+		Integer id;
+
+		public Root() {
+		}
+
+		Root(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.containers.DatabaseConfiguration.DBType;
+import org.hibernate.reactive.pool.ReactiveConnectionPoolMetrics;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hibernate.reactive.containers.DatabaseConfiguration.dbType;
+import static org.junit.Assume.assumeFalse;
+
+public class MultiRowInsertTest extends BaseReactiveTest {
+
+	private final List<String> inserts = new CopyOnWriteArrayList<>();
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( GuineaPig.class );
+		configuration.setProperty( Settings.STATEMENT_BATCH_SIZE, "5" );
+		configuration.setProperty( Settings.MULTI_ROW_INSERT, "true" );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		builder.addService( ReactiveConnectionPoolMetrics.class, new ReactiveConnectionPoolMetrics() {
+			@Override
+			public void statementExecuted(String sql, long executionNanos, boolean success) {
+				if ( sql.toLowerCase().startsWith( "insert into multipig" ) ) {
+					inserts.add( sql );
+				}
+			}
+		} );
+	}
+
+	private static int rowCount(String insert) {
+		return insert.split( "\\),\\s*\\(" ).length;
+	}
+
+	@Test
+	public void testMultiRowInsert(TestContext context) {
+		// multi-row inserts are only supported on PostgreSQL and MySQL
+		assumeFalse( dbType() == DBType.DB2 );
+
+		test( context,
+				openSession()
+						.thenCompose( s -> {
+							inserts.clear();
+							return s.persist(
+									new GuineaPig(11, "One"),
+									new GuineaPig(22, "Two"),
+									new GuineaPig(33, "Three"),
+									new GuineaPig(44, "Four"),
+									new GuineaPig(55, "Five"),
+									new GuineaPig(66, "Six"),
+									new GuineaPig(77, "Seven")
+							);
+						} )
+						.thenCompose( Stage.Session::flush )
+						.thenAccept( s -> {
+							// the first batch of 5 rows is split into
+							// inserts of 4 rows and 1 row, and then
+							// the batch of 2 rows is a single insert
+							context.assertEquals( 3, inserts.size() );
+							context.assertEquals( 4, rowCount( inserts.get(0) ) );
+							context.assertEquals( 1, rowCount( inserts.get(1) ) );
+							context.assertEquals( 2, rowCount( inserts.get(2) ) );
+						} )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.createQuery("select count(*) from GuineaPig").getSingleResult() )
+						.thenAccept( count -> context.assertEquals( 7L, count ) )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 11, 55, 66, 77 ) )
+						.thenAccept( pigs -> {
+							context.assertEquals( "One", pigs.get(0).name );
+							context.assertEquals( "Five", pigs.get(1).name );
+							context.assertEquals( "Six", pigs.get(2).name );
+							context.assertEquals( "Seven", pigs.get(3).name );
+							context.assertEquals( 0, pigs.get(3).version );
+						} )
+		);
+	}
+
+	@Entity(name="GuineaPig")
+	@Table(name="MultiPig")
+	public static class GuineaPig {
+		@Id
+		Integer id;
+		String name;
+		@Version
+		int version;
+
+		public GuineaPig() {
+		}
+
+		GuineaPig(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -11,6 +11,7 @@
 import org.hibernate.cfg.Configuration;
 import org.hibernate.reactive.containers.DatabaseConfiguration;
 import org.hibernate.reactive.containers.DatabaseConfiguration.DBType;
+import org.hibernate.reactive.mutiny.Mutiny;
 import org.junit.Test;
 
 import javax.persistence.Entity;
@@ -18,6 +19,7 @@
 import javax.persistence.Table;
 import javax.persistence.metamodel.EntityType;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assume.assumeFalse;
@@ -35,7 +37,8 @@ private Uni<Integer> populateDB() {
 		return getSessionFactory()
 				.withSession(
 						session -> session.persist( new GuineaPig(5, "Aloi") )
-								.map( v -> { session.flush(); return null; } )
+								.flatMap( v -> session.flush() )
+								.map( v -> null )
 				);
 	}
 
@@ -190,6 +193,46 @@ public void reactivePersist1(TestContext context) {
 		);
 	}
 
+	@Test
+	public void reactivePersistIsLazy(TestContext context) {
+		GuineaPig pig = new GuineaPig( 10, "Tulip" );
+		test(
+				context,
+				openSession()
+						.flatMap( s -> {
+							Uni<Mutiny.Session> persist = s.persist( pig );
+							// nothing happens until the Uni is subscribed
+							context.assertFalse( s.contains( pig ) );
+							return persist;
+						} )
+						.onItem().invoke( s -> context.assertTrue( s.contains( pig ) ) )
+						.on().termination( (s, e, c) -> s.close() )
+		);
+	}
+
+	@Test
+	public void reactiveFindAfterCancellation(TestContext context) {
+		test(
+				context,
+				populateDB()
+						.flatMap( v -> openSession() )
+						.flatMap( session -> {
+							// subscribe, and then cancel the subscription
+							session.find( GuineaPig.class, 5 ).subscribe().with( pig -> {} ).cancel();
+							// nothing more is sent to the database
+							return session.find( GuineaPig.class, 5 )
+									.map( pig -> (Throwable) null )
+									.on().failure().recoverWithItem( e -> e )
+									.on().termination( (e, err, c) -> session.close() );
+						} )
+						.onItem().invoke( e -> {
+							context.assertNotNull( e, "the session was not cancelled" );
+							context.assertTrue( e instanceof CancellationException
+									|| e.getCause() instanceof CancellationException );
+						} )
+		);
+	}
+
 	@Test
 	public void reactivePersist2(TestContext context) {
 		test(
@@ -408,6 +451,30 @@ public void reactiveMultiQuery(TestContext context) {
 		);
 	}
 
+	@Test
+	public void reactiveMultiQueryWithFetchSize(TestContext context) {
+		GuineaPig foo = new GuineaPig( 5, "Foo" );
+		GuineaPig bar = new GuineaPig( 6, "Bar" );
+		GuineaPig baz = new GuineaPig( 7, "Baz" );
+		GuineaPig qux = new GuineaPig( 8, "Qux" );
+		GuineaPig quux = new GuineaPig( 9, "Quux" );
+
+		test( context,
+				getSessionFactory().withTransaction( (session, transaction) -> session.persist(foo, bar, baz, qux, quux) )
+						.flatMap( v -> getSessionFactory().withSession(
+								session -> session.createQuery("from GuineaPig order by id", GuineaPig.class)
+										.setFetchSize(2)
+										.getResults()
+										.collectItems().asList()
+										.onItem().invoke( list -> {
+											context.assertEquals(5, list.size());
+											context.assertEquals("Foo", list.get(0).getName());
+											context.assertEquals("Quux", list.get(4).getName());
+										})
+						) )
+		);
+	}
+
 	@Test
 	public void testMetamodel(TestContext context) {
 		EntityType<GuineaPig> pig = getSessionFactory().getMetamodel().entity(GuineaPig.class);
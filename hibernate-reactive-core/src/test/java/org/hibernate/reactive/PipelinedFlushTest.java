@@ -0,0 +1,157 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.ReactiveConnectionPoolMetrics;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.util.concurrent.CompletionStage;
+
+public class PipelinedFlushTest extends BaseReactiveTest {
+
+	private volatile ReactiveConnectionPoolMetrics.Gauges gauges;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( GuineaPig.class );
+		configuration.setProperty( Settings.PIPELINED_FLUSH, "true" );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		builder.addService( ReactiveConnectionPoolMetrics.class, new ReactiveConnectionPoolMetrics() {
+			@Override
+			public void poolStarted(Gauges gauges) {
+				PipelinedFlushTest.this.gauges = gauges;
+			}
+		} );
+	}
+
+	private CompletionStage<Void> populateDB() {
+		return openSession()
+				.thenCompose( s -> s.persist(
+						new GuineaPig(1, "One"),
+						new GuineaPig(2, "Two"),
+						new GuineaPig(3, "Three"),
+						new GuineaPig(4, "Four")
+				) )
+				.thenCompose( Stage.Session::flush )
+				.thenApply( s -> null );
+	}
+
+	@Test
+	public void testPipelinedUpdateAndDelete(TestContext context) {
+		test( context,
+				populateDB()
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 1, 2, 3, 4 )
+								.thenCompose( pigs -> {
+									pigs.get(0).name = "Uno";
+									pigs.get(1).name = "Dos";
+									pigs.get(2).name = "Tres";
+									return s.remove( pigs.get(3) );
+								} )
+								.thenCompose( Stage.Session::flush ) )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 1, 2, 3, 4 ) )
+						.thenAccept( pigs -> {
+							context.assertEquals( "Uno", pigs.get(0).name );
+							context.assertEquals( 1, pigs.get(0).version );
+							context.assertEquals( "Dos", pigs.get(1).name );
+							context.assertEquals( "Tres", pigs.get(2).name );
+							context.assertNull( pigs.get(3) );
+						} )
+		);
+	}
+
+	@Test
+	public void testPipelinedUpdateFailure(TestContext context) {
+		test( context,
+				populateDB()
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 1, 2, 3 )
+								// update the second pig concurrently
+								.thenCompose( pigs -> getSessionFactory()
+										.withSession( s2 -> s2.find( GuineaPig.class, 2 )
+												.thenAccept( pig -> pig.name = "Concurrent" )
+												.thenCompose( v -> s2.flush() ) )
+										.thenCompose( v -> {
+											pigs.get(0).name = "Uno";
+											pigs.get(1).name = "Dos";
+											pigs.get(2).name = "Tres";
+											return s.flush();
+										} ) ) )
+						.handle( (s, e) -> {
+							context.assertNotNull( e );
+							Throwable cause = e;
+							while ( cause != null && !( cause instanceof StaleObjectStateException ) ) {
+								cause = cause.getCause();
+							}
+							context.assertNotNull( cause );
+							// the error belongs to the action that failed
+							context.assertEquals( 2, ( (StaleObjectStateException) cause ).getIdentifier() );
+							return null;
+						} )
+		);
+	}
+
+	@Test
+	public void testPipelinedFlushOfLazySession(TestContext context) {
+		// no connection is obtained until the flush, and then
+		// every pipelined insert must share the same connection
+		Stage.Session session = createSession();
+		test( context,
+				session.persist(
+						new GuineaPig(5, "Five"),
+						new GuineaPig(6, "Six"),
+						new GuineaPig(7, "Seven")
+				)
+						.thenCompose( Stage.Session::flush )
+						.thenAccept( s -> {
+							context.assertEquals( 1, gauges.getInUseCount() );
+							s.close();
+							context.assertEquals( 0, gauges.getInUseCount() );
+						} )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 5, 6, 7 ) )
+						.thenAccept( pigs -> {
+							context.assertEquals( "Five", pigs.get(0).name );
+							context.assertEquals( "Six", pigs.get(1).name );
+							context.assertEquals( "Seven", pigs.get(2).name );
+						} )
+		);
+	}
+
+	@Entity(name="GuineaPig")
+	@Table(name="PipelinedPig")
+	public static class GuineaPig {
+		@Id
+		Integer id;
+		String name;
+		@Version
+		int version;
+
+		public GuineaPig() {
+		}
+
+		GuineaPig(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
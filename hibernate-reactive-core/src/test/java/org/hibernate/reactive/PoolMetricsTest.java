@@ -0,0 +1,64 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.stat.Statistics;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+public class PoolMetricsTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( GuineaPig.class );
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@Test
+	public void testConnectionAndStatementStatistics(TestContext context) {
+		Statistics statistics = getSessionFactory().getStatistics();
+		statistics.clear();
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( new GuineaPig( 5, "Aloi" ) ) )
+						.thenCompose( Stage.Session::flush )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 5 ) )
+						.thenAccept( pig -> {
+							context.assertNotNull( pig );
+							context.assertEquals( 2L, statistics.getConnectCount() );
+							// at least an insert and a select
+							context.assertTrue( statistics.getPrepareStatementCount() >= 2L );
+							context.assertEquals( statistics.getPrepareStatementCount(), statistics.getCloseStatementCount() );
+						} )
+		);
+	}
+
+	@Entity(name="GuineaPig")
+	@Table(name="MetricsPig")
+	public static class GuineaPig {
+		@Id
+		Integer id;
+		String name;
+
+		public GuineaPig() {
+		}
+
+		GuineaPig(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
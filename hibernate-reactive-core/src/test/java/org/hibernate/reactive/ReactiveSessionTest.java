@@ -103,6 +103,37 @@ public void reactiveFind(TestContext context) {
 		);
 	}
 
+	@Test
+	public void reactiveFindMultipleIds(TestContext context) {
+		final GuineaPig rump = new GuineaPig( 6, "Rumpelstiltskin" );
+		final GuineaPig emma = new GuineaPig( 7, "Emma" );
+		test(
+				context,
+				populateDB()
+						.thenCompose( v -> getSessionFactory().withSession(
+								session -> session.persist( rump, emma ).thenCompose( s -> s.flush() )
+						) )
+						.thenCompose( v -> openSession() )
+						// three ids are padded to a batch of four
+						.thenCompose( session -> session.find( GuineaPig.class, 7, 5, 6 )
+								.thenAccept( pigs -> {
+									context.assertEquals( 3, pigs.size() );
+									context.assertEquals( "Emma", pigs.get( 0 ).getName() );
+									context.assertEquals( "Aloi", pigs.get( 1 ).getName() );
+									context.assertEquals( "Rumpelstiltskin", pigs.get( 2 ).getName() );
+								} )
+								.thenCompose( v -> openSession() )
+								// the batching loader is reused
+								.thenCompose( s -> s.find( GuineaPig.class, 6, 8 ) )
+								.thenAccept( pigs -> {
+									context.assertEquals( 2, pigs.size() );
+									context.assertEquals( "Rumpelstiltskin", pigs.get( 0 ).getName() );
+									context.assertNull( pigs.get( 1 ) );
+								} )
+						)
+		);
+	}
+
 	@Test
 	public void reactivePersistFindDelete(TestContext context) {
 		final GuineaPig guineaPig = new GuineaPig( 5, "Aloi" );
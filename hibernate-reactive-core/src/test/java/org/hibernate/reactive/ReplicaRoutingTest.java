@@ -0,0 +1,246 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.core.Context;
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.LockMode;
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.containers.DatabaseConfiguration;
+import org.hibernate.reactive.containers.DatabaseConfiguration.DBType;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.pool.ReactiveConnectionPoolMetrics;
+import org.hibernate.reactive.pool.impl.ReplicaRoutingPool;
+import org.hibernate.reactive.pool.impl.SqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hibernate.reactive.containers.DatabaseConfiguration.dbType;
+import static org.junit.Assume.assumeFalse;
+
+/**
+ * Uses the test database as its own replica, so that routing may
+ * be tested without a replicated database, and records the SQL
+ * sent to the primary database and to the replica, to check that
+ * each statement reaches the expected database.
+ */
+public class ReplicaRoutingTest extends BaseReactiveTest {
+
+	private final List<String> primaryStatements = new CopyOnWriteArrayList<>();
+	private final List<String> replicaStatements = new CopyOnWriteArrayList<>();
+	// the primary pool is started first, and then the replica
+	private final List<ReactiveConnectionPoolMetrics.Gauges> gauges = new CopyOnWriteArrayList<>();
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( GuineaPig.class );
+		configuration.setProperty( Settings.REPLICA_URLS, DatabaseConfiguration.getJdbcUrl() );
+		configuration.setProperty( Settings.REPLICA_SELECTION, "least_busy" );
+		configuration.setProperty( Settings.STATEMENT_BATCH_SIZE, "10" );
+		configuration.setProperty( Settings.PIPELINED_FLUSH, "true" );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		builder.addInitiator( new StandardServiceInitiator<ReactiveConnectionPool>() {
+			@Override
+			public ReactiveConnectionPool initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+				return new RecordingPool();
+			}
+
+			@Override
+			public Class<ReactiveConnectionPool> getServiceInitiated() {
+				return ReactiveConnectionPool.class;
+			}
+		} );
+		builder.addService( ReactiveConnectionPoolMetrics.class, new ReactiveConnectionPoolMetrics() {
+			@Override
+			public void poolStarted(Gauges poolGauges) {
+				gauges.add( poolGauges );
+			}
+		} );
+	}
+
+	private CompletionStage<Void> populateDB() {
+		return openSession()
+				.thenCompose( s -> s.persist( new GuineaPig( 5, "Aloi" ), new GuineaPig( 6, "Bessie" ) ) )
+				.thenCompose( s -> s.flush() )
+				.thenAccept( v -> {
+					primaryStatements.clear();
+					replicaStatements.clear();
+				} );
+	}
+
+	@Test
+	public void testReadOnlyQueriesUseReplica(TestContext context) {
+		test( context,
+				populateDB()
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.setDefaultReadOnly( true )
+								.find( GuineaPig.class, 5 )
+								.thenAccept( pig -> context.assertEquals( "Aloi", pig.name ) )
+								.thenCompose( v -> s.createQuery( "from GuineaPig", GuineaPig.class ).getResultList() )
+								.thenAccept( list -> context.assertEquals( 2, list.size() ) )
+						)
+						.thenAccept( v -> {
+							context.assertEquals( 2, replicaStatements.size() );
+							context.assertTrue( primaryStatements.isEmpty() );
+						} )
+		);
+	}
+
+	@Test
+	public void testLockingReadUsesPrimary(TestContext context) {
+		test( context,
+				populateDB()
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.setDefaultReadOnly( true )
+								.find( GuineaPig.class, 5, LockMode.PESSIMISTIC_WRITE ) )
+						.thenAccept( pig -> {
+							context.assertEquals( "Aloi", pig.name );
+							context.assertEquals( 1, primaryStatements.size() );
+							context.assertTrue( replicaStatements.isEmpty() );
+						} )
+		);
+	}
+
+	@Test
+	public void testReadOnlyQueryInTransactionUsesPrimary(TestContext context) {
+		test( context,
+				populateDB()
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.withTransaction( t -> s.persist( new GuineaPig( 7, "Charlie" ) )
+								.thenCompose( v -> s.flush() )
+								// inside a transaction, so read from the primary
+								.thenCompose( v -> s.createQuery( "from GuineaPig where id = 7", GuineaPig.class )
+										.setReadOnly( true )
+										.getResultList() )
+						) )
+						.thenAccept( list -> {
+							context.assertEquals( 1, list.size() );
+							context.assertTrue( replicaStatements.isEmpty() );
+							context.assertTrue( primaryStatements.stream()
+									.anyMatch( sql -> sql.toLowerCase().startsWith( "select" ) ) );
+						} )
+		);
+	}
+
+	@Test
+	public void testReadOnlyQueryAfterUpsert(TestContext context) {
+		// DB2 has no upsert statement, so the instance is merged
+		assumeFalse( dbType() == DBType.DB2 );
+
+		test( context,
+				populateDB()
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.setDefaultReadOnly( true )
+								.upsert( new GuineaPig( 8, "Dolly" ) )
+								.thenAccept( ss -> context.assertTrue(
+										primaryStatements.isEmpty(),
+										"the upsert was not queued"
+								) )
+								// the query flushes the upsert to the primary,
+								// and then reads the upserted row
+								.thenCompose( v -> s.createQuery( "from GuineaPig where id = 8", GuineaPig.class )
+										.getSingleResult() ) )
+						.thenAccept( pig -> {
+							context.assertEquals( "Dolly", pig.name );
+							context.assertEquals( 1, primaryStatements.size() );
+							context.assertEquals( 1, replicaStatements.size() );
+						} )
+		);
+	}
+
+	@Test
+	public void testPipelinedFlushOfLazySessionUsesOneConnection(TestContext context) {
+		Stage.Session session = createSession();
+		test( context,
+				session.persist( new GuineaPig( 9, "Ernie" ), new GuineaPig( 10, "Flopsy" ), new GuineaPig( 11, "Gus" ) )
+						.thenCompose( Stage.Session::flush )
+						.thenAccept( s -> {
+							// one connection to the primary, and none to the replica
+							context.assertEquals( 1, gauges.get( 0 ).getInUseCount() );
+							context.assertEquals( 0, gauges.get( 1 ).getInUseCount() );
+							context.assertFalse( primaryStatements.isEmpty() );
+							context.assertTrue( replicaStatements.isEmpty() );
+							s.close();
+							context.assertEquals( 0, gauges.get( 0 ).getInUseCount() );
+						} )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 9, 10, 11 ) )
+						.thenAccept( pigs -> {
+							context.assertEquals( "Ernie", pigs.get( 0 ).name );
+							context.assertEquals( "Flopsy", pigs.get( 1 ).name );
+							context.assertEquals( "Gus", pigs.get( 2 ).name );
+						} )
+		);
+	}
+
+	/**
+	 * A {@link ReplicaRoutingPool} which records the SQL executed
+	 * by its connections to the primary database and the replica.
+	 */
+	private class RecordingPool extends ReplicaRoutingPool {
+		@Override
+		protected ReactiveConnection getProxyConnection(SqlClientPool pool, String url, Context context) {
+			return recording(
+					super.getProxyConnection( pool, url, context ),
+					url == null ? primaryStatements : replicaStatements
+			);
+		}
+	}
+
+	private static ReactiveConnection recording(ReactiveConnection connection, List<String> statements) {
+		return (ReactiveConnection) Proxy.newProxyInstance(
+				ReactiveConnection.class.getClassLoader(),
+				new Class<?>[] { ReactiveConnection.class },
+				(proxy, method, args) -> {
+					if ( args != null && args.length > 0 && args[0] instanceof String ) {
+						statements.add( (String) args[0] );
+					}
+					try {
+						return method.invoke( connection, args );
+					}
+					catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				}
+		);
+	}
+
+	@Entity(name="GuineaPig")
+	@Table(name="ReplicaPig")
+	public static class GuineaPig {
+		@Id
+		Integer id;
+		String name;
+
+		public GuineaPig() {
+		}
+
+		GuineaPig(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
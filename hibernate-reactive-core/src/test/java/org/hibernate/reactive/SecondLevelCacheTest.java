@@ -0,0 +1,130 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.cache.VertxSharedDataRegionFactory;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.stat.Statistics;
+import org.junit.Test;
+
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Checks that entities are read from the second-level cache, held
+ * by the {@link VertxSharedDataRegionFactory}, without executing
+ * any statement.
+ */
+public class SecondLevelCacheTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( GuineaPig.class );
+		configuration.setProperty( Settings.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( Settings.CACHE_REGION_FACTORY, VertxSharedDataRegionFactory.class.getName() );
+		configuration.setProperty( Settings.CACHE_MAX_ENTRIES, "3" );
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@Test
+	public void testFindFromCache(TestContext context) {
+		GuineaPig pig = new GuineaPig( 1, "Aloi" );
+		Statistics statistics = getSessionFactory().getStatistics();
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( pig ) )
+						.thenCompose( Stage.Session::flush )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 1 ) )
+						.thenAccept( found -> statistics.clear() )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 1 ) )
+						.thenAccept( found -> {
+							context.assertNotNull( found );
+							context.assertEquals( "Aloi", found.name );
+							context.assertEquals( 0L, statistics.getPrepareStatementCount() );
+							context.assertTrue( statistics.getSecondLevelCacheHitCount() > 0 );
+						} )
+		);
+	}
+
+	@Test
+	public void testFindMultipleFromCache(TestContext context) {
+		GuineaPig[] pigs = { new GuineaPig( 5, "Aloi" ), new GuineaPig( 6, "Bubbles" ) };
+		Statistics statistics = getSessionFactory().getStatistics();
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( (Object[]) pigs ) )
+						.thenCompose( Stage.Session::flush )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 5, 6 ) )
+						.thenAccept( found -> statistics.clear() )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 5, 6 ) )
+						.thenAccept( found -> {
+							context.assertEquals( 2, found.size() );
+							context.assertEquals( "Aloi", found.get( 0 ).name );
+							context.assertEquals( "Bubbles", found.get( 1 ).name );
+							context.assertEquals( 0L, statistics.getPrepareStatementCount() );
+							context.assertEquals( 2L, statistics.getSecondLevelCacheHitCount() );
+						} )
+		);
+	}
+
+	@Test
+	public void testEvictionFromFullRegion(TestContext context) {
+		GuineaPig[] pigs = {
+				new GuineaPig( 11, "Aloi" ),
+				new GuineaPig( 12, "Bubbles" ),
+				new GuineaPig( 13, "Charlie" ),
+				new GuineaPig( 14, "Dolly" )
+		};
+		Statistics statistics = getSessionFactory().getStatistics();
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( (Object[]) pigs ) )
+						.thenCompose( Stage.Session::flush )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 11, 12, 13, 14 ) )
+						.thenAccept( found -> statistics.clear() )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 11, 12, 13, 14 ) )
+						.thenAccept( found -> {
+							context.assertEquals( 4, found.size() );
+							// the region holds at most three of the four
+							context.assertEquals( 3L, statistics.getSecondLevelCacheHitCount() );
+							context.assertEquals( 1L, statistics.getSecondLevelCacheMissCount() );
+						} )
+		);
+	}
+
+	@Entity(name = "GuineaPig")
+	@Table(name = "SecondLevelCachePig")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class GuineaPig {
+		@Id
+		Integer id;
+		String name;
+
+		public GuineaPig() {
+		}
+
+		GuineaPig(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
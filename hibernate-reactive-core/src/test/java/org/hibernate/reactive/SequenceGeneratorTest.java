@@ -18,6 +18,7 @@ public class SequenceGeneratorTest extends BaseReactiveTest {
 	protected Configuration constructConfiguration() {
 		Configuration configuration = super.constructConfiguration();
 		configuration.addAnnotatedClass( SequenceId.class );
+		configuration.addAnnotatedClass( PooledSequenceId.class );
 		return configuration;
 	}
 
@@ -56,6 +57,40 @@ public void testSequenceGenerator(TestContext context) {
 		);
 	}
 
+	@Test
+	public void testPooledSequenceGenerator(TestContext context) {
+
+		PooledSequenceId a = new PooledSequenceId();
+		PooledSequenceId b = new PooledSequenceId();
+		PooledSequenceId c = new PooledSequenceId();
+
+		test( context,
+				openSession()
+				.thenCompose( s -> s.persist( a, b, c ) )
+				.thenCompose( s -> s.flush() )
+				.thenAccept( s -> {
+					context.assertEquals( a.id, 1 );
+					context.assertEquals( b.id, 2 );
+					context.assertEquals( c.id, 3 );
+				} )
+				.thenCompose( v -> openSession() )
+				.thenCompose( s -> s.find( PooledSequenceId.class, 1, 2, 3 ) )
+				.thenAccept( list -> {
+					context.assertEquals( list.size(), 3 );
+					context.assertNotNull( list.get(2) );
+				} )
+		);
+	}
+
+	@Entity
+	@SequenceGenerator(name = "pooled",
+			sequenceName = "pooled_id_seq",
+			allocationSize = 10)
+	public static class PooledSequenceId {
+		@Id @GeneratedValue(generator = "pooled")
+		Integer id;
+	}
+
 	@Entity
 	@SequenceGenerator(name = "seq",
 			sequenceName = "test_id_seq",
@@ -0,0 +1,96 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+public class StatelessSessionTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( GuineaPig.class );
+		return configuration;
+	}
+
+	@Test
+	public void testStatelessSession(TestContext context) {
+		GuineaPig pig = new GuineaPig( "Aloi" );
+		test( context, getSessionFactory().withStatelessSession(
+				ss -> ss.insert( pig )
+						.thenCompose( v -> ss.createQuery( "from GuineaPig where name=:n", GuineaPig.class )
+								.setParameter( "n", pig.name )
+								.getResultList() )
+						.thenAccept( list -> {
+							context.assertFalse( list.isEmpty() );
+							context.assertEquals( 1, list.size() );
+							context.assertEquals( pig.id, list.get( 0 ).id );
+							// no first-level cache
+							context.assertNotEquals( pig, list.get( 0 ) );
+						} )
+						.thenCompose( v -> ss.get( GuineaPig.class, pig.id ) )
+						.thenCompose( p -> {
+							context.assertNotNull( p );
+							context.assertEquals( pig.name, p.name );
+							context.assertEquals( 0, p.version );
+							p.name = "X";
+							return ss.update( p );
+						} )
+						.thenCompose( v -> ss.get( GuineaPig.class, pig.id ) )
+						.thenCompose( p -> {
+							context.assertEquals( "X", p.name );
+							context.assertEquals( 1, p.version );
+							return ss.delete( p );
+						} )
+						.thenCompose( v -> ss.get( GuineaPig.class, pig.id ) )
+						.thenAccept( context::assertNull )
+		) );
+	}
+
+	@Test
+	public void testStatelessSessionWithTransaction(TestContext context) {
+		GuineaPig pig = new GuineaPig( "Aloi" );
+		test( context, getSessionFactory().withStatelessSession(
+				ss -> ss.withTransaction( tx -> ss.insert( pig )
+						.thenCompose( v -> ss.createQuery( "update GuineaPig set name='X' where id=:id" )
+								.setParameter( "id", pig.id )
+								.executeUpdate() )
+						.thenAccept( rows -> context.assertEquals( 1, rows ) ) ) )
+				.thenCompose( v -> openSession() )
+				.thenCompose( s -> s.find( GuineaPig.class, pig.id ) )
+				.thenAccept( p -> {
+					context.assertNotNull( p );
+					context.assertEquals( "X", p.name );
+				} )
+		);
+	}
+
+	@Entity(name = "GuineaPig")
+	@Table(name = "Piggy")
+	public static class GuineaPig {
+		@Id
+		@GeneratedValue
+		Integer id;
+		String name;
+		@Version
+		int version;
+
+		public GuineaPig() {
+		}
+
+		GuineaPig(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -18,6 +18,7 @@ public class TableGeneratorTest extends BaseReactiveTest {
 	protected Configuration constructConfiguration() {
 		Configuration configuration = super.constructConfiguration();
 		configuration.addAnnotatedClass( TableId.class );
+		configuration.addAnnotatedClass( PooledTableId.class );
 		return configuration;
 	}
 
@@ -56,6 +57,45 @@ public void testTableGenerator(TestContext context) {
 		);
 	}
 
+	@Test
+	public void testPooledTableGenerator(TestContext context) {
+
+		PooledTableId a = new PooledTableId();
+		PooledTableId b = new PooledTableId();
+		PooledTableId c = new PooledTableId();
+		PooledTableId d = new PooledTableId();
+
+		test( context,
+				openSession()
+				.thenCompose( s -> s.persist( a, b, c ) )
+				.thenCompose( s -> s.flush() )
+				.thenAccept( s -> {
+					context.assertEquals( a.id, 1 );
+					context.assertEquals( b.id, 2 );
+					context.assertEquals( c.id, 3 );
+				} )
+				.thenCompose( v -> openSession() )
+				.thenCompose( s -> s.persist( d ) )
+				.thenCompose( s -> s.flush() )
+				.thenAccept( s -> context.assertEquals( d.id, 4 ) )
+				.thenCompose( v -> openSession() )
+				.thenCompose( s -> s.find( PooledTableId.class, 1, 2, 3, 4 ) )
+				.thenAccept( list -> {
+					context.assertEquals( list.size(), 4 );
+					context.assertNotNull( list.get(3) );
+				} )
+		);
+	}
+
+	@Entity
+	@TableGenerator(name = "pooled",
+			table = "pooled_id_tab",
+			allocationSize = 10)
+	public static class PooledTableId {
+		@Id @GeneratedValue(generator = "pooled")
+		Integer id;
+	}
+
 	@Entity
 	@TableGenerator(name = "tab",
 			valueColumnName = "nextid",
@@ -0,0 +1,136 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.stage.Stage;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+public class UpsertTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( GuineaPig.class );
+		configuration.addAnnotatedClass( VersionedPig.class );
+		return configuration;
+	}
+
+	@Test
+	public void testUpsert(TestContext context) {
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( new GuineaPig( 1, "Aloi" ) ) )
+						.thenCompose( Stage.Session::flush )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.upsert( new GuineaPig( 1, "Aloi (updated)" ) )
+								.thenCompose( ss -> ss.upsert( new GuineaPig( 2, "Bubbles" ) ) )
+								.thenCompose( Stage.Session::flush ) )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 1, 2 ) )
+						.thenAccept( list -> {
+							context.assertEquals( 2, list.size() );
+							context.assertEquals( "Aloi (updated)", list.get( 0 ).name );
+							context.assertEquals( "Bubbles", list.get( 1 ).name );
+						} )
+		);
+	}
+
+	@Test
+	public void testUpsertManagedInstance(TestContext context) {
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( new GuineaPig( 3, "Aloi" ) ) )
+						.thenCompose( Stage.Session::flush )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 3 )
+								// the instance is managed, so it is merged
+								.thenCompose( pig -> s.upsert( new GuineaPig( 3, "Aloi (updated)" ) )
+										.thenAccept( ss -> context.assertEquals( "Aloi (updated)", pig.name ) ) )
+								.thenCompose( vv -> s.flush() ) )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 3 ) )
+						.thenAccept( pig -> context.assertEquals( "Aloi (updated)", pig.name ) )
+		);
+	}
+
+	@Test
+	public void testUpsertVersionedEntity(TestContext context) {
+		test( context,
+				openSession()
+						.thenCompose( s -> s.persist( new VersionedPig( 1, "Aloi" ) ) )
+						.thenCompose( Stage.Session::flush )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( VersionedPig.class, 1 ) )
+						.thenCompose( pig -> {
+							pig.name = "Aloi (updated)";
+							// the entity is versioned, so it is merged
+							return openSession()
+									.thenCompose( s -> s.upsert( pig ) )
+									.thenCompose( Stage.Session::flush );
+						} )
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( VersionedPig.class, 1 ) )
+						.thenAccept( pig -> {
+							context.assertEquals( "Aloi (updated)", pig.name );
+							context.assertEquals( 1, pig.version );
+						} )
+		);
+	}
+
+	@Test
+	public void testUpsertWithoutFlush(TestContext context) {
+		test( context,
+				openSession()
+						.thenCompose( s -> s.upsert( new GuineaPig( 4, "Aloi" ) ) )
+						// the session is closed without a flush,
+						// so the upsert is discarded
+						.thenCompose( v -> openSession() )
+						.thenCompose( s -> s.find( GuineaPig.class, 4 ) )
+						.thenAccept( context::assertNull )
+		);
+	}
+
+	@Entity(name = "GuineaPig")
+	@Table(name = "UpsertPig")
+	public static class GuineaPig {
+		@Id
+		Integer id;
+		String name;
+
+		public GuineaPig() {
+		}
+
+		GuineaPig(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "VersionedPig")
+	@Table(name = "UpsertVersionedPig")
+	public static class VersionedPig {
+		@Id
+		Integer id;
+		@Version
+		Integer version;
+		String name;
+
+		public VersionedPig() {
+		}
+
+		VersionedPig(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
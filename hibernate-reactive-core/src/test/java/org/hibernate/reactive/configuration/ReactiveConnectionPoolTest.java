@@ -111,6 +111,25 @@ public void configureWithWrongCredentials(TestContext context) {
 		verifyConnectivity( context, reactivePool );
 	}
 
+	@Test
+	public void configureWithConnectionOptions(TestContext context) {
+		// This test doesn't need to rotate across all DBs and has PG-specific logic in it
+		assumeTrue( DatabaseConfiguration.dbType() == DBType.POSTGRESQL );
+
+		String url = DatabaseConfiguration.getJdbcUrl();
+		Map<String,Object> config = new HashMap<>();
+		config.put( Settings.URL, url );
+		config.put( Settings.CONNECT_TIMEOUT, "5000" );
+		config.put( Settings.IDLE_TIMEOUT, "60000" );
+		config.put( Settings.RECONNECT_ATTEMPTS, "2" );
+		config.put( Settings.RECONNECT_INTERVAL, "100" );
+		config.put( Settings.TCP_KEEP_ALIVE, "true" );
+		config.put( Settings.TCP_NO_DELAY, "true" );
+		config.put( Settings.PIPELINING_LIMIT, "16" );
+		ReactiveConnectionPool reactivePool = configureAndStartPool( config );
+		verifyConnectivity( context, reactivePool );
+	}
+
 	private void verifyConnectivity(TestContext context, ReactiveConnectionPool reactivePool) {
 		test( context, reactivePool.getConnection().thenCompose(
 				connection -> connection.select( "SELECT 1")
@@ -17,6 +17,8 @@
 import org.hibernate.engine.jdbc.env.spi.QualifiedObjectNameFormatter;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.TypeInfo;
+import org.hibernate.reactive.pool.ReactiveConnectionPoolMetrics;
+import org.hibernate.reactive.pool.SqlClientPoolConfiguration;
 import org.hibernate.reactive.vertx.VertxInstance;
 import org.hibernate.reactive.vertx.impl.ProvidedVertxInstance;
 import org.hibernate.service.Service;
@@ -140,6 +142,12 @@ public TypeInfo getTypeInfoForJdbcCode(int jdbcTypeCode) {
                     }
                 };
             }
+            else if ( serviceRole == ReactiveConnectionPoolMetrics.class ) {
+                return (R) ReactiveConnectionPoolMetrics.NONE;
+            }
+            else if ( serviceRole == SqlClientPoolConfiguration.class ) {
+                return (R) new SqlClientPoolConfiguration() {};
+            }
             else {
                 throw new IllegalArgumentException( "This is a mock service - need to explicitly handle any service we might need during testing" );
             }
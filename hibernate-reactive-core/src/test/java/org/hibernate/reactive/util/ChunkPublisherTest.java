@@ -0,0 +1,156 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.util;
+
+import org.hibernate.reactive.util.impl.ChunkPublisher;
+import org.hibernate.reactive.util.impl.CompletionStages;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChunkPublisherTest {
+
+	@Test
+	public void exactDemandCompletes() {
+		TestSource source = new TestSource( Arrays.asList( 1, 2 ), Arrays.asList( 3 ) );
+		TestSubscriber subscriber = new TestSubscriber();
+		new ChunkPublisher<>( () -> CompletionStages.completedFuture( source ) ).subscribe( subscriber );
+
+		subscriber.subscription.request( 3 );
+
+		assertThat( subscriber.items ).containsExactly( 1, 2, 3 );
+		assertThat( subscriber.completed ).isTrue();
+		assertThat( subscriber.error ).isNull();
+		assertThat( source.closed ).isTrue();
+	}
+
+	@Test
+	public void demandOneAtATime() {
+		TestSource source = new TestSource( Arrays.asList( 1, 2 ), Arrays.asList( 3 ) );
+		TestSubscriber subscriber = new TestSubscriber();
+		new ChunkPublisher<>( () -> CompletionStages.completedFuture( source ) ).subscribe( subscriber );
+
+		for ( int i = 0; i < 3; i++ ) {
+			subscriber.subscription.request( 1 );
+			assertThat( subscriber.items ).hasSize( i + 1 );
+		}
+
+		assertThat( subscriber.items ).containsExactly( 1, 2, 3 );
+		assertThat( subscriber.completed ).isTrue();
+		assertThat( source.closed ).isTrue();
+	}
+
+	@Test
+	public void cancelMidStream() {
+		TestSource source = new TestSource( Arrays.asList( 1, 2 ), Arrays.asList( 3, 4 ) );
+		TestSubscriber subscriber = new TestSubscriber();
+		new ChunkPublisher<>( () -> CompletionStages.completedFuture( source ) ).subscribe( subscriber );
+
+		subscriber.subscription.request( 3 );
+		subscriber.subscription.cancel();
+		subscriber.subscription.request( 10 );
+
+		assertThat( subscriber.items ).containsExactly( 1, 2, 3 );
+		assertThat( subscriber.completed ).isFalse();
+		assertThat( subscriber.error ).isNull();
+		assertThat( source.closed ).isTrue();
+	}
+
+	@Test
+	public void nonPositiveRequestFails() {
+		TestSource source = new TestSource( Arrays.asList( 1, 2 ), Arrays.asList( 3 ) );
+		TestSubscriber subscriber = new TestSubscriber();
+		new ChunkPublisher<>( () -> CompletionStages.completedFuture( source ) ).subscribe( subscriber );
+
+		subscriber.subscription.request( 1 );
+		subscriber.subscription.request( 0 );
+		subscriber.subscription.request( 1 );
+
+		assertThat( subscriber.items ).containsExactly( 1 );
+		assertThat( subscriber.error ).isInstanceOf( IllegalArgumentException.class );
+		assertThat( subscriber.completed ).isFalse();
+		assertThat( source.closed ).isTrue();
+	}
+
+	@Test
+	public void failedChunkFails() {
+		TestSource source = new TestSource( Arrays.asList( 1, 2 ), null );
+		TestSubscriber subscriber = new TestSubscriber();
+		new ChunkPublisher<>( () -> CompletionStages.completedFuture( source ) ).subscribe( subscriber );
+
+		subscriber.subscription.request( 5 );
+
+		assertThat( subscriber.items ).containsExactly( 1, 2 );
+		assertThat( subscriber.error ).isInstanceOf( IllegalStateException.class );
+		assertThat( subscriber.completed ).isFalse();
+		assertThat( source.closed ).isTrue();
+	}
+
+	/**
+	 * A source of the given chunks, where a {@code null} chunk fails.
+	 */
+	private static class TestSource implements ChunkPublisher.Source<Integer> {
+		private final Iterator<List<Integer>> chunks;
+		boolean closed;
+
+		@SafeVarargs
+		TestSource(List<Integer>... chunks) {
+			this.chunks = Arrays.asList( chunks ).iterator();
+		}
+
+		@Override
+		public CompletionStage<List<Integer>> next() {
+			if ( !chunks.hasNext() ) {
+				return CompletionStages.nullFuture();
+			}
+			List<Integer> chunk = chunks.next();
+			return chunk == null
+					? CompletionStages.failedFuture( new IllegalStateException( "boom" ) )
+					: CompletionStages.completedFuture( chunk );
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			closed = true;
+			return CompletionStages.voidFuture();
+		}
+	}
+
+	private static class TestSubscriber implements Subscriber<Integer> {
+		final List<Integer> items = new ArrayList<>();
+		Subscription subscription;
+		Throwable error;
+		boolean completed;
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(Integer item) {
+			items.add( item );
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			this.error = error;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.util;
+
+import org.hibernate.reactive.util.impl.CompletionStages;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CompletionStagesTest {
+
+	private static final int SIZE = 100_000;
+
+	private static final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	@AfterClass
+	public static void shutdown() {
+		executor.shutdown();
+	}
+
+	private static <T> T await(CompletionStage<T> stage) throws Exception {
+		return stage.toCompletableFuture().get( 30, TimeUnit.SECONDS );
+	}
+
+	private static <T> CompletionStage<T> async(T value) {
+		return CompletableFuture.supplyAsync( () -> value, executor );
+	}
+
+	@Test
+	public void loopCompletedStages() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		await( CompletionStages.loop( 0, SIZE, i -> {
+			count.incrementAndGet();
+			return CompletionStages.voidFuture();
+		} ) );
+		assertThat( count.get() ).isEqualTo( SIZE );
+	}
+
+	@Test
+	public void loopAsyncStages() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		await( CompletionStages.loop( 0, SIZE, i -> {
+			count.incrementAndGet();
+			return i % 1000 == 0 ? async( null ) : CompletionStages.voidFuture();
+		} ) );
+		assertThat( count.get() ).isEqualTo( SIZE );
+	}
+
+	@Test
+	public void loopFailedStage() {
+		AtomicInteger count = new AtomicInteger();
+		CompletionStage<Void> loop = CompletionStages.loop( 0, SIZE, i -> {
+			count.incrementAndGet();
+			return i == 5 ? CompletionStages.failedFuture( new IllegalStateException( "boom" ) ) : async( null );
+		} );
+		assertThatThrownBy( () -> await( loop ) ).hasRootCauseInstanceOf( IllegalStateException.class );
+		assertThat( count.get() ).isEqualTo( 6 );
+	}
+
+	@Test
+	public void loopThrowingBody() {
+		CompletionStage<Void> loop = CompletionStages.loop( 0, SIZE, i -> {
+			if ( i == 5 ) {
+				throw new IllegalStateException( "boom" );
+			}
+			return CompletionStages.voidFuture();
+		} );
+		assertThatThrownBy( () -> loop.toCompletableFuture().join() )
+				.isInstanceOf( CompletionException.class )
+				.hasCauseInstanceOf( IllegalStateException.class );
+	}
+
+	@Test
+	public void whileLoopCompletedStages() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		await( CompletionStages.whileLoop( () -> CompletionStages.completedFuture( count.incrementAndGet() < SIZE ) ) );
+		assertThat( count.get() ).isEqualTo( SIZE );
+	}
+
+	@Test
+	public void whileLoopAsyncStages() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		await( CompletionStages.whileLoop( () -> {
+			int i = count.incrementAndGet();
+			return i % 1000 == 0 ? async( i < SIZE ) : CompletionStages.completedFuture( i < SIZE );
+		} ) );
+		assertThat( count.get() ).isEqualTo( SIZE );
+	}
+
+	@Test
+	public void whileLoopFailedStage() {
+		AtomicInteger count = new AtomicInteger();
+		CompletionStage<Void> loop = CompletionStages.whileLoop( () -> count.incrementAndGet() == 5
+				? CompletionStages.failedFuture( new IllegalStateException( "boom" ) )
+				: async( true ) );
+		assertThatThrownBy( () -> await( loop ) ).hasRootCauseInstanceOf( IllegalStateException.class );
+		assertThat( count.get() ).isEqualTo( 5 );
+	}
+
+	@Test
+	public void whileLoopCompletedNull() {
+		CompletionStage<Void> loop = CompletionStages.whileLoop( CompletionStages::nullFuture );
+		assertThatThrownBy( () -> await( loop ) ).hasRootCauseInstanceOf( IllegalStateException.class );
+	}
+
+	@Test
+	public void whileLoopAsyncNull() {
+		CompletionStage<Void> loop = CompletionStages.whileLoop( () -> async( null ) );
+		assertThatThrownBy( () -> await( loop ) ).hasRootCauseInstanceOf( IllegalStateException.class );
+	}
+}